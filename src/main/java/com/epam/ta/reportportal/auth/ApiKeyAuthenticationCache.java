@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import static com.epam.ta.reportportal.util.CacheEvictions.evictWithTransaction;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.dao.ApiKeyRepository;
+import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.user.ApiKey;
+import com.epam.ta.reportportal.util.CacheEvictionEvent;
+import com.epam.ta.reportportal.util.CacheEvictionPublisher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.DatatypeConverter;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bounded cache of the users authenticated by API keys, mapped by the hash of the key, so requests
+ * with the same key do not query the key and its user on every call.
+ * <p>
+ * Last usage dates of the keys are collected in memory and saved in the background. Entries are
+ * evicted on key deletion and on user update or deletion. The eviction is broadcast by
+ * {@link CacheEvictionPublisher}, so a deleted key or a blocked user is rejected by every instance
+ * and not only by the one that handled the change. The expiration covers broadcasts that were
+ * lost, e.g. while the broker was unavailable.
+ */
+@Component
+public class ApiKeyAuthenticationCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ApiKeyAuthenticationCache.class);
+
+  private final ApiKeyRepository apiKeyRepository;
+
+  private final UserRepository userRepository;
+
+  private final CacheEvictionPublisher evictionPublisher;
+
+  private final Cache<String, Entry> entries;
+
+  private final Map<Long, String> pendingLastUsed = new ConcurrentHashMap<>();
+
+  public ApiKeyAuthenticationCache(ApiKeyRepository apiKeyRepository,
+      UserRepository userRepository, CacheEvictionPublisher evictionPublisher,
+      @Value("${rp.environment.variable.api-key.cache.size:10000}") long size,
+      @Value("${rp.environment.variable.api-key.cache.expire-seconds:60}") long expireSeconds) {
+    this.apiKeyRepository = apiKeyRepository;
+    this.userRepository = userRepository;
+    this.evictionPublisher = evictionPublisher;
+    this.entries = CacheBuilder.newBuilder()
+        .maximumSize(size)
+        .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+        .build();
+  }
+
+  /**
+   * @param apiKey Raw API key
+   * @return Owner of the key, empty if the key or its owner does not exist
+   */
+  public Optional<ReportPortalUser> getUser(String apiKey) {
+    final String hash = DatatypeConverter.printHexBinary(DigestUtils.sha3_256(apiKey));
+    Entry entry = entries.getIfPresent(hash);
+    if (entry == null) {
+      entry = load(hash);
+      if (entry == null) {
+        return Optional.empty();
+      }
+      entries.put(hash, entry);
+    }
+    markUsed(entry);
+    return Optional.of(entry.user);
+  }
+
+  /**
+   * Evicts the key on all the instances. If a transaction is active, eviction is repeated after
+   * its completion, so the key loaded by concurrent requests before the commit is not kept.
+   *
+   * @param apiKeyId API key id
+   */
+  public void evictApiKey(Long apiKeyId) {
+    evictWithTransaction(() -> removeApiKey(apiKeyId));
+    evictionPublisher.publish(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY, apiKeyId));
+  }
+
+  /**
+   * Evicts all the keys of the user, see {@link #evictApiKey(Long)}.
+   *
+   * @param userId User id
+   */
+  public void evictUser(Long userId) {
+    evictWithTransaction(() -> removeUser(userId));
+    evictionPublisher.publish(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY_USER, userId));
+  }
+
+  /**
+   * Applies an eviction broadcast by an instance to the local entries.
+   *
+   * @param event Broadcast eviction
+   */
+  public void onEviction(CacheEvictionEvent event) {
+    switch (event.getType()) {
+      case API_KEY:
+        removeApiKey(event.getId());
+        break;
+      case API_KEY_USER:
+        removeUser(event.getId());
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Saves last usage dates of the keys used since the previous call.
+   */
+  @Scheduled(fixedDelayString = "${rp.environment.variable.api-key.last-used.flush-ms:10000}")
+  @Transactional
+  public void flushLastUsed() {
+    if (pendingLastUsed.isEmpty()) {
+      return;
+    }
+    final LocalDate today = LocalDate.now();
+    Map<Long, String> toUpdate = new HashMap<>(pendingLastUsed);
+    toUpdate.forEach((apiKeyId, hash) -> {
+      pendingLastUsed.remove(apiKeyId, hash);
+      try {
+        apiKeyRepository.updateLastUsedAt(apiKeyId, hash, today);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Unable to update last usage date of the API key '{}': {}", apiKeyId,
+            e.getMessage());
+      }
+    });
+  }
+
+  private void removeApiKey(Long apiKeyId) {
+    entries.asMap().values().removeIf(entry -> entry.apiKeyId.equals(apiKeyId));
+  }
+
+  private void removeUser(Long userId) {
+    entries.asMap().values().removeIf(entry -> entry.userId.equals(userId));
+  }
+
+  private Entry load(String hash) {
+    ApiKey apiKey = apiKeyRepository.findByHash(hash);
+    if (apiKey == null) {
+      return null;
+    }
+    return userRepository.findReportPortalUser(apiKey.getUserId())
+        .map(user -> new Entry(apiKey.getId(), hash, apiKey.getUserId(), user,
+            apiKey.getLastUsedAt()))
+        .orElse(null);
+  }
+
+  private void markUsed(Entry entry) {
+    final LocalDate today = LocalDate.now();
+    if (!Objects.equals(entry.lastUsedAt, today)) {
+      entry.lastUsedAt = today;
+      pendingLastUsed.put(entry.apiKeyId, entry.hash);
+    }
+  }
+
+  private static class Entry {
+
+    private final Long apiKeyId;
+    private final String hash;
+    private final Long userId;
+    private final ReportPortalUser user;
+    private volatile LocalDate lastUsedAt;
+
+    private Entry(Long apiKeyId, String hash, Long userId, ReportPortalUser user,
+        LocalDate lastUsedAt) {
+      this.apiKeyId = apiKeyId;
+      this.hash = hash;
+      this.userId = userId;
+      this.user = user;
+      this.lastUsedAt = lastUsedAt;
+    }
+  }
+}
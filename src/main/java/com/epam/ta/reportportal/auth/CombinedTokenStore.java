@@ -18,19 +18,12 @@ package com.epam.ta.reportportal.auth;
 
 import com.epam.ta.reportportal.auth.util.AuthUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.dao.ApiKeyRepository;
-import com.epam.ta.reportportal.dao.UserRepository;
-import com.epam.ta.reportportal.entity.user.ApiKey;
 import com.google.common.collect.Maps;
-import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
-import javax.xml.bind.DatatypeConverter;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -53,10 +46,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CombinedTokenStore extends JwtTokenStore {
 
   @Autowired
-  private ApiKeyRepository apiKeyRepository;
-
-  @Autowired
-  private UserRepository userRepository;
+  private ApiKeyAuthenticationCache apiKeyAuthenticationCache;
 
   @Autowired
   public CombinedTokenStore(JwtAccessTokenConverter jwtTokenEnhancer) {
@@ -65,59 +55,56 @@ public class CombinedTokenStore extends JwtTokenStore {
 
   @Override
   public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
-    try {
-      return super.readAuthentication(token);
-    } catch (InvalidTokenException e) {
-      return this.readAuthentication(token.getValue());
-    }
+    return this.readAuthentication(token.getValue());
   }
 
   @Transactional
   @Override
   public OAuth2Authentication readAuthentication(String tokenId) {
+    if (isApiKey(tokenId)) {
+      return readApiKeyAuthentication(tokenId);
+    }
     try {
       return super.readAuthentication(tokenId);
     } catch (InvalidTokenException e) {
-      String hashedKey = DatatypeConverter.printHexBinary(DigestUtils.sha3_256(tokenId));
-      ApiKey apiKey = apiKeyRepository.findByHash(hashedKey);
-      if (apiKey != null) {
-        Optional<ReportPortalUser> user = userRepository.findReportPortalUser(apiKey.getUserId());
-        if (user.isPresent()) {
-          LocalDate today = LocalDate.now();
-          if (apiKey.getLastUsedAt() == null || !apiKey.getLastUsedAt().equals(today)) {
-            apiKeyRepository.updateLastUsedAt(apiKey.getId(), hashedKey, today);
-          }
-          return getAuthentication(getUserWithAuthorities(user.get()));
-        }
-      }
-      return null;
+      return readApiKeyAuthentication(tokenId);
     }
   }
 
   @Transactional
   @Override
   public OAuth2AccessToken readAccessToken(String tokenValue) {
+    if (isApiKey(tokenValue)) {
+      DefaultOAuth2AccessToken defaultOAuth2AccessToken =
+          new DefaultOAuth2AccessToken(tokenValue);
+      defaultOAuth2AccessToken.setExpiration(new Date(System.currentTimeMillis() + 60 * 1000L));
+      return defaultOAuth2AccessToken;
+    }
     try {
       return super.readAccessToken(tokenValue);
     } catch (InvalidTokenException e) {
-      if (ApiKeyUtils.validateToken(tokenValue)) {
-        DefaultOAuth2AccessToken defaultOAuth2AccessToken =
-            new DefaultOAuth2AccessToken(tokenValue);
-        defaultOAuth2AccessToken.setExpiration(new Date(System.currentTimeMillis() + 60 * 1000L));
-        String hashedKey = DatatypeConverter.printHexBinary(DigestUtils.sha3_256(tokenValue));
-        ApiKey apiKey = apiKeyRepository.findByHash(hashedKey);
-        if (apiKey != null) {
-          LocalDate today = LocalDate.now();
-          if (apiKey.getLastUsedAt() == null || !apiKey.getLastUsedAt().equals(today)) {
-            apiKeyRepository.updateLastUsedAt(apiKey.getId(), hashedKey, today);
-          }
-        }
-        return defaultOAuth2AccessToken;
-      }
       return null; //let spring security handle the invalid token
     }
   }
 
+  /**
+   * API keys are recognized by their format before JWT parsing, so they are not parsed as JWT
+   * tokens on every request.
+   */
+  private static boolean isApiKey(String tokenValue) {
+    try {
+      return ApiKeyUtils.validateToken(tokenValue);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private OAuth2Authentication readApiKeyAuthentication(String apiKey) {
+    return apiKeyAuthenticationCache.getUser(apiKey)
+        .map(user -> getAuthentication(getUserWithAuthorities(user)))
+        .orElse(null);
+  }
+
   private OAuth2Authentication getAuthentication(ReportPortalUser user) {
     HashMap<String, String> requestParameters = new HashMap<>();
     requestParameters.put("username", user.getUsername());
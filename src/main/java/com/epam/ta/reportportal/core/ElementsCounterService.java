@@ -15,78 +15,121 @@
  */
 package com.epam.ta.reportportal.core;
 
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
-import com.google.common.collect.Lists;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 /**
+ * Counts elements (items and logs) and attachments of launches and items. Every count is
+ * calculated by a single aggregate query, without loading the ids of the items.
+ *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
 @Service
 public class ElementsCounterService {
 
-  private final Integer batchSize;
+  private static final String COUNT_LAUNCH_ELEMENTS_QUERY =
+      "SELECT 1 + (SELECT count(*) FROM test_item WHERE launch_id = ?) "
+          + "+ (SELECT count(*) FROM log WHERE launch_id = ?) "
+          + "+ (SELECT count(*) FROM log l JOIN test_item ti ON l.item_id = ti.item_id "
+          + "WHERE ti.launch_id = ?)";
+
+  /**
+   * Descendants of the item including the item itself and descendants of the children of its
+   * retries.
+   */
+  private static final String ITEM_SUBTREE_CTE =
+      "WITH items AS (SELECT item_id FROM test_item WHERE path <@ CAST(? AS LTREE) "
+          + "UNION ALL SELECT d.item_id FROM test_item r "
+          + "JOIN test_item c ON c.parent_id = r.item_id "
+          + "JOIN test_item d ON d.path <@ c.path WHERE r.retry_of = ?) ";
+
+  private static final String COUNT_ITEM_ELEMENTS_QUERY = ITEM_SUBTREE_CTE
+      + "SELECT (SELECT count(*) FROM items) "
+      + "+ (SELECT count(*) FROM log l JOIN items i ON l.item_id = i.item_id)";
 
-  private final TestItemRepository testItemRepository;
+  /**
+   * Attachments of the items are linked to their launch too.
+   */
+  private static final String COUNT_LAUNCH_ATTACHMENTS_QUERY =
+      "SELECT count(*), coalesce(sum(file_size), 0) FROM attachment WHERE launch_id = ?";
 
-  private final LogRepository logRepository;
+  private static final String COUNT_ITEM_ATTACHMENTS_QUERY = ITEM_SUBTREE_CTE
+      + "SELECT count(*), coalesce(sum(a.file_size), 0) FROM attachment a "
+      + "JOIN items i ON a.item_id = i.item_id";
+
+  private static final RowMapper<AttachmentsCount> ATTACHMENTS_COUNT_MAPPER =
+      (rs, rowNum) -> new AttachmentsCount(rs.getLong(1), rs.getLong(2));
+
+  private final JdbcTemplate jdbcTemplate;
 
   @Autowired
-  public ElementsCounterService(
-      @Value("${rp.environment.variable.elements-counter.batch-size}") Integer batchSize,
-      TestItemRepository testItemRepository, LogRepository logRepository) {
-    this.batchSize = batchSize;
-    this.testItemRepository = testItemRepository;
-    this.logRepository = logRepository;
+  public ElementsCounterService(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
   }
 
   public Long countNumberOfLaunchElements(Long launchId) {
-    final AtomicLong resultedNumber = new AtomicLong(1L);
-    final List<Long> testItemIdsByLaunchId = testItemRepository.findIdsByLaunchId(launchId);
-    resultedNumber.addAndGet(testItemIdsByLaunchId.size());
-    resultedNumber.addAndGet(logRepository.countLogsByLaunchId(launchId));
-    Lists.partition(testItemIdsByLaunchId, batchSize)
-        .forEach(
-            batch -> resultedNumber.addAndGet(logRepository.countLogsByTestItemItemIdIn(batch)));
-    return resultedNumber.longValue();
+    return jdbcTemplate.queryForObject(COUNT_LAUNCH_ELEMENTS_QUERY, Long.class, launchId,
+        launchId, launchId);
   }
 
   public Long countNumberOfItemElements(TestItem item) {
     if (item != null) {
-      final AtomicLong resultedNumber;
-      final List<Long> itemIds = testItemRepository.selectAllDescendantsIds(item.getPath());
-      resultedNumber = new AtomicLong(itemIds.size());
-      resultedNumber.addAndGet(logRepository.countLogsByTestItemItemIdIn(itemIds));
-
-      if (item.isHasRetries()) {
-        final List<Long> retryIds = testItemRepository.findIdsByRetryOf(item.getItemId());
-        final List<String> nestedPaths = testItemRepository.findPathsByParentIds(
-            retryIds.toArray(new Long[0]));
-        nestedPaths.forEach(path -> {
-          final List<Long> nestedChild = testItemRepository.selectAllDescendantsIds(path);
-          resultedNumber.addAndGet(nestedChild.size());
-          resultedNumber.addAndGet(logRepository.countLogsByTestItemItemIdIn(nestedChild));
-        });
-      }
-      return resultedNumber.longValue();
+      return jdbcTemplate.queryForObject(COUNT_ITEM_ELEMENTS_QUERY, Long.class, item.getPath(),
+          item.getItemId());
     }
     return 0L;
   }
 
   public Long countNumberOfItemElements(List<TestItem> items) {
     if (!CollectionUtils.isEmpty(items)) {
-      final AtomicLong resultedNumber = new AtomicLong(0L);
-      items.forEach(item -> resultedNumber.addAndGet(countNumberOfItemElements(item)));
-      return resultedNumber.get();
+      return items.stream().mapToLong(this::countNumberOfItemElements).sum();
     }
     return 0L;
   }
 
+  public AttachmentsCount countLaunchAttachments(Long launchId) {
+    return jdbcTemplate.queryForObject(COUNT_LAUNCH_ATTACHMENTS_QUERY, ATTACHMENTS_COUNT_MAPPER,
+        launchId);
+  }
+
+  /**
+   * Counts attachments of the item subtree, including the subtrees of the children of its retries,
+   * like {@link #countNumberOfItemElements(TestItem)}.
+   */
+  public AttachmentsCount countItemAttachments(TestItem item) {
+    if (item != null) {
+      return jdbcTemplate.queryForObject(COUNT_ITEM_ATTACHMENTS_QUERY, ATTACHMENTS_COUNT_MAPPER,
+          item.getPath(), item.getItemId());
+    }
+    return new AttachmentsCount(0L, 0L);
+  }
+
+  /**
+   * Number of attachments and their total size in bytes.
+   */
+  public static class AttachmentsCount {
+
+    private final long count;
+
+    private final long bytes;
+
+    public AttachmentsCount(long count, long bytes) {
+      this.count = count;
+      this.bytes = bytes;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getBytes() {
+      return bytes;
+    }
+  }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.activity.batch;
+
+import com.epam.ta.reportportal.dao.converters.JpaInstantConverter;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityDetails;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserts activities with a single JDBC batch instead of per-entity persisting.
+ */
+@Component
+public class ActivityBatchInserter {
+
+  private static final String INSERT_ACTIVITY_QUERY =
+      "INSERT INTO activity (created_at, action, event_name, priority, object_id, object_name, "
+          + "object_type, project_id, details, subject_id, subject_name, subject_type) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final JpaInstantConverter instantConverter = new JpaInstantConverter();
+
+  public ActivityBatchInserter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Inserts the activities with one batch statement. Activities without details are saved with
+   * empty ones, as it is done for a single activity.
+   *
+   * @param activities Activities to insert
+   */
+  @Transactional
+  public void insert(List<Activity> activities) {
+    if (activities.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_ACTIVITY_QUERY, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        Activity activity = activities.get(i);
+        if (Objects.isNull(activity.getDetails())) {
+          activity.setDetails(new ActivityDetails());
+        }
+        ps.setTimestamp(1, instantConverter.convertToDatabaseColumn(activity.getCreatedAt()));
+        ps.setString(2, name(activity.getAction()));
+        ps.setString(3, activity.getEventName());
+        ps.setString(4, name(activity.getPriority()));
+        setNullableLong(ps, 5, activity.getObjectId());
+        ps.setString(6, activity.getObjectName());
+        ps.setString(7, name(activity.getObjectType()));
+        setNullableLong(ps, 8, activity.getProjectId());
+        activity.getDetails().nullSafeSet(ps, activity.getDetails(), 9, null);
+        setNullableLong(ps, 10, activity.getSubjectId());
+        ps.setString(11, activity.getSubjectName());
+        ps.setString(12, name(activity.getSubjectType()));
+      }
+
+      @Override
+      public int getBatchSize() {
+        return activities.size();
+      }
+    });
+  }
+
+  private static String name(Enum<?> value) {
+    return value == null ? null : value.name();
+  }
+
+  private static void setNullableLong(PreparedStatement ps, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+}
@@ -41,6 +41,15 @@ public interface LogIndexer {
    */
   CompletableFuture<Long> index(Long projectId, AnalyzerConfig analyzerConfig);
 
+  /**
+   * Continue the failed project logs indexing from the last indexed launch
+   *
+   * @param projectId      - project id
+   * @param analyzerConfig - anlayzer config
+   * @return The count of indexed test items
+   */
+  CompletableFuture<Long> resumeIndex(Long projectId, AnalyzerConfig analyzerConfig);
+
   Long indexLaunchLogs(Launch launch, AnalyzerConfig analyzerConfig);
 
   Long indexItemsLogs(Long projectId, Long launchId, List<Long> itemIds,
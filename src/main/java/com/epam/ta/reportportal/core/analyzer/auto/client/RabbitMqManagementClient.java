@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.analyzer.auto.client;
 
+import com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerExchanges;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
 import java.util.List;
 
@@ -26,4 +27,17 @@ public interface RabbitMqManagementClient {
 
   List<ExchangeInfo> getAnalyzerExchangesInfo();
 
+  /**
+   * @return Analyzer exchanges with resolved capabilities
+   */
+  default AnalyzerExchanges getAnalyzerExchanges() {
+    return new AnalyzerExchanges(getAnalyzerExchangesInfo());
+  }
+
+  /**
+   * Marks previously loaded analyzer exchanges as outdated, e.g. when an analyzer did not reply.
+   */
+  default void invalidate() {
+  }
+
 }
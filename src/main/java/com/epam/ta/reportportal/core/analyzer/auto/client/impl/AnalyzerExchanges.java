@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_CLUSTER;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_INDEX;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_SEARCH;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_SUGGEST;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.EXCHANGE_PRIORITY;
+import static java.util.Comparator.comparingInt;
+
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Analyzer exchanges of the virtual host with their capabilities resolved once, exchanges are
+ * ordered by the analyzer priority.
+ */
+public class AnalyzerExchanges {
+
+  private final List<ExchangeInfo> all;
+  private final List<ExchangeInfo> indexers;
+  private final ExchangeInfo search;
+  private final ExchangeInfo suggest;
+  private final ExchangeInfo cluster;
+
+  public AnalyzerExchanges(List<ExchangeInfo> exchanges) {
+    this.all = exchanges.stream()
+        .sorted(comparingInt(EXCHANGE_PRIORITY))
+        .collect(Collectors.toUnmodifiableList());
+    this.indexers = all.stream()
+        .filter(DOES_SUPPORT_INDEX)
+        .collect(Collectors.toUnmodifiableList());
+    this.search = first(DOES_SUPPORT_SEARCH);
+    this.suggest = first(DOES_SUPPORT_SUGGEST);
+    this.cluster = first(DOES_SUPPORT_CLUSTER);
+  }
+
+  public List<ExchangeInfo> getAll() {
+    return all;
+  }
+
+  public List<ExchangeInfo> getIndexers() {
+    return indexers;
+  }
+
+  /**
+   * @return Exchange of the analyzer with the highest priority, which supports logs search
+   */
+  public Optional<ExchangeInfo> getSearch() {
+    return Optional.ofNullable(search);
+  }
+
+  /**
+   * @return Exchange of the analyzer with the highest priority, which supports suggestions
+   */
+  public Optional<ExchangeInfo> getSuggest() {
+    return Optional.ofNullable(suggest);
+  }
+
+  /**
+   * @return Exchange of the analyzer with the highest priority, which supports clusters
+   */
+  public Optional<ExchangeInfo> getCluster() {
+    return Optional.ofNullable(cluster);
+  }
+
+  private ExchangeInfo first(Predicate<ExchangeInfo> supportCondition) {
+    return all.stream().filter(supportCondition).findFirst().orElse(null);
+  }
+}
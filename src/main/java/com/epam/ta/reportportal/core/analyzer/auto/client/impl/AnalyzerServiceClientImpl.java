@@ -16,10 +16,6 @@
 
 package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
 
-import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_CLUSTER;
-import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_SEARCH;
-import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_SUGGEST;
-import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.EXCHANGE_PRIORITY;
 import static java.util.stream.Collectors.toList;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
@@ -34,19 +30,33 @@ import com.epam.ta.reportportal.model.analyzer.SearchRq;
 import com.epam.ta.reportportal.model.analyzer.SearchRs;
 import com.epam.reportportal.model.analyzer.IndexLaunch;
 import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.model.analyzer.IndexTestItem;
+import com.google.common.collect.Lists;
 import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -66,52 +76,71 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
   private String virtualHost;
 
+  private final TaskExecutor analyzerRequestExecutor;
+
+  private final MeterRegistry meterRegistry;
+
+  private final int chunkSize;
+
+  private final int maxChunksInFlight;
+
   @Autowired
   public AnalyzerServiceClientImpl(RabbitMqManagementClient rabbitMqManagementClient,
       @Qualifier("analyzerRabbitTemplate") RabbitTemplate rabbitTemplate,
-      @Value("${rp.amqp.analyzer-vhost}") String virtualHost) {
+      @Value("${rp.amqp.analyzer-vhost}") String virtualHost,
+      @Qualifier("analyzerRequestExecutor") TaskExecutor analyzerRequestExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.analyzer.analyze.chunk-size:20}") int chunkSize,
+      @Value("${rp.environment.variable.analyzer.analyze.max-chunks-in-flight:2}")
+      int maxChunksInFlight) {
     this.rabbitMqManagementClient = rabbitMqManagementClient;
     this.rabbitTemplate = rabbitTemplate;
     this.virtualHost = virtualHost;
+    this.analyzerRequestExecutor = analyzerRequestExecutor;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.maxChunksInFlight = Math.max(maxChunksInFlight, 1);
   }
 
   @Override
   public boolean hasClients() {
-    return rabbitMqManagementClient.getAnalyzerExchangesInfo().size() != 0;
+    return !rabbitMqManagementClient.getAnalyzerExchanges().getAll().isEmpty();
   }
 
   @Override
   public Map<String, List<AnalyzedItemRs>> analyze(IndexLaunch rq) {
-    List<ExchangeInfo> analyzerExchanges = rabbitMqManagementClient.getAnalyzerExchangesInfo();
-    Map<String, List<AnalyzedItemRs>> resultMap = new HashMap<>(analyzerExchanges.size());
-    analyzerExchanges.forEach(exchange -> analyze(rq, resultMap, exchange));
-    return resultMap;
+    List<ExchangeInfo> analyzerExchanges =
+        rabbitMqManagementClient.getAnalyzerExchanges().getAll();
+    if (analyzerExchanges.isEmpty() || CollectionUtils.isEmpty(rq.getTestItems())) {
+      return new HashMap<>();
+    }
+    return new AnalyzePipeline(rq, analyzerExchanges).run();
   }
 
   @Override
   public List<SearchRs> searchLogs(SearchRq rq) {
-    String exchangeName =
-        resolveExchangeName(DOES_SUPPORT_SEARCH).orElseThrow(() -> new ReportPortalException(
+    String exchangeName = rabbitMqManagementClient.getAnalyzerExchanges()
+        .getSearch()
+        .map(ExchangeInfo::getName)
+        .orElseThrow(() -> new ReportPortalException(
             ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
             "There are no analyzer services with search logs support deployed."
         ));
-    return rabbitTemplate.convertSendAndReceiveAsType(exchangeName, SEARCH_ROUTE, rq,
-        new ParameterizedTypeReference<>() {
-        }
-    );
+    return sendAndReceive(exchangeName, SEARCH_ROUTE, rq, new ParameterizedTypeReference<>() {
+    });
   }
 
   @Override
   public void removeSuggest(Long projectId) {
-    resolveExchangeName(DOES_SUPPORT_SUGGEST).ifPresent(
-        suggestExchange -> rabbitTemplate.convertAndSend(suggestExchange, REMOVE_SUGGEST_ROUTE,
-            projectId
+    rabbitMqManagementClient.getAnalyzerExchanges().getSuggest().ifPresent(
+        suggestExchange -> rabbitTemplate.convertAndSend(suggestExchange.getName(),
+            REMOVE_SUGGEST_ROUTE, projectId
         ));
   }
 
   @Override
   public List<SuggestInfo> searchSuggests(SuggestRq rq) {
-    return rabbitTemplate.convertSendAndReceiveAsType(getSuggestExchangeName(), SUGGEST_ROUTE, rq,
+    return sendAndReceive(getSuggestExchangeName(), SUGGEST_ROUTE, rq,
         new ParameterizedTypeReference<>() {
         }
     );
@@ -124,54 +153,206 @@ public class AnalyzerServiceClientImpl implements AnalyzerServiceClient {
 
   @Override
   public ClusterData generateClusters(GenerateClustersRq generateClustersRq) {
-    final String exchangeName =
-        resolveExchangeName(DOES_SUPPORT_CLUSTER).orElseThrow(() -> new ReportPortalException(
+    final String exchangeName = rabbitMqManagementClient.getAnalyzerExchanges()
+        .getCluster()
+        .map(ExchangeInfo::getName)
+        .orElseThrow(() -> new ReportPortalException(
             ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
             "There are no analyzer services with clusters creation support deployed."
         ));
-    return rabbitTemplate.convertSendAndReceiveAsType(exchangeName, CLUSTER_ROUTE,
-        generateClustersRq, new ParameterizedTypeReference<>() {
+    return sendAndReceive(exchangeName, CLUSTER_ROUTE, generateClustersRq,
+        new ParameterizedTypeReference<>() {
         }
     );
   }
 
-  private Optional<String> resolveExchangeName(Predicate<ExchangeInfo> supportCondition) {
-    return rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(supportCondition)
-        .min(Comparator.comparingInt(EXCHANGE_PRIORITY)).map(ExchangeInfo::getName);
-  }
-
   private String getSuggestExchangeName() {
-    return resolveExchangeName(DOES_SUPPORT_SUGGEST).orElseThrow(() -> new ReportPortalException(
-        ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
-        "There are no analyzer services with suggest items support deployed."
-    ));
+    return rabbitMqManagementClient.getAnalyzerExchanges()
+        .getSuggest()
+        .map(ExchangeInfo::getName)
+        .orElseThrow(() -> new ReportPortalException(
+            ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
+            "There are no analyzer services with suggest items support deployed."
+        ));
   }
 
-  private void analyze(IndexLaunch rq, Map<String, List<AnalyzedItemRs>> resultMap,
-      ExchangeInfo exchangeInfo) {
-    List<AnalyzedItemRs> result =
-        rabbitTemplate.convertSendAndReceiveAsType(exchangeInfo.getName(), ANALYZE_ROUTE,
-            Collections.singletonList(rq), new ParameterizedTypeReference<>() {
-            }
-        );
-    if (!CollectionUtils.isEmpty(result)) {
-      resultMap.put(
-          (String) exchangeInfo.getArguments().getOrDefault(virtualHost, exchangeInfo.getName()),
-          result
-      );
-      removeAnalyzedFromRq(rq, result);
+  /**
+   * Sends the request and waits for the reply. A missing reply or a failed request may mean that
+   * the analyzer has gone, so the exchanges topology is reloaded on the next call.
+   */
+  private <T> T sendAndReceive(String exchange, String route, Object rq,
+      ParameterizedTypeReference<T> responseType) {
+    T response;
+    try {
+      response = rabbitTemplate.convertSendAndReceiveAsType(exchange, route, rq, responseType);
+    } catch (AmqpException e) {
+      rabbitMqManagementClient.invalidate();
+      throw e;
     }
+    if (response == null) {
+      rabbitMqManagementClient.invalidate();
+    }
+    return response;
   }
 
   /**
-   * Removes form rq analyzed items to make rq for the next analyzer.
-   *
-   * @param rq       Request
-   * @param analyzed List of analyzer items
+   * Sends launch items to the analyzers by chunks. Every analyzer has its own window of chunks in
+   * flight, items which were not analyzed by an analyzer are passed to the next one by priority as
+   * soon as the reply for their chunk is received.
    */
-  private void removeAnalyzedFromRq(IndexLaunch rq, List<AnalyzedItemRs> analyzed) {
-    List<Long> analyzedItemIds = analyzed.stream().map(AnalyzedItemRs::getItemId).collect(toList());
-    rq.getTestItems().removeIf(it -> analyzedItemIds.contains(it.getTestItemId()));
+  private class AnalyzePipeline {
+
+    private final IndexLaunch rq;
+    private final List<ExchangeInfo> exchanges;
+    private final List<Deque<List<IndexTestItem>>> pending;
+    private final int[] inFlight;
+    private final BlockingQueue<ChunkResult> completed = new LinkedBlockingQueue<>();
+    private final Map<String, List<AnalyzedItemRs>> resultMap = new HashMap<>();
+
+    private RuntimeException failure;
+
+    private AnalyzePipeline(IndexLaunch rq, List<ExchangeInfo> exchanges) {
+      this.rq = rq;
+      this.exchanges = exchanges;
+      this.pending = new ArrayList<>(exchanges.size());
+      exchanges.forEach(exchange -> pending.add(new ArrayDeque<>()));
+      this.inFlight = new int[exchanges.size()];
+    }
+
+    private Map<String, List<AnalyzedItemRs>> run() {
+      Lists.partition(rq.getTestItems(), chunkSize)
+          .forEach(items -> pending.get(0).add(new ArrayList<>(items)));
+      dispatch();
+      while (Arrays.stream(inFlight).anyMatch(count -> count > 0)) {
+        final ChunkResult result = take();
+        inFlight[result.stage]--;
+        handle(result);
+        dispatch();
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      return resultMap;
+    }
+
+    private void dispatch() {
+      if (failure != null) {
+        return;
+      }
+      for (int stage = 0; stage < exchanges.size(); stage++) {
+        while (inFlight[stage] < maxChunksInFlight && !pending.get(stage).isEmpty()) {
+          send(stage, pending.get(stage).poll());
+        }
+      }
+    }
+
+    private void send(int stage, List<IndexTestItem> items) {
+      inFlight[stage]++;
+      final ExchangeInfo exchange = exchanges.get(stage);
+      final IndexLaunch chunk = copyOf(rq, items);
+      CompletableFuture.supplyAsync(() -> request(exchange, chunk), analyzerRequestExecutor)
+          .whenComplete((analyzed, error) -> completed.add(
+              new ChunkResult(stage, items, analyzed, error)));
+    }
+
+    private List<AnalyzedItemRs> request(ExchangeInfo exchange, IndexLaunch chunk) {
+      final String analyzer = exchange.getName();
+      itemsCounter(analyzer, "sent").increment(chunk.getTestItems().size());
+      return Timer.builder("rp.analyzer.analyze.duration")
+          .description("Duration of the items chunk analysis by the analyzer")
+          .tag("analyzer", analyzer)
+          .register(meterRegistry)
+          .record(() -> sendAndReceive(analyzer, ANALYZE_ROUTE, Collections.singletonList(chunk),
+              new ParameterizedTypeReference<List<AnalyzedItemRs>>() {
+              }
+          ));
+    }
+
+    private void handle(ChunkResult result) {
+      if (result.error != null) {
+        if (failure == null) {
+          failure = unwrap(result.error);
+        }
+        return;
+      }
+      final ExchangeInfo exchange = exchanges.get(result.stage);
+      Set<Long> analyzedIds = Collections.emptySet();
+      if (!CollectionUtils.isEmpty(result.analyzed)) {
+        resultMap.computeIfAbsent(
+            (String) exchange.getArguments().getOrDefault(virtualHost, exchange.getName()),
+            name -> new ArrayList<>()
+        ).addAll(result.analyzed);
+        itemsCounter(exchange.getName(), "analyzed").increment(result.analyzed.size());
+        analyzedIds = result.analyzed.stream()
+            .map(AnalyzedItemRs::getItemId)
+            .collect(Collectors.toSet());
+      }
+      if (result.stage + 1 < exchanges.size()) {
+        final Set<Long> resolved = analyzedIds;
+        final List<IndexTestItem> unresolved = result.items.stream()
+            .filter(item -> !resolved.contains(item.getTestItemId()))
+            .collect(toList());
+        if (!unresolved.isEmpty()) {
+          pending.get(result.stage + 1).add(unresolved);
+        }
+      }
+    }
+
+    private ChunkResult take() {
+      try {
+        return completed.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ReportPortalException(ErrorType.UNCLASSIFIED_ERROR, e.getMessage());
+      }
+    }
+  }
+
+  private Counter itemsCounter(String analyzer, String result) {
+    return Counter.builder("rp.analyzer.analyze.items")
+        .description("Items sent to the analyzer and analyzed by it")
+        .tag("analyzer", analyzer)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static RuntimeException unwrap(Throwable error) {
+    final Throwable cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    return new ReportPortalException(ErrorType.UNCLASSIFIED_ERROR, cause.getMessage());
+  }
+
+  private static IndexLaunch copyOf(IndexLaunch rq, List<IndexTestItem> items) {
+    IndexLaunch chunk = new IndexLaunch();
+    chunk.setLaunchId(rq.getLaunchId());
+    chunk.setLaunchName(rq.getLaunchName());
+    chunk.setLaunchStartTime(rq.getLaunchStartTime());
+    chunk.setLaunchNumber(rq.getLaunchNumber());
+    chunk.setProjectId(rq.getProjectId());
+    chunk.setPreviousLaunchId(rq.getPreviousLaunchId());
+    chunk.setAnalyzerConfig(rq.getAnalyzerConfig());
+    chunk.setClusters(rq.getClusters());
+    chunk.setTestItems(items);
+    return chunk;
+  }
+
+  private static class ChunkResult {
+
+    private final int stage;
+    private final List<IndexTestItem> items;
+    private final List<AnalyzedItemRs> analyzed;
+    private final Throwable error;
+
+    private ChunkResult(int stage, List<IndexTestItem> items, List<AnalyzedItemRs> analyzed,
+        Throwable error) {
+      this.stage = stage;
+      this.items = items;
+      this.analyzed = analyzed;
+      this.error = error;
+    }
   }
 
 }
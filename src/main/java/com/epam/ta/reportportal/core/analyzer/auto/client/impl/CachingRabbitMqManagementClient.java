@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
+
+import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps the analyzer exchanges topology in memory instead of requesting the management API on
+ * every analyzer call. The topology is refreshed in background and reloaded on demand after
+ * {@link #invalidate()}. When the management API is unavailable, the last loaded topology is used
+ * until it becomes older than the max stale period.
+ */
+public class CachingRabbitMqManagementClient implements RabbitMqManagementClient {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(
+      CachingRabbitMqManagementClient.class);
+
+  private final RabbitMqManagementClient delegate;
+  private final long maxStaleMillis;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter refreshes;
+  private final Counter refreshFailures;
+
+  private final Object reloadLock = new Object();
+
+  private volatile Snapshot snapshot;
+  private volatile boolean invalidated;
+
+  public CachingRabbitMqManagementClient(RabbitMqManagementClient delegate,
+      MeterRegistry meterRegistry, long maxStaleMillis) {
+    this.delegate = delegate;
+    this.maxStaleMillis = maxStaleMillis;
+    this.hits = requests("hit", meterRegistry);
+    this.misses = requests("miss", meterRegistry);
+    this.refreshes = refreshes("success", meterRegistry);
+    this.refreshFailures = refreshes("failure", meterRegistry);
+  }
+
+  @Override
+  public List<ExchangeInfo> getAnalyzerExchangesInfo() {
+    return getAnalyzerExchanges().getAll();
+  }
+
+  @Override
+  public AnalyzerExchanges getAnalyzerExchanges() {
+    Snapshot current = snapshot;
+    if (current != null && !invalidated && current.isYoungerThan(maxStaleMillis)) {
+      hits.increment();
+      return current.exchanges;
+    }
+    misses.increment();
+    synchronized (reloadLock) {
+      current = snapshot;
+      if (current != null && !invalidated && current.isYoungerThan(maxStaleMillis)) {
+        return current.exchanges;
+      }
+      try {
+        return reload().exchanges;
+      } catch (RuntimeException e) {
+        if (current != null && current.isYoungerThan(maxStaleMillis)) {
+          LOGGER.warn("Unable to reload analyzer exchanges, the previous ones are used: {}",
+              e.getMessage());
+          return current.exchanges;
+        }
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void invalidate() {
+    invalidated = true;
+  }
+
+  @Scheduled(fixedDelayString =
+      "${rp.environment.variable.analyzer.topology.refresh-interval-ms:30000}")
+  public void refresh() {
+    synchronized (reloadLock) {
+      try {
+        reload();
+      } catch (RuntimeException e) {
+        LOGGER.warn("Unable to refresh analyzer exchanges: {}", e.getMessage());
+      }
+    }
+  }
+
+  private Snapshot reload() {
+    try {
+      Snapshot loaded = new Snapshot(new AnalyzerExchanges(delegate.getAnalyzerExchangesInfo()));
+      snapshot = loaded;
+      invalidated = false;
+      refreshes.increment();
+      return loaded;
+    } catch (RuntimeException e) {
+      refreshFailures.increment();
+      throw e;
+    }
+  }
+
+  private static Counter requests(String result, MeterRegistry meterRegistry) {
+    return Counter.builder("rp.analyzer.topology.requests")
+        .description("Analyzer exchanges requests served from memory or by reload")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static Counter refreshes(String result, MeterRegistry meterRegistry) {
+    return Counter.builder("rp.analyzer.topology.refresh")
+        .description("Analyzer exchanges reloads from the management API")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static class Snapshot {
+
+    private final AnalyzerExchanges exchanges;
+    private final long loadedAt = System.currentTimeMillis();
+
+    private Snapshot(AnalyzerExchanges exchanges) {
+      this.exchanges = exchanges;
+    }
+
+    private boolean isYoungerThan(long millis) {
+      return System.currentTimeMillis() - loadedAt < millis;
+    }
+  }
+}
@@ -16,7 +16,6 @@
 
 package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
 
-import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.DOES_SUPPORT_INDEX;
 import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.EXCHANGE_PRIORITY;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
@@ -69,16 +68,15 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
 
   @Override
   public void index(List<IndexLaunch> rq) {
-    rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
-        .forEach(exchange -> {
-          rabbitTemplate.convertAndSend(exchange.getName(), NAMESPACE_FINDER_ROUTE, rq);
-          rabbitTemplate.convertAndSend(exchange.getName(), INDEX_ROUTE, rq);
-        });
+    rabbitMqManagementClient.getAnalyzerExchanges().getIndexers().forEach(exchange -> {
+      rabbitTemplate.convertAndSend(exchange.getName(), NAMESPACE_FINDER_ROUTE, rq);
+      rabbitTemplate.convertAndSend(exchange.getName(), INDEX_ROUTE, rq);
+    });
   }
 
   @Override
   public List<Long> indexDefectsUpdate(Long projectId, Map<Long, String> itemsForIndexUpdate) {
-    return rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
+    return rabbitMqManagementClient.getAnalyzerExchanges().getIndexers().stream()
         .flatMap(exchange -> ofNullable(
             rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), DEFECT_UPDATE_ROUTE,
                 new IndexDefectsUpdate(projectId, itemsForIndexUpdate),
@@ -89,7 +87,7 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
 
   @Override
   public Integer indexItemsRemove(Long projectId, Collection<Long> itemsForIndexRemove) {
-    return rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX)
+    return rabbitMqManagementClient.getAnalyzerExchanges().getIndexers().stream()
         .map(exchange -> ofNullable(
             rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), ITEM_REMOVE_ROUTE,
                 new IndexItemsRemove(projectId, itemsForIndexRemove),
@@ -100,7 +98,7 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
 
   @Override
   public void indexItemsRemoveAsync(Long projectId, Collection<Long> itemsForIndexRemove) {
-    rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX).forEach(
+    rabbitMqManagementClient.getAnalyzerExchanges().getIndexers().forEach(
         exchange -> rabbitTemplate.convertAndSend(exchange.getName(), ITEM_REMOVE_ROUTE,
             new IndexItemsRemove(projectId, itemsForIndexRemove)
         ));
@@ -108,7 +106,7 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
 
   @Override
   public void indexLaunchesRemove(Long projectId, Collection<Long> launchesForIndexRemove) {
-    rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().filter(DOES_SUPPORT_INDEX).forEach(
+    rabbitMqManagementClient.getAnalyzerExchanges().getIndexers().forEach(
         exchange -> rabbitTemplate.convertAndSend(exchange.getName(), LAUNCH_REMOVE_ROUTE,
             new IndexLaunchRemove(projectId, launchesForIndexRemove)
         ));
@@ -117,7 +115,7 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
   @Override
   public Long cleanIndex(Long index, List<Long> ids) {
     Map<Integer, Long> priorityToCleanedLogsCountMapping =
-        rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().collect(
+        rabbitMqManagementClient.getAnalyzerExchanges().getAll().stream().collect(
             Collectors.toMap(EXCHANGE_PRIORITY::applyAsInt,
                 exchange -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(),
                     CLEAN_ROUTE, new CleanIndexRq(index, ids), new ParameterizedTypeReference<>() {
@@ -130,7 +128,7 @@ public class IndexerServiceClientImpl implements IndexerServiceClient {
 
   @Override
   public void deleteIndex(Long index) {
-    rabbitMqManagementClient.getAnalyzerExchangesInfo().stream().map(
+    rabbitMqManagementClient.getAnalyzerExchanges().getAll().stream().map(
         exchange -> rabbitTemplate.convertSendAndReceiveAsType(exchange.getName(), DELETE_ROUTE,
             index, new ParameterizedTypeReference<Integer>() {
             }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds Postgres session-level advisory locks of the instance. All the locks are acquired on a
+ * single dedicated connection, which is borrowed while at least one lock is held, so they are
+ * released by the database as soon as the instance is gone.
+ * <p>
+ * Exclusive locks are not reentrant within the instance, shared locks are counted and released
+ * when the last holder releases them.
+ */
+@Slf4j
+@Component
+public class AdvisoryLockRegistry implements DisposableBean {
+
+  private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(?)";
+  private static final String TRY_LOCK_SHARED_QUERY = "SELECT pg_try_advisory_lock_shared(?)";
+  private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+  private static final String UNLOCK_SHARED_QUERY = "SELECT pg_advisory_unlock_shared(?)";
+  private static final String UNLOCK_ALL_QUERY = "SELECT pg_advisory_unlock_all()";
+
+  /**
+   * Bigint advisory lock keys are stored split into two 32-bit halves in 'classid' and 'objid'
+   */
+  private static final String NAMESPACE_LOCKS_QUERY =
+      "SELECT DISTINCT (CAST(classid AS BIGINT) << 32) | CAST(objid AS BIGINT) FROM pg_locks "
+          + "WHERE locktype = 'advisory' AND objsubid = 1 AND granted "
+          + "AND database = (SELECT oid FROM pg_database WHERE datname = current_database()) "
+          + "AND CAST(classid AS BIGINT) >> 16 = ?";
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<Long, Hold> locks = new HashMap<>();
+  private Connection connection;
+
+  public AdvisoryLockRegistry(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * @param key Lock key
+   * @return {@code true} if the exclusive lock is acquired, {@code false} if it is held by this or
+   * any other instance
+   */
+  public synchronized boolean tryLock(long key) {
+    if (locks.containsKey(key)) {
+      return false;
+    }
+    return acquire(key, false);
+  }
+
+  /**
+   * @param key Lock key
+   * @return {@code true} if the shared lock is acquired, {@code false} if the exclusive lock with
+   * the same key is held by this or any other instance
+   */
+  public synchronized boolean tryLockShared(long key) {
+    Hold hold = locks.get(key);
+    if (hold != null) {
+      if (!hold.shared) {
+        return false;
+      }
+      hold.count++;
+      return true;
+    }
+    return acquire(key, true);
+  }
+
+  /**
+   * Releases the lock held by the instance, does nothing if the lock is not held.
+   *
+   * @param key Lock key
+   */
+  public synchronized void unlock(long key) {
+    Hold hold = locks.get(key);
+    if (hold == null || --hold.count > 0) {
+      return;
+    }
+    locks.remove(key);
+    try {
+      execute(hold.shared ? UNLOCK_SHARED_QUERY : UNLOCK_QUERY, key);
+    } catch (SQLException e) {
+      log.warn("Unable to release advisory lock {}", key, e);
+      reconnect();
+    }
+    releaseIdleConnection();
+  }
+
+  /**
+   * @param key Lock key
+   * @return {@code true} if the lock is held by the instance
+   */
+  public synchronized boolean isHeld(long key) {
+    return locks.containsKey(key);
+  }
+
+  /**
+   * @param namespace 16 high bits of the lock keys
+   * @return Keys of the locks held by all the instances within the namespace
+   */
+  public Set<Long> findLocks(int namespace) {
+    return new HashSet<>(jdbcTemplate.queryForList(NAMESPACE_LOCKS_QUERY, Long.class, namespace));
+  }
+
+  /**
+   * Checks the connection holding the locks and re-acquires them on a new connection if it is
+   * broken.
+   */
+  public synchronized void validate() {
+    if (connection == null) {
+      return;
+    }
+    try {
+      if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        return;
+      }
+    } catch (SQLException e) {
+      log.warn("Unable to validate connection holding advisory locks", e);
+    }
+    reconnect();
+  }
+
+  @Override
+  public synchronized void destroy() {
+    locks.clear();
+    closeConnection();
+  }
+
+  private boolean acquire(long key, boolean shared) {
+    final String query = shared ? TRY_LOCK_SHARED_QUERY : TRY_LOCK_QUERY;
+    boolean acquired;
+    try {
+      acquired = execute(query, key);
+    } catch (SQLException e) {
+      log.warn("Connection holding advisory locks failed, reconnecting", e);
+      reconnect();
+      try {
+        acquired = execute(query, key);
+      } catch (SQLException ex) {
+        releaseIdleConnection();
+        throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+            "Unable to acquire advisory lock: " + ex.getMessage()
+        );
+      }
+    }
+    if (acquired) {
+      locks.put(key, new Hold(shared));
+    } else {
+      releaseIdleConnection();
+    }
+    return acquired;
+  }
+
+  private boolean execute(String query, long key) throws SQLException {
+    try (PreparedStatement statement = connection().prepareStatement(query)) {
+      statement.setLong(1, key);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private Connection connection() throws SQLException {
+    if (connection == null) {
+      connection = dataSource.getConnection();
+      connection.setAutoCommit(true);
+    }
+    return connection;
+  }
+
+  /**
+   * Locks of the broken connection are released by the database, so they are acquired again on a
+   * new one. Locks taken by other instances in between are lost.
+   */
+  private void reconnect() {
+    closeConnection();
+    Iterator<Map.Entry<Long, Hold>> iterator = locks.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Long, Hold> lock = iterator.next();
+      boolean acquired;
+      try {
+        acquired = execute(lock.getValue().shared ? TRY_LOCK_SHARED_QUERY : TRY_LOCK_QUERY,
+            lock.getKey());
+      } catch (SQLException e) {
+        log.error("Unable to re-acquire advisory locks, all of them are lost", e);
+        locks.clear();
+        closeConnection();
+        return;
+      }
+      if (!acquired) {
+        log.warn("Advisory lock {} was taken by another instance and is lost", lock.getKey());
+        iterator.remove();
+      }
+    }
+    releaseIdleConnection();
+  }
+
+  private void releaseIdleConnection() {
+    if (locks.isEmpty()) {
+      closeConnection();
+    }
+  }
+
+  /**
+   * Connection is returned to the pool, so the locks it might still hold are released first.
+   */
+  private void closeConnection() {
+    if (connection == null) {
+      return;
+    }
+    try (Connection closing = connection) {
+      try (PreparedStatement statement = closing.prepareStatement(UNLOCK_ALL_QUERY)) {
+        statement.execute();
+      }
+    } catch (SQLException e) {
+      log.debug("Unable to release advisory locks of the closed connection", e);
+    } finally {
+      connection = null;
+    }
+  }
+
+  private static class Hold {
+
+    private final boolean shared;
+    private int count = 1;
+
+    private Hold(boolean shared) {
+      this.shared = shared;
+    }
+  }
+}
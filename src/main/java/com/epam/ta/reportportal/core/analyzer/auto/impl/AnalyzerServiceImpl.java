@@ -32,6 +32,8 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.ItemIssueTypeDefinedEvent;
 import com.epam.ta.reportportal.core.events.activity.LinkTicketEvent;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.AnalyzeMode;
@@ -45,9 +47,12 @@ import com.epam.ta.reportportal.model.analyzer.RelevantItemInfo;
 import com.epam.ta.reportportal.ws.converter.builders.IssueEntityBuilder;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.collections.MapUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -86,6 +91,10 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
   private final DefectUpdateStatisticsService defectUpdateStatisticsService;
 
+  private final TestItemHistoryCache testItemHistoryCache;
+
+  private final WidgetContentCache widgetContentCache;
+
   @Autowired
   public AnalyzerServiceImpl(
       @Value("${rp.environment.variable.item-analyze.batch-size}") Integer itemsBatchSize,
@@ -93,7 +102,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
       AnalyzerServiceClient analyzerServicesClient, IssueTypeHandler issueTypeHandler,
       TestItemRepository testItemRepository,
       MessageBus messageBus, LaunchRepository launchRepository,
-      DefectUpdateStatisticsService defectUpdateStatisticsService) {
+      DefectUpdateStatisticsService defectUpdateStatisticsService,
+      TestItemHistoryCache testItemHistoryCache, WidgetContentCache widgetContentCache) {
     this.itemsBatchSize = itemsBatchSize;
     this.analyzerStatusCache = analyzerStatusCache;
     this.launchPreparerService = launchPreparerService;
@@ -103,6 +113,8 @@ public class AnalyzerServiceImpl implements AnalyzerService {
     this.messageBus = messageBus;
     this.launchRepository = launchRepository;
     this.defectUpdateStatisticsService = defectUpdateStatisticsService;
+    this.testItemHistoryCache = testItemHistoryCache;
+    this.widgetContentCache = widgetContentCache;
   }
 
   @Override
@@ -112,8 +124,12 @@ public class AnalyzerServiceImpl implements AnalyzerService {
 
   @Override
   public void runAnalyzers(Launch launch, List<Long> testItemIds, AnalyzerConfig analyzerConfig) {
+    if (!analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(),
+        launch.getProjectId())) {
+      LOGGER.warn("Auto-analysis of launch with id '{}' is already in progress", launch.getId());
+      return;
+    }
     try {
-      analyzerStatusCache.analyzeStarted(AUTO_ANALYZER_KEY, launch.getId(), launch.getProjectId());
       Optional<Long> previousLaunchId = findPreviousLaunchId(launch, analyzerConfig);
       Iterables.partition(testItemIds, itemsBatchSize)
           .forEach(partition -> analyzeItemsPartition(launch, partition, analyzerConfig, previousLaunchId));
@@ -136,21 +152,27 @@ public class AnalyzerServiceImpl implements AnalyzerService {
     LOGGER.info("Start analysis of '{}' items for launch with id '{}'", testItemIds.size(),
         launch.getId());
     List<TestItem> toAnalyze = testItemRepository.findAllById(testItemIds);
-    Optional<IndexLaunch> rqLaunch = launchPreparerService.prepare(launch, toAnalyze,
-        analyzerConfig);
-    rqLaunch.ifPresent(rq -> {
-      int amountToAnalyze = rq.getTestItems().size();
+    final AtomicInteger amountToAnalyze = new AtomicInteger();
+    final Set<String> analyzerInstances = new HashSet<>();
+    launchPreparerService.prepare(launch, toAnalyze, analyzerConfig, rq -> {
+      amountToAnalyze.addAndGet(rq.getTestItems().size());
       previousLaunchId.ifPresent(rq::setPreviousLaunchId);
       Map<String, List<AnalyzedItemRs>> analyzedMap = analyzerServicesClient.analyze(rq);
 
       if (!MapUtils.isEmpty(analyzedMap)) {
+        analyzerInstances.addAll(analyzedMap.keySet());
         analyzedMap.forEach(
             (key, value) -> updateTestItems(key, value, toAnalyze, launch.getProjectId()));
       }
-      // save data for analytics
-      defectUpdateStatisticsService
-          .saveAnalyzedDefectStatistics(amountToAnalyze, analyzedMap.size(), 0, rq.getProjectId());
     });
+    if (!analyzerInstances.isEmpty()) {
+      widgetContentCache.invalidateProject(launch.getProjectId());
+    }
+    if (amountToAnalyze.get() > 0) {
+      // save data for analytics
+      defectUpdateStatisticsService.saveAnalyzedDefectStatistics(amountToAnalyze.get(),
+          analyzerInstances.size(), 0, launch.getProjectId());
+    }
   }
 
 
@@ -176,6 +198,7 @@ public class AnalyzerServiceImpl implements AnalyzerService {
           TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectId);
 
           testItemRepository.save(testItem);
+          testItemHistoryCache.evictChangedItems(List.of(testItem));
           messageBus.publishActivity(
               new ItemIssueTypeDefinedEvent(before, after, analyzerInstance, relevantItemInfo));
           ofNullable(after.getTickets()).ifPresent(
@@ -16,24 +16,31 @@
 
 package com.epam.ta.reportportal.core.analyzer.auto.impl;
 
-import static java.util.Optional.ofNullable;
-
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
- * Contains caches for analyzing and indexing status
+ * Contains status of the analyzers running for launches of all the API instances.
+ * <p>
+ * Every running analysis holds an exclusive advisory lock of its launch and a shared advisory lock
+ * of its project, so the same analyzer can not be started for the launch twice within the
+ * cluster, and the locks of the instance are released by the database when the instance is gone.
+ * Locks of the other instances are looked up in a snapshot of the held locks, which is reloaded
+ * once it is older than the configured time to live.
  *
  * @author Pavel Bortnik
  */
-@Deprecated(since = "This cache is not representable since api scaling")
+@Slf4j
 @Service
 public class AnalyzerStatusCache {
 
@@ -41,81 +48,181 @@ public class AnalyzerStatusCache {
   public static final String PATTERN_ANALYZER_KEY = "patternAnalyzer";
   public static final String CLUSTER_KEY = "cluster";
 
-  private static final int CACHE_ITEM_LIVE = 10;
-  private static final int MAXIMUM_SIZE = 50000;
+  /**
+   * 16 high bits of the advisory lock keys of the analyzers
+   */
+  static final int LOCK_NAMESPACE = 0x5250;
+
+  private static final int ID_BITS = 40;
+  private static final long ID_MASK = (1L << ID_BITS) - 1;
+  private static final int LAUNCH_SCOPE = 0;
+  private static final int PROJECT_SCOPE = 1;
+
+  private static final Map<String, Integer> ANALYZER_CODES = ImmutableMap.of(AUTO_ANALYZER_KEY, 1,
+      PATTERN_ANALYZER_KEY, 2,
+      CLUSTER_KEY, 3
+  );
 
-  private static final int CLUSTER_ITEM_LIVE = 20;
+  private final AdvisoryLockRegistry lockRegistry;
+  private final long snapshotTtlMillis;
+  private final Duration expiration;
 
   /**
-   * Contains cache of analyze running for concrete launch launchId - projectId
+   * Analyses started by the instance by the launch lock keys
    */
-  private Map<String, Cache<Long, Long>> analyzeStatus;
-
-  public AnalyzerStatusCache() {
-    Cache<Long, Long> autoAnalysisStatusCache = CacheBuilder.newBuilder()
-        .maximumSize(MAXIMUM_SIZE)
-        .expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES)
-        .build();
-    Cache<Long, Long> patternAnalysisCache = CacheBuilder.newBuilder()
-        .maximumSize(MAXIMUM_SIZE)
-        .expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES)
-        .build();
-    Cache<Long, Long> clusterCache = CacheBuilder.newBuilder()
-        .maximumSize(MAXIMUM_SIZE)
-        .expireAfterWrite(CLUSTER_ITEM_LIVE, TimeUnit.MINUTES)
-        .build();
-    analyzeStatus = ImmutableMap.<String, Cache<Long, Long>>builder()
-        .put(AUTO_ANALYZER_KEY, autoAnalysisStatusCache)
-        .put(PATTERN_ANALYZER_KEY, patternAnalysisCache)
-        .put(CLUSTER_KEY, clusterCache)
-        .build();
-  }
-
-  public AnalyzerStatusCache(Map<String, Cache<Long, Long>> analyzeStatus) {
-    this.analyzeStatus = analyzeStatus;
+  private final Map<Long, Analysis> started = new ConcurrentHashMap<>();
+
+  private volatile Snapshot snapshot;
+
+  public AnalyzerStatusCache(AdvisoryLockRegistry lockRegistry,
+      @Value("${rp.environment.variable.analyzer.status.snapshot-ttl-ms:2000}")
+      long snapshotTtlMillis,
+      @Value("${rp.environment.variable.analyzer.status.expire-minutes:120}")
+      long expireMinutes) {
+    this.lockRegistry = lockRegistry;
+    this.snapshotTtlMillis = snapshotTtlMillis;
+    this.expiration = Duration.ofMinutes(expireMinutes);
   }
 
-  public boolean analyzeStarted(String analyzerKey, Long launchId, Long projectId) {
-    Cache<Long, Long> analysisCache = analyzeStatus.get(analyzerKey);
-    if (analysisCache == null) {
+  /**
+   * @param analyzerKey Analyzer key
+   * @param launchId    Launch id
+   * @param projectId   Project id
+   * @return {@code true} if the analysis is started, {@code false} if the analyzer is unknown,
+   * already running for the launch on any of the instances or the locks could not be acquired
+   */
+  public synchronized boolean analyzeStarted(String analyzerKey, Long launchId, Long projectId) {
+    Integer code = ANALYZER_CODES.get(analyzerKey);
+    if (code == null) {
       return false;
     }
-    analysisCache.put(launchId, projectId);
+    final long launchKey = lockKey(code, LAUNCH_SCOPE, launchId);
+    if (!lockRegistry.tryLock(launchKey)) {
+      return false;
+    }
+    if (!lockRegistry.tryLockShared(lockKey(code, PROJECT_SCOPE, projectId))) {
+      lockRegistry.unlock(launchKey);
+      return false;
+    }
+    started.put(launchKey, new Analysis(analyzerKey, launchId, projectId));
     return true;
   }
 
-  public boolean analyzeFinished(String analyzerKey, Long launchId) {
-    Cache<Long, Long> analysisCache = analyzeStatus.get(analyzerKey);
-    if (analysisCache == null) {
+  /**
+   * Finishes the analysis started by the instance. Analysis started by another instance is
+   * finished by that instance.
+   *
+   * @param analyzerKey Analyzer key
+   * @param launchId    Launch id
+   * @return {@code false} if the analyzer is unknown
+   */
+  public synchronized boolean analyzeFinished(String analyzerKey, Long launchId) {
+    Integer code = ANALYZER_CODES.get(analyzerKey);
+    if (code == null) {
       return false;
     }
-    analysisCache.invalidate(launchId);
+    final long launchKey = lockKey(code, LAUNCH_SCOPE, launchId);
+    Analysis analysis = started.remove(launchKey);
+    if (analysis != null) {
+      lockRegistry.unlock(launchKey);
+      lockRegistry.unlock(lockKey(code, PROJECT_SCOPE, analysis.projectId));
+      snapshot = null;
+    }
     return true;
   }
 
-  public Optional<Cache<Long, Long>> getAnalyzeStatus(String analyzerKey) {
-    return ofNullable(analyzeStatus.get(analyzerKey));
-  }
-
   public boolean containsLaunchId(String analyzerKey, Long launchId) {
-    return ofNullable(analyzeStatus.get(analyzerKey)).map(
-        cache -> cache.asMap().containsKey(launchId)).orElse(Boolean.FALSE);
+    return isLocked(analyzerKey, LAUNCH_SCOPE, launchId, getLocks());
   }
 
   public boolean containsProjectId(String analyzerKey, Long projectId) {
-    return ofNullable(analyzeStatus.get(analyzerKey)).map(
-        cache -> cache.asMap().containsValue(projectId)).orElse(Boolean.FALSE);
+    return isLocked(analyzerKey, PROJECT_SCOPE, projectId, getLocks());
   }
 
   public Set<String> getStartedAnalyzers(Long launchId) {
-    return analyzeStatus.entrySet()
+    final Set<Long> locks = getLocks();
+    return ANALYZER_CODES.keySet()
         .stream()
-        .filter(entry -> entry.getValue().asMap().containsKey(launchId))
-        .map(Map.Entry::getKey)
+        .filter(analyzerKey -> isLocked(analyzerKey, LAUNCH_SCOPE, launchId, locks))
         .collect(Collectors.toSet());
   }
 
   public Set<String> getAnalyzers() {
-    return analyzeStatus.keySet();
+    return ANALYZER_CODES.keySet();
+  }
+
+  /**
+   * Validates the connection holding the locks and finishes the analyses of the instance which
+   * were not finished in time, so their locks are not held forever.
+   */
+  @Scheduled(
+      fixedDelayString = "${rp.environment.variable.analyzer.status.check-interval-ms:60000}")
+  public void checkStartedAnalyses() {
+    lockRegistry.validate();
+    final Instant threshold = Instant.now().minus(expiration);
+    List<Analysis> expired = started.values()
+        .stream()
+        .filter(analysis -> analysis.startedAt.isBefore(threshold))
+        .collect(Collectors.toList());
+    expired.forEach(analysis -> {
+      log.warn("Analyzer '{}' of launch {} has been running since {}, releasing its status",
+          analysis.analyzerKey, analysis.launchId, analysis.startedAt);
+      analyzeFinished(analysis.analyzerKey, analysis.launchId);
+    });
+  }
+
+  private boolean isLocked(String analyzerKey, int scope, Long id, Set<Long> locks) {
+    Integer code = ANALYZER_CODES.get(analyzerKey);
+    if (code == null) {
+      return false;
+    }
+    final long key = lockKey(code, scope, id);
+    return lockRegistry.isHeld(key) || locks.contains(key);
+  }
+
+  private Set<Long> getLocks() {
+    Snapshot current = snapshot;
+    if (current == null || current.isOlderThan(snapshotTtlMillis)) {
+      current = new Snapshot(lockRegistry.findLocks(LOCK_NAMESPACE));
+      snapshot = current;
+    }
+    return current.locks;
+  }
+
+  /**
+   * Key layout: 16 bits of the namespace, 7 bits of the analyzer code, 1 bit of the scope (launch
+   * or project) and 40 bits of the id.
+   */
+  static long lockKey(int analyzerCode, int scope, long id) {
+    return ((long) LOCK_NAMESPACE << 48) | ((long) (analyzerCode << 1 | scope) << ID_BITS)
+        | (id & ID_MASK);
+  }
+
+  private static class Analysis {
+
+    private final String analyzerKey;
+    private final Long launchId;
+    private final Long projectId;
+    private final Instant startedAt = Instant.now();
+
+    private Analysis(String analyzerKey, Long launchId, Long projectId) {
+      this.analyzerKey = analyzerKey;
+      this.launchId = launchId;
+      this.projectId = projectId;
+    }
+  }
+
+  private static class Snapshot {
+
+    private final Set<Long> locks;
+    private final long loadedAt = System.currentTimeMillis();
+
+    private Snapshot(Set<Long> locks) {
+      this.locks = locks;
+    }
+
+    private boolean isOlderThan(long millis) {
+      return System.currentTimeMillis() - loadedAt > millis;
+    }
   }
 }
@@ -21,6 +21,8 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.preparer.LaunchPreparerService;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.BatchLogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexerStatusCache;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexingProgress;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexingProgressRegistry;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
@@ -33,6 +35,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
@@ -66,12 +69,15 @@ public class LogIndexerService implements LogIndexer {
 
   private final IndexerStatusCache indexerStatusCache;
 
+  private final IndexingProgressRegistry indexingProgressRegistry;
+
   @Autowired
   public LogIndexerService(BatchLogIndexer batchLogIndexer,
       @Qualifier("logIndexTaskExecutor") TaskExecutor taskExecutor,
       LaunchRepository launchRepository, TestItemRepository testItemRepository,
       IndexerServiceClient indexerServiceClient,
-      LaunchPreparerService launchPreparerService, IndexerStatusCache indexerStatusCache) {
+      LaunchPreparerService launchPreparerService, IndexerStatusCache indexerStatusCache,
+      IndexingProgressRegistry indexingProgressRegistry) {
     this.batchLogIndexer = batchLogIndexer;
     this.taskExecutor = taskExecutor;
     this.launchRepository = launchRepository;
@@ -79,15 +85,30 @@ public class LogIndexerService implements LogIndexer {
     this.indexerServiceClient = indexerServiceClient;
     this.launchPreparerService = launchPreparerService;
     this.indexerStatusCache = indexerStatusCache;
+    this.indexingProgressRegistry = indexingProgressRegistry;
   }
 
   @Override
   public CompletableFuture<Long> index(Long projectId, AnalyzerConfig analyzerConfig) {
+    return index(projectId, () -> batchLogIndexer.index(projectId, analyzerConfig));
+  }
+
+  @Override
+  public CompletableFuture<Long> resumeIndex(Long projectId, AnalyzerConfig analyzerConfig) {
+    final Long checkpoint = indexingProgressRegistry.get(projectId)
+        .filter(progress -> progress.getState() == IndexingProgress.State.FAILED)
+        .map(IndexingProgress::getCheckpoint)
+        .orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "There is no failed indexing to resume for project " + projectId));
+    return index(projectId, () -> batchLogIndexer.index(projectId, analyzerConfig, checkpoint));
+  }
+
+  private CompletableFuture<Long> index(Long projectId, Supplier<Long> indexing) {
     return CompletableFuture.supplyAsync(() -> {
       try {
         LOGGER.info("Start indexing for project: {}", projectId);
         indexerStatusCache.indexingStarted(projectId);
-        final Long indexed = batchLogIndexer.index(projectId, analyzerConfig);
+        final Long indexed = indexing.get();
         LOGGER.info("Indexing finished for project: {}. Logs indexed: {}", projectId, indexed);
         return indexed;
       } catch (Exception e) {
@@ -22,6 +22,7 @@ import com.epam.reportportal.model.analyzer.IndexLaunch;
 import com.epam.reportportal.model.project.AnalyzerConfig;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -37,4 +38,27 @@ public interface LaunchPreparerService {
 
   List<IndexLaunch> prepare(AnalyzerConfig analyzerConfig, List<TestItem> testItems);
 
+  /**
+   * Prepares the provided launch items and passes them to the consumer in chunks of bounded size.
+   * Every chunk is a separate {@link IndexLaunch} with the launch info and clusters.
+   *
+   * @param launch         Launch
+   * @param testItems      Launch items for preparing
+   * @param analyzerConfig Analyzer config
+   * @param chunkConsumer  Consumer of the prepared chunks
+   */
+  void prepare(Launch launch, List<TestItem> testItems, AnalyzerConfig analyzerConfig,
+      Consumer<IndexLaunch> chunkConsumer);
+
+  /**
+   * Prepares all the launch items and passes them to the consumer in chunks of bounded size, so
+   * memory consumption doesn't depend on the launch size. Every chunk is a separate
+   * {@link IndexLaunch} with the launch info and clusters.
+   *
+   * @param id             Launch id
+   * @param analyzerConfig Analyzer config
+   * @param chunkConsumer  Consumer of the prepared chunks
+   */
+  void prepare(Long id, AnalyzerConfig analyzerConfig, Consumer<IndexLaunch> chunkConsumer);
+
 }
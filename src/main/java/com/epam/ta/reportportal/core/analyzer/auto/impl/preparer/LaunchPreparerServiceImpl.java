@@ -34,6 +34,7 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -82,6 +83,14 @@ public class LaunchPreparerServiceImpl implements LaunchPreparerService {
   private IndexLaunch createIndexLaunch(Long projectId, Long launchId, String name,
       Instant startLaunchTime, AnalyzerConfig analyzerConfig,
       List<IndexTestItem> rqTestItems, Long launchNumber) {
+    return createIndexLaunch(projectId, launchId, name, startLaunchTime, analyzerConfig,
+        rqTestItems, launchNumber, getClusters(launchId)
+    );
+  }
+
+  private IndexLaunch createIndexLaunch(Long projectId, Long launchId, String name,
+      Instant startLaunchTime, AnalyzerConfig analyzerConfig,
+      List<IndexTestItem> rqTestItems, Long launchNumber, Map<Long, String> clusters) {
     IndexLaunch rqLaunch = new IndexLaunch();
     rqLaunch.setLaunchId(launchId);
     rqLaunch.setLaunchName(name);
@@ -90,10 +99,45 @@ public class LaunchPreparerServiceImpl implements LaunchPreparerService {
     rqLaunch.setAnalyzerConfig(analyzerConfig);
     rqLaunch.setTestItems(rqTestItems);
     rqLaunch.setLaunchNumber(launchNumber);
-    setClusters(rqLaunch);
+    setClusters(rqLaunch, clusters);
     return rqLaunch;
   }
 
+  @Override
+  public void prepare(Launch launch, List<TestItem> testItems, AnalyzerConfig analyzerConfig,
+      Consumer<IndexLaunch> chunkConsumer) {
+    if (LAUNCH_CAN_BE_INDEXED.test(launch)) {
+      final Map<Long, String> clusters = getClusters(launch.getId());
+      testItemPreparerService.prepare(launch.getId(), testItems, chunk -> {
+        IndexLaunch indexLaunch = createIndexLaunch(launch.getProjectId(), launch.getId(),
+            launch.getName(), launch.getStartTime(), analyzerConfig, chunk, launch.getNumber(),
+            clusters
+        );
+        chunkConsumer.accept(indexLaunch);
+      });
+    }
+  }
+
+  @Override
+  public void prepare(Long id, AnalyzerConfig analyzerConfig,
+      Consumer<IndexLaunch> chunkConsumer) {
+    launchRepository.findIndexLaunchByIds(List.of(id)).forEach(launch -> {
+      final Map<Long, String> clusters = getClusters(id);
+      testItemPreparerService.prepare(id, chunk -> {
+        IndexLaunch indexLaunch = new IndexLaunch();
+        indexLaunch.setLaunchId(launch.getLaunchId());
+        indexLaunch.setLaunchName(launch.getLaunchName());
+        indexLaunch.setLaunchStartTime(launch.getLaunchStartTime());
+        indexLaunch.setProjectId(launch.getProjectId());
+        indexLaunch.setLaunchNumber(launch.getLaunchNumber());
+        indexLaunch.setAnalyzerConfig(analyzerConfig);
+        indexLaunch.setTestItems(chunk);
+        setClusters(indexLaunch, clusters);
+        chunkConsumer.accept(indexLaunch);
+      });
+    });
+  }
+
   @Override
   public Optional<IndexLaunch> prepare(Long id, AnalyzerConfig analyzerConfig) {
     return prepare(List.of(id), analyzerConfig).stream().findFirst();
@@ -119,7 +163,7 @@ public class LaunchPreparerServiceImpl implements LaunchPreparerService {
         indexLaunch.getLaunchId());
     if (!preparedItems.isEmpty()) {
       indexLaunch.setTestItems(preparedItems);
-      setClusters(indexLaunch);
+      setClusters(indexLaunch, getClusters(indexLaunch.getLaunchId()));
     }
   }
 
@@ -134,11 +178,13 @@ public class LaunchPreparerServiceImpl implements LaunchPreparerService {
         }).collect(Collectors.toList());
   }
 
-  private void setClusters(IndexLaunch indexLaunch) {
-    final Map<Long, String> clusters = clusterRepository.findAllByLaunchId(
-            indexLaunch.getLaunchId())
+  private Map<Long, String> getClusters(Long launchId) {
+    return clusterRepository.findAllByLaunchId(launchId)
         .stream()
         .collect(Collectors.toMap(Cluster::getIndexId, Cluster::getMessage));
+  }
+
+  private void setClusters(IndexLaunch indexLaunch, Map<Long, String> clusters) {
     if (!clusters.isEmpty()) {
       indexLaunch.setClusters(clusters);
     }
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.reportportal.model.analyzer.IndexTestItem;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -37,4 +38,24 @@ public interface TestItemPreparerService {
 
   List<IndexTestItem> prepare(Long launchId);
 
+  /**
+   * Creates {@link IndexTestItem} from {@link TestItem} and passes them to the consumer in chunks
+   * limited by the items count and the logs size
+   *
+   * @param launchId      {@link TestItem#getLaunchId()}
+   * @param testItems     Test item for preparing
+   * @param chunkConsumer Consumer of the prepared chunks
+   */
+  void prepare(Long launchId, Collection<TestItem> testItems,
+      Consumer<List<IndexTestItem>> chunkConsumer);
+
+  /**
+   * Prepares all the launch items page by page and passes them to the consumer in chunks limited
+   * by the items count and the logs size, so the whole launch is never kept in memory
+   *
+   * @param launchId      Launch id
+   * @param chunkConsumer Consumer of the prepared chunks
+   */
+  void prepare(Long launchId, Consumer<List<IndexTestItem>> chunkConsumer);
+
 }
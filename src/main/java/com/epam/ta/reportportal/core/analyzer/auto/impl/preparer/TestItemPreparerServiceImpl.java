@@ -29,11 +29,19 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.jooq.enums.JTestItemTypeEnum;
 import com.epam.reportportal.model.analyzer.IndexLog;
 import com.epam.reportportal.model.analyzer.IndexTestItem;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 /**
@@ -42,13 +50,40 @@ import org.springframework.stereotype.Service;
 @Service
 public class TestItemPreparerServiceImpl implements TestItemPreparerService {
 
+  /**
+   * Same items as {@link TestItemRepository#findIndexTestItemByLaunchId}, but selected by pages
+   */
+  private static final String INDEX_TEST_ITEMS_PAGE_QUERY =
+      "SELECT ti.item_id, ti.name, ti.start_time, ti.unique_id, ti.test_case_hash, "
+          + "i.auto_analyzed, it.locator FROM test_item ti "
+          + "JOIN test_item_results tir ON ti.item_id = tir.result_id "
+          + "JOIN issue i ON tir.result_id = i.issue_id "
+          + "JOIN issue_type it ON i.issue_type = it.id "
+          + "WHERE ti.launch_id = ? AND ti.item_id > ? "
+          + "AND ti.type IN ('STEP', 'BEFORE_METHOD', 'AFTER_METHOD') AND NOT i.ignore_analyzer "
+          + "ORDER BY ti.item_id LIMIT ?";
+
+  /**
+   * Approximate size of the log fields except the message
+   */
+  private static final int LOG_OVERHEAD_BYTES = 64;
+
   private final TestItemRepository testItemRepository;
   private final LogService logService;
+  private final JdbcTemplate jdbcTemplate;
+  private final int chunkSize;
+  private final long chunkMaxBytes;
 
   public TestItemPreparerServiceImpl(TestItemRepository testItemRepository, LogService logService,
-      LogRepository logRepository) {
+      LogRepository logRepository, JdbcTemplate jdbcTemplate,
+      @Value("${rp.environment.variable.item-analyze.batch-size}") int chunkSize,
+      @Value("${rp.environment.variable.item-analyze.chunk-max-bytes:8388608}")
+      long chunkMaxBytes) {
     this.testItemRepository = testItemRepository;
     this.logService = logService;
+    this.jdbcTemplate = jdbcTemplate;
+    this.chunkSize = chunkSize;
+    this.chunkMaxBytes = chunkMaxBytes;
   }
 
   @Override
@@ -70,6 +105,70 @@ public class TestItemPreparerServiceImpl implements TestItemPreparerService {
     return prepare(launchId, indexTestItems);
   }
 
+  @Override
+  public void prepare(Long launchId, Collection<TestItem> testItems,
+      Consumer<List<IndexTestItem>> chunkConsumer) {
+    chunk(prepare(launchId, testItems), chunkConsumer);
+  }
+
+  @Override
+  public void prepare(Long launchId, Consumer<List<IndexTestItem>> chunkConsumer) {
+    long lastItemId = 0L;
+    List<IndexTestItem> page;
+    do {
+      page = jdbcTemplate.query(INDEX_TEST_ITEMS_PAGE_QUERY,
+          (rs, rowNum) -> toIndexTestItem(rs), launchId, lastItemId, chunkSize);
+      if (!page.isEmpty()) {
+        lastItemId = page.get(page.size() - 1).getTestItemId();
+        chunk(prepare(launchId, page), chunkConsumer);
+      }
+    } while (page.size() == chunkSize);
+  }
+
+  /**
+   * Splits prepared items into chunks with no more than {@link #chunkSize} items and
+   * {@link #chunkMaxBytes} of log messages. An item which logs exceed the limit is sent alone.
+   */
+  private void chunk(List<IndexTestItem> preparedItems,
+      Consumer<List<IndexTestItem>> chunkConsumer) {
+    List<IndexTestItem> chunk = new ArrayList<>();
+    long chunkBytes = 0;
+    for (IndexTestItem item : preparedItems) {
+      final long itemBytes = estimateSize(item);
+      if (!chunk.isEmpty() && (chunk.size() >= chunkSize
+          || chunkBytes + itemBytes > chunkMaxBytes)) {
+        chunkConsumer.accept(chunk);
+        chunk = new ArrayList<>();
+        chunkBytes = 0;
+      }
+      chunk.add(item);
+      chunkBytes += itemBytes;
+    }
+    if (!chunk.isEmpty()) {
+      chunkConsumer.accept(chunk);
+    }
+  }
+
+  private static long estimateSize(IndexTestItem item) {
+    return item.getLogs()
+        .stream()
+        .mapToLong(log -> LOG_OVERHEAD_BYTES + StringUtils.length(log.getMessage()))
+        .sum();
+  }
+
+  private static IndexTestItem toIndexTestItem(ResultSet rs) throws SQLException {
+    IndexTestItem indexTestItem = new IndexTestItem();
+    indexTestItem.setTestItemId(rs.getLong("item_id"));
+    indexTestItem.setTestItemName(rs.getString("name"));
+    final Timestamp startTime = rs.getTimestamp("start_time");
+    indexTestItem.setStartTime(startTime != null ? startTime.toLocalDateTime() : null);
+    indexTestItem.setUniqueId(rs.getString("unique_id"));
+    indexTestItem.setTestCaseHash((Integer) rs.getObject("test_case_hash"));
+    indexTestItem.setAutoAnalyzed(rs.getBoolean("auto_analyzed"));
+    indexTestItem.setIssueTypeLocator(rs.getString("locator"));
+    return indexTestItem;
+  }
+
   private List<IndexTestItem> prepare(Long launchId, List<IndexTestItem> indexTestItemList) {
     final Map<Long, List<IndexLog>> logsMapping = getLogsMapping(launchId,
         indexTestItemList.stream().map(IndexTestItem::getTestItemId).collect(toList())
@@ -1,5 +1,9 @@
 package com.epam.ta.reportportal.core.analyzer.auto.indexer;
 
+import com.epam.reportportal.model.analyzer.IndexLaunch;
+import com.epam.reportportal.model.project.AnalyzerConfig;
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.preparer.LaunchPreparerService;
 import com.epam.ta.reportportal.dao.LaunchRepository;
@@ -8,21 +12,26 @@ import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.jooq.enums.JLaunchModeEnum;
 import com.epam.ta.reportportal.jooq.enums.JStatusEnum;
-import com.epam.ta.reportportal.jooq.enums.JTestItemTypeEnum;
-import com.epam.reportportal.model.analyzer.IndexLaunch;
-import com.epam.reportportal.model.analyzer.IndexTestItem;
-import com.epam.reportportal.model.project.AnalyzerConfig;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,42 +43,88 @@ public class BatchLogIndexer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BatchLogIndexer.class);
 
+  private static final String LAUNCHES_WITH_ERROR_LOGS_QUERY = "SELECT l.id FROM launch l "
+      + "WHERE l.id IN (%s) AND exists(SELECT 1 FROM test_item ti "
+      + "JOIN log ON ti.item_id = log.item_id WHERE ti.launch_id = l.id AND ti.type = 'STEP' AND log.log_level >= ?) ORDER BY l.id";
+
   private final Integer launchBatchSize;
   private final Integer itemsBatchSize;
+  private final Integer concurrency;
   private final LaunchRepository launchRepository;
   private final TestItemRepository testItemRepository;
   private final LaunchPreparerService launchPreparerService;
   private final IndexerServiceClient indexerServiceClient;
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskExecutor taskExecutor;
+  private final IndexingProgressRegistry progressRegistry;
 
   @Autowired
   public BatchLogIndexer(
       @Value("${rp.environment.variable.log-index.batch-size}") Integer launchBatchSize,
       @Value("${rp.environment.variable.item-analyze.batch-size}") Integer itemsBatchSize,
+      @Value("${rp.environment.variable.log-index.concurrency:2}") Integer concurrency,
       LaunchRepository launchRepository,
       TestItemRepository testItemRepository, LaunchPreparerService launchPreparerService,
-      IndexerServiceClient indexerServiceClient) {
+      IndexerServiceClient indexerServiceClient, JdbcTemplate jdbcTemplate,
+      @Qualifier("logIndexTaskExecutor") TaskExecutor taskExecutor,
+      IndexingProgressRegistry progressRegistry) {
     this.launchBatchSize = launchBatchSize;
     this.itemsBatchSize = itemsBatchSize;
+    this.concurrency = Math.max(concurrency, 1);
     this.launchRepository = launchRepository;
     this.testItemRepository = testItemRepository;
     this.launchPreparerService = launchPreparerService;
     this.indexerServiceClient = indexerServiceClient;
+    this.jdbcTemplate = jdbcTemplate;
+    this.taskExecutor = taskExecutor;
+    this.progressRegistry = progressRegistry;
   }
 
-  @Transactional(readOnly = true)
   public Long index(Long projectId, AnalyzerConfig analyzerConfig) {
-    final AtomicLong totalIndexed = new AtomicLong(0L);
-
-    List<Long> ids = getLaunchIds(projectId);
-    index(projectId, analyzerConfig, ids, totalIndexed);
+    return index(projectId, analyzerConfig, null);
+  }
 
-    while (launchBatchSize == ids.size()) {
-      final Long lastLaunchId = Iterables.getLast(ids);
-      ids = getLaunchIds(projectId, lastLaunchId);
-      index(projectId, analyzerConfig, ids, totalIndexed);
+  /**
+   * Indexes logs of all the project launches with ids greater than the provided one. Launches are
+   * prepared and sent to the indexer one by one, up to the configured amount of launches are
+   * processed concurrently by the log index executor.
+   *
+   * @param projectId      Project id
+   * @param analyzerConfig Analyzer config
+   * @param fromLaunchId   Id of the launch to start after, {@code null} to index all the launches
+   * @return Count of indexed logs
+   */
+  public Long index(Long projectId, AnalyzerConfig analyzerConfig, @Nullable Long fromLaunchId) {
+    final IndexingProgress progress = progressRegistry.start(projectId, fromLaunchId);
+    final Deque<PendingLaunch> inFlight = new ArrayDeque<>(concurrency);
+    try {
+      List<Long> ids = Optional.ofNullable(fromLaunchId)
+          .map(launchId -> getLaunchIds(projectId, launchId))
+          .orElseGet(() -> getLaunchIds(projectId));
+      index(projectId, analyzerConfig, ids, inFlight, progress);
+      progressRegistry.save(progress);
+
+      while (launchBatchSize == ids.size()) {
+        final Long lastLaunchId = Iterables.getLast(ids);
+        ids = getLaunchIds(projectId, lastLaunchId);
+        index(projectId, analyzerConfig, ids, inFlight, progress);
+        progressRegistry.save(progress);
+      }
+
+      while (!inFlight.isEmpty()) {
+        complete(inFlight.poll(), progress);
+      }
+      progress.finished();
+      progressRegistry.save(progress);
+    } catch (RuntimeException e) {
+      inFlight.forEach(pending -> pending.task.cancel(false));
+      progress.failed();
+      progressRegistry.save(progress);
+      LOGGER.error("Project {}. Indexing failed after launch {}", projectId,
+          progress.getCheckpoint());
+      throw e;
     }
-
-    return totalIndexed.get();
+    return progress.getLogsIndexed();
   }
 
   @Transactional(readOnly = true)
@@ -83,67 +138,89 @@ public class BatchLogIndexer {
 
   private Long indexPartition(List<Long> itemIds, AnalyzerConfig analyzerConfig, Launch launch) {
     LOGGER.info("Indexing started for {} items.", itemIds.size());
-    Optional<IndexLaunch> prepared = launchPreparerService.prepare(launch,
-        testItemRepository.findAllById(itemIds), analyzerConfig);
-    prepared.ifPresent(it -> indexerServiceClient.index(Lists.newArrayList(it)));
-
-    Long indexedLogs = 0L;
-    if (prepared.isPresent()) {
-      indexedLogs = countLogs(Lists.newArrayList(prepared.get()));
-    }
+    final AtomicLong indexedLogs = new AtomicLong();
+    launchPreparerService.prepare(launch, testItemRepository.findAllById(itemIds), analyzerConfig,
+        chunk -> {
+          indexedLogs.addAndGet(countLogs(chunk));
+          indexerServiceClient.index(Lists.newArrayList(chunk));
+        }
+    );
 
     LOGGER.info("Indexing of {} logs is finished for {} items.", indexedLogs, itemIds.size());
-    return indexedLogs;
+    return indexedLogs.get();
   }
 
-  private Long countLogs(List<IndexLaunch> indexLaunch) {
-    return indexLaunch.stream()
-        .flatMap(launch -> launch.getTestItems().stream())
+  private long countLogs(IndexLaunch indexLaunch) {
+    return indexLaunch.getTestItems().stream()
         .mapToLong(item -> item.getLogs() != null ? item.getLogs().size() : 0)
         .sum();
   }
 
   private void index(Long projectId, AnalyzerConfig analyzerConfig, List<Long> launchIds,
-      AtomicLong totalIndexed) {
+      Deque<PendingLaunch> inFlight, IndexingProgress progress) {
     if (launchIds.isEmpty()) {
       return;
     }
     LOGGER.debug("Project {}. Found {} ids", projectId, launchIds.size());
     final List<Long> filteredIds = filterIds(launchIds);
-    if (filteredIds.isEmpty()) {
-      return;
-    }
     LOGGER.debug("Project {}. Found {} filtered ids", projectId, filteredIds.size());
-    final List<IndexLaunch> preparedLaunches = launchPreparerService.prepare(launchIds,
-        analyzerConfig);
-    if (preparedLaunches.isEmpty()) {
-      return;
+    filteredIds.forEach(launchId -> submit(launchId, analyzerConfig, inFlight, progress));
+    if (inFlight.isEmpty()) {
+      progress.checkpoint(Iterables.getLast(launchIds));
     }
+    LOGGER.debug("Project {}. Indexed {} logs of {} launches", projectId,
+        progress.getLogsIndexed(), progress.getLaunchesIndexed());
+  }
 
-    LOGGER.debug("Project {}. Start indexing for {} launches", projectId, preparedLaunches.size());
-    indexByPartition(preparedLaunches);
-    final long indexed = countLogs(preparedLaunches);
-    LOGGER.debug("Project {}. Indexed {} logs", projectId, indexed);
-    totalIndexed.addAndGet(indexed);
+  private void submit(Long launchId, AnalyzerConfig analyzerConfig, Deque<PendingLaunch> inFlight,
+      IndexingProgress progress) {
+    if (inFlight.size() >= concurrency) {
+      complete(inFlight.poll(), progress);
+    }
+    final FutureTask<Long> task = new FutureTask<>(() -> indexLaunch(launchId, analyzerConfig));
+    try {
+      taskExecutor.execute(task);
+    } catch (TaskRejectedException e) {
+      task.run();
+    }
+    inFlight.add(new PendingLaunch(launchId, task));
   }
 
-  private void indexByPartition(List<IndexLaunch> preparedLaunches) {
-    preparedLaunches.forEach(indexLaunch -> {
-      final Iterable<List<IndexTestItem>> lists = Iterables.partition(indexLaunch.getTestItems(),
-          itemsBatchSize);
-      StreamSupport.stream(lists.spliterator(), false).forEach(partition -> {
-        indexLaunch.setTestItems(partition);
-        indexerServiceClient.index(Lists.newArrayList(indexLaunch));
-      });
+  /**
+   * Waits for the launch indexing. The task is run by the current thread if it wasn't taken by the
+   * executor yet, so the re-indexing can't be blocked by the busy executor it is running on.
+   */
+  private void complete(PendingLaunch pending, IndexingProgress progress) {
+    pending.task.run();
+    try {
+      progress.launchIndexed(pending.launchId, pending.task.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ReportPortalException(ErrorType.UNCLASSIFIED_ERROR, e.getMessage());
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new ReportPortalException(ErrorType.UNCLASSIFIED_ERROR, e.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Launch is prepared and sent to the indexer by chunks, so it is never loaded at once.
+   */
+  private long indexLaunch(Long launchId, AnalyzerConfig analyzerConfig) {
+    final AtomicLong logs = new AtomicLong();
+    launchPreparerService.prepare(launchId, analyzerConfig, chunk -> {
+      logs.addAndGet(countLogs(chunk));
+      indexerServiceClient.index(Lists.newArrayList(chunk));
     });
+    return logs.get();
   }
 
   private List<Long> filterIds(List<Long> launchIds) {
-    return launchIds.stream()
-        .filter(
-            id -> launchRepository.hasItemsWithLogsWithLogLevel(id, List.of(JTestItemTypeEnum.STEP),
-                LogLevel.ERROR_INT))
-        .collect(Collectors.toList());
+    final Object[] args = new Object[launchIds.size() + 1];
+    launchIds.toArray(args);
+    args[launchIds.size()] = LogLevel.ERROR_INT;
+    return jdbcTemplate.queryForList(String.format(LAUNCHES_WITH_ERROR_LOGS_QUERY,
+        String.join(",", Collections.nCopies(launchIds.size(), "?"))), Long.class, args);
   }
 
   private List<Long> getLaunchIds(Long projectId) {
@@ -163,4 +240,15 @@ public class BatchLogIndexer {
     );
   }
 
+  private static class PendingLaunch {
+
+    private final Long launchId;
+    private final FutureTask<Long> task;
+
+    private PendingLaunch(Long launchId, FutureTask<Long> task) {
+      this.launchId = launchId;
+      this.task = task;
+    }
+  }
+
 }
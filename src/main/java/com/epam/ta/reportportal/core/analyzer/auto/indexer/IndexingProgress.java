@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the project logs re-indexing. The checkpoint is the id of the launch, all the
+ * launches up to which are indexed, so the failed re-indexing can be resumed from it.
+ */
+public class IndexingProgress {
+
+  public enum State {
+    RUNNING, FINISHED, FAILED
+  }
+
+  private final Long projectId;
+  private final Instant startedAt;
+  private final AtomicLong launchesIndexed = new AtomicLong();
+  private final AtomicLong logsIndexed = new AtomicLong();
+  private volatile Long checkpoint;
+  private volatile Instant finishedAt;
+  private volatile State state = State.RUNNING;
+
+  public IndexingProgress(Long projectId, Long checkpoint) {
+    this.projectId = projectId;
+    this.checkpoint = checkpoint;
+    this.startedAt = Instant.now();
+  }
+
+  void launchIndexed(Long launchId, long logs) {
+    launchesIndexed.incrementAndGet();
+    logsIndexed.addAndGet(logs);
+    checkpoint = launchId;
+  }
+
+  void checkpoint(Long launchId) {
+    checkpoint = launchId;
+  }
+
+  void finished() {
+    finishedAt = Instant.now();
+    state = State.FINISHED;
+  }
+
+  void failed() {
+    finishedAt = Instant.now();
+    state = State.FAILED;
+  }
+
+  public Long getProjectId() {
+    return projectId;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public Instant getFinishedAt() {
+    return finishedAt;
+  }
+
+  public Long getCheckpoint() {
+    return checkpoint;
+  }
+
+  public long getLaunchesIndexed() {
+    return launchesIndexed.get();
+  }
+
+  public long getLogsIndexed() {
+    return logsIndexed.get();
+  }
+
+  /**
+   * @return Average count of logs indexed per second
+   */
+  public double getLogsPerSecond() {
+    final Instant end = finishedAt == null ? Instant.now() : finishedAt;
+    final long millis = Math.max(Duration.between(startedAt, end).toMillis(), 1L);
+    return logsIndexed.get() * 1000.0 / millis;
+  }
+}
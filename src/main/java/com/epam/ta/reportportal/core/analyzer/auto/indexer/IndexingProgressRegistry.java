@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the progress of the last re-indexing of every project of the instance.
+ * <p>
+ * Checkpoint of the running re-indexing is also saved to the {@code indexing_checkpoint} table,
+ * one row per project, and removed when the re-indexing is finished. If the instance is stopped in
+ * the middle of the re-indexing, the saved checkpoint is read back as the failed re-indexing, so
+ * it can be resumed.
+ */
+@Component
+public class IndexingProgressRegistry {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IndexingProgressRegistry.class);
+
+  private static final String SAVE_CHECKPOINT_QUERY =
+      "INSERT INTO indexing_checkpoint (project_id, launch_id) VALUES (?, ?) "
+          + "ON CONFLICT (project_id) DO UPDATE SET launch_id = excluded.launch_id, "
+          + "updated_at = now()";
+
+  private static final String DELETE_CHECKPOINT_QUERY =
+      "DELETE FROM indexing_checkpoint WHERE project_id = ?";
+
+  private static final String FIND_CHECKPOINTS_QUERY =
+      "SELECT project_id, launch_id FROM indexing_checkpoint";
+
+  private static final int CACHE_ITEM_LIVE_HOURS = 24;
+  private static final int MAXIMUM_SIZE = 10000;
+
+  private final Cache<Long, IndexingProgress> progress = CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_SIZE)
+      .expireAfterWrite(CACHE_ITEM_LIVE_HOURS, TimeUnit.HOURS)
+      .build();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public IndexingProgressRegistry(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * @param projectId  Project id
+   * @param checkpoint Id of the launch the re-indexing starts after, {@code null} to start from
+   *                   the first launch
+   * @return Progress of the started re-indexing
+   */
+  public IndexingProgress start(Long projectId, Long checkpoint) {
+    IndexingProgress started = new IndexingProgress(projectId, checkpoint);
+    progress.put(projectId, started);
+    save(started);
+    return started;
+  }
+
+  /**
+   * Saves the checkpoint of the running or failed re-indexing, removes it if the re-indexing is
+   * finished. Failure to save the checkpoint doesn't stop the re-indexing.
+   *
+   * @param indexingProgress Progress of the re-indexing
+   */
+  public void save(IndexingProgress indexingProgress) {
+    try {
+      if (indexingProgress.getState() == IndexingProgress.State.FINISHED) {
+        jdbcTemplate.update(DELETE_CHECKPOINT_QUERY, indexingProgress.getProjectId());
+      } else {
+        jdbcTemplate.update(SAVE_CHECKPOINT_QUERY, indexingProgress.getProjectId(),
+            indexingProgress.getCheckpoint());
+      }
+    } catch (RuntimeException e) {
+      LOGGER.warn("Project {}. Unable to save indexing checkpoint {}",
+          indexingProgress.getProjectId(), indexingProgress.getCheckpoint(), e);
+    }
+  }
+
+  public Optional<IndexingProgress> get(Long projectId) {
+    if (progress.getIfPresent(projectId) == null) {
+      loadSaved();
+    }
+    return Optional.ofNullable(progress.getIfPresent(projectId));
+  }
+
+  public Collection<IndexingProgress> getAll() {
+    loadSaved();
+    return new ArrayList<>(progress.asMap().values());
+  }
+
+  /**
+   * Saved checkpoints of the projects, which are not indexed by the instance, are the ones of the
+   * re-indexing interrupted by the instance stop.
+   */
+  private void loadSaved() {
+    final List<IndexingProgress> saved;
+    try {
+      saved = jdbcTemplate.query(FIND_CHECKPOINTS_QUERY, (rs, rowNum) -> {
+        final IndexingProgress interrupted = new IndexingProgress(rs.getLong("project_id"),
+            rs.getObject("launch_id", Long.class)
+        );
+        interrupted.failed();
+        return interrupted;
+      });
+    } catch (DataAccessException e) {
+      LOGGER.warn("Unable to load saved indexing checkpoints", e);
+      return;
+    }
+    saved.forEach(interrupted -> progress.asMap()
+        .putIfAbsent(interrupted.getProjectId(), interrupted));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import static com.epam.reportportal.rules.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.reportportal.rules.exception.ErrorType.PROJECT_NOT_FOUND;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.project.Project;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for the progress of the project logs re-indexing run by the instance.
+ */
+@Component
+@Endpoint(id = "logindexing")
+public class LogIndexingEndpoint {
+
+  private final IndexingProgressRegistry progressRegistry;
+  private final IndexerStatusCache indexerStatusCache;
+  private final ProjectRepository projectRepository;
+  private final LogIndexer logIndexer;
+
+  public LogIndexingEndpoint(IndexingProgressRegistry progressRegistry,
+      IndexerStatusCache indexerStatusCache, ProjectRepository projectRepository,
+      LogIndexer logIndexer) {
+    this.progressRegistry = progressRegistry;
+    this.indexerStatusCache = indexerStatusCache;
+    this.projectRepository = projectRepository;
+    this.logIndexer = logIndexer;
+  }
+
+  @ReadOperation
+  public Collection<IndexingProgress> progress() {
+    return progressRegistry.getAll();
+  }
+
+  @ReadOperation
+  public IndexingProgress progress(@Selector Long projectId) {
+    return progressRegistry.get(projectId).orElse(null);
+  }
+
+  @WriteOperation
+  public IndexingProgress resume(@Selector Long projectId) {
+    Project project = projectRepository.findById(projectId)
+        .orElseThrow(() -> new ReportPortalException(PROJECT_NOT_FOUND, projectId));
+    expect(Optional.ofNullable(indexerStatusCache.getIndexingStatus().getIfPresent(projectId))
+        .orElse(false), equalTo(false)).verify(ErrorType.FORBIDDEN_OPERATION,
+        "Index can not be resumed until index generation proceeds."
+    );
+    logIndexer.resumeIndex(projectId, AnalyzerUtils.getAnalyzerConfig(project));
+    return progressRegistry.get(projectId).orElse(null);
+  }
+}
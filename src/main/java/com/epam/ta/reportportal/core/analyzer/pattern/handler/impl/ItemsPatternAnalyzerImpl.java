@@ -16,21 +16,28 @@
 
 package com.epam.ta.reportportal.core.analyzer.pattern.handler.impl;
 
+import com.epam.ta.reportportal.core.analyzer.pattern.matcher.PatternMatchingEngine;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.PatternAnalysisSelector;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.PatternMatchedEvent;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.dao.PatternTemplateRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
 import com.epam.ta.reportportal.entity.pattern.PatternTemplateTestItemPojo;
 import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
 import com.epam.ta.reportportal.model.activity.PatternTemplateActivityResource;
 import com.epam.ta.reportportal.ws.converter.converters.PatternTemplateConverter;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -40,21 +47,64 @@ import org.springframework.util.CollectionUtils;
 @Service
 public class ItemsPatternAnalyzerImpl {
 
+  private static final String ITEM_NAMES_QUERY =
+      "SELECT item_id, name FROM test_item WHERE item_id = ANY(?)";
+
   private final PatternTemplateRepository patternTemplateRepository;
 
   private final Map<PatternTemplateType, PatternAnalysisSelector> patternAnalysisSelectorMapping;
 
-  private final TestItemRepository testItemRepository;
+  private final JdbcTemplate jdbcTemplate;
 
   private final MessageBus messageBus;
 
+  private final PatternMatchingEngine patternMatchingEngine;
+
+  private final TestItemHistoryCache testItemHistoryCache;
+
   public ItemsPatternAnalyzerImpl(PatternTemplateRepository patternTemplateRepository,
       Map<PatternTemplateType, PatternAnalysisSelector> patternAnalysisSelectorMapping,
-      TestItemRepository testItemRepository, MessageBus messageBus) {
+      JdbcTemplate jdbcTemplate, MessageBus messageBus,
+      PatternMatchingEngine patternMatchingEngine, TestItemHistoryCache testItemHistoryCache) {
     this.patternTemplateRepository = patternTemplateRepository;
     this.patternAnalysisSelectorMapping = patternAnalysisSelectorMapping;
-    this.testItemRepository = testItemRepository;
+    this.jdbcTemplate = jdbcTemplate;
     this.messageBus = messageBus;
+    this.patternMatchingEngine = patternMatchingEngine;
+    this.testItemHistoryCache = testItemHistoryCache;
+  }
+
+  /**
+   * Analyzes items by all the enabled patterns of the project. Error logs of the items are read
+   * once for all the patterns supported by {@link PatternMatchingEngine}, the rest of the patterns
+   * are analyzed by their {@link PatternAnalysisSelector}. Matches of all the patterns are saved
+   * in a single batch.
+   *
+   * @param projectId Project id
+   * @param launchId  Launch id
+   * @param itemIds   Ids of the items to analyze
+   */
+  public void analyzeByPatterns(Long projectId, Long launchId, List<Long> itemIds) {
+    List<PatternTemplate> patterns = patternTemplateRepository.findAllByProjectIdAndEnabled(
+        projectId, true);
+    Map<Boolean, List<PatternTemplate>> bySupport = patterns.stream()
+        .collect(Collectors.partitioningBy(patternMatchingEngine::isSupported));
+    bySupport.get(false).forEach(pattern -> analyzeByPattern(pattern, launchId, itemIds));
+
+    Map<PatternTemplate, Set<Long>> matches = patternMatchingEngine.match(launchId,
+        bySupport.get(true), itemIds);
+    List<PatternTemplateTestItemPojo> patternTemplateTestItems = new ArrayList<>();
+    Map<PatternTemplate, List<PatternTemplateTestItemPojo>> newMatches = matches.entrySet()
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey,
+            entry -> convertToPojo(entry.getKey(), filterAlreadyMatched(entry.getKey(),
+                entry.getValue()))));
+    newMatches.values().forEach(patternTemplateTestItems::addAll);
+    if (!patternTemplateTestItems.isEmpty()) {
+      patternTemplateRepository.saveInBatch(patternTemplateTestItems);
+      testItemHistoryCache.evictLaunch(launchId);
+      newMatches.forEach(this::publishEvents);
+    }
   }
 
   public void analyzeByPattern(PatternTemplate pattern, Long launchId, List<Long> itemIds) {
@@ -65,13 +115,14 @@ public class ItemsPatternAnalyzerImpl {
         pattern.getValue());
     if (!CollectionUtils.isEmpty(matchedIds)) {
       List<PatternTemplateTestItemPojo> patternTemplateTestItems = saveMatches(pattern, matchedIds);
+      testItemHistoryCache.evictLaunch(launchId);
       publishEvents(pattern, patternTemplateTestItems);
     }
   }
 
-  private List<Long> filterAlreadyMatched(PatternTemplate pattern, List<Long> itemIds) {
+  private List<Long> filterAlreadyMatched(PatternTemplate pattern, Collection<Long> itemIds) {
     List<Long> alreadyMatched = patternTemplateRepository.findMatchedItemIdsIn(pattern.getId(),
-        itemIds);
+        new ArrayList<>(itemIds));
     return itemIds.stream().filter(id -> !alreadyMatched.contains(id))
         .collect(Collectors.toList());
   }
@@ -95,11 +146,13 @@ public class ItemsPatternAnalyzerImpl {
       List<PatternTemplateTestItemPojo> patternTemplateTestItems) {
     final PatternTemplateActivityResource patternTemplateActivityResource = PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(
         patternTemplate);
+    final Map<Long, String> itemNames = findItemNames(patternTemplateTestItems.stream()
+        .map(PatternTemplateTestItemPojo::getTestItemId)
+        .toArray(Long[]::new));
     patternTemplateTestItems.forEach(patternItem -> {
       Long testItemId = patternItem.getTestItemId();
-      Optional<String> itemNameByItemId = testItemRepository.findItemNameByItemId(testItemId);
       PatternMatchedEvent patternMatchedEvent = new PatternMatchedEvent(
-          itemNameByItemId.orElse(StringUtils.EMPTY),
+          itemNames.getOrDefault(testItemId, StringUtils.EMPTY),
           testItemId,
           patternTemplateActivityResource
       );
@@ -107,4 +160,17 @@ public class ItemsPatternAnalyzerImpl {
     });
   }
 
+  /**
+   * Resolves names of all the matched items with one query instead of a query per item.
+   */
+  private Map<Long, String> findItemNames(Long[] itemIds) {
+    final Map<Long, String> itemNames = new HashMap<>();
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(ITEM_NAMES_QUERY);
+      statement.setArray(1, connection.createArrayOf("bigint", itemIds));
+      return statement;
+    }, (RowCallbackHandler) rs -> itemNames.put(rs.getLong("item_id"), rs.getString("name")));
+    return itemNames;
+  }
+
 }
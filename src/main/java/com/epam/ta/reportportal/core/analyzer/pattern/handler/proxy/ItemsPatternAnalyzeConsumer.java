@@ -16,17 +16,17 @@
 
 package com.epam.ta.reportportal.core.analyzer.pattern.handler.proxy;
 
-import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
 import static com.epam.ta.reportportal.core.analyzer.config.PatternAnalysisRabbitConfiguration.PATTERN_ANALYSIS_REGEX;
 import static com.epam.ta.reportportal.core.analyzer.config.PatternAnalysisRabbitConfiguration.PATTERN_ANALYSIS_STRING;
 
-import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.pattern.handler.impl.ItemsPatternAnalyzerImpl;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Consumes items for pattern analysis from the queue
+ * Consumes items for pattern analysis from the queue. Status of a launch analysis is released by
+ * the instance which started it, so "last item" messages are skipped: they can be consumed by any
+ * instance, which is not able to release the lock held by another one.
  *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
@@ -35,19 +35,19 @@ public class ItemsPatternAnalyzeConsumer {
 
   private final ItemsPatternAnalyzerImpl itemsPatternsAnalyzer;
 
-  private final AnalyzerStatusCache analyzerStatusCache;
-
-  public ItemsPatternAnalyzeConsumer(ItemsPatternAnalyzerImpl itemsPatternsAnalyzer,
-      AnalyzerStatusCache analyzerStatusCache) {
+  public ItemsPatternAnalyzeConsumer(ItemsPatternAnalyzerImpl itemsPatternsAnalyzer) {
     this.itemsPatternsAnalyzer = itemsPatternsAnalyzer;
-    this.analyzerStatusCache = analyzerStatusCache;
   }
 
   @RabbitListener(queues = {PATTERN_ANALYSIS_REGEX,
       PATTERN_ANALYSIS_STRING}, containerFactory = "patternAnalysisContainerFactory")
   public void handleEvent(ItemsPatternAnalyzeDto event) {
     if (event.isLastItem()) {
-      analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, event.getLaunchId());
+      return;
+    }
+    if (event.getPatternTemplate() == null) {
+      itemsPatternsAnalyzer.analyzeByPatterns(event.getProjectId(), event.getLaunchId(),
+          event.getItemIds());
     } else {
       itemsPatternsAnalyzer.analyzeByPattern(event.getPatternTemplate(), event.getLaunchId(),
           event.getItemIds());
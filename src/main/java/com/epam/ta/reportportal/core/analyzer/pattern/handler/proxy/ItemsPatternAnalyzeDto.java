@@ -26,6 +26,9 @@ import java.util.List;
  */
 public class ItemsPatternAnalyzeDto {
 
+  /**
+   * Pattern to analyze the items by, all the enabled patterns of the project if not specified
+   */
   private PatternTemplate patternTemplate;
   private long projectId;
   private long launchId;
@@ -42,39 +42,45 @@ public class ItemsPatternAnalyzeProducer implements ItemsPatternsAnalyzer {
 
   private final PatternTemplateRepository patternTemplateRepository;
   private final boolean isSingleItem;
+  private final boolean isSinglePass;
   private final MessageBus messageBus;
 
   public ItemsPatternAnalyzeProducer(
       @Value("${rp.environment.variable.pattern-analysis.single-item:true}") boolean isSingleItem,
+      @Value("${rp.environment.variable.pattern-analysis.single-pass:true}") boolean isSinglePass,
       MessageBus messageBus, PatternTemplateRepository patternTemplateRepository) {
     this.isSingleItem = isSingleItem;
+    this.isSinglePass = isSinglePass;
     this.messageBus = messageBus;
     this.patternTemplateRepository = patternTemplateRepository;
   }
 
+  /**
+   * In the single pass mode items are sent once to be analyzed by all the enabled patterns of the
+   * project, otherwise items are sent for every pattern separately.
+   */
   @Override
   public void analyze(long projectId, long launchId, List<Long> itemIds) {
-    List<PatternTemplate> patternTemplates = patternTemplateRepository.findAllByProjectIdAndEnabled(
-        projectId, true);
-    patternTemplates.forEach(pattern -> publishMessage(pattern, projectId, launchId, itemIds));
-    if (CollectionUtils.isEmpty(itemIds)) {
-      sendFinishedEvent(projectId, launchId);
+    if (isSinglePass) {
+      if (!CollectionUtils.isEmpty(itemIds)) {
+        publishMessage(null, PatternTemplateType.REGEX, projectId, launchId, itemIds);
+      }
+    } else {
+      List<PatternTemplate> patternTemplates =
+          patternTemplateRepository.findAllByProjectIdAndEnabled(projectId, true);
+      patternTemplates.forEach(pattern -> publishMessage(pattern, pattern.getTemplateType(),
+          projectId, launchId, itemIds));
     }
   }
 
-  private void publishMessage(PatternTemplate pattern, long projectId, long launchId,
-      List<Long> itemIds) {
+  private void publishMessage(PatternTemplate pattern, PatternTemplateType type, long projectId,
+      long launchId, List<Long> itemIds) {
     if (isSingleItem) {
-      itemIds.forEach(id -> messageBus.publish(PATTERN_ANALYSIS, pattern.getTemplateType().name(),
+      itemIds.forEach(id -> messageBus.publish(PATTERN_ANALYSIS, type.name(),
           new ItemsPatternAnalyzeDto(projectId, launchId, Collections.singletonList(id), pattern)));
     } else {
-      messageBus.publish(PATTERN_ANALYSIS, pattern.getTemplateType().name(),
+      messageBus.publish(PATTERN_ANALYSIS, type.name(),
           new ItemsPatternAnalyzeDto(projectId, launchId, itemIds, pattern));
     }
   }
-
-  public void sendFinishedEvent(long projectId, long launchId) {
-    messageBus.publish(PATTERN_ANALYSIS, PatternTemplateType.REGEX.name(),
-        new ItemsPatternAnalyzeDto(projectId, launchId, Collections.emptyList(), true));
-  }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import com.epam.reportportal.model.analyzer.IndexLog;
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.core.log.LogService;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches {@link PatternTemplate} of a project against the error logs of the test items in a
+ * single pass: error logs of the items and their descendants are loaded once and every message is
+ * checked against all the string and regex patterns at once.
+ * <p>
+ * Matchers are compiled once per set of patterns and cached.
+ */
+@Component
+public class PatternMatchingEngine {
+
+  private final LogService logService;
+  private final long regexTimeoutMillis;
+  private final Timer matchTimer;
+
+  private final Cache<List<String>, StringPatternMatcher> stringMatchers;
+  private final Cache<List<String>, RegexPatternMatcher> regexMatchers;
+
+  public PatternMatchingEngine(LogService logService, MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.pattern-analysis.regex-timeout-ms:1000}")
+      long regexTimeoutMillis) {
+    this.logService = logService;
+    this.regexTimeoutMillis = regexTimeoutMillis;
+    this.matchTimer = Timer.builder("rp.analyzer.pattern.match")
+        .description("Duration of the single pass pattern matching of an items batch")
+        .register(meterRegistry);
+    this.stringMatchers = CacheBuilder.newBuilder()
+        .maximumSize(100)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+    this.regexMatchers = CacheBuilder.newBuilder()
+        .maximumSize(100)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+  }
+
+  /**
+   * Regex patterns are validated by the database, so some of them may not be supported by the
+   * Java regex engine.
+   *
+   * @param pattern {@link PatternTemplate}
+   * @return {@code true} if the pattern can be matched by the engine
+   */
+  public boolean isSupported(PatternTemplate pattern) {
+    return PatternTemplateType.STRING == pattern.getTemplateType() || (
+        PatternTemplateType.REGEX == pattern.getTemplateType()
+            && RegexPatternMatcher.isSupported(pattern.getValue()));
+  }
+
+  /**
+   * @param launchId Id of the launch of the items
+   * @param patterns {@link PatternTemplate} supported by the engine
+   * @param itemIds  Ids of the items to match
+   * @return Ids of the matched items mapped by the {@link PatternTemplate}, patterns without
+   * matches are not mapped
+   */
+  public Map<PatternTemplate, Set<Long>> match(Long launchId, List<PatternTemplate> patterns,
+      List<Long> itemIds) {
+    if (patterns.isEmpty() || itemIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return matchTimer.record(() -> {
+      final List<PatternTemplate> stringPatterns = ofType(patterns, PatternTemplateType.STRING);
+      final List<PatternTemplate> regexPatterns = ofType(patterns, PatternTemplateType.REGEX);
+      final StringPatternMatcher stringMatcher = getMatcher(stringMatchers, stringPatterns,
+          StringPatternMatcher::new);
+      final RegexPatternMatcher regexMatcher = getMatcher(regexMatchers, regexPatterns,
+          values -> new RegexPatternMatcher(values, regexTimeoutMillis));
+
+      Map<PatternTemplate, Set<Long>> result = new HashMap<>();
+      logService.findAllIndexUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(launchId,
+          itemIds, LogLevel.ERROR_INT).forEach((itemId, logs) -> {
+        BitSet stringMatched = new BitSet(stringPatterns.size());
+        BitSet regexMatched = new BitSet(regexPatterns.size());
+        for (IndexLog log : logs) {
+          if (log.getMessage() == null) {
+            continue;
+          }
+          if (stringMatched.cardinality() < stringPatterns.size()) {
+            stringMatched.or(stringMatcher.match(log.getMessage()));
+          }
+          if (regexMatched.cardinality() < regexPatterns.size()) {
+            regexMatched.or(regexMatcher.match(log.getMessage(), regexMatched));
+          }
+        }
+        collect(result, itemId, stringPatterns, stringMatched);
+        collect(result, itemId, regexPatterns, regexMatched);
+      });
+      return result;
+    });
+  }
+
+  private static List<PatternTemplate> ofType(List<PatternTemplate> patterns,
+      PatternTemplateType type) {
+    return patterns.stream()
+        .filter(pattern -> type == pattern.getTemplateType())
+        .collect(Collectors.toList());
+  }
+
+  private static void collect(Map<PatternTemplate, Set<Long>> result, Long itemId,
+      List<PatternTemplate> patterns, BitSet matched) {
+    matched.stream()
+        .forEach(i -> result.computeIfAbsent(patterns.get(i), p -> new LinkedHashSet<>())
+            .add(itemId));
+  }
+
+  private static <T> T getMatcher(Cache<List<String>, T> cache, List<PatternTemplate> patterns,
+      Function<List<String>, T> factory) {
+    final List<String> values = patterns.stream()
+        .map(PatternTemplate::getValue)
+        .collect(Collectors.toList());
+    try {
+      return cache.get(values, () -> factory.apply(values));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new ReportPortalException(ErrorType.PATTERN_ANALYSIS_ERROR, e.getCause().getMessage());
+    }
+  }
+}
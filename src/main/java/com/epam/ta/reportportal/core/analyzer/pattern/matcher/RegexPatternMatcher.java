@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Matcher of regex patterns. Texts are checked against a combined alternation of all the patterns
+ * first, so the patterns are evaluated one by one only for texts matched by any of them. Every
+ * evaluation is interrupted once it takes longer than the configured timeout.
+ * <p>
+ * Patterns are compiled with {@link Pattern#DOTALL}, as '.' matches line terminators in the
+ * database regex too.
+ */
+public class RegexPatternMatcher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RegexPatternMatcher.class);
+
+  /**
+   * Back references are numbered within the whole combined pattern, so such patterns can not be
+   * combined
+   */
+  private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\([1-9]|k<)");
+
+  /**
+   * Classes, collating elements and equivalence classes of the database bracket expressions, e.g.
+   * {@code [[:digit:]]} or {@code [^a[:space:]]}, are valid Java regex with another meaning
+   */
+  private static final Pattern POSIX_BRACKET_EXPRESSION = Pattern.compile("\\[[^]]*\\[[:.=]");
+
+  private final List<Pattern> patterns;
+  private final Pattern combined;
+  private final BitSet notCombined = new BitSet();
+  private final long timeoutNanos;
+
+  /**
+   * @param patterns      Regex patterns, the matched patterns are reported by their index in the
+   *                      list
+   * @param timeoutMillis Max duration of a single evaluation
+   * @throws PatternSyntaxException if any of the patterns is not a valid Java regex
+   */
+  public RegexPatternMatcher(List<String> patterns, long timeoutMillis) {
+    this.patterns = patterns.stream().map(RegexPatternMatcher::compile)
+        .collect(Collectors.toList());
+    this.timeoutNanos = timeoutMillis * 1_000_000L;
+    List<String> combinable = new ArrayList<>(patterns.size());
+    for (int i = 0; i < patterns.size(); i++) {
+      if (BACK_REFERENCE.matcher(patterns.get(i)).find()) {
+        notCombined.set(i);
+      } else {
+        combinable.add("(?:" + patterns.get(i) + ")");
+      }
+    }
+    this.combined = combine(combinable);
+  }
+
+  /**
+   * @param pattern Regex pattern
+   * @return {@code true} if the pattern is a valid Java regex and has the same meaning in the
+   * database
+   */
+  public static boolean isSupported(String pattern) {
+    if (POSIX_BRACKET_EXPRESSION.matcher(pattern).find()) {
+      return false;
+    }
+    try {
+      compile(pattern);
+      return true;
+    } catch (PatternSyntaxException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @param text    Text to search the patterns in
+   * @param skipped Indexes of the patterns, which should not be evaluated
+   * @return Indexes of the patterns found in the text
+   */
+  public BitSet match(CharSequence text, BitSet skipped) {
+    BitSet candidates = new BitSet(patterns.size());
+    candidates.set(0, patterns.size());
+    candidates.andNot(skipped);
+    if (combined != null && !find(combined, text).orElse(true)) {
+      candidates.and(notCombined);
+    }
+    BitSet matched = new BitSet(patterns.size());
+    candidates.stream()
+        .filter(i -> find(patterns.get(i), text).orElse(false))
+        .forEach(matched::set);
+    return matched;
+  }
+
+  private Optional<Boolean> find(Pattern pattern, CharSequence text) {
+    try {
+      return Optional.of(pattern.matcher(new TimeLimitedCharSequence(text,
+          System.nanoTime() + timeoutNanos)).find());
+    } catch (TimeoutException e) {
+      LOGGER.warn("Evaluation of the pattern '{}' has been interrupted after {} ms",
+          pattern.pattern(), timeoutNanos / 1_000_000L);
+      return Optional.empty();
+    }
+  }
+
+  private static Pattern combine(List<String> combinable) {
+    if (combinable.size() < 2) {
+      return null;
+    }
+    try {
+      return compile(String.join("|", combinable));
+    } catch (PatternSyntaxException e) {
+      LOGGER.debug("Patterns can not be combined: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private static Pattern compile(String pattern) {
+    return Pattern.compile(pattern, Pattern.DOTALL);
+  }
+
+  /**
+   * Checks the deadline while the regex engine reads the text, as the engine can not be
+   * interrupted otherwise
+   */
+  private static class TimeLimitedCharSequence implements CharSequence {
+
+    private final CharSequence text;
+    private final long deadline;
+    private int reads;
+
+    private TimeLimitedCharSequence(CharSequence text, long deadline) {
+      this.text = text;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if ((++reads & 0x3FF) == 0 && System.nanoTime() > deadline) {
+        throw new TimeoutException();
+      }
+      return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+      return text.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new TimeLimitedCharSequence(text.subSequence(start, end), deadline);
+    }
+
+    @Override
+    public String toString() {
+      return text.toString();
+    }
+  }
+
+  private static class TimeoutException extends RuntimeException {
+
+    private TimeoutException() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Case-sensitive matcher of string patterns built as an Aho-Corasick automaton, so all the
+ * patterns are searched in a single pass over the text.
+ */
+public class StringPatternMatcher {
+
+  private final int patternsCount;
+  private final Node root = new Node();
+
+  /**
+   * @param patterns String patterns, the matched patterns are reported by their index in the list
+   */
+  public StringPatternMatcher(List<String> patterns) {
+    this.patternsCount = patterns.size();
+    for (int i = 0; i < patterns.size(); i++) {
+      Node node = root;
+      for (char c : patterns.get(i).toCharArray()) {
+        node = node.next.computeIfAbsent(c, k -> new Node());
+      }
+      node.output.set(i);
+    }
+    buildFailureLinks();
+  }
+
+  /**
+   * @param text Text to search the patterns in
+   * @return Indexes of the patterns found in the text
+   */
+  public BitSet match(CharSequence text) {
+    BitSet matched = (BitSet) root.output.clone();
+    Node node = root;
+    for (int i = 0; i < text.length() && matched.cardinality() < patternsCount; i++) {
+      node = node.step(text.charAt(i));
+      matched.or(node.output);
+    }
+    return matched;
+  }
+
+  private void buildFailureLinks() {
+    Queue<Node> queue = new ArrayDeque<>();
+    root.fail = root;
+    root.next.values().forEach(child -> {
+      child.fail = root;
+      child.output.or(root.output);
+      queue.add(child);
+    });
+    while (!queue.isEmpty()) {
+      Node node = queue.poll();
+      node.next.forEach((c, child) -> {
+        child.fail = node.fail.step(c);
+        child.output.or(child.fail.output);
+        queue.add(child);
+      });
+    }
+  }
+
+  private class Node {
+
+    private final Map<Character, Node> next = new HashMap<>();
+    private final BitSet output = new BitSet();
+    private Node fail;
+
+    private Node step(char c) {
+      Node node = this;
+      while (true) {
+        Node child = node.next.get(c);
+        if (child != null) {
+          return child;
+        }
+        if (node == root) {
+          return root;
+        }
+        node = node.fail;
+      }
+    }
+  }
+}
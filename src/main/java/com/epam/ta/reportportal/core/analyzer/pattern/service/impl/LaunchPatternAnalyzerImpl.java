@@ -16,33 +16,43 @@
 
 package com.epam.ta.reportportal.core.analyzer.pattern.service.impl;
 
-import static com.epam.ta.reportportal.commons.Predicates.not;
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
 
+import com.epam.reportportal.rules.commons.validation.BusinessRule;
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.ConvertibleCondition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
-import com.epam.reportportal.rules.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
-import com.epam.ta.reportportal.core.analyzer.pattern.handler.ItemsPatternsAnalyzer;
+import com.epam.ta.reportportal.core.analyzer.pattern.handler.impl.ItemsPatternAnalyzerImpl;
 import com.epam.ta.reportportal.core.analyzer.pattern.selector.condition.PatternConditionProviderChain;
 import com.epam.ta.reportportal.core.analyzer.pattern.service.LaunchPatternAnalyzer;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.reportportal.rules.exception.ReportPortalException;
-import com.epam.reportportal.rules.exception.ErrorType;
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 /**
+ * Items of the launch are read in batches ordered by id, every next batch starts after the last
+ * id of the previous one. Batches are analyzed concurrently, at most the configured number of
+ * batches at a time, and the analysis is finished once all of them are processed.
+ *
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 @Service
@@ -52,68 +62,126 @@ public class LaunchPatternAnalyzerImpl implements LaunchPatternAnalyzer {
 
   private final Integer batchSize;
 
+  private final int maxBatchesInFlight;
+
   private final TestItemRepository testItemRepository;
   private final PatternConditionProviderChain patternConditionProviderChain;
 
   private final AnalyzerStatusCache analyzerStatusCache;
 
-  private final ItemsPatternsAnalyzer itemsPatternsAnalyzer;
+  private final ItemsPatternAnalyzerImpl itemsPatternAnalyzer;
+
+  private final TaskExecutor patternAnalysisExecutor;
 
   @Autowired
   public LaunchPatternAnalyzerImpl(
       @Value("${rp.environment.variable.pattern-analysis.batch-size}") Integer batchSize,
+      @Value("${rp.environment.variable.pattern-analysis.max-batches-in-flight:4}")
+      int maxBatchesInFlight,
       TestItemRepository testItemRepository,
       PatternConditionProviderChain patternConditionProviderChain,
-      AnalyzerStatusCache analyzerStatusCache, ItemsPatternsAnalyzer itemsPatternsAnalyzer) {
+      AnalyzerStatusCache analyzerStatusCache, ItemsPatternAnalyzerImpl itemsPatternAnalyzer,
+      @Qualifier("patternAnalysisExecutor") TaskExecutor patternAnalysisExecutor) {
     this.batchSize = batchSize;
+    this.maxBatchesInFlight = maxBatchesInFlight;
     this.testItemRepository = testItemRepository;
     this.patternConditionProviderChain = patternConditionProviderChain;
     this.analyzerStatusCache = analyzerStatusCache;
-    this.itemsPatternsAnalyzer = itemsPatternsAnalyzer;
+    this.itemsPatternAnalyzer = itemsPatternAnalyzer;
+    this.patternAnalysisExecutor = patternAnalysisExecutor;
   }
 
   @Override
   public void analyzeLaunch(Launch launch, Set<AnalyzeItemsMode> analyzeModes) {
-    BusinessRule.expect(analyzerStatusCache.getStartedAnalyzers(launch.getId()),
-            not(started -> started.contains(PATTERN_ANALYZER_KEY)))
+    BusinessRule.expect(analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(),
+            launch.getProjectId()), equalTo(true))
         .verify(ErrorType.PATTERN_ANALYSIS_ERROR, "Pattern analysis is still in progress.");
-    analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, launch.getId(), launch.getProjectId());
     try {
-      analyze(launch, buildItemsCondition(analyzeModes));
+      new LaunchAnalysis(launch, buildItemsCondition(analyzeModes)).dispatch();
     } catch (Exception e) {
       LOGGER.error(e.getMessage(), e);
-    } finally {
       analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
     }
   }
 
-  private void analyze(Launch launch, ConvertibleCondition itemCondition) {
-    final Filter filter = createItemFilter(itemCondition);
-    int offset = 0;
-    List<Long> itemIds = testItemRepository.selectIdsByFilter(launch.getId(), filter, batchSize,
-        offset);
-    while (CollectionUtils.isNotEmpty(itemIds)) {
-      itemsPatternsAnalyzer.analyze(launch.getProjectId(), launch.getId(), itemIds);
-      offset += itemIds.size();
-      itemIds = testItemRepository.selectIdsByFilter(launch.getId(), filter, batchSize, offset);
-    }
-    notifyAnalysisFinished(launch.getProjectId(), launch.getId());
-  }
-
-  private void notifyAnalysisFinished(long projectId, long launchId) {
-    itemsPatternsAnalyzer.analyze(projectId, launchId, Collections.emptyList());
-  }
-
   private ConvertibleCondition buildItemsCondition(Set<AnalyzeItemsMode> analyzeModes) {
     return patternConditionProviderChain.provideCondition(analyzeModes)
         .orElseThrow(() -> new ReportPortalException(ErrorType.PATTERN_ANALYSIS_ERROR,
             "Unable to resolve item search condition"));
   }
 
-  private Filter createItemFilter(ConvertibleCondition commonItemCondition) {
+  private Filter createItemFilter(ConvertibleCondition commonItemCondition, Long lastItemId) {
     return Filter.builder()
         .withTarget(TestItem.class)
         .withCondition(commonItemCondition)
+        .withCondition(FilterCondition.builder()
+            .withCondition(Condition.GREATER_THAN)
+            .withSearchCriteria(CRITERIA_ID)
+            .withValue(String.valueOf(lastItemId))
+            .build())
         .build();
   }
+
+  /**
+   * Dispatches batches of the launch items. Dispatching is triggered by the start of the analysis
+   * and by every processed batch, and is performed by a single thread at a time.
+   */
+  private class LaunchAnalysis {
+
+    private final Launch launch;
+    private final ConvertibleCondition itemCondition;
+
+    private final AtomicInteger dispatchRequests = new AtomicInteger();
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
+    private long lastItemId;
+    private boolean exhausted;
+    private boolean finished;
+
+    private LaunchAnalysis(Launch launch, ConvertibleCondition itemCondition) {
+      this.launch = launch;
+      this.itemCondition = itemCondition;
+    }
+
+    private void dispatch() {
+      if (dispatchRequests.getAndIncrement() != 0) {
+        return;
+      }
+      do {
+        try {
+          while (!exhausted && batchesInFlight.get() < maxBatchesInFlight) {
+            List<Long> itemIds = nextBatch();
+            if (CollectionUtils.isEmpty(itemIds)) {
+              exhausted = true;
+            } else {
+              lastItemId = itemIds.get(itemIds.size() - 1);
+              batchesInFlight.incrementAndGet();
+              CompletableFuture.runAsync(() -> itemsPatternAnalyzer.analyzeByPatterns(
+                      launch.getProjectId(), launch.getId(), itemIds), patternAnalysisExecutor)
+                  .whenComplete((result, e) -> {
+                    if (e != null) {
+                      LOGGER.error("Pattern analysis of launch items batch has been failed", e);
+                    }
+                    batchesInFlight.decrementAndGet();
+                    dispatch();
+                  });
+            }
+          }
+        } catch (Exception e) {
+          LOGGER.error("Unable to load items of launch with id '{}' for pattern analysis",
+              launch.getId(), e);
+          exhausted = true;
+        }
+        if (exhausted && batchesInFlight.get() == 0 && !finished) {
+          finished = true;
+          analyzerStatusCache.analyzeFinished(PATTERN_ANALYZER_KEY, launch.getId());
+        }
+      } while (dispatchRequests.decrementAndGet() != 0);
+    }
+
+    private List<Long> nextBatch() {
+      return testItemRepository.selectIdsByFilter(launch.getId(),
+          createItemFilter(itemCondition, lastItemId), batchSize, 0);
+    }
+  }
 }
@@ -16,14 +16,19 @@
 
 package com.epam.ta.reportportal.core.configs;
 
+import com.epam.reportportal.commons.template.FreemarkerTemplateEngine;
 import com.epam.reportportal.commons.template.TemplateEngine;
-import com.epam.reportportal.commons.template.TemplateEngineProvider;
 import com.epam.ta.reportportal.util.email.strategy.EmailNotificationStrategy;
 import com.epam.ta.reportportal.util.email.strategy.EmailTemplate;
 import com.epam.ta.reportportal.util.email.strategy.UserDeletionNotificationStrategy;
 import com.epam.ta.reportportal.util.email.strategy.UserExpirationNotificationStrategy;
 import com.epam.ta.reportportal.util.email.strategy.UserSelfDeletionNotificationStrategy;
 import com.google.common.collect.ImmutableMap;
+import freemarker.cache.StrongCacheStorage;
+import freemarker.template.TemplateExceptionHandler;
+import freemarker.template.Version;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -59,10 +64,23 @@ public class EmailConfiguration {
     return threadPoolTaskExecutor;
   }
 
+  /**
+   * Email templates are packaged with the application, so they are parsed once and kept in the
+   * template cache without checks for updates.
+   */
   @Bean
   @Primary
   public TemplateEngine getTemplateEngine() {
-    return new TemplateEngineProvider("/templates/email").get();
+    Version version = new Version(2, 3, 25);
+    freemarker.template.Configuration cfg = new freemarker.template.Configuration(version);
+    cfg.setClassForTemplateLoading(EmailConfiguration.class, "/templates/email");
+    cfg.setIncompatibleImprovements(version);
+    cfg.setDefaultEncoding(StandardCharsets.UTF_8.name());
+    cfg.setLocale(Locale.US);
+    cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+    cfg.setCacheStorage(new StrongCacheStorage());
+    cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+    return new FreemarkerTemplateEngine(cfg);
   }
 
   @Bean
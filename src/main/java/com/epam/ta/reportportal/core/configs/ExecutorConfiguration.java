@@ -164,4 +164,93 @@ public class ExecutorConfiguration {
     return threadPoolTaskExecutor;
   }
 
+  @Bean(name = "logMessageFetchExecutor")
+  public TaskExecutor logMessageFetchExecutor(
+      @Value("${rp.environment.variable.executor.pool.log-message-fetch.core}")
+      Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.log-message-fetch.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.log-message-fetch.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("log-message-fetch-exec");
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  @Bean(name = "interruptLaunchesExecutor")
+  public TaskExecutor interruptLaunchesExecutor(
+      @Value("${rp.environment.variable.executor.pool.interrupt-launches.core}")
+      Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.interrupt-launches.max}")
+      Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.interrupt-launches.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("interrupt-launches-exec");
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  @Bean(name = "patternAnalysisExecutor")
+  public TaskExecutor patternAnalysisExecutor(
+      @Value("${rp.environment.variable.executor.pool.pattern-analysis.core}")
+      Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.pattern-analysis.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.pattern-analysis.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("pattern-analysis-exec");
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  @Bean(name = "analyzerRequestExecutor")
+  public TaskExecutor analyzerRequestExecutor(
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.core}")
+      Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.analyzer-request.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("analyzer-request-exec");
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  @Bean(name = "launchMergeExecutor")
+  public TaskExecutor launchMergeExecutor(
+      @Value("${rp.environment.variable.executor.pool.launch-merge.core}") Integer corePoolSize,
+      @Value("${rp.environment.variable.executor.pool.launch-merge.max}") Integer maxPoolSize,
+      @Value("${rp.environment.variable.executor.pool.launch-merge.queue}")
+      Integer queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("launch-merge-exec");
+    executor.setRejectedExecutionHandler(
+        new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
 }
@@ -18,19 +18,16 @@ package com.epam.ta.reportportal.core.configs;
 
 import static java.util.Collections.singletonMap;
 
-import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.BasicLaunchMergeStrategy;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.BasicStatisticsCalculationStrategy;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.DeepLaunchMergeStrategy;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
+import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergedLaunchItemsUpdater;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.StatisticsCalculationFactory;
 import com.epam.ta.reportportal.core.item.merge.LaunchMergeStrategy;
 import com.epam.ta.reportportal.core.item.merge.StatisticsCalculationStrategy;
-import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,26 +40,15 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class MergeStrategyConfig {
 
-  private final TestItemRepository testItemRepository;
-
   private final LaunchRepository launchRepository;
 
-  private final TestItemUniqueIdGenerator testItemUniqueIdGenerator;
-
-  private final LogRepository logRepository;
-
-  private final AttachmentRepository attachmentRepository;
+  private final MergedLaunchItemsUpdater mergedLaunchItemsUpdater;
 
   @Autowired
-  public MergeStrategyConfig(TestItemRepository testItemRepository,
-      LaunchRepository launchRepository,
-      TestItemUniqueIdGenerator testItemUniqueIdGenerator, LogRepository logRepository,
-      AttachmentRepository attachmentRepository) {
-    this.testItemRepository = testItemRepository;
+  public MergeStrategyConfig(LaunchRepository launchRepository,
+      MergedLaunchItemsUpdater mergedLaunchItemsUpdater) {
     this.launchRepository = launchRepository;
-    this.testItemUniqueIdGenerator = testItemUniqueIdGenerator;
-    this.logRepository = logRepository;
-    this.attachmentRepository = attachmentRepository;
+    this.mergedLaunchItemsUpdater = mergedLaunchItemsUpdater;
   }
 
   @Bean
@@ -80,20 +66,12 @@ public class MergeStrategyConfig {
     return ImmutableMap.<MergeStrategyType, LaunchMergeStrategy>builder()
         .put(MergeStrategyType.BASIC,
             new BasicLaunchMergeStrategy(launchRepository,
-                testItemRepository,
-                logRepository,
-                attachmentRepository,
-                testItemUniqueIdGenerator,
+                mergedLaunchItemsUpdater,
                 statisticsCalculationFactory()
             )
         )
         .put(MergeStrategyType.DEEP,
-            new DeepLaunchMergeStrategy(launchRepository,
-                testItemRepository,
-                logRepository,
-                attachmentRepository,
-                testItemUniqueIdGenerator
-            )
+            new DeepLaunchMergeStrategy(launchRepository, mergedLaunchItemsUpdater)
         )
         .build();
   }
@@ -196,6 +196,8 @@ class SecurityConfiguration {
           /* set of special endpoints for another microservices from RP ecosystem */
           .antMatchers("/api-internal/**")
           .hasRole("COMPONENT")
+          .antMatchers("/reportingqueues", "/reportingqueues/**", "/logindexing", "/logindexing/**")
+          .hasRole("ADMINISTRATOR")
           .antMatchers("/v2/**", "/swagger-resources", "/certificate/**", "/api/**", "/**")
           .hasRole("USER")
           .anyRequest()
@@ -17,11 +17,13 @@
 package com.epam.ta.reportportal.core.configs.rabbit;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.epam.ta.reportportal.core.analyzer.auto.client.impl.CachingRabbitMqManagementClient;
 import com.epam.ta.reportportal.core.analyzer.auto.client.impl.RabbitMqManagementClientTemplate;
 import com.epam.ta.reportportal.core.configs.Conditions;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.reportportal.rules.exception.ErrorType;
 import com.rabbitmq.http.client.Client;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -47,7 +49,9 @@ public class AnalyzerRabbitMqConfiguration {
   @Bean
   public RabbitMqManagementClient managementTemplate(
       @Value("${rp.amqp.api-address}") String address,
-      @Value("${rp.amqp.analyzer-vhost}") String virtualHost) {
+      @Value("${rp.amqp.analyzer-vhost}") String virtualHost, MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.analyzer.topology.max-stale-ms:120000}")
+      long maxStaleMillis) {
     Client rabbitClient;
     try {
       rabbitClient = new Client(address);
@@ -57,7 +61,10 @@ public class AnalyzerRabbitMqConfiguration {
           "Cannot create a HTTP rabbit client instance. Incorrect api address " + address
       );
     }
-    return new RabbitMqManagementClientTemplate(rabbitClient, virtualHost);
+    return new CachingRabbitMqManagementClient(
+        new RabbitMqManagementClientTemplate(rabbitClient, virtualHost), meterRegistry,
+        maxStaleMillis
+    );
   }
 
   @Bean(name = "analyzerConnectionFactory")
@@ -57,6 +57,7 @@ public class InternalConfiguration {
   public static final String QUEUE_ACTIVITY_KEY = "activity.#";
   public static final String QUEUE_ATTACHMENT_DELETE = "attachment.delete";
   public static final String QUEUE_EMAIL = "notification.email";
+  public static final String QUEUE_LAUNCH_NOTIFICATION = "notification.launch";
 
   public static final String QUEUE_QUERY_RQ = "query-rq";
 
@@ -115,6 +116,11 @@ public class InternalConfiguration {
     return new Queue(QUEUE_EMAIL);
   }
 
+  @Bean
+  public Queue launchNotificationQueue() {
+    return new Queue(QUEUE_LAUNCH_NOTIFICATION);
+  }
+
   //  Bindings
 
   @Bean
@@ -137,4 +143,10 @@ public class InternalConfiguration {
   public Binding emailNotificationBinding() {
     return BindingBuilder.bind(emailNotificationQueue()).to(notificationExchange()).with(QUEUE_EMAIL);
   }
+
+  @Bean
+  public Binding launchNotificationBinding() {
+    return BindingBuilder.bind(launchNotificationQueue()).to(notificationExchange())
+        .with(QUEUE_LAUNCH_NOTIFICATION);
+  }
 }
@@ -24,12 +24,14 @@ import com.rabbitmq.http.client.Client;
 import java.net.URI;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,4 +100,59 @@ public class RabbitMqConfiguration {
     return factory;
   }
 
+  /**
+   * Container factory for listeners that consume messages by batches. A batch is delivered to the
+   * listener when it is full or when no more messages are received within the receive timeout.
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+      @Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory,
+      @Value("${rp.environment.variable.activity-batch.size:100}") int batchSize,
+      @Value("${rp.environment.variable.activity-batch.receive-timeout-ms:500}")
+      long receiveTimeout) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setDefaultRequeueRejected(false);
+    factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+    factory.setAutoStartup(true);
+    factory.setMessageConverter(jsonMessageConverter());
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setPrefetchCount(batchSize);
+    factory.setReceiveTimeout(receiveTimeout);
+    return factory;
+  }
+
+  /**
+   * Container factory for the notification sender. A failed message is redelivered to the listener
+   * with exponential backoff and is rejected after the last attempt.
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory notificationRabbitListenerContainerFactory(
+      @Autowired @Qualifier("connectionFactory") ConnectionFactory connectionFactory,
+      @Value("${rp.environment.variable.notification.sender.consumers:2}") int consumers,
+      @Value("${rp.environment.variable.notification.sender.retry.max-attempts:5}")
+      int maxAttempts,
+      @Value("${rp.environment.variable.notification.sender.retry.initial-interval-ms:1000}")
+      long initialInterval,
+      @Value("${rp.environment.variable.notification.sender.retry.max-interval-ms:60000}")
+      long maxInterval) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setDefaultRequeueRejected(false);
+    factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+    factory.setAutoStartup(true);
+    factory.setMessageConverter(jsonMessageConverter());
+    factory.setConcurrentConsumers(consumers);
+    factory.setMaxConcurrentConsumers(consumers);
+    factory.setPrefetchCount(1);
+    factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+        .maxAttempts(maxAttempts)
+        .backOffOptions(initialInterval, 2.0, maxInterval)
+        .recoverer(new RejectAndDontRequeueRecoverer())
+        .build());
+    return factory;
+  }
+
 }
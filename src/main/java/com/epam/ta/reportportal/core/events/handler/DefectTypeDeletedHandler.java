@@ -30,7 +30,6 @@ import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.reportportal.rules.exception.ErrorType;
-import com.google.common.cache.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -76,10 +75,9 @@ public class DefectTypeDeletedHandler {
             () -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, event.getProjectId()));
 
     if (analyzerServiceClient.hasClients()) {
-      Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-          .orElseThrow(
-              () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-      expect(analyzeStatus.asMap().containsValue(event.getProjectId()), equalTo(false)).verify(
+      expect(analyzerStatusCache.containsProjectId(AUTO_ANALYZER_KEY, event.getProjectId()),
+          equalTo(false)
+      ).verify(
           ErrorType.FORBIDDEN_OPERATION,
           "Index can not be removed until auto-analysis proceeds."
       );
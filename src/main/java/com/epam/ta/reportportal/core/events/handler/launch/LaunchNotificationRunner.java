@@ -16,6 +16,8 @@
 
 package com.epam.ta.reportportal.core.events.handler.launch;
 
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.EXCHANGE_NOTIFICATION;
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_LAUNCH_NOTIFICATION;
 import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.DEFECTS_AUTOMATION_BUG_TOTAL;
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.DEFECTS_PRODUCT_BUG_TOTAL;
@@ -23,6 +25,7 @@ import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConst
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.DEFECTS_TO_INVESTIGATE_TOTAL;
 import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.EXECUTIONS_TOTAL;
 
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.ConfigurableEventHandler;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
@@ -40,15 +43,16 @@ import com.epam.ta.reportportal.entity.project.email.LaunchAttributeRule;
 import com.epam.ta.reportportal.entity.project.email.SenderCase;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.reportportal.rules.exception.ReportPortalException;
-import com.epam.ta.reportportal.util.email.EmailService;
-import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import com.epam.ta.reportportal.model.notification.LaunchNotificationJob;
 import com.epam.ta.reportportal.ws.converter.converters.NotificationConfigConverter;
 import com.epam.ta.reportportal.ws.reporting.ItemAttributeResource;
 import com.epam.reportportal.rules.exception.ErrorType;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
@@ -60,6 +64,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
+ * Evaluates email notification rules of the project for the finished launch and publishes a
+ * {@link LaunchNotificationJob} per matched rule. The jobs are sent asynchronously by
+ * {@link com.epam.ta.reportportal.util.email.LaunchNotificationSender}.
+ *
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
 @Service
@@ -75,18 +83,18 @@ public class LaunchNotificationRunner
   private final GetProjectHandler getProjectHandler;
   private final GetLaunchHandler getLaunchHandler;
   private final GetIntegrationHandler getIntegrationHandler;
-  private final MailServiceFactory mailServiceFactory;
   private final UserRepository userRepository;
+  private final MessageBus messageBus;
 
   @Autowired
   public LaunchNotificationRunner(GetProjectHandler getProjectHandler,
       GetLaunchHandler getLaunchHandler, GetIntegrationHandler getIntegrationHandler,
-      MailServiceFactory mailServiceFactory, UserRepository userRepository) {
+      UserRepository userRepository, MessageBus messageBus) {
     this.getProjectHandler = getProjectHandler;
     this.getLaunchHandler = getLaunchHandler;
     this.getIntegrationHandler = getIntegrationHandler;
-    this.mailServiceFactory = mailServiceFactory;
     this.userRepository = userRepository;
+    this.messageBus = messageBus;
   }
 
   @Override
@@ -102,8 +110,7 @@ public class LaunchNotificationRunner
       getIntegrationHandler.getEnabledByProjectIdOrGlobalAndIntegrationGroup(
               launchFinishedEvent.getProjectId(), IntegrationGroupEnum.NOTIFICATION)
           .filter(integration -> EMAIL_INTEGRATION_NAME.equals(integration.getName()))
-          .flatMap(mailServiceFactory::getDefaultEmailService)
-          .ifPresentOrElse(emailService -> sendEmail(launchFinishedEvent, emailService),
+          .ifPresentOrElse(integration -> sendEmail(launchFinishedEvent, integration.getId()),
               () -> LOGGER.warn("Unable to find {} integration for project {}",
                   IntegrationGroupEnum.NOTIFICATION, launchFinishedEvent.getProjectId()
               )
@@ -112,56 +119,77 @@ public class LaunchNotificationRunner
   }
 
   /**
-   * Try to send email when it is needed
+   * Publish notification jobs of the matched rules
    *
-   * @param emailService Mail Service
+   * @param integrationId Email integration id
    */
-  private void sendEmail(LaunchFinishedEvent launchFinishedEvent, EmailService emailService) {
+  private void sendEmail(LaunchFinishedEvent launchFinishedEvent, Long integrationId) {
 
     final Launch launch = getLaunchHandler.get(launchFinishedEvent.getId());
     final Project project = getProjectHandler.get(launch.getProjectId());
 
-    project.getSenderCases().stream().filter(SenderCase::isEnabled)
-        .filter(senderCase -> senderCase.getType().equals(NOTIFICATION_TYPE)).forEach(ec -> {
-      SendCase sendCase = ec.getSendCase();
-      boolean successRate = isSuccessRateEnough(launch, sendCase);
-      boolean matchedNames = isLaunchNameMatched(launch, ec);
-      boolean matchedTags =
-          isAttributesMatched(launch, ec.getLaunchAttributeRules(), ec.getAttributesOperator());
-
-      Set<String> recipients = ec.getRecipients();
-      if (successRate && matchedNames && matchedTags) {
-        String[] recipientsArray = findRecipients(
-            userRepository.findLoginById(launch.getUserId()).orElseThrow(
-                () -> new ReportPortalException(ErrorType.USER_NOT_FOUND, launch.getUserId())),
-            recipients
+    List<SenderCase> matchedCases = project.getSenderCases().stream()
+        .filter(SenderCase::isEnabled)
+        .filter(senderCase -> senderCase.getType().equals(NOTIFICATION_TYPE))
+        .filter(ec -> isSuccessRateEnough(launch, ec.getSendCase()))
+        .filter(ec -> isLaunchNameMatched(launch, ec))
+        .filter(ec -> isAttributesMatched(launch, ec.getLaunchAttributeRules(),
+            ec.getAttributesOperator()))
+        .collect(Collectors.toList());
+    if (matchedCases.isEmpty()) {
+      return;
+    }
+
+    final String owner = userRepository.findLoginById(launch.getUserId())
+        .orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, launch.getUserId()));
+    final Map<String, String> emails = findEmails(owner,
+        matchedCases.stream().map(SenderCase::getRecipients).collect(Collectors.toList()));
+    final String url = launchFinishedEvent.getBaseUrl() != null
+        ? String.format("%s/ui/#%s", launchFinishedEvent.getBaseUrl(), project.getName())
+        : String.format("/ui/#%s", project.getName());
+
+    matchedCases.forEach(ec -> {
+      String[] recipientsArray = findRecipients(owner, ec.getRecipients(), emails);
+      try {
+        messageBus.publish(EXCHANGE_NOTIFICATION, QUEUE_LAUNCH_NOTIFICATION,
+            new LaunchNotificationJob(integrationId, launch.getId(), project.getId(), url,
+                recipientsArray
+            )
         );
-        try {
-          if (launchFinishedEvent.getBaseUrl() != null) {
-            emailService.sendLaunchFinishNotification(recipientsArray,
-                String.format("%s/ui/#%s", launchFinishedEvent.getBaseUrl(), project.getName()),
-                project, launch
-            );
-          } else {
-            emailService.sendLaunchFinishNotification(
-                recipientsArray, String.format("/ui/#%s", project.getName()), project, launch);
-          }
-        } catch (Exception e) {
-          LOGGER.error("Unable to send email.", e);
-        }
+      } catch (Exception e) {
+        LOGGER.error("Unable to send email.", e);
       }
     });
 
   }
 
-  private String[] findRecipients(String owner, Set<String> recipients) {
+  /**
+   * Resolves emails of all the recipients given by login with one query
+   *
+   * @return Emails mapped by login
+   */
+  private Map<String, String> findEmails(String owner, List<Set<String>> recipients) {
+    Set<String> logins = recipients.stream()
+        .flatMap(Collection::stream)
+        .filter(recipient -> !recipient.contains("@"))
+        .map(recipient -> recipient.equals(ProjectUtils.getOwner()) ? owner : recipient)
+        .collect(Collectors.toSet());
+    if (logins.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return userRepository.findAllByLoginIn(logins).stream()
+        .filter(user -> user.getEmail() != null)
+        .collect(Collectors.toMap(User::getLogin, User::getEmail, (prev, curr) -> prev));
+  }
+
+  private static String[] findRecipients(String owner, Set<String> recipients,
+      Map<String, String> emails) {
     return recipients.stream().map(recipient -> {
       if (recipient.contains("@")) {
         return recipient;
       } else {
         String toFind = recipient.equals(ProjectUtils.getOwner()) ? owner : recipient;
-        Optional<User> user = userRepository.findByLogin(toFind);
-        return user.map(User::getEmail).orElse(null);
+        return emails.get(toFind);
       }
     }).filter(Objects::nonNull).distinct().toArray(String[]::new);
   }
@@ -31,6 +31,7 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.FilterCreatedEvent;
 import com.epam.ta.reportportal.core.events.activity.FilterUpdatedEvent;
 import com.epam.ta.reportportal.core.filter.UpdateUserFilterHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.entity.filter.ObjectType;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
@@ -61,15 +62,17 @@ public class UpdateUserFilterHandlerImpl implements UpdateUserFilterHandler {
   private final ProjectExtractor projectExtractor;
   private final UserFilterRepository userFilterRepository;
   private final MessageBus messageBus;
+  private final WidgetContentCache widgetContentCache;
 
   @Autowired
   public UpdateUserFilterHandlerImpl(ProjectExtractor projectExtractor,
       UserFilterRepository userFilterRepository,
 
-      MessageBus messageBus) {
+      MessageBus messageBus, WidgetContentCache widgetContentCache) {
     this.projectExtractor = projectExtractor;
     this.userFilterRepository = userFilterRepository;
     this.messageBus = messageBus;
+    this.widgetContentCache = widgetContentCache;
   }
 
   @Override
@@ -125,6 +128,7 @@ public class UpdateUserFilterHandlerImpl implements UpdateUserFilterHandler {
 
     UserFilterActivityResource before = TO_ACTIVITY_RESOURCE.apply(userFilter);
     UserFilter updated = new UserFilterBuilder(userFilter).addFilterRq(updateRQ).get();
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
 
     messageBus.publishActivity(
         new FilterUpdatedEvent(before, TO_ACTIVITY_RESOURCE.apply(updated), user.getUserId(),
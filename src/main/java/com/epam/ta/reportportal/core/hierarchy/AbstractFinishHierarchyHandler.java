@@ -28,6 +28,7 @@ import static com.epam.reportportal.rules.exception.ErrorType.INCORRECT_REQUEST;
 import static java.util.Optional.ofNullable;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyBulkFinisher.LeavesResult;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
@@ -45,17 +46,21 @@ import com.epam.ta.reportportal.jooq.enums.JStatusEnum;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
+@Slf4j
 public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarchyHandler<T> {
 
   public static final int ITEM_PAGE_SIZE = 50;
@@ -70,6 +75,7 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
   private final RetryHandler retryHandler;
   private final IssueTypeHandler issueTypeHandler;
   private final ChangeStatusHandler changeStatusHandler;
+  private HierarchyBulkFinisher bulkFinisher;
 
   public AbstractFinishHierarchyHandler(LaunchRepository launchRepository,
       TestItemRepository testItemRepository,
@@ -86,11 +92,24 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
     this.changeStatusHandler = changeStatusHandler;
   }
 
+  /**
+   * Finishing with set-based statements is used when the {@link HierarchyBulkFinisher} is
+   * provided and enabled, otherwise descendants are finished one by one.
+   *
+   * @param bulkFinisher {@link HierarchyBulkFinisher}
+   */
+  @Autowired(required = false)
+  public void setBulkFinisher(HierarchyBulkFinisher bulkFinisher) {
+    this.bulkFinisher = bulkFinisher;
+  }
+
   protected abstract boolean isIssueRequired(StatusEnum status, T entity);
 
   protected abstract Function<Pageable, List<Long>> getItemIdsFunction(boolean hasChildren,
       T entity, StatusEnum status);
 
+  protected abstract DescendantsScope getDescendantsScope(T entity);
+
   protected boolean evaluateSkippedAttributeValue(StatusEnum status, Long launchId) {
     if (SKIPPED.equals(status)) {
       return itemAttributeRepository.findByLaunchIdAndKeyAndSystem(launchId, SKIPPED_ISSUE_KEY,
@@ -118,12 +137,46 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
     expect(status, s -> s != IN_PROGRESS).verify(INCORRECT_REQUEST,
         "Unable to update current status to - " + IN_PROGRESS);
 
+    if (bulkFinisher != null && bulkFinisher.isEnabled()) {
+      return finishDescendantsInBulk(parentEntity, projectDetails.getProjectId(), status, endDate,
+          user);
+    }
+
     final int withoutChildren = updateDescendantsWithoutChildren(parentEntity,
         projectDetails.getProjectId(), status, endDate, user);
     final int withChildren = updateDescendantsWithChildren(parentEntity, endDate);
     return withoutChildren + withChildren;
   }
 
+  private int finishDescendantsInBulk(T entity, Long projectId, StatusEnum status,
+      Instant endTime, ReportPortalUser user) {
+    final DescendantsScope scope = getDescendantsScope(entity);
+    testItemRepository.flush();
+
+    final int total = bulkFinisher.countInProgress(scope);
+    log.info("Finishing {} in-progress descendants of {}", total, scope);
+
+    IssueType issueType = getIssueType(isIssueRequired(status, entity),
+        projectId,
+        TO_INVESTIGATE.getLocator()
+    ).orElse(null);
+    LeavesResult leavesResult = bulkFinisher.finishLeaves(scope, status, endTime, issueType);
+    log.info("Finished {} of {} descendants of {}", leavesResult.getFinished(), total, scope);
+
+    leavesResult.getParentIssueIds().forEach(issueEntityRepository::deleteById);
+    leavesResult.getParentsToRecalculate().forEach(parentId -> {
+      // only the parent id of the child is required to recalculate the parent status
+      TestItem child = new TestItem();
+      child.setParentId(parentId);
+      changeStatusHandler.changeParentStatus(child, projectId, user);
+    });
+
+    final int withChildren = bulkFinisher.finishParents(scope, endTime);
+    final int finished = leavesResult.getFinished() + withChildren;
+    log.info("Finished {} of {} descendants of {}", finished, total, scope);
+    return finished;
+  }
+
   private int updateDescendantsWithoutChildren(T entity, Long projectId, StatusEnum status,
       Instant endTime, ReportPortalUser user) {
     AtomicInteger updatedCount = new AtomicInteger(0);
@@ -146,12 +199,12 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
       Instant endTime,
       Long projectId, ReportPortalUser user, AtomicInteger updatedCount) {
     return itemIds -> {
-      Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
-      itemIds.forEach(itemId -> ofNullable(itemMapping.get(itemId)).ifPresent(testItem -> {
+      List<TestItem> items = getItems(itemIds);
+      items.forEach(testItem -> {
         finishItem(testItem, status, endTime);
         attachIssue(testItem, issueType);
-        changeStatusHandler.changeParentStatus(testItem, projectId, user);
-      }));
+      });
+      changeParentStatuses(items, projectId, user);
       updatedCount.addAndGet(itemIds.size());
     };
   }
@@ -160,11 +213,9 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
       Instant endTime, Long projectId,
       ReportPortalUser user, AtomicInteger updatedCount) {
     return itemIds -> {
-      Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
-      itemIds.forEach(itemId -> ofNullable(itemMapping.get(itemId)).ifPresent(testItem -> {
-        finishItem(testItem, status, endTime);
-        changeStatusHandler.changeParentStatus(testItem, projectId, user);
-      }));
+      List<TestItem> items = getItems(itemIds);
+      items.forEach(testItem -> finishItem(testItem, status, endTime));
+      changeParentStatuses(items, projectId, user);
       updatedCount.addAndGet(itemIds.size());
     };
   }
@@ -218,6 +269,21 @@ public abstract class AbstractFinishHierarchyHandler<T> implements FinishHierarc
         .collect(Collectors.toMap(TestItem::getItemId, i -> i));
   }
 
+  private List<TestItem> getItems(List<Long> itemIds) {
+    Map<Long, TestItem> itemMapping = getItemMapping(itemIds);
+    return itemIds.stream().map(itemMapping::get).filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Statuses of the whole page of finished items are flushed once before the parents update.
+   */
+  private void changeParentStatuses(List<TestItem> items, Long projectId,
+      ReportPortalUser user) {
+    testItemRepository.flush();
+    items.forEach(testItem -> changeStatusHandler.changeParentStatus(testItem, projectId, user));
+  }
+
   private void finishItem(TestItem testItem, StatusEnum status, Instant endTime) {
     testItem.getItemResults().setStatus(status);
     testItem.getItemResults().setEndTime(endTime);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+import java.util.Map;
+
+/**
+ * Set of test items affected by the hierarchy finishing, expressed as an SQL condition over the
+ * {@code test_item} table aliased as {@code ti}. Conditions are the same as the ones used by the
+ * paged id lookups of the {@link AbstractFinishHierarchyHandler} implementations.
+ */
+public class DescendantsScope {
+
+  private final String condition;
+  private final Map<String, Object> params;
+  private final String description;
+
+  private DescendantsScope(String condition, Map<String, Object> params, String description) {
+    this.condition = condition;
+    this.params = params;
+    this.description = description;
+  }
+
+  /**
+   * @param launchId {@link com.epam.ta.reportportal.entity.launch.Launch#getId()}
+   * @return Scope of all the items of the launch
+   */
+  public static DescendantsScope ofLaunch(Long launchId) {
+    return new DescendantsScope("ti.launch_id = :scopeLaunchId",
+        Map.of("scopeLaunchId", launchId),
+        "launch " + launchId
+    );
+  }
+
+  /**
+   * @param parentPath {@link com.epam.ta.reportportal.entity.item.TestItem#getPath()}
+   * @return Scope of all the descendants of the item, excluding the item itself
+   */
+  public static DescendantsScope ofParentPath(String parentPath) {
+    return new DescendantsScope(
+        "ti.path <@ CAST(:scopePath AS LTREE) AND ti.path != CAST(:scopePath AS LTREE)",
+        Map.of("scopePath", parentPath),
+        "item " + parentPath
+    );
+  }
+
+  public String getCondition() {
+    return condition;
+  }
+
+  public Map<String, Object> getParams() {
+    return params;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+import static com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler.ATTRIBUTE_KEY_STATUS;
+import static com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler.ATTRIBUTE_VALUE_INTERRUPTED;
+import static com.epam.ta.reportportal.entity.enums.TestItemTypeEnum.SUITE;
+
+import com.epam.ta.reportportal.dao.converters.JpaInstantConverter;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.entity.item.issue.IssueType;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finishes in-progress descendants with a few set-based statements instead of loading and
+ * updating items one by one. Items without children are finished with a single pass, items with
+ * children are finished level by level from the deepest one, so every level sees the final
+ * statuses of its children.
+ * <p>
+ * Statements are executed directly through JDBC within the current transaction, so the caller
+ * is responsible for flushing the persistence context before the call. Descendants are not
+ * expected to be loaded into the persistence context by the callers.
+ */
+@Slf4j
+@Component
+public class HierarchyBulkFinisher {
+
+  private static final String IN_PROGRESS_CONDITION = " AND r.status = 'IN_PROGRESS'";
+
+  private static final String SCOPE_FROM =
+      " FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id WHERE ";
+
+  private static final String LEAVES_CONDITION = " AND NOT ti.has_children" + IN_PROGRESS_CONDITION;
+
+  private static final String PARENTS_LEVEL_CONDITION =
+      " AND ti.has_children AND nlevel(ti.path) = :level" + IN_PROGRESS_CONDITION;
+
+  private static final String COUNT_QUERY =
+      "SELECT count(*)" + SCOPE_FROM + "%s" + IN_PROGRESS_CONDITION;
+
+  private static final String PARENT_LEVELS_QUERY =
+      "SELECT DISTINCT nlevel(ti.path)" + SCOPE_FROM + "%s AND ti.has_children"
+          + IN_PROGRESS_CONDITION + " ORDER BY 1 DESC";
+
+  private static final String PARENT_ISSUES_QUERY = "SELECT DISTINCT i.issue_id FROM issue i "
+      + "JOIN test_item p ON p.item_id = i.issue_id AND p.has_children WHERE i.issue_id IN "
+      + "(SELECT ti.parent_id" + SCOPE_FROM + "%s" + LEAVES_CONDITION + ")";
+
+  private static final String PARENTS_TO_RECALCULATE_QUERY = "SELECT DISTINCT ti.parent_id "
+      + "FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id "
+      + "JOIN test_item_results pr ON pr.result_id = ti.parent_id WHERE %s" + LEAVES_CONDITION
+      + " AND CAST(pr.status AS VARCHAR) NOT IN ('IN_PROGRESS', 'PASSED', 'FAILED', 'SKIPPED')";
+
+  private static final String DEFAULT_ISSUES_INSERT =
+      "INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer) "
+          + "SELECT ti.item_id, :issueTypeId, FALSE, FALSE" + SCOPE_FROM + "%s" + LEAVES_CONDITION
+          + " AND ti.has_stats AND CAST(ti.type AS VARCHAR) NOT IN (:suiteLevelTypes) "
+          + "AND NOT exists(SELECT 1 FROM issue i WHERE i.issue_id = ti.item_id)";
+
+  /**
+   * Updates the status of the matching items, then finishes their in-progress retries with the
+   * same status and marks the items with the 'interrupted' attribute.
+   */
+  private static final String FINISH_QUERY = "WITH finished AS ("
+      + "UPDATE test_item_results r SET status = %s, end_time = :endTime FROM test_item ti "
+      + "WHERE ti.item_id = r.result_id AND %s%s "
+      + "RETURNING ti.item_id, ti.has_retries, r.status), "
+      + "retries AS (UPDATE test_item_results rr SET status = f.status, end_time = :endTime "
+      + "FROM test_item retry JOIN finished f ON retry.retry_of = f.item_id "
+      + "WHERE retry.item_id = rr.result_id AND f.has_retries AND rr.status = 'IN_PROGRESS'), "
+      + "attributes AS (INSERT INTO item_attribute (key, value, item_id, system) "
+      + "SELECT :attributeKey, :attributeValue, f.item_id, FALSE FROM finished f) "
+      + "SELECT count(*) FROM finished";
+
+  private static final String PROVIDED_STATUS = "CAST(:status AS STATUS_ENUM)";
+
+  /**
+   * Same condition as {@code TestItemRepository#hasDescendantsNotInStatus}, which checks the
+   * children of the item that are not retries. Levels are finished from the deepest one, so the
+   * status of every child already reflects all of its descendants.
+   */
+  private static final String RESOLVED_STATUS = "CASE WHEN exists(SELECT 1 FROM test_item c "
+      + "JOIN test_item_results cr ON c.item_id = cr.result_id WHERE c.parent_id = ti.item_id "
+      + "AND c.retry_of IS NULL AND CAST(cr.status AS VARCHAR) NOT IN ('PASSED', 'INFO', 'WARN')) "
+      + "THEN CAST('FAILED' AS STATUS_ENUM) ELSE CAST('PASSED' AS STATUS_ENUM) END";
+
+  private static final List<String> SUITE_LEVEL_TYPES = Arrays.stream(TestItemTypeEnum.values())
+      .filter(SUITE::sameLevel)
+      .map(TestItemTypeEnum::name)
+      .collect(Collectors.toList());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+
+  private final JpaInstantConverter instantConverter = new JpaInstantConverter();
+
+  public HierarchyBulkFinisher(JdbcTemplate jdbcTemplate,
+      @Value("${rp.environment.variable.finish-hierarchy.bulk-enabled:true}") boolean enabled) {
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return {@code false} if descendants should be finished one by one
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param scope {@link DescendantsScope}
+   * @return Count of in-progress items in the scope
+   */
+  public int countInProgress(DescendantsScope scope) {
+    Integer count = jdbcTemplate.queryForObject(String.format(COUNT_QUERY, scope.getCondition()),
+        scope.getParams(),
+        Integer.class
+    );
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Finishes in-progress items without children with the provided status. Default issue is
+   * attached to the items with statistics when the issue type is provided.
+   *
+   * @param scope     {@link DescendantsScope}
+   * @param status    Status to set
+   * @param endTime   End time to set
+   * @param issueType {@link IssueType} of the default issue, {@code null} if not required
+   * @return {@link LeavesResult}
+   */
+  public LeavesResult finishLeaves(DescendantsScope scope, StatusEnum status, Instant endTime,
+      @Nullable IssueType issueType) {
+    final String condition = scope.getCondition();
+    final MapSqlParameterSource params = new MapSqlParameterSource(scope.getParams());
+
+    List<Long> parentIssueIds = jdbcTemplate.queryForList(
+        String.format(PARENT_ISSUES_QUERY, condition), params, Long.class);
+    List<Long> parentsToRecalculate = jdbcTemplate.queryForList(
+        String.format(PARENTS_TO_RECALCULATE_QUERY, condition), params, Long.class);
+
+    if (issueType != null) {
+      int issues = jdbcTemplate.update(String.format(DEFAULT_ISSUES_INSERT, condition),
+          new MapSqlParameterSource(scope.getParams()).addValue("issueTypeId", issueType.getId())
+              .addValue("suiteLevelTypes", SUITE_LEVEL_TYPES)
+      );
+      log.debug("Attached {} default issues to the descendants of {}", issues, scope);
+    }
+
+    params.addValue("status", status.name());
+    int finished = finish(String.format(FINISH_QUERY, PROVIDED_STATUS, condition, LEAVES_CONDITION),
+        params, endTime);
+    return new LeavesResult(finished, parentIssueIds, parentsToRecalculate);
+  }
+
+  /**
+   * Finishes in-progress items with children, starting from the deepest level. Status of each
+   * item is resolved from the statuses of its children: {@link StatusEnum#FAILED} if any of them
+   * is not {@link StatusEnum#PASSED}, {@link StatusEnum#INFO} or {@link StatusEnum#WARN},
+   * {@link StatusEnum#PASSED} otherwise. Retries are not taken into account. As children are
+   * finished before their parents, a failed descendant on any depth fails all its ancestors.
+   *
+   * @param scope   {@link DescendantsScope}
+   * @param endTime End time to set
+   * @return Count of finished items
+   */
+  public int finishParents(DescendantsScope scope, Instant endTime) {
+    final String condition = scope.getCondition();
+    List<Integer> levels = jdbcTemplate.queryForList(String.format(PARENT_LEVELS_QUERY, condition),
+        scope.getParams(),
+        Integer.class
+    );
+    final String query = String.format(FINISH_QUERY, RESOLVED_STATUS, condition,
+        PARENTS_LEVEL_CONDITION);
+    int finished = 0;
+    for (Integer level : levels) {
+      int levelFinished = finish(query,
+          new MapSqlParameterSource(scope.getParams()).addValue("level", level), endTime);
+      finished += levelFinished;
+      log.debug("Finished {} items with children on level {} of {}", levelFinished, level, scope);
+    }
+    return finished;
+  }
+
+  private int finish(String query, MapSqlParameterSource params, Instant endTime) {
+    params.addValue("endTime", instantConverter.convertToDatabaseColumn(endTime))
+        .addValue("attributeKey", ATTRIBUTE_KEY_STATUS)
+        .addValue("attributeValue", ATTRIBUTE_VALUE_INTERRUPTED);
+    Integer count = jdbcTemplate.queryForObject(query, params, Integer.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Result of the items without children finishing
+   */
+  public static class LeavesResult {
+
+    private final int finished;
+    private final List<Long> parentIssueIds;
+    private final List<Long> parentsToRecalculate;
+
+    public LeavesResult(int finished, List<Long> parentIssueIds,
+        List<Long> parentsToRecalculate) {
+      this.finished = finished;
+      this.parentIssueIds = parentIssueIds;
+      this.parentsToRecalculate = parentsToRecalculate;
+    }
+
+    /**
+     * @return Count of finished items
+     */
+    public int getFinished() {
+      return finished;
+    }
+
+    /**
+     * @return IDs of the issues attached to the parents of the finished items, which should be
+     * removed as the parents have children
+     */
+    public List<Long> getParentIssueIds() {
+      return parentIssueIds;
+    }
+
+    /**
+     * @return IDs of the already finished parents which status should be recalculated
+     */
+    public List<Long> getParentsToRecalculate() {
+      return parentsToRecalculate;
+    }
+  }
+}
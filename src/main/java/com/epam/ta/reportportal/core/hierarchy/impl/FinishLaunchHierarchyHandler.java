@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.hierarchy.impl;
 import static com.epam.ta.reportportal.entity.enums.StatusEnum.FAILED;
 
 import com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler;
+import com.epam.ta.reportportal.core.hierarchy.DescendantsScope;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
@@ -78,4 +79,9 @@ public class FinishLaunchHierarchyHandler extends AbstractFinishHierarchyHandler
         );
   }
 
+  @Override
+  protected DescendantsScope getDescendantsScope(Launch launch) {
+    return DescendantsScope.ofLaunch(launch.getId());
+  }
+
 }
@@ -20,6 +20,7 @@ import static com.epam.ta.reportportal.entity.enums.StatusEnum.FAILED;
 import static java.util.Optional.ofNullable;
 
 import com.epam.ta.reportportal.core.hierarchy.AbstractFinishHierarchyHandler;
+import com.epam.ta.reportportal.core.hierarchy.DescendantsScope;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
@@ -80,4 +81,9 @@ public class FinishTestItemHierarchyHandler extends AbstractFinishHierarchyHandl
         );
   }
 
+  @Override
+  protected DescendantsScope getDescendantsScope(TestItem testItem) {
+    return DescendantsScope.ofParentPath(testItem.getPath());
+  }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.identity;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves names of the test item ancestors for the unique id and test case hash generation.
+ * Names are ordered by ancestor id and cached by the ancestors path. Test item names and paths of
+ * the ancestors are not changed after creation, so the cache is not invalidated.
+ */
+@Service
+public class AncestorNameResolver {
+
+  private static final String PATH_DELIMITER = ".";
+
+  private final TestItemRepository testItemRepository;
+
+  private final Cache<String, List<String>> namesByPath;
+
+  public AncestorNameResolver(TestItemRepository testItemRepository,
+      @Value("${rp.environment.variable.item-identity.path-cache.size:100000}") long cacheSize,
+      @Value("${rp.environment.variable.item-identity.path-cache.expire-minutes:30}")
+      long expireMinutes) {
+    this.testItemRepository = testItemRepository;
+    this.namesByPath = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+        .build();
+  }
+
+  /**
+   * @param ancestorIds Ids of the ancestors, ordered from the root
+   * @return Names of the ancestors ordered by ancestor id
+   */
+  public List<String> resolve(List<Long> ancestorIds) {
+    if (ancestorIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    try {
+      return namesByPath.get(toPath(ancestorIds), () -> load(ancestorIds));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+          : new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Caches names of the item tree of the already loaded item, so they are not loaded again for its
+   * children. Names are built from the cached names of the item ancestors if they are present.
+   *
+   * @param item {@link TestItem} with the path
+   */
+  public void remember(TestItem item) {
+    String path = item.getPath();
+    if (path == null || namesByPath.getIfPresent(path) != null) {
+      return;
+    }
+    List<Long> treeIds = IdentityUtil.getItemTreeIds(path);
+    if (!isAscending(treeIds)) {
+      return;
+    }
+    List<Long> ancestorIds = treeIds.subList(0, treeIds.size() - 1);
+    List<String> ancestorNames = ancestorIds.isEmpty() ? Collections.emptyList()
+        : namesByPath.getIfPresent(toPath(ancestorIds));
+    if (ancestorNames != null) {
+      List<String> names = new ArrayList<>(ancestorNames.size() + 1);
+      names.addAll(ancestorNames);
+      names.add(item.getName());
+      namesByPath.put(path, Collections.unmodifiableList(names));
+    }
+  }
+
+  private List<String> load(List<Long> ancestorIds) {
+    return testItemRepository.findAllById(ancestorIds)
+        .stream()
+        .sorted(Comparator.comparingLong(TestItem::getItemId))
+        .map(TestItem::getName)
+        .collect(Collectors.collectingAndThen(Collectors.toList(),
+            Collections::unmodifiableList));
+  }
+
+  private static boolean isAscending(List<Long> ids) {
+    for (int i = 1; i < ids.size(); i++) {
+      if (ids.get(i - 1) >= ids.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String toPath(List<Long> ids) {
+    return ids.stream().map(String::valueOf).collect(Collectors.joining(PATH_DELIMITER));
+  }
+}
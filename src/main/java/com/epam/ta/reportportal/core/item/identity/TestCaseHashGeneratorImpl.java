@@ -16,54 +16,57 @@
 
 package com.epam.ta.reportportal.core.item.identity;
 
-import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
-import com.google.api.client.util.Lists;
 import com.google.common.base.Strings;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
 /**
+ * Generates the test case hash as {@link String#hashCode()} of the project id, ancestors' names,
+ * item name and parameters joined with {@code ;}. The hash is computed without building the
+ * joined string.
+ *
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
 @Service
 public class TestCaseHashGeneratorImpl implements TestCaseHashGenerator {
 
-  private final TestItemRepository testItemRepository;
+  private static final String DELIMITER = ";";
+
+  private final AncestorNameResolver ancestorNameResolver;
 
-  public TestCaseHashGeneratorImpl(TestItemRepository testItemRepository) {
-    this.testItemRepository = testItemRepository;
+  public TestCaseHashGeneratorImpl(AncestorNameResolver ancestorNameResolver) {
+    this.ancestorNameResolver = ancestorNameResolver;
   }
 
   @Override
   public Integer generate(TestItem item, List<Long> parentIds, Long projectId) {
-    return prepare(item, parentIds, projectId).hashCode();
-  }
-
-  private String prepare(TestItem item, List<Long> parentIds, Long projectId) {
-    List<CharSequence> elements = Lists.newArrayList();
-
-    elements.add(projectId.toString());
-    getPathNames(parentIds).stream().filter(StringUtils::isNotEmpty).forEach(elements::add);
-    elements.add(item.getName());
-    item.getParameters()
-        .stream()
-        .map(parameter ->
-            (!Strings.isNullOrEmpty(parameter.getKey()) ? parameter.getKey() + "=" : "")
-                + parameter.getValue())
-        .forEach(elements::add);
-
-    return String.join(";", elements);
+    int hash = append(0, projectId.toString());
+    for (String name : ancestorNameResolver.resolve(parentIds)) {
+      if (StringUtils.isNotEmpty(name)) {
+        hash = append(append(hash, DELIMITER), name);
+      }
+    }
+    hash = append(append(hash, DELIMITER), String.valueOf(item.getName()));
+    for (Parameter parameter : item.getParameters()) {
+      hash = append(hash, DELIMITER);
+      if (!Strings.isNullOrEmpty(parameter.getKey())) {
+        hash = append(append(hash, parameter.getKey()), "=");
+      }
+      hash = append(hash, String.valueOf(parameter.getValue()));
+    }
+    return hash;
   }
 
-  private List<String> getPathNames(List<Long> parentIds) {
-    return testItemRepository.findAllById(parentIds)
-        .stream()
-        .sorted(Comparator.comparingLong(TestItem::getItemId))
-        .map(TestItem::getName)
-        .collect(Collectors.toList());
+  /**
+   * Continues {@link String#hashCode()} calculation with the provided characters
+   */
+  private static int append(int hash, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      hash = 31 * hash + value.charAt(i);
+    }
+    return hash;
   }
 }
@@ -16,16 +16,16 @@
 
 package com.epam.ta.reportportal.core.item.identity;
 
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.item.Parameter;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.google.common.base.Strings;
-import java.util.Comparator;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.StringJoiner;
-import java.util.stream.Collectors;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,7 +34,8 @@ import org.springframework.stereotype.Service;
 /**
  * Generates the unique identifier for test item based on Base64 encoding and includes information
  * about project, name of item's launch, full path of item's parent names, item name and
- * parameters.
+ * parameters. Parts are joined with {@code ;} and passed to the digest one by one, without building
+ * the joined string.
  *
  * @author Pavel_Bortnik
  */
@@ -42,52 +43,59 @@ import org.springframework.stereotype.Service;
 public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 
   private static final String TRAIT = "auto:";
+  private static final String DELIMITER = ";";
+  private static final String PARAMETERS_DELIMITER = ",";
 
-  private TestItemRepository testItemRepository;
+  private AncestorNameResolver ancestorNameResolver;
 
   @Autowired
-  public void setTestItemRepository(TestItemRepository testItemRepository) {
-    this.testItemRepository = testItemRepository;
+  public void setAncestorNameResolver(AncestorNameResolver ancestorNameResolver) {
+    this.ancestorNameResolver = ancestorNameResolver;
   }
 
   @Override
   public String generate(TestItem testItem, List<Long> parentIds, Launch launch) {
-    String forEncoding = prepareForEncoding(testItem, parentIds, launch);
-    return TRAIT + DigestUtils.md5Hex(forEncoding);
+    return generate(testItem, parentIds, launch.getProjectId(), launch.getName());
   }
 
   @Override
-  public boolean validate(String encoded) {
-    return !Strings.isNullOrEmpty(encoded) && encoded.startsWith(TRAIT);
-  }
-
-  private String prepareForEncoding(TestItem testItem, List<Long> parentIds, Launch launch) {
-    Long projectId = launch.getProjectId();
-    String launchName = launch.getName();
-    List<String> pathNames = getPathNames(parentIds);
-    String itemName = testItem.getName();
-    StringJoiner joiner = new StringJoiner(";");
-    joiner.add(projectId.toString()).add(launchName);
-    if (!CollectionUtils.isEmpty(pathNames)) {
-      joiner.add(String.join(";", pathNames));
+  public String generate(TestItem testItem, List<Long> parentIds, Long projectId,
+      String launchName) {
+    MessageDigest digest = DigestUtils.getMd5Digest();
+    update(digest, projectId.toString());
+    update(digest, DELIMITER);
+    update(digest, launchName);
+    for (String pathName : ancestorNameResolver.resolve(parentIds)) {
+      update(digest, DELIMITER);
+      update(digest, pathName);
     }
-    joiner.add(itemName);
+    update(digest, DELIMITER);
+    update(digest, testItem.getName());
     Set<Parameter> parameters = testItem.getParameters();
     if (!CollectionUtils.isEmpty(parameters)) {
-      joiner.add(parameters.stream()
-          .map(parameter ->
-              (!Strings.isNullOrEmpty(parameter.getKey()) ? parameter.getKey() + "=" : "")
-                  + parameter.getValue())
-          .collect(Collectors.joining(",")));
+      update(digest, DELIMITER);
+      Iterator<Parameter> iterator = parameters.iterator();
+      while (iterator.hasNext()) {
+        Parameter parameter = iterator.next();
+        if (!Strings.isNullOrEmpty(parameter.getKey())) {
+          update(digest, parameter.getKey());
+          update(digest, "=");
+        }
+        update(digest, parameter.getValue());
+        if (iterator.hasNext()) {
+          update(digest, PARAMETERS_DELIMITER);
+        }
+      }
     }
-    return joiner.toString();
+    return TRAIT + Hex.encodeHexString(digest.digest());
+  }
+
+  @Override
+  public boolean validate(String encoded) {
+    return !Strings.isNullOrEmpty(encoded) && encoded.startsWith(TRAIT);
   }
 
-  private List<String> getPathNames(List<Long> parentIds) {
-    return testItemRepository.findAllById(parentIds)
-        .stream()
-        .sorted(Comparator.comparingLong(TestItem::getItemId))
-        .map(TestItem::getName)
-        .collect(Collectors.toList());
+  private static void update(MessageDigest digest, String value) {
+    digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
   }
-}
\ No newline at end of file
+}
@@ -38,6 +38,17 @@ public interface UniqueIdGenerator {
    */
   String generate(TestItem testItem, List<Long> parentIds, Launch launch);
 
+  /**
+   * Generates the unique identifier for test item
+   *
+   * @param testItem   source for id
+   * @param parentIds  all {@link TestItem} ancestors' ids
+   * @param projectId  {@link Launch#getProjectId()}
+   * @param launchName {@link Launch#getName()}
+   * @return unique id
+   */
+  String generate(TestItem testItem, List<Long> parentIds, Long projectId, String launchName);
+
   /**
    * Validate if string has been generated automatically
    *
@@ -34,6 +34,8 @@ import com.epam.reportportal.rules.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.ElementsCounterService;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.item.DeleteTestItemHandler;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.log.LogService;
 import com.epam.ta.reportportal.core.remover.ContentRemover;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
@@ -89,12 +91,17 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 
   private final LogService logService;
 
+  private final ReportingEntityCache reportingEntityCache;
+
+  private final TestItemHistoryCache testItemHistoryCache;
+
   @Autowired
   public DeleteTestItemHandlerImpl(TestItemRepository testItemRepository,
       ContentRemover<Long> itemContentRemover, LogIndexer logIndexer,
       LaunchRepository launchRepository, AttachmentRepository attachmentRepository,
       ApplicationEventPublisher eventPublisher,
-      ElementsCounterService elementsCounterService, LogService logService) {
+      ElementsCounterService elementsCounterService, LogService logService,
+      ReportingEntityCache reportingEntityCache, TestItemHistoryCache testItemHistoryCache) {
     this.testItemRepository = testItemRepository;
     this.itemContentRemover = itemContentRemover;
     this.logIndexer = logIndexer;
@@ -103,6 +110,8 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
     this.eventPublisher = eventPublisher;
     this.elementsCounterService = elementsCounterService;
     this.logService = logService;
+    this.reportingEntityCache = reportingEntityCache;
+    this.testItemHistoryCache = testItemHistoryCache;
   }
 
   @Override
@@ -128,6 +137,8 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
     logService.deleteLogMessageByTestItemSet(projectDetails.getProjectId(), itemsForRemove);
     itemContentRemover.remove(item.getItemId());
     testItemRepository.deleteById(item.getItemId());
+    reportingEntityCache.evictLaunch(launch.getId());
+    testItemHistoryCache.evictLaunch(launch.getId());
 
     launch.setHasRetries(launchRepository.hasRetries(launch.getId()));
     parentId.flatMap(testItemRepository::findById)
@@ -187,6 +198,8 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
     ));
     logService.deleteLogMessageByTestItemSet(projectDetails.getProjectId(), removedItems);
     testItemRepository.deleteAllByItemIdIn(idsToDelete);
+    launches.forEach(it -> reportingEntityCache.evictLaunch(it.getId()));
+    testItemHistoryCache.evictLaunches(launches.stream().map(Launch::getId).collect(toList()));
 
     launches.forEach(it -> it.setHasRetries(launchRepository.hasRetries(it.getId())));
 
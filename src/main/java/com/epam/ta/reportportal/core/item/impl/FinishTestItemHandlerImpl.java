@@ -287,6 +287,7 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
         attribute -> ATTRIBUTE_KEY_STATUS.equalsIgnoreCase(attribute.getKey())
             && ATTRIBUTE_VALUE_INTERRUPTED.equalsIgnoreCase(attribute.getValue()));
 
+    testItemRepository.flush();
     changeStatusHandler.changeParentStatus(testItem, projectDetails.getProjectId(), user);
     changeStatusHandler.changeLaunchStatus(launch);
 
@@ -308,6 +309,7 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
       resolvedIssue.ifPresent(issue -> updateItemIssue(testItemResults, issue));
       ofNullable(testItem.getRetryOf()).ifPresentOrElse(retryOf -> {
       }, () -> {
+        testItemRepository.flush();
         changeStatusHandler.changeParentStatus(testItem, projectDetails.getProjectId(), user);
         changeStatusHandler.changeLaunchStatus(launch);
         if (testItem.isHasRetries()) {
@@ -30,12 +30,15 @@ import com.epam.reportportal.rules.exception.ErrorType;
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.core.item.identity.AncestorNameResolver;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
 import com.epam.ta.reportportal.core.item.identity.UniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetrySearcher;
 import com.epam.ta.reportportal.core.item.validator.parent.ParentItemValidator;
+import com.epam.ta.reportportal.core.launch.cache.CachedLaunch;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -88,6 +91,10 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
   private final RetrySearcher retrySearcher;
   private final RetryHandler retryHandler;
 
+  private final ReportingEntityCache reportingEntityCache;
+
+  private final AncestorNameResolver ancestorNameResolver;
+
   @Autowired
   public StartTestItemHandlerImpl(TestItemRepository testItemRepository,
       LaunchRepository launchRepository,
@@ -95,7 +102,8 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
       RerunHandler rerunHandler,
       List<ParentItemValidator> parentItemValidators,
       @Qualifier("uniqueIdRetrySearcher") RetrySearcher retrySearcher,
-      RetryHandler retryHandler) {
+      RetryHandler retryHandler, ReportingEntityCache reportingEntityCache,
+      AncestorNameResolver ancestorNameResolver) {
     this.testItemRepository = testItemRepository;
     this.launchRepository = launchRepository;
     this.uniqueIdGenerator = uniqueIdGenerator;
@@ -104,6 +112,8 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     this.parentItemValidators = parentItemValidators;
     this.retrySearcher = retrySearcher;
     this.retryHandler = retryHandler;
+    this.reportingEntityCache = reportingEntityCache;
+    this.ancestorNameResolver = ancestorNameResolver;
   }
 
   @Override
@@ -123,7 +133,8 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     TestItem item = new TestItemBuilder().addStartItemRequest(rq).addAttributes(rq.getAttributes())
         .addLaunchId(launch.getId()).get();
     testItemRepository.save(item);
-    generateUniqueId(launch, item, String.valueOf(item.getItemId()));
+    generateUniqueId(launch.getProjectId(), launch.getName(), item,
+        String.valueOf(item.getItemId()));
 
     LOGGER.debug("Created new root TestItem {}", item.getUuid());
     return new ItemCreatedRS(item.getUuid(), item.getUniqueId());
@@ -136,11 +147,12 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     boolean isRetry =
         BooleanUtils.toBoolean(rq.isRetry()) || StringUtils.isNotBlank(rq.getRetryOf());
 
-    Launch launch = launchRepository.findByUuid(rq.getLaunchUuid())
+    CachedLaunch launch = reportingEntityCache.findLaunch(rq.getLaunchUuid())
         .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, rq.getLaunchUuid()));
 
     if (launch.isRerun()) {
-      Optional<ItemCreatedRS> rerunCreatedRs = rerunHandler.handleChildItem(rq, launch, parentId);
+      Optional<ItemCreatedRS> rerunCreatedRs = rerunHandler.handleChildItem(rq,
+          getLaunch(launch.getId()), parentId);
       if (rerunCreatedRs.isPresent()) {
         return rerunCreatedRs.get();
       }
@@ -158,14 +170,15 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
     }
 
     parentItemValidators.forEach(v -> v.validate(rq, parentItem));
+    ancestorNameResolver.remember(parentItem);
 
     TestItem item = new TestItemBuilder().addStartItemRequest(rq).addAttributes(rq.getAttributes())
         .addLaunchId(launch.getId()).get();
 
     if (isRetry) {
-      processRetry(rq, launch, item, parentItem);
+      processRetry(rq, getLaunch(launch.getId()), item, parentItem);
     } else {
-      saveChildItem(launch, item, parentItem);
+      saveChildItem(launch.getProjectId(), launch.getName(), item, parentItem);
     }
 
     LOGGER.debug("Created new child TestItem {} with root {}", item.getUuid(), parentId);
@@ -183,14 +196,21 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
         .orElseGet(() -> retrySearcher.findPreviousRetry(launch, item, parentItem)
             .orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, item.getUniqueId())));
 
-    saveChildItem(launch, item, parentItem);
+    saveChildItem(launch.getProjectId(), launch.getName(), item, parentItem);
     retryHandler.handleRetries(launch, item, retryParentId);
   }
 
-  private TestItem saveChildItem(Launch launch, TestItem childItem, TestItem parentItem) {
+  private Launch getLaunch(Long launchId) {
+    return launchRepository.findById(launchId)
+        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, launchId));
+  }
+
+  private TestItem saveChildItem(Long projectId, String launchName, TestItem childItem,
+      TestItem parentItem) {
     childItem.setParentId(parentItem.getItemId());
     testItemRepository.save(childItem);
-    generateUniqueId(launch, childItem, parentItem.getPath() + "." + childItem.getItemId());
+    generateUniqueId(projectId, launchName, childItem,
+        parentItem.getPath() + "." + childItem.getItemId());
     return childItem;
   }
 
@@ -198,18 +218,20 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
    * Generates and sets {@link TestItem#getUniqueId()} and {@link TestItem#getTestCaseId()} if they
    * are empty
    *
-   * @param launch {@link Launch} of {@link TestItem}
-   * @param item   {@link TestItem}
-   * @param path   {@link TestItem} path
+   * @param projectId  {@link Launch#getProjectId()} of {@link TestItem}
+   * @param launchName {@link Launch#getName()} of {@link TestItem}
+   * @param item       {@link TestItem}
+   * @param path       {@link TestItem} path
    */
-  private void generateUniqueId(Launch launch, TestItem item, String path) {
+  private void generateUniqueId(Long projectId, String launchName, TestItem item, String path) {
     item.setPath(path);
     if (Objects.isNull(item.getUniqueId())) {
-      item.setUniqueId(uniqueIdGenerator.generate(item, IdentityUtil.getParentIds(item), launch));
+      item.setUniqueId(uniqueIdGenerator.generate(item, IdentityUtil.getParentIds(item), projectId,
+          launchName));
     }
     if (Objects.isNull(item.getTestCaseId())) {
       item.setTestCaseHash(testCaseHashGenerator.generate(item, IdentityUtil.getParentIds(item),
-          launch.getProjectId()));
+          projectId));
     }
   }
 
@@ -49,7 +49,9 @@ import com.epam.ta.reportportal.core.events.activity.item.TestItemStatusChangedE
 import com.epam.ta.reportportal.core.item.ExternalTicketHandler;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.UpdateTestItemHandler;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -124,6 +126,10 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
   private final DefectUpdateStatisticsService defectUpdateStatisticsService;
 
+  private final TestItemHistoryCache testItemHistoryCache;
+
+  private final WidgetContentCache widgetContentCache;
+
 
   @Autowired
   public UpdateTestItemHandlerImpl(TestItemService testItemService,
@@ -132,7 +138,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
       MessageBus messageBus, LogIndexerService logIndexerService,
       IssueEntityRepository issueEntityRepository,
       Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping,
-      DefectUpdateStatisticsService defectUpdateStatisticsService) {
+      DefectUpdateStatisticsService defectUpdateStatisticsService,
+      TestItemHistoryCache testItemHistoryCache, WidgetContentCache widgetContentCache) {
     this.testItemService = testItemService;
     this.projectRepository = projectRepository;
     this.testItemRepository = testItemRepository;
@@ -143,6 +150,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
     this.issueEntityRepository = issueEntityRepository;
     this.statusChangingStrategyMapping = statusChangingStrategyMapping;
     this.defectUpdateStatisticsService = defectUpdateStatisticsService;
+    this.testItemHistoryCache = testItemHistoryCache;
+    this.widgetContentCache = widgetContentCache;
   }
 
   @Override
@@ -159,6 +168,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
     List<ItemIssueTypeDefinedEvent> events = new ArrayList<>();
     List<TestItem> itemsForIndexUpdate = new ArrayList<>();
     List<Long> itemsForIndexRemove = new ArrayList<>();
+    List<TestItem> updatedItems = new ArrayList<>();
 
     // save data for analytics
     defectUpdateStatisticsService.saveAnalyzedDefectStatistics(definitions.size(), 0,
@@ -191,6 +201,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
         testItem.getItemResults().setIssue(issueEntity);
         issueEntity.setTestItemResults(testItem.getItemResults());
         testItemRepository.save(testItem);
+        updatedItems.add(testItem);
 
         if (ITEM_CAN_BE_INDEXED.test(testItem)) {
           itemsForIndexUpdate.add(testItem);
@@ -211,6 +222,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
     });
     expect(errors.isEmpty(), equalTo(TRUE)).verify(
         FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
+    testItemHistoryCache.evictChangedItems(updatedItems);
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
 
     if (CollectionUtils.isNotEmpty(itemsForIndexUpdate)) {
       logIndexerService.indexDefectsUpdate(
@@ -258,6 +271,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
     testItem = new TestItemBuilder(testItem).overwriteAttributes(rq.getAttributes())
         .addDescription(rq.getDescription()).get();
     testItemRepository.save(testItem);
+    testItemHistoryCache.evictChangedItems(List.of(testItem));
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
 
     return COMPOSE_UPDATE_RESPONSE.apply(itemId);
   }
@@ -295,6 +310,9 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
       externalTicketHandler.unlinkExternalTickets(testItems, (UnlinkExternalIssueRQ) request);
     }
     testItemRepository.saveAll(testItems);
+    testItemHistoryCache.evictItems(
+        testItems.stream().map(TestItem::getItemId).collect(toList()));
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
     List<TestItemActivityResource> after =
         testItems.stream().map(it -> TO_ACTIVITY_RESOURCE.apply(it, projectDetails.getProjectId()))
             .collect(Collectors.toList());
@@ -333,9 +351,11 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
   @Override
   public void resetItemsIssue(List<Long> itemIds, Long projectId, ReportPortalUser user) {
+    widgetContentCache.invalidateProject(projectId);
     itemIds.forEach(itemId -> {
       TestItem item = testItemRepository.findById(itemId)
           .orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, itemId));
+      testItemHistoryCache.evictChangedItems(List.of(item));
       TestItemActivityResource before = TO_ACTIVITY_RESOURCE.apply(item, projectId);
 
       IssueType issueType = issueTypeHandler.defineIssueType(projectId,
@@ -396,6 +416,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
         }
       }
     });
+    testItemHistoryCache.evictChangedItems(items);
 
     return new OperationCompletionRS("Attributes successfully updated");
   }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.history;
+
+import static com.epam.ta.reportportal.util.CacheEvictions.evictWithTransaction;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.util.CacheKeyIndex;
+import com.epam.ta.reportportal.ws.reporting.TestItemResource;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bounded cache of the hydrated history cells, so a history page loads and converts only the
+ * items which are not cached yet. Only cells of finished items are cached.
+ * <p>
+ * Entries are evicted on launch deletion, merge and rerun, on item status, issue, ticket,
+ * description, attributes and pattern matches updates, on item deletion and on pattern template
+ * and defect subtype changes and also expire after the configured time. Keys are indexed by the
+ * launch id, so a launch is evicted without scanning the cache. A triage made through another
+ * instance does not evict the cells here, so history pages of this instance may show the previous
+ * defect type of an item until its cell expires.
+ */
+@Service
+public class TestItemHistoryCache {
+
+  private final Cache<Long, TestItemResource> cells;
+
+  private final CacheKeyIndex<Long, Long> cellsIndex = new CacheKeyIndex<>();
+
+  public TestItemHistoryCache(
+      @Value("${rp.environment.variable.history.cache.items:100000}") long itemsSize,
+      @Value("${rp.environment.variable.history.cache.expire-minutes:5}") long expireMinutes) {
+    this.cells = CacheBuilder.newBuilder()
+        .maximumSize(itemsSize)
+        .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+        .removalListener((RemovalNotification<Long, TestItemResource> n) -> {
+          if (n.wasEvicted()) {
+            cellsIndex.remove(n.getValue().getLaunchId(), n.getKey());
+          }
+        })
+        .build();
+  }
+
+  /**
+   * @param itemIds Ids of the history cells
+   * @param loader  Loads the cells which are not cached
+   * @return {@link TestItemResource} mapped by the item id, missing items are not mapped
+   */
+  public Map<Long, TestItemResource> getAll(Collection<Long> itemIds,
+      Function<List<Long>, ? extends Collection<TestItemResource>> loader) {
+    Map<Long, TestItemResource> loaded = new HashMap<>();
+    List<Long> missing = new ArrayList<>();
+    for (Long itemId : new LinkedHashSet<>(itemIds)) {
+      TestItemResource cell = cells.getIfPresent(itemId);
+      if (cell != null) {
+        loaded.put(itemId, cell);
+      } else {
+        missing.add(itemId);
+      }
+    }
+    if (!missing.isEmpty()) {
+      loader.apply(missing).forEach(cell -> {
+        loaded.put(cell.getItemId(), cell);
+        if (isFinished(cell)) {
+          cellsIndex.add(cell.getLaunchId(), cell.getItemId());
+          cells.put(cell.getItemId(), cell);
+        }
+      });
+    }
+    return loaded;
+  }
+
+  /**
+   * Evicts cells of the launch. If a transaction is active, eviction is repeated after its
+   * completion, so cells loaded by concurrent requests before the commit are not kept.
+   *
+   * @param launchId Launch id
+   */
+  public void evictLaunch(Long launchId) {
+    evictLaunches(Collections.singletonList(launchId));
+  }
+
+  public void evictLaunches(Collection<Long> launchIds) {
+    List<Long> evicted = new ArrayList<>(launchIds);
+    evictWithTransaction(
+        () -> evicted.forEach(launchId -> cells.invalidateAll(cellsIndex.removeGroup(launchId))));
+  }
+
+  /**
+   * Evicts cells of the changed items and of all the items of their launches, because statistics
+   * and statuses of the ancestors are changed together with the items, see
+   * {@link #evictLaunch(Long)}.
+   *
+   * @param items Changed items
+   */
+  public void evictChangedItems(Collection<TestItem> items) {
+    evictItems(items.stream().map(TestItem::getItemId).collect(Collectors.toList()));
+    evictLaunches(items.stream()
+        .map(TestItem::getLaunchId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet()));
+  }
+
+  /**
+   * Evicts all the cells, e.g. on changes of the pattern templates or defect types of a project.
+   */
+  public void evictAll() {
+    evictWithTransaction(() -> {
+      cellsIndex.clear();
+      cells.invalidateAll();
+    });
+  }
+
+  /**
+   * Evicts cells of the items, see {@link #evictLaunch(Long)}.
+   *
+   * @param itemIds Item ids
+   */
+  public void evictItems(Collection<Long> itemIds) {
+    List<Long> evicted = new ArrayList<>(itemIds);
+    evictWithTransaction(() -> evicted.forEach(itemId -> {
+      TestItemResource cell = cells.getIfPresent(itemId);
+      if (cell != null) {
+        cellsIndex.remove(cell.getLaunchId(), itemId);
+        cells.invalidate(itemId);
+      }
+    }));
+  }
+
+  private static boolean isFinished(TestItemResource cell) {
+    return !Objects.equals(StatusEnum.IN_PROGRESS.name(), cell.getStatus());
+  }
+}
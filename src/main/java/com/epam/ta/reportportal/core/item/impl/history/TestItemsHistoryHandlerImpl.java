@@ -78,14 +78,17 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
   private final HistoryProviderFactory historyProviderFactory;
   private final List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>>
       resourceUpdaterProviders;
+  private final TestItemHistoryCache testItemHistoryCache;
 
   @Autowired
   public TestItemsHistoryHandlerImpl(TestItemRepository testItemRepository,
       HistoryProviderFactory historyProviderFactory,
-      List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders) {
+      List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders,
+      TestItemHistoryCache testItemHistoryCache) {
     this.testItemRepository = testItemRepository;
     this.historyProviderFactory = historyProviderFactory;
     this.resourceUpdaterProviders = resourceUpdaterProviders;
+    this.testItemHistoryCache = testItemHistoryCache;
   }
 
   @Override
@@ -136,18 +139,12 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
       Function<TestItemResource, String> groupingFunction,
       Page<TestItemHistory> testItemHistoryPage, Long projectId, Pageable pageable) {
 
-    List<TestItem> testItems = testItemRepository.findAllById(
+    Map<Long, TestItemResource> cells = testItemHistoryCache.getAll(
         testItemHistoryPage.getContent().stream().flatMap(history -> history.getItemIds().stream())
-            .collect(toList()));
+            .collect(toList()), itemIds -> loadResources(projectId, itemIds));
 
-    List<ResourceUpdater<TestItemResource>> resourceUpdaters =
-        getResourceUpdaters(projectId, testItems);
-
-    Map<String, Map<Long, TestItemResource>> itemsMapping = testItems.stream().map(item -> {
-      TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(item);
-      resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
-      return testItemResource;
-    }).collect(groupingBy(groupingFunction, toMap(TestItemResource::getItemId, res -> res)));
+    Map<String, Map<Long, TestItemResource>> itemsMapping = cells.values().stream()
+        .collect(groupingBy(groupingFunction, toMap(TestItemResource::getItemId, res -> res)));
 
     List<TestItemHistoryElement> testItemHistoryElements = testItemHistoryPage.getContent().stream()
         .map(history -> ofNullable(itemsMapping.get(history.getGroupingField())).map(mapping -> {
@@ -167,6 +164,19 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
 
   }
 
+  private List<TestItemResource> loadResources(Long projectId, List<Long> itemIds) {
+    List<TestItem> testItems = testItemRepository.findAllById(itemIds);
+
+    List<ResourceUpdater<TestItemResource>> resourceUpdaters =
+        getResourceUpdaters(projectId, testItems);
+
+    return testItems.stream().map(item -> {
+      TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(item);
+      resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
+      return testItemResource;
+    }).collect(toList());
+  }
+
   private List<ResourceUpdater<TestItemResource>> getResourceUpdaters(Long projectId,
       List<TestItem> testItems) {
     return resourceUpdaterProviders.stream()
@@ -22,20 +22,11 @@ import static com.epam.ta.reportportal.ws.converter.converters.ItemAttributeConv
 import static com.epam.reportportal.rules.exception.ErrorType.FINISH_TIME_EARLIER_THAN_START_TIME;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.reportportal.rules.commons.validation.Suppliers;
-import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
-import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.merge.LaunchMergeStrategy;
-import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
-import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
-import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.reportportal.rules.exception.ReportPortalException;
@@ -51,7 +42,6 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -61,19 +51,12 @@ public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy
 
   protected final LaunchRepository launchRepository;
 
-  private final TestItemRepository testItemRepository;
-  private final LogRepository logRepository;
-  private final AttachmentRepository attachmentRepository;
-  private final TestItemUniqueIdGenerator identifierGenerator;
+  private final MergedLaunchItemsUpdater mergedLaunchItemsUpdater;
 
   protected AbstractLaunchMergeStrategy(LaunchRepository launchRepository,
-      TestItemRepository testItemRepository, LogRepository logRepository,
-      AttachmentRepository attachmentRepository, TestItemUniqueIdGenerator identifierGenerator) {
+      MergedLaunchItemsUpdater mergedLaunchItemsUpdater) {
     this.launchRepository = launchRepository;
-    this.testItemRepository = testItemRepository;
-    this.logRepository = logRepository;
-    this.attachmentRepository = attachmentRepository;
-    this.identifierGenerator = identifierGenerator;
+    this.mergedLaunchItemsUpdater = mergedLaunchItemsUpdater;
   }
 
   protected Launch createNewLaunch(ReportPortalUser.ProjectDetails projectDetails,
@@ -81,9 +64,11 @@ public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy
     Launch newLaunch =
         createResultedLaunch(projectDetails.getProjectId(), user.getUserId(), rq, launchesList);
     boolean isNameChanged = !newLaunch.getName().equals(launchesList.get(0).getName());
-    updateChildrenOfLaunches(newLaunch, rq.getLaunches(), rq.isExtendSuitesDescription(),
-        isNameChanged
-    );
+    mergedLaunchItemsUpdater.relink(newLaunch, launchesList, rq.isExtendSuitesDescription());
+    if (isNameChanged || launchesList.stream()
+        .anyMatch(mergedLaunchItemsUpdater::isUniqueIdsUpdatePending)) {
+      mergedLaunchItemsUpdater.updateUniqueIds(newLaunch, isUniqueIdsUpdateDeferrable());
+    }
 
     return newLaunch;
   }
@@ -167,46 +152,15 @@ public abstract class AbstractLaunchMergeStrategy implements LaunchMergeStrategy
   }
 
   private boolean shouldSkipAttribute(ItemAttribute attribute) {
-    return !"rp.cluster.lastRun".equals(attribute.getKey());
+    return !"rp.cluster.lastRun".equals(attribute.getKey())
+        && !LaunchUniqueIdUpdater.PENDING_ATTRIBUTE_KEY.equals(attribute.getKey());
   }
 
   /**
-   * Update test-items of specified launches with new LaunchID
-   *
-   * @param newLaunch         {@link Launch}
-   * @param launches          {@link Set} of the {@link Launch}
-   * @param extendDescription additional description for suite indicator
-   * @param isNameChanged     launch name change indicator
+   * @return {@code true} if unique ids of the big resulted launch may be updated after the merge
+   * transaction commit
    */
-  private void updateChildrenOfLaunches(Launch newLaunch, Set<Long> launches,
-      boolean extendDescription, boolean isNameChanged) {
-    List<TestItem> testItems = launches.stream().peek(id -> {
-      logRepository.updateLaunchIdByLaunchId(id, newLaunch.getId());
-      attachmentRepository.updateLaunchIdByProjectIdAndLaunchId(newLaunch.getProjectId(), id,
-          newLaunch.getId()
-      );
-    }).flatMap(id -> {
-      Launch launch = launchRepository.findById(id)
-          .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, id));
-      return testItemRepository.findTestItemsByLaunchId(launch.getId()).stream().peek(testItem -> {
-        testItem.setLaunchId(newLaunch.getId());
-        if (isNameChanged && identifierGenerator.validate(testItem.getUniqueId())) {
-          testItem.setUniqueId(
-              identifierGenerator.generate(testItem, IdentityUtil.getParentIds(testItem),
-                  newLaunch
-              ));
-        }
-        if (testItem.getType().sameLevel(TestItemTypeEnum.SUITE)) {
-          // Add launch reference description for top level items
-          Supplier<String> newDescription = Suppliers.formattedSupplier(
-              ((null != testItem.getDescription()) ? testItem.getDescription() : "") + (
-                  extendDescription ? "\r\n@launch '{} #{}'" : ""), launch.getName(),
-              launch.getNumber()
-          );
-          testItem.setDescription(newDescription.get());
-        }
-      });
-    }).collect(toList());
-    testItemRepository.saveAll(testItems);
+  protected boolean isUniqueIdsUpdateDeferrable() {
+    return false;
   }
 }
@@ -17,11 +17,7 @@
 package com.epam.ta.reportportal.core.item.impl.merge.strategy;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
-import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.ws.reporting.MergeLaunchesRQ;
 import java.util.List;
@@ -34,12 +30,9 @@ public class BasicLaunchMergeStrategy extends AbstractLaunchMergeStrategy {
   private final StatisticsCalculationFactory statisticsCalculationFactory;
 
   public BasicLaunchMergeStrategy(LaunchRepository launchRepository,
-      TestItemRepository testItemRepository, LogRepository logRepository,
-      AttachmentRepository attachmentRepository, TestItemUniqueIdGenerator identifierGenerator,
+      MergedLaunchItemsUpdater mergedLaunchItemsUpdater,
       StatisticsCalculationFactory statisticsCalculationFactory) {
-    super(launchRepository, testItemRepository, logRepository, attachmentRepository,
-        identifierGenerator
-    );
+    super(launchRepository, mergedLaunchItemsUpdater);
     this.statisticsCalculationFactory = statisticsCalculationFactory;
   }
 
@@ -56,4 +49,12 @@ public class BasicLaunchMergeStrategy extends AbstractLaunchMergeStrategy {
     return newLaunch;
 
   }
+
+  /**
+   * Unique ids are not used by the basic merge, so they may be updated later for big launches.
+   */
+  @Override
+  protected boolean isUniqueIdsUpdateDeferrable() {
+    return true;
+  }
 }
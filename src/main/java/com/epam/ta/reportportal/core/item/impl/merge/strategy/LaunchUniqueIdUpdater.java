@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import static java.util.stream.Collectors.toList;
+
+import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
+import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
+import com.epam.ta.reportportal.entity.item.Parameter;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recalculates generated unique ids of the launch items for the new launch name. Items are
+ * processed in chunks ordered by id, only the fields used by the generator are loaded. Every call
+ * is executed in its own transaction, unless it is called within an active one.
+ * <p>
+ * Deferred recalculation is tracked with a system attribute of the launch, which holds the id of
+ * the last updated item. Its row is locked while a chunk is updated, so the same launch may be
+ * resumed by any instance without processing a chunk twice.
+ */
+@Service
+public class LaunchUniqueIdUpdater {
+
+  private static final String ITEMS_PAGE_QUERY =
+      "SELECT item_id, name, path, unique_id FROM test_item "
+          + "WHERE launch_id = ? AND item_id > ? ORDER BY item_id LIMIT ?";
+
+  private static final String PARAMETERS_QUERY =
+      "SELECT item_id, key, value FROM parameter WHERE item_id = ANY(?)";
+
+  private static final String UPDATE_UNIQUE_IDS_QUERY =
+      "UPDATE test_item SET unique_id = u.unique_id "
+          + "FROM unnest(?, ?) AS u(item_id, unique_id) WHERE test_item.item_id = u.item_id";
+
+  public static final String PENDING_ATTRIBUTE_KEY = "rp.merge.uniqueIds";
+
+  private static final String INSERT_PENDING_QUERY =
+      "INSERT INTO item_attribute (key, value, launch_id, system) VALUES (?, '0', ?, TRUE)";
+
+  private static final String LOCK_PENDING_QUERY =
+      "SELECT a.id, a.value, l.project_id, l.name FROM item_attribute a "
+          + "JOIN launch l ON a.launch_id = l.id WHERE a.launch_id = ? AND a.key = ? AND a.system "
+          + "FOR UPDATE OF a SKIP LOCKED";
+
+  private static final String EXISTS_PENDING_QUERY =
+      "SELECT EXISTS(SELECT 1 FROM item_attribute WHERE launch_id = ? AND key = ? AND system)";
+
+  private static final String PENDING_LAUNCHES_QUERY =
+      "SELECT launch_id FROM item_attribute WHERE key = ? AND system AND launch_id IS NOT NULL";
+
+  private static final String UPDATE_PENDING_QUERY =
+      "UPDATE item_attribute SET value = ? WHERE id = ?";
+
+  private static final String DELETE_PENDING_QUERY =
+      "DELETE FROM item_attribute WHERE launch_id = ? AND key = ? AND system";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TestItemUniqueIdGenerator identifierGenerator;
+
+  public LaunchUniqueIdUpdater(JdbcTemplate jdbcTemplate,
+      TestItemUniqueIdGenerator identifierGenerator) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.identifierGenerator = identifierGenerator;
+  }
+
+  /**
+   * @param projectId   Project id of the launch
+   * @param launchId    Launch id
+   * @param launchName  New name of the launch
+   * @param afterItemId Id of the last item of the previous chunk, {@code 0} for the first one
+   * @param chunkSize   Max number of items in the chunk
+   * @return Ids of the items of the chunk, empty if there are no more items
+   */
+  @Transactional
+  public List<Long> updateChunk(Long projectId, Long launchId, String launchName,
+      Long afterItemId, int chunkSize) {
+    List<TestItem> items = jdbcTemplate.query(ITEMS_PAGE_QUERY, (rs, rowNum) -> {
+      TestItem item = new TestItem(rs.getLong("item_id"));
+      item.setName(rs.getString("name"));
+      item.setPath(rs.getString("path"));
+      item.setUniqueId(rs.getString("unique_id"));
+      item.setParameters(new HashSet<>());
+      return item;
+    }, launchId, afterItemId, chunkSize);
+
+    List<TestItem> generated = items.stream()
+        .filter(item -> identifierGenerator.validate(item.getUniqueId()))
+        .collect(toList());
+    if (!generated.isEmpty()) {
+      loadParameters(generated);
+      final Long[] itemIds = generated.stream().map(TestItem::getItemId).toArray(Long[]::new);
+      final String[] uniqueIds = generated.stream()
+          .map(item -> identifierGenerator.generate(item, IdentityUtil.getParentIds(item),
+              projectId, launchName
+          ))
+          .toArray(String[]::new);
+      jdbcTemplate.update(connection -> {
+        PreparedStatement statement = connection.prepareStatement(UPDATE_UNIQUE_IDS_QUERY);
+        statement.setArray(1, connection.createArrayOf("bigint", itemIds));
+        statement.setArray(2, connection.createArrayOf("text", uniqueIds));
+        return statement;
+      });
+    }
+    return items.stream().map(TestItem::getItemId).collect(toList());
+  }
+
+  /**
+   * Marks unique ids of the launch items as pending recalculation.
+   *
+   * @param launchId Launch id
+   */
+  public void markPending(Long launchId) {
+    jdbcTemplate.update(INSERT_PENDING_QUERY, PENDING_ATTRIBUTE_KEY, launchId);
+  }
+
+  /**
+   * @param launchId Launch id
+   * @return {@code true} if unique ids of the launch items are pending recalculation
+   */
+  public boolean isPending(Long launchId) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(EXISTS_PENDING_QUERY, Boolean.class, launchId,
+            PENDING_ATTRIBUTE_KEY
+        ));
+  }
+
+  /**
+   * @return Ids of the launches with pending recalculation of unique ids
+   */
+  public List<Long> findPendingLaunchIds() {
+    return jdbcTemplate.queryForList(PENDING_LAUNCHES_QUERY, Long.class, PENDING_ATTRIBUTE_KEY);
+  }
+
+  /**
+   * Updates the next chunk of the pending recalculation and moves its checkpoint.
+   *
+   * @param launchId  Launch id
+   * @param chunkSize Max number of items in the chunk
+   * @return Ids of the items of the chunk, empty list if the recalculation is completed, or
+   * {@link Optional#empty()} if there is no pending recalculation or another transaction holds it
+   */
+  @Transactional
+  public Optional<List<Long>> updatePendingChunk(Long launchId, int chunkSize) {
+    final List<Map<String, Object>> marks =
+        jdbcTemplate.queryForList(LOCK_PENDING_QUERY, launchId, PENDING_ATTRIBUTE_KEY);
+    if (marks.isEmpty()) {
+      return Optional.empty();
+    }
+    final Map<String, Object> mark = marks.get(0);
+    final List<Long> chunk = updateChunk(((Number) mark.get("project_id")).longValue(), launchId,
+        (String) mark.get("name"), Long.parseLong((String) mark.get("value")), chunkSize
+    );
+    if (!chunk.isEmpty()) {
+      jdbcTemplate.update(UPDATE_PENDING_QUERY, String.valueOf(chunk.get(chunk.size() - 1)),
+          mark.get("id"));
+    }
+    return Optional.of(chunk);
+  }
+
+  /**
+   * Removes the pending mark of the launch.
+   *
+   * @param launchId Launch id
+   */
+  public void completePending(Long launchId) {
+    jdbcTemplate.update(DELETE_PENDING_QUERY, launchId, PENDING_ATTRIBUTE_KEY);
+  }
+
+  private void loadParameters(List<TestItem> items) {
+    final Map<Long, TestItem> itemsById = items.stream()
+        .collect(Collectors.toMap(TestItem::getItemId, Function.identity()));
+    final Long[] itemIds = itemsById.keySet().toArray(Long[]::new);
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(PARAMETERS_QUERY);
+      statement.setArray(1, connection.createArrayOf("bigint", itemIds));
+      return statement;
+    }, (RowCallbackHandler) rs -> {
+      Parameter parameter = new Parameter();
+      parameter.setKey(rs.getString("key"));
+      parameter.setValue(rs.getString("value"));
+      itemsById.get(rs.getLong("item_id")).getParameters().add(parameter);
+    });
+  }
+}
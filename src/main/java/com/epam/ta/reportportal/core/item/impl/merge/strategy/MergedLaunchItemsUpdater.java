@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.dao.AttachmentRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.reportportal.model.project.AnalyzerConfig;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Moves test items, logs and attachments of the merged launches to the resulted launch with
+ * set-based statements, without loading the items. Small launches use the same statements, there
+ * is no separate path that updates loaded entities.
+ * <p>
+ * Unique ids of the items are recalculated in chunks. Launches with at most the configured
+ * threshold of items are recalculated in the merge transaction. If it is allowed by the merge
+ * strategy and the launch has more items, the launch is marked as pending in the merge
+ * transaction and recalculation is started after its commit on the launch merge executor.
+ * Pending launches that were not completed, e.g. because of a failure or a restart, are resumed
+ * from the last updated item by a scheduled job. Logs of such launches are indexed when the
+ * recalculation is completed and the pending mark is removed only after that, so failed indexing
+ * is retried as well.
+ */
+@Service
+public class MergedLaunchItemsUpdater {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MergedLaunchItemsUpdater.class);
+
+  private static final String SUITE_LEVEL_TYPES = Arrays.stream(TestItemTypeEnum.values())
+      .filter(type -> type.sameLevel(TestItemTypeEnum.SUITE))
+      .map(type -> "'" + type.name() + "'")
+      .collect(Collectors.joining(", "));
+
+  private static final String EXTEND_DESCRIPTION_QUERY =
+      "UPDATE test_item SET description = concat(description, ?) "
+          + "WHERE launch_id = ? AND type IN (" + SUITE_LEVEL_TYPES + ")";
+
+  private static final String RELINK_ITEMS_QUERY =
+      "UPDATE test_item SET launch_id = ? WHERE launch_id = ?";
+
+  private static final String COUNT_ITEMS_QUERY =
+      "SELECT count(*) FROM test_item WHERE launch_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LogRepository logRepository;
+  private final AttachmentRepository attachmentRepository;
+  private final LaunchUniqueIdUpdater uniqueIdUpdater;
+  private final LaunchRepository launchRepository;
+  private final ProjectConfigProvider projectConfigProvider;
+  private final LogIndexer logIndexer;
+  private final TaskExecutor launchMergeExecutor;
+  private final int chunkSize;
+  private final long asyncThreshold;
+
+  private final Set<Long> runningUpdates = ConcurrentHashMap.newKeySet();
+
+  public MergedLaunchItemsUpdater(JdbcTemplate jdbcTemplate, LogRepository logRepository,
+      AttachmentRepository attachmentRepository, LaunchUniqueIdUpdater uniqueIdUpdater,
+      LaunchRepository launchRepository, ProjectConfigProvider projectConfigProvider,
+      LogIndexer logIndexer, @Qualifier("launchMergeExecutor") TaskExecutor launchMergeExecutor,
+      @Value("${rp.environment.variable.merge.unique-id.chunk-size:1000}") int chunkSize,
+      @Value("${rp.environment.variable.merge.unique-id.async-threshold:10000}")
+      long asyncThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.logRepository = logRepository;
+    this.attachmentRepository = attachmentRepository;
+    this.uniqueIdUpdater = uniqueIdUpdater;
+    this.launchRepository = launchRepository;
+    this.projectConfigProvider = projectConfigProvider;
+    this.logIndexer = logIndexer;
+    this.launchMergeExecutor = launchMergeExecutor;
+    this.chunkSize = chunkSize;
+    this.asyncThreshold = asyncThreshold;
+  }
+
+  /**
+   * @param newLaunch         Resulted launch of the merge
+   * @param launches          Merged launches
+   * @param extendDescription Add reference to the merged launch to the descriptions of the top
+   *                          level items
+   */
+  public void relink(Launch newLaunch, List<Launch> launches, boolean extendDescription) {
+    launches.forEach(launch -> {
+      logRepository.updateLaunchIdByLaunchId(launch.getId(), newLaunch.getId());
+      attachmentRepository.updateLaunchIdByProjectIdAndLaunchId(newLaunch.getProjectId(),
+          launch.getId(), newLaunch.getId()
+      );
+      if (extendDescription) {
+        jdbcTemplate.update(EXTEND_DESCRIPTION_QUERY,
+            "\r\n@launch '" + launch.getName() + " #" + launch.getNumber() + "'", launch.getId()
+        );
+      }
+      jdbcTemplate.update(RELINK_ITEMS_QUERY, newLaunch.getId(), launch.getId());
+    });
+  }
+
+  /**
+   * Recalculates unique ids of the launch items for the launch name.
+   *
+   * @param launch     Launch with the new name
+   * @param deferrable Recalculation of big launches may be completed after the transaction commit
+   */
+  public void updateUniqueIds(Launch launch, boolean deferrable) {
+    final Long launchId = launch.getId();
+    final long itemsCount = jdbcTemplate.queryForObject(COUNT_ITEMS_QUERY, Long.class, launchId);
+    if (!deferrable || itemsCount <= asyncThreshold
+        || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      updateUniqueIds(launch.getProjectId(), launchId, launch.getName(), itemsCount);
+      return;
+    }
+    uniqueIdUpdater.markPending(launchId);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        submitPendingUpdate(launchId);
+      }
+    });
+  }
+
+  /**
+   * @param launch Launch
+   * @return {@code true} if unique ids of the launch items are pending recalculation
+   */
+  public boolean isUniqueIdsUpdatePending(Launch launch) {
+    return launch.getAttributes().stream().anyMatch(
+        attribute -> attribute.isSystem() && LaunchUniqueIdUpdater.PENDING_ATTRIBUTE_KEY.equals(
+            attribute.getKey()));
+  }
+
+  /**
+   * Indexes logs of the merged launch. If unique ids of the launch items are pending
+   * recalculation, logs are indexed after its completion.
+   *
+   * @param launch         Merged launch
+   * @param analyzerConfig Analyzer config of the project
+   */
+  public void indexLaunchLogs(Launch launch, AnalyzerConfig analyzerConfig) {
+    if (!uniqueIdUpdater.isPending(launch.getId())) {
+      logIndexer.indexLaunchLogs(launch, analyzerConfig);
+    }
+  }
+
+  /**
+   * Resumes pending recalculations of unique ids which are not running on this instance.
+   */
+  @Scheduled(fixedDelayString = "${rp.environment.variable.merge.unique-id.recovery-ms:300000}",
+      initialDelayString = "${rp.environment.variable.merge.unique-id.recovery-ms:300000}")
+  public void resumePendingUpdates() {
+    uniqueIdUpdater.findPendingLaunchIds().stream()
+        .filter(launchId -> !runningUpdates.contains(launchId))
+        .forEach(this::submitPendingUpdate);
+  }
+
+  private void submitPendingUpdate(Long launchId) {
+    try {
+      launchMergeExecutor.execute(() -> resumeUniqueIdsUpdate(launchId));
+    } catch (Exception e) {
+      LOGGER.warn("Unable to start update of unique ids of the merged launch '{}', it will be "
+          + "resumed later", launchId, e);
+    }
+  }
+
+  void resumeUniqueIdsUpdate(Long launchId) {
+    if (!runningUpdates.add(launchId)) {
+      return;
+    }
+    try {
+      long updated = 0;
+      Optional<List<Long>> chunk;
+      while ((chunk = uniqueIdUpdater.updatePendingChunk(launchId, chunkSize)).isPresent()) {
+        if (chunk.get().isEmpty()) {
+          LOGGER.info("Unique ids of the merged launch '{}' are updated", launchId);
+          launchRepository.findById(launchId).ifPresent(launch -> logIndexer.indexLaunchLogs(launch,
+              AnalyzerUtils.getAnalyzerConfig(projectConfigProvider.provide(launch.getProjectId()))
+          ));
+          uniqueIdUpdater.completePending(launchId);
+          return;
+        }
+        updated += chunk.get().size();
+        LOGGER.info("Unique ids of {} items of the merged launch '{}' are updated", updated,
+            launchId);
+      }
+    } catch (Exception e) {
+      LOGGER.error("Unable to update unique ids of the merged launch '{}', it will be resumed "
+          + "later", launchId, e);
+    } finally {
+      runningUpdates.remove(launchId);
+    }
+  }
+
+  private void updateUniqueIds(Long projectId, Long launchId, String launchName,
+      long itemsCount) {
+    long updated = 0;
+    Long lastItemId = 0L;
+    List<Long> chunk;
+    while (!(chunk = uniqueIdUpdater.updateChunk(projectId, launchId, launchName, lastItemId,
+        chunkSize)).isEmpty()) {
+      lastItemId = chunk.get(chunk.size() - 1);
+      updated += chunk.size();
+      LOGGER.info("Unique ids of {}/{} items of the merged launch '{}' are updated", updated,
+          itemsCount, launchId);
+    }
+  }
+}
@@ -25,7 +25,21 @@ import com.epam.ta.reportportal.entity.launch.Launch;
  */
 public interface ChangeStatusHandler {
 
+  /**
+   * Updates statuses of the finished parents of the item. Statuses of the finished items should be
+   * flushed before the call, as in-progress items are looked up in the database.
+   *
+   * @param childItem Finished item
+   * @param projectId Project id
+   * @param user      User
+   */
   void changeParentStatus(TestItem childItem, Long projectId, ReportPortalUser user);
 
+  /**
+   * Updates status of the finished launch. Statuses of the finished items should be flushed before
+   * the call, as in-progress items are looked up in the database.
+   *
+   * @param launch Launch
+   */
   void changeLaunchStatus(Launch launch);
 }
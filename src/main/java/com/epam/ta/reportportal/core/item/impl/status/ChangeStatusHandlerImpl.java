@@ -34,9 +34,7 @@ import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
 import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.jooq.enums.JStatusEnum;
 import com.epam.ta.reportportal.model.activity.TestItemActivityResource;
-import com.google.common.collect.Lists;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,17 +51,20 @@ public class ChangeStatusHandlerImpl implements ChangeStatusHandler {
   private final MessageBus messageBus;
   private final LaunchRepository launchRepository;
   private final Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping;
+  private final InProgressItemsTracker inProgressItemsTracker;
 
   @Autowired
   public ChangeStatusHandlerImpl(TestItemRepository testItemRepository,
       IssueEntityRepository issueEntityRepository, MessageBus messageBus,
       LaunchRepository launchRepository,
-      Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
+      Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping,
+      InProgressItemsTracker inProgressItemsTracker) {
     this.testItemRepository = testItemRepository;
     this.issueEntityRepository = issueEntityRepository;
     this.messageBus = messageBus;
     this.launchRepository = launchRepository;
     this.statusChangingStrategyMapping = statusChangingStrategyMapping;
+    this.inProgressItemsTracker = inProgressItemsTracker;
   }
 
   @Override
@@ -94,8 +95,7 @@ public class ChangeStatusHandlerImpl implements ChangeStatusHandler {
         && parent.getItemResults().getStatus() != PASSED
         && parent.getItemResults().getStatus() != FAILED
         && parent.getItemResults().getStatus() != SKIPPED
-        && !testItemRepository.hasItemsInStatusByParent(parent.getItemId(), parent.getPath(),
-        StatusEnum.IN_PROGRESS.name());
+        && !inProgressItemsTracker.hasItemsInProgress(parent);
   }
 
   private StatusEnum resolveStatus(Long itemId) {
@@ -123,9 +123,7 @@ public class ChangeStatusHandlerImpl implements ChangeStatusHandler {
   @Override
   public void changeLaunchStatus(Launch launch) {
     if (launch.getStatus() != StatusEnum.IN_PROGRESS) {
-      if (!launchRepository.hasItemsInStatuses(launch.getId(),
-          Lists.newArrayList(JStatusEnum.IN_PROGRESS)
-      )) {
+      if (!inProgressItemsTracker.hasLaunchItemsInProgress(launch.getId())) {
         StatusEnum launchStatus = launchRepository.hasRootItemsWithStatusNotEqual(launch.getId(),
             StatusEnum.PASSED.name(), INFO.name(), WARN.name()
         ) ? FAILED : PASSED;
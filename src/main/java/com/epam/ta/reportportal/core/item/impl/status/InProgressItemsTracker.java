@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers whether a parent item or a launch still has in-progress items without scanning all the
+ * descendants on every finished child.
+ * <p>
+ * For every checked parent and launch the id of one of its in-progress items is remembered. While
+ * that item stays in progress the answer is known after a single primary key lookup, which also
+ * makes the answer consistent between the API instances. The lookup also checks that the item is
+ * still a descendant of the parent or an item of the launch. Only when the remembered item is
+ * finished or moved the descendants are scanned again, and the newest in-progress item is
+ * remembered instead, as it is the most likely to be finished last.
+ * <p>
+ * No per-parent counter of in-progress items is kept. A scan runs only when there is no
+ * remembered item or it is no longer in progress, and it stops at the first in-progress item.
+ * While children of a parent run in parallel, their finishes are answered by the remembered item
+ * and the parent is scanned again only when that item finishes. A finish that leaves no running
+ * children is always answered by a scan, so sequentially reported children are each followed by
+ * one scan, as before.
+ * <p>
+ * Items are looked up in the database, so pending status changes should be flushed by the caller.
+ * It is done once per finished item or page of items, not on every check: status propagation only
+ * updates the parents which are not in progress, so it never changes the answer.
+ */
+@Component
+public class InProgressItemsTracker {
+
+  private static final String IS_DESCENDANT_IN_PROGRESS_QUERY = "SELECT exists(SELECT 1 "
+      + "FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id "
+      + "WHERE ti.item_id = ? AND ti.path <@ CAST(? AS LTREE) AND ti.item_id != ? "
+      + "AND r.status = 'IN_PROGRESS')";
+
+  private static final String IS_LAUNCH_ITEM_IN_PROGRESS_QUERY = "SELECT exists(SELECT 1 "
+      + "FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id "
+      + "WHERE ti.item_id = ? AND ti.launch_id = ? AND r.status = 'IN_PROGRESS')";
+
+  private static final String FIND_IN_PROGRESS_DESCENDANT_QUERY =
+      "SELECT ti.item_id FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id "
+          + "WHERE ti.path <@ CAST(? AS LTREE) AND ti.item_id != ? AND r.status = 'IN_PROGRESS' "
+          + "ORDER BY ti.item_id DESC LIMIT 1";
+
+  private static final String FIND_IN_PROGRESS_LAUNCH_ITEM_QUERY =
+      "SELECT ti.item_id FROM test_item ti JOIN test_item_results r ON ti.item_id = r.result_id "
+          + "WHERE ti.launch_id = ? AND r.status = 'IN_PROGRESS' ORDER BY ti.item_id DESC LIMIT 1";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Cache<Long, Long> itemWitnesses;
+  private final Cache<Long, Long> launchWitnesses;
+
+  public InProgressItemsTracker(JdbcTemplate jdbcTemplate,
+      @Value("${rp.environment.variable.status-propagation.cache.size:100000}") long cacheSize,
+      @Value("${rp.environment.variable.status-propagation.cache.expire-minutes:10}")
+      long expireMinutes) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.itemWitnesses = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+        .build();
+    this.launchWitnesses = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+        .build();
+  }
+
+  /**
+   * @param parent {@link TestItem}
+   * @return {@code true} if any of the parent descendants is in progress
+   */
+  public boolean hasItemsInProgress(TestItem parent) {
+    return hasItemsInProgress(itemWitnesses, parent.getItemId(),
+        witness -> isInProgress(IS_DESCENDANT_IN_PROGRESS_QUERY, witness, parent.getPath(),
+            parent.getItemId()
+        ),
+        () -> findFirst(FIND_IN_PROGRESS_DESCENDANT_QUERY, parent.getPath(), parent.getItemId())
+    );
+  }
+
+  /**
+   * @param launchId {@link com.epam.ta.reportportal.entity.launch.Launch#getId()}
+   * @return {@code true} if any of the launch items is in progress
+   */
+  public boolean hasLaunchItemsInProgress(Long launchId) {
+    return hasItemsInProgress(launchWitnesses, launchId,
+        witness -> isInProgress(IS_LAUNCH_ITEM_IN_PROGRESS_QUERY, witness, launchId),
+        () -> findFirst(FIND_IN_PROGRESS_LAUNCH_ITEM_QUERY, launchId)
+    );
+  }
+
+  private boolean hasItemsInProgress(Cache<Long, Long> witnesses, Long key,
+      Predicate<Long> isWitnessInProgress, Supplier<Optional<Long>> scan) {
+    Long witness = witnesses.getIfPresent(key);
+    if (witness != null && isWitnessInProgress.test(witness)) {
+      return true;
+    }
+    Optional<Long> inProgress = scan.get();
+    inProgress.ifPresentOrElse(id -> witnesses.put(key, id), () -> witnesses.invalidate(key));
+    return inProgress.isPresent();
+  }
+
+  private boolean isInProgress(String query, Long witness, Object... scope) {
+    Object[] args = new Object[scope.length + 1];
+    args[0] = witness;
+    System.arraycopy(scope, 0, args, 1, scope.length);
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(query, Boolean.class, args));
+  }
+
+  private Optional<Long> findFirst(String query, Object... args) {
+    List<Long> ids = jdbcTemplate.queryForList(query, Long.class, args);
+    return ids.stream().findFirst();
+  }
+}
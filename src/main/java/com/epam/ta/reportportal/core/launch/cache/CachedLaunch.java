@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cache;
+
+import com.epam.ta.reportportal.entity.launch.Launch;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the {@link Launch} fields required by the reporting handlers.
+ */
+@Getter
+public class CachedLaunch {
+
+  private final Long id;
+
+  private final String uuid;
+
+  private final Long projectId;
+
+  private final String name;
+
+  private final boolean rerun;
+
+  public CachedLaunch(Launch launch) {
+    this.id = launch.getId();
+    this.uuid = launch.getUuid();
+    this.projectId = launch.getProjectId();
+    this.name = launch.getName();
+    this.rerun = launch.isRerun();
+  }
+
+  /**
+   * @return Not managed {@link Launch} with the id only, that can be used as a reference
+   */
+  public Launch toReference() {
+    return new Launch(id);
+  }
+}
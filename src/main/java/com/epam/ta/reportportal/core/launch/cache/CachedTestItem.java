@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cache;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the {@link TestItem} identity with the id of its effective launch.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedTestItem {
+
+  private final Long itemId;
+
+  private final String uuid;
+
+  /**
+   * Id of the launch of the item, or of its retry parent for retries
+   */
+  private final Long launchId;
+
+  /**
+   * @return Not managed {@link TestItem} with the id only, that can be used as a reference
+   */
+  public TestItem toReference() {
+    return new TestItem(itemId);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cache;
+
+import static com.epam.ta.reportportal.util.CacheEvictions.evictWithTransaction;
+
+import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.util.CacheKeyIndex;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bounded cache of launches and test items used by the reporting handlers to avoid repeated
+ * lookups of the same rows while a launch is reported.
+ * <p>
+ * Entries are evicted on launch finish, stop, rerun, merge and deletion and also expire after the
+ * configured time. Keys of the launch uuids and of the items are indexed by the launch id, so a
+ * launch is evicted without scanning the caches. Only this instance evicts its entries, so a
+ * rerun started through another instance is seen here after the cached launch expires.
+ */
+@Service
+public class ReportingEntityCache {
+
+  private final LaunchRepository launchRepository;
+
+  private final TestItemRepository testItemRepository;
+
+  private final TestItemService testItemService;
+
+  private final Cache<String, Long> launchIds;
+
+  private final Cache<Long, CachedLaunch> launches;
+
+  private final Cache<String, CachedTestItem> items;
+
+  private final CacheKeyIndex<Long, String> launchUuidsIndex = new CacheKeyIndex<>();
+
+  private final CacheKeyIndex<Long, String> itemsIndex = new CacheKeyIndex<>();
+
+  public ReportingEntityCache(LaunchRepository launchRepository,
+      TestItemRepository testItemRepository, TestItemService testItemService,
+      @Value("${rp.environment.variable.reporting-cache.launches:10000}") long launchesSize,
+      @Value("${rp.environment.variable.reporting-cache.items:200000}") long itemsSize,
+      @Value("${rp.environment.variable.reporting-cache.expire-minutes:10}") long expireMinutes) {
+    this.launchRepository = launchRepository;
+    this.testItemRepository = testItemRepository;
+    this.testItemService = testItemService;
+    this.launchIds = CacheBuilder.newBuilder()
+        .maximumSize(launchesSize)
+        .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+        .removalListener((RemovalNotification<String, Long> n) -> {
+          if (n.wasEvicted()) {
+            launchUuidsIndex.remove(n.getValue(), n.getKey());
+          }
+        })
+        .build();
+    this.launches = CacheBuilder.newBuilder()
+        .maximumSize(launchesSize)
+        .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+        .build();
+    this.items = CacheBuilder.newBuilder()
+        .maximumSize(itemsSize)
+        .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+        .removalListener((RemovalNotification<String, CachedTestItem> n) -> {
+          if (n.wasEvicted()) {
+            itemsIndex.remove(n.getValue().getLaunchId(), n.getKey());
+          }
+        })
+        .build();
+  }
+
+  public Optional<CachedLaunch> findLaunch(String launchUuid) {
+    if (launchUuid == null) {
+      return Optional.empty();
+    }
+    Long launchId = launchIds.getIfPresent(launchUuid);
+    if (launchId != null) {
+      CachedLaunch launch = launches.getIfPresent(launchId);
+      if (launch != null) {
+        return Optional.of(launch);
+      }
+    }
+    return launchRepository.findByUuid(launchUuid).map(this::put);
+  }
+
+  public Optional<CachedLaunch> findLaunch(Long launchId) {
+    CachedLaunch launch = launches.getIfPresent(launchId);
+    if (launch != null) {
+      return Optional.of(launch);
+    }
+    return launchRepository.findById(launchId).map(this::put);
+  }
+
+  /**
+   * @param itemUuid {@link TestItem#getUuid()}
+   * @return Cached item with the id of its effective launch
+   */
+  public Optional<CachedTestItem> findItem(String itemUuid) {
+    if (itemUuid == null) {
+      return Optional.empty();
+    }
+    CachedTestItem item = items.getIfPresent(itemUuid);
+    if (item != null) {
+      return Optional.of(item);
+    }
+    return testItemRepository.findByUuid(itemUuid).map(testItem -> {
+      CachedLaunch launch = put(testItemService.getEffectiveLaunch(testItem));
+      CachedTestItem cachedItem = new CachedTestItem(testItem.getItemId(), testItem.getUuid(),
+          launch.getId());
+      itemsIndex.add(cachedItem.getLaunchId(), itemUuid);
+      items.put(itemUuid, cachedItem);
+      return cachedItem;
+    });
+  }
+
+  /**
+   * Evicts the launch and its items. If a transaction is active, eviction is repeated after its
+   * completion, so values read by concurrent requests before the commit are not kept.
+   *
+   * @param launchId {@link Launch#getId()}
+   */
+  public void evictLaunch(Long launchId) {
+    evictWithTransaction(() -> doEvict(launchId));
+  }
+
+  public void evictLaunches(Collection<Long> launchIds) {
+    launchIds.forEach(this::evictLaunch);
+  }
+
+  private CachedLaunch put(Launch launch) {
+    CachedLaunch cachedLaunch = new CachedLaunch(launch);
+    launches.put(cachedLaunch.getId(), cachedLaunch);
+    launchUuidsIndex.add(cachedLaunch.getId(), cachedLaunch.getUuid());
+    launchIds.put(cachedLaunch.getUuid(), cachedLaunch.getId());
+    return cachedLaunch;
+  }
+
+  private void doEvict(Long launchId) {
+    launches.invalidate(launchId);
+    launchIds.invalidateAll(launchUuidsIndex.removeGroup(launchId));
+    items.invalidateAll(itemsIndex.removeGroup(launchId));
+  }
+}
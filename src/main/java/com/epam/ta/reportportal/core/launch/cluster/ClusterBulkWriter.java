@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cluster;
+
+import com.google.common.collect.Iterables;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists clusters of a launch with a few set-based statements per chunk instead of per-cluster
+ * entity saving. Values are passed as arrays and expanded with {@code unnest}.
+ */
+@Component
+public class ClusterBulkWriter {
+
+  private static final String UPSERT_CLUSTERS_QUERY =
+      "INSERT INTO clusters (index_id, project_id, launch_id, message) "
+          + "SELECT c.index_id, ?, ?, c.message FROM unnest(?, ?) AS c(index_id, message) "
+          + "ON CONFLICT (index_id, launch_id) DO UPDATE SET message = excluded.message "
+          + "RETURNING id, index_id";
+
+  private static final String INSERT_CLUSTER_ITEMS_QUERY =
+      "INSERT INTO clusters_test_item (cluster_id, item_id) "
+          + "SELECT c.cluster_id, c.item_id FROM unnest(?, ?) AS c(cluster_id, item_id) "
+          + "ON CONFLICT DO NOTHING";
+
+  private static final String UPDATE_LOG_CLUSTERS_QUERY =
+      "UPDATE log SET cluster_id = c.cluster_id FROM unnest(?, ?) AS c(log_id, cluster_id) "
+          + "WHERE log.id = c.log_id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int chunkSize;
+
+  public ClusterBulkWriter(JdbcTemplate jdbcTemplate,
+      @Value("${rp.environment.variable.cluster.bulk.chunk-size:1000}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Inserts new clusters of the launch and updates messages of the existing ones
+   *
+   * @param projectId         Project id
+   * @param launchId          Launch id
+   * @param messagesByIndexId Cluster messages mapped by the cluster index id
+   * @return Cluster ids mapped by the cluster index id
+   */
+  public Map<Long, Long> upsertClusters(Long projectId, Long launchId,
+      Map<Long, String> messagesByIndexId) {
+    Map<Long, Long> clusterIds = new HashMap<>(messagesByIndexId.size());
+    Iterables.partition(messagesByIndexId.entrySet(), chunkSize).forEach(chunk -> {
+      final Long[] indexIds = chunk.stream().map(Map.Entry::getKey).toArray(Long[]::new);
+      final String[] messages = chunk.stream().map(Map.Entry::getValue).toArray(String[]::new);
+      jdbcTemplate.query(connection -> {
+        PreparedStatement statement = connection.prepareStatement(UPSERT_CLUSTERS_QUERY);
+        statement.setLong(1, projectId);
+        statement.setLong(2, launchId);
+        statement.setArray(3, connection.createArrayOf("bigint", indexIds));
+        statement.setArray(4, connection.createArrayOf("text", messages));
+        return statement;
+      }, (RowCallbackHandler) rs -> clusterIds.put(rs.getLong("index_id"), rs.getLong("id")));
+    });
+    return clusterIds;
+  }
+
+  /**
+   * Links test items to the clusters, existing links are kept
+   *
+   * @param itemIdsByClusterId Item ids mapped by the cluster id
+   */
+  public void saveClusterItems(Map<Long, ? extends Collection<Long>> itemIdsByClusterId) {
+    List<Long[]> links = new ArrayList<>();
+    itemIdsByClusterId.forEach((clusterId, itemIds) -> itemIds.forEach(
+        itemId -> links.add(new Long[]{clusterId, itemId})));
+    updateByPairs(INSERT_CLUSTER_ITEMS_QUERY, links);
+  }
+
+  /**
+   * @param clusterIdByLogId Cluster id mapped by the id of the log that belongs to the cluster
+   */
+  public void updateLogClusters(Map<Long, Long> clusterIdByLogId) {
+    List<Long[]> pairs = new ArrayList<>(clusterIdByLogId.size());
+    clusterIdByLogId.forEach((logId, clusterId) -> pairs.add(new Long[]{logId, clusterId}));
+    updateByPairs(UPDATE_LOG_CLUSTERS_QUERY, pairs);
+  }
+
+  private void updateByPairs(String query, List<Long[]> pairs) {
+    Iterables.partition(pairs, chunkSize).forEach(chunk -> {
+      final Long[] first = chunk.stream().map(pair -> pair[0]).toArray(Long[]::new);
+      final Long[] second = chunk.stream().map(pair -> pair[1]).toArray(Long[]::new);
+      jdbcTemplate.update(connection -> prepare(connection, query, first, second));
+    });
+  }
+
+  private static PreparedStatement prepare(Connection connection, String query, Long[] first,
+      Long[] second) throws SQLException {
+    PreparedStatement statement = connection.prepareStatement(query);
+    statement.setArray(1, connection.createArrayOf("bigint", first));
+    statement.setArray(2, connection.createArrayOf("bigint", second));
+    return statement;
+  }
+}
@@ -16,16 +16,16 @@
 
 package com.epam.ta.reportportal.core.launch.cluster;
 
-import static com.epam.ta.reportportal.ws.converter.converters.ClusterConverter.TO_CLUSTER;
 import static java.util.Optional.ofNullable;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.model.cluster.ClusterData;
-import com.epam.ta.reportportal.core.analyzer.auto.client.model.cluster.ClusterInfoRs;
-import com.epam.ta.reportportal.dao.ClusterRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.entity.cluster.Cluster;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
-import org.apache.commons.collections4.CollectionUtils;
+import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,54 +37,51 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CreateClusterHandlerImpl implements CreateClusterHandler {
 
-  private final ClusterRepository clusterRepository;
-  private final LogRepository logRepository;
+  private final ClusterBulkWriter clusterBulkWriter;
 
   @Autowired
-  public CreateClusterHandlerImpl(ClusterRepository clusterRepository,
-      LogRepository logRepository) {
-    this.clusterRepository = clusterRepository;
-    this.logRepository = logRepository;
+  public CreateClusterHandlerImpl(ClusterBulkWriter clusterBulkWriter) {
+    this.clusterBulkWriter = clusterBulkWriter;
   }
 
+  /**
+   * Saves all the clusters with their items and logs by bulk statements. If the same cluster
+   * index is received several times, the last message is saved and items are merged, a log is
+   * assigned to the last received cluster.
+   */
   @Override
   public void create(ClusterData clusterData) {
-    ofNullable(clusterData.getClusters()).filter(CollectionUtils::isNotEmpty)
-        .ifPresent(clusters -> clusters.stream().filter(c -> Objects.nonNull(c.getClusterId()))
-            .forEach(clusterInfoRs -> {
-              final Cluster cluster = saveCluster(clusterData, clusterInfoRs);
-              saveItems(clusterInfoRs, cluster);
-              updateLogs(clusterInfoRs, cluster);
-            }));
-  }
+    final Map<Long, String> messages = new LinkedHashMap<>();
+    final Map<Long, Set<Long>> itemIdsByIndexId = new HashMap<>();
+    final Map<Long, Long> indexIdByLogId = new HashMap<>();
+    ofNullable(clusterData.getClusters()).orElse(Collections.emptyList())
+        .stream()
+        .filter(c -> Objects.nonNull(c.getClusterId()))
+        .forEach(clusterInfoRs -> {
+          final Long indexId = clusterInfoRs.getClusterId();
+          messages.put(indexId, clusterInfoRs.getClusterMessage());
+          ofNullable(clusterInfoRs.getItemIds()).ifPresent(
+              itemIds -> itemIdsByIndexId.computeIfAbsent(indexId, id -> new HashSet<>())
+                  .addAll(itemIds));
+          ofNullable(clusterInfoRs.getLogIds()).ifPresent(
+              logIds -> logIds.forEach(logId -> indexIdByLogId.put(logId, indexId)));
+        });
+    if (messages.isEmpty()) {
+      return;
+    }
 
-  private Cluster saveCluster(ClusterData clusterData, ClusterInfoRs clusterInfoRs) {
-    final Cluster cluster = clusterRepository.findByIndexIdAndLaunchId(clusterInfoRs.getClusterId(),
-            clusterData.getLaunchId())
-        .map(c -> {
-          c.setMessage(clusterInfoRs.getClusterMessage());
-          return c;
-        })
-        .orElseGet(() -> convertToCluster(clusterData, clusterInfoRs));
-    return clusterRepository.save(cluster);
-  }
+    final Map<Long, Long> clusterIds = clusterBulkWriter.upsertClusters(clusterData.getProject(),
+        clusterData.getLaunchId(), messages);
 
-  private Cluster convertToCluster(ClusterData clusterData, ClusterInfoRs clusterInfoRs) {
-    final Cluster cluster = TO_CLUSTER.apply(clusterInfoRs);
-    cluster.setProjectId(clusterData.getProject());
-    cluster.setLaunchId(clusterData.getLaunchId());
-    return cluster;
-  }
-
-  private void saveItems(ClusterInfoRs clusterInfoRs, Cluster cluster) {
-    ofNullable(clusterInfoRs.getItemIds()).filter(CollectionUtils::isNotEmpty)
-        .ifPresent(itemIds -> clusterRepository.saveClusterTestItems(cluster, itemIds));
-  }
+    final Map<Long, Set<Long>> itemIdsByClusterId = new HashMap<>(itemIdsByIndexId.size());
+    itemIdsByIndexId.forEach((indexId, itemIds) -> ofNullable(clusterIds.get(indexId)).ifPresent(
+        clusterId -> itemIdsByClusterId.put(clusterId, itemIds)));
+    clusterBulkWriter.saveClusterItems(itemIdsByClusterId);
 
-  private void updateLogs(ClusterInfoRs clusterInfoRs, Cluster cluster) {
-    ofNullable(clusterInfoRs.getLogIds()).filter(CollectionUtils::isNotEmpty)
-        .ifPresent(logIds -> logRepository.updateClusterIdByIdIn(cluster.getId(),
-            clusterInfoRs.getLogIds()));
+    final Map<Long, Long> clusterIdByLogId = new HashMap<>(indexIdByLogId.size());
+    indexIdByLogId.forEach((logId, indexId) -> ofNullable(clusterIds.get(indexId)).ifPresent(
+        clusterId -> clusterIdByLogId.put(logId, clusterId)));
+    clusterBulkWriter.updateLogClusters(clusterIdByLogId);
   }
 
 }
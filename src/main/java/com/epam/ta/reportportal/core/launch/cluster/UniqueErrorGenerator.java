@@ -62,8 +62,10 @@ public class UniqueErrorGenerator implements ClusterGenerator {
 
   protected void fillCache(ClusterEntityContext entityContext) {
     checkDuplicate(entityContext);
-    analyzerStatusCache.analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY, entityContext.getLaunchId(),
-        entityContext.getProjectId());
+    expect(analyzerStatusCache.analyzeStarted(AnalyzerStatusCache.CLUSTER_KEY,
+            entityContext.getLaunchId(), entityContext.getProjectId()),
+        Predicate.isEqual(true)
+    ).verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION, "Clusters creation is in progress.");
   }
 
   private void checkDuplicate(ClusterEntityContext entityContext) {
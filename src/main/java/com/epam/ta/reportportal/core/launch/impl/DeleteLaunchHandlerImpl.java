@@ -32,9 +32,12 @@ import com.epam.ta.reportportal.core.ElementsCounterService;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchDeletedEvent;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.launch.DeleteLaunchHandler;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.log.LogService;
 import com.epam.ta.reportportal.core.remover.ContentRemover;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -84,11 +87,19 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
 
   private final LogService logService;
 
+  private final ReportingEntityCache reportingEntityCache;
+
+  private final TestItemHistoryCache testItemHistoryCache;
+
+  private final WidgetContentCache widgetContentCache;
+
   @Autowired
   public DeleteLaunchHandlerImpl(ContentRemover<Launch> launchContentRemover,
       LaunchRepository launchRepository, MessageBus messageBus, LogIndexer logIndexer,
       AttachmentRepository attachmentRepository, ApplicationEventPublisher eventPublisher,
-      ElementsCounterService elementsCounterService, LogService logService) {
+      ElementsCounterService elementsCounterService, LogService logService,
+      ReportingEntityCache reportingEntityCache, TestItemHistoryCache testItemHistoryCache,
+      WidgetContentCache widgetContentCache) {
     this.launchContentRemover = launchContentRemover;
     this.launchRepository = launchRepository;
     this.messageBus = messageBus;
@@ -97,6 +108,9 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
     this.eventPublisher = eventPublisher;
     this.elementsCounterService = elementsCounterService;
     this.logService = logService;
+    this.reportingEntityCache = reportingEntityCache;
+    this.testItemHistoryCache = testItemHistoryCache;
+    this.widgetContentCache = widgetContentCache;
   }
 
   public OperationCompletionRS deleteLaunch(Long launchId,
@@ -111,6 +125,9 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
     launchContentRemover.remove(launch);
     logService.deleteLogMessageByLaunch(projectDetails.getProjectId(), launch.getId());
     launchRepository.delete(launch);
+    reportingEntityCache.evictLaunch(launchId);
+    testItemHistoryCache.evictLaunch(launchId);
+    widgetContentCache.invalidateProject(launch.getProjectId());
     attachmentRepository.moveForDeletionByLaunchId(launchId);
 
     messageBus.publishActivity(
@@ -152,6 +169,9 @@ public class DeleteLaunchHandlerImpl implements DeleteLaunchHandler {
       toDelete.keySet().forEach(launchContentRemover::remove);
       logService.deleteLogMessageByLaunchList(projectDetails.getProjectId(), launchIds);
       launchRepository.deleteAll(toDelete.keySet());
+      reportingEntityCache.evictLaunches(launchIds);
+      testItemHistoryCache.evictLaunches(launchIds);
+      widgetContentCache.invalidateProject(projectDetails.getProjectId());
       attachmentRepository.moveForDeletionByLaunchIds(launchIds);
     }
 
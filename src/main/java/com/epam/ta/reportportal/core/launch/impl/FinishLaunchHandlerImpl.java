@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -56,15 +57,17 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
   private final LaunchRepository launchRepository;
   private final FinishHierarchyHandler<Launch> finishHierarchyHandler;
   private final ApplicationEventPublisher eventPublisher;
+  private final ReportingEntityCache reportingEntityCache;
 
   @Autowired
   public FinishLaunchHandlerImpl(LaunchRepository launchRepository,
       @Qualifier("finishLaunchHierarchyHandler")
       FinishHierarchyHandler<Launch> finishHierarchyHandler,
-      ApplicationEventPublisher eventPublisher) {
+      ApplicationEventPublisher eventPublisher, ReportingEntityCache reportingEntityCache) {
     this.launchRepository = launchRepository;
     this.finishHierarchyHandler = finishHierarchyHandler;
     this.eventPublisher = eventPublisher;
+    this.reportingEntityCache = reportingEntityCache;
   }
 
   @Override
@@ -99,6 +102,7 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
         .addDescription(buildDescription(launch.getDescription(), finishLaunchRQ.getDescription()))
         .addAttributes(finishLaunchRQ.getAttributes()).addEndTime(finishLaunchRQ.getEndTime())
         .get();
+    reportingEntityCache.evictLaunch(id);
 
     String launchLink = generateLaunchLink(baseUrl, projectDetails.getProjectName(),
         String.valueOf(launch.getId())
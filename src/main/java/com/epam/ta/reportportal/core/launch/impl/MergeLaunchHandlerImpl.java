@@ -31,13 +31,17 @@ import static com.epam.reportportal.rules.exception.ErrorType.UNSUPPORTED_MERGE_
 
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.reportportal.model.project.AnalyzerConfig;
 import com.epam.reportportal.rules.commons.validation.Suppliers;
-import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
+import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergedLaunchItemsUpdater;
 import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -70,18 +74,29 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
   private final LaunchConverter launchConverter;
 
-  private final LogIndexer logIndexer;
+  private final ReportingEntityCache reportingEntityCache;
+
+  private final TestItemHistoryCache testItemHistoryCache;
+
+  private final MergedLaunchItemsUpdater mergedLaunchItemsUpdater;
+
+  private final WidgetContentCache widgetContentCache;
 
   @Autowired
   public MergeLaunchHandlerImpl(LaunchRepository launchRepository,
       ProjectRepository projectRepository,
       LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-      LogIndexer logIndexer) {
+      ReportingEntityCache reportingEntityCache,
+      TestItemHistoryCache testItemHistoryCache,
+      MergedLaunchItemsUpdater mergedLaunchItemsUpdater, WidgetContentCache widgetContentCache) {
     this.launchRepository = launchRepository;
     this.projectRepository = projectRepository;
     this.launchMergeFactory = launchMergeFactory;
     this.launchConverter = launchConverter;
-    this.logIndexer = logIndexer;
+    this.reportingEntityCache = reportingEntityCache;
+    this.testItemHistoryCache = testItemHistoryCache;
+    this.mergedLaunchItemsUpdater = mergedLaunchItemsUpdater;
+    this.widgetContentCache = widgetContentCache;
   }
 
   @Override
@@ -115,8 +130,12 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
     newLaunch.setStatus(StatisticsHelper.getStatusFromStatistics(newLaunch.getStatistics()));
 
     launchRepository.deleteAll(launchesList);
+    reportingEntityCache.evictLaunches(launchesIds);
+    testItemHistoryCache.evictLaunches(launchesIds);
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
 
-    logIndexer.indexLaunchLogs(newLaunch, AnalyzerUtils.getAnalyzerConfig(project));
+    final AnalyzerConfig analyzerConfig = AnalyzerUtils.getAnalyzerConfig(project);
+    mergedLaunchItemsUpdater.indexLaunchLogs(newLaunch, analyzerConfig);
 
     return launchConverter.TO_RESOURCE.apply(newLaunch);
   }
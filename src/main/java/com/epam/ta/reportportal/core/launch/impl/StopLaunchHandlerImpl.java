@@ -25,6 +25,7 @@ import static java.util.stream.Collectors.toList;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.launch.StopLaunchHandler;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -54,13 +55,16 @@ public class StopLaunchHandlerImpl implements StopLaunchHandler {
   private final LaunchRepository launchRepository;
   private final TestItemRepository testItemRepository;
   private final ApplicationEventPublisher eventPublisher;
+  private final ReportingEntityCache reportingEntityCache;
 
   @Autowired
   public StopLaunchHandlerImpl(LaunchRepository launchRepository,
-      TestItemRepository testItemRepository, ApplicationEventPublisher eventPublisher) {
+      TestItemRepository testItemRepository, ApplicationEventPublisher eventPublisher,
+      ReportingEntityCache reportingEntityCache) {
     this.launchRepository = launchRepository;
     this.testItemRepository = testItemRepository;
     this.eventPublisher = eventPublisher;
+    this.reportingEntityCache = reportingEntityCache;
   }
 
   @Override
@@ -82,6 +86,7 @@ public class StopLaunchHandlerImpl implements StopLaunchHandler {
 
     launchRepository.save(launch);
     testItemRepository.interruptInProgressItems(launch.getId());
+    reportingEntityCache.evictLaunch(launch.getId());
 
     eventPublisher.publishEvent(
         new LaunchFinishedEvent(launch, user.getUserId(), user.getUsername(), baseUrl));
@@ -43,6 +43,7 @@ import com.epam.ta.reportportal.core.launch.attribute.LaunchAttributeHandlerServ
 import com.epam.ta.reportportal.core.launch.cluster.UniqueErrorAnalysisStarter;
 import com.epam.ta.reportportal.core.launch.cluster.config.ClusterEntityContext;
 import com.epam.ta.reportportal.core.project.GetProjectHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -94,6 +95,8 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 
   private final LaunchAttributeHandlerService launchAttributeHandlerService;
 
+  private final WidgetContentCache widgetContentCache;
+
   @Autowired
   public UpdateLaunchHandlerImpl(GetProjectHandler getProjectHandler,
       GetLaunchHandler getLaunchHandler, LaunchAccessValidator launchAccessValidator,
@@ -101,7 +104,8 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
       Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping,
       @Qualifier("uniqueErrorAnalysisStarterAsync")
       UniqueErrorAnalysisStarter uniqueErrorAnalysisStarter,
-      LaunchAttributeHandlerService launchAttributeHandlerService) {
+      LaunchAttributeHandlerService launchAttributeHandlerService,
+      WidgetContentCache widgetContentCache) {
     this.getProjectHandler = getProjectHandler;
     this.getLaunchHandler = getLaunchHandler;
     this.launchAccessValidator = launchAccessValidator;
@@ -110,6 +114,7 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
     this.logIndexer = logIndexer;
     this.uniqueErrorAnalysisStarter = uniqueErrorAnalysisStarter;
     this.launchAttributeHandlerService = launchAttributeHandlerService;
+    this.widgetContentCache = widgetContentCache;
   }
 
   @Override
@@ -126,6 +131,7 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
         .overwriteAttributes(rq.getAttributes()).get();
     launchAttributeHandlerService.handleLaunchUpdate(launch, user);
     launchRepository.save(launch);
+    widgetContentCache.invalidateProject(launch.getProjectId());
 
     if (!previousMode.equals(launch.getMode())) {
       reindexLogs(launch, AnalyzerUtils.getAnalyzerConfig(project), project.getId());
@@ -219,6 +225,7 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
         }
       }
     });
+    widgetContentCache.invalidateProject(projectDetails.getProjectId());
 
     return new OperationCompletionRS("Attributes successfully updated");
   }
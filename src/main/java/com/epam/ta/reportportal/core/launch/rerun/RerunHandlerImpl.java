@@ -32,9 +32,11 @@ import com.epam.ta.reportportal.core.events.activity.item.ItemRetryEvent;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
 import com.epam.ta.reportportal.core.item.identity.UniqueIdGenerator;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.item.impl.rerun.RerunSearcher;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.validator.parent.ParentItemValidator;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -70,12 +72,15 @@ public class RerunHandlerImpl implements RerunHandler {
   private final RerunSearcher rerunSearcher;
   private final List<ParentItemValidator> parentItemValidators;
   private final RetryHandler retryHandler;
+  private final ReportingEntityCache reportingEntityCache;
+  private final TestItemHistoryCache testItemHistoryCache;
 
   @Autowired
   public RerunHandlerImpl(TestItemRepository testItemRepository, LaunchRepository launchRepository,
       UniqueIdGenerator uniqueIdGenerator, TestCaseHashGenerator testCaseHashGenerator,
       ApplicationEventPublisher eventPublisher, RerunSearcher rerunSearcher,
-      List<ParentItemValidator> parentItemValidators, RetryHandler retryHandler) {
+      List<ParentItemValidator> parentItemValidators, RetryHandler retryHandler,
+      ReportingEntityCache reportingEntityCache, TestItemHistoryCache testItemHistoryCache) {
     this.testItemRepository = testItemRepository;
     this.launchRepository = launchRepository;
     this.uniqueIdGenerator = uniqueIdGenerator;
@@ -84,6 +89,8 @@ public class RerunHandlerImpl implements RerunHandler {
     this.rerunSearcher = rerunSearcher;
     this.parentItemValidators = parentItemValidators;
     this.retryHandler = retryHandler;
+    this.reportingEntityCache = reportingEntityCache;
+    this.testItemHistoryCache = testItemHistoryCache;
   }
 
   @Override
@@ -104,6 +111,8 @@ public class RerunHandlerImpl implements RerunHandler {
     launch.setStatus(StatusEnum.IN_PROGRESS);
     launch.setRerun(true);
     ofNullable(request.getUuid()).ifPresent(launch::setUuid);
+    reportingEntityCache.evictLaunch(launch.getId());
+    testItemHistoryCache.evictLaunch(launch.getId());
 
     return launch;
   }
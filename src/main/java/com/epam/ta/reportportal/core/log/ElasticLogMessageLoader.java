@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.dao.custom.ElasticSearchClient;
+import com.epam.ta.reportportal.entity.log.LogMessage;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads log messages stored in the search engine. Messages are requested per project in chunks,
+ * which are fetched concurrently, and recently loaded messages are cached, as they are not
+ * changed after saving.
+ */
+@Component
+@ConditionalOnProperty(prefix = "rp.searchengine", name = "host")
+public class ElasticLogMessageLoader {
+
+  private final ElasticSearchClient elasticSearchClient;
+  private final TaskExecutor logMessageFetchExecutor;
+  private final int batchSize;
+
+  private final Cache<Long, LogMessage> messages;
+
+  public ElasticLogMessageLoader(ElasticSearchClient elasticSearchClient,
+      @Qualifier("logMessageFetchExecutor") TaskExecutor logMessageFetchExecutor,
+      @Value("${rp.environment.variable.searchengine.fetch.batch-size:500}") int batchSize,
+      @Value("${rp.environment.variable.searchengine.cache.max-message-chars:20000000}")
+      long maxMessageChars,
+      @Value("${rp.environment.variable.searchengine.cache.expire-minutes:10}")
+      long expireMinutes) {
+    this.elasticSearchClient = elasticSearchClient;
+    this.logMessageFetchExecutor = logMessageFetchExecutor;
+    this.batchSize = batchSize;
+    this.messages = CacheBuilder.newBuilder()
+        .maximumWeight(maxMessageChars)
+        .<Long, LogMessage>weigher(
+            (id, message) -> 1 + StringUtils.length(message.getLogMessage()))
+        .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+        .build();
+  }
+
+  /**
+   * @param projectId Project id
+   * @param logId     Log id
+   * @return {@link LogMessage} if it is stored in the search engine
+   */
+  public Optional<LogMessage> load(Long projectId, Long logId) {
+    return Optional.ofNullable(load(projectId, Collections.singletonList(logId)).get(logId));
+  }
+
+  /**
+   * @param projectId Project id
+   * @param logIds    Log ids of the project
+   * @return {@link LogMessage} mapped by the log id, missing messages are not mapped
+   */
+  public Map<Long, LogMessage> load(Long projectId, Collection<Long> logIds) {
+    return load(Collections.singletonMap(projectId, logIds));
+  }
+
+  /**
+   * @param logIdsByProject Log ids mapped by the project id
+   * @return {@link LogMessage} mapped by the log id, missing messages are not mapped
+   */
+  public Map<Long, LogMessage> load(Map<Long, ? extends Collection<Long>> logIdsByProject) {
+    Map<Long, LogMessage> loaded = new HashMap<>();
+    List<Chunk> chunks = new ArrayList<>();
+    logIdsByProject.forEach((projectId, logIds) -> {
+      List<Long> missing = new ArrayList<>();
+      for (Long logId : new LinkedHashSet<>(logIds)) {
+        LogMessage message = messages.getIfPresent(logId);
+        if (message != null) {
+          loaded.put(logId, message);
+        } else {
+          missing.add(logId);
+        }
+      }
+      Lists.partition(missing, batchSize)
+          .forEach(logIdsChunk -> chunks.add(new Chunk(projectId, logIdsChunk)));
+    });
+
+    if (chunks.size() == 1) {
+      cache(loaded, chunks.get(0).fetch());
+    } else if (!chunks.isEmpty()) {
+      List<CompletableFuture<Map<Long, LogMessage>>> fetches = new ArrayList<>(chunks.size());
+      chunks.forEach(chunk -> fetches.add(
+          CompletableFuture.supplyAsync(chunk::fetch, logMessageFetchExecutor)));
+      fetches.forEach(fetch -> cache(loaded, join(fetch)));
+    }
+    return loaded;
+  }
+
+  /**
+   * @param logId Id of the log which message is deleted
+   */
+  public void evict(Long logId) {
+    messages.invalidate(logId);
+  }
+
+  private void cache(Map<Long, LogMessage> loaded, Map<Long, LogMessage> fetched) {
+    if (fetched != null) {
+      fetched.forEach((logId, message) -> {
+        if (message != null) {
+          loaded.put(logId, message);
+          messages.put(logId, message);
+        }
+      });
+    }
+  }
+
+  private static Map<Long, LogMessage> join(CompletableFuture<Map<Long, LogMessage>> fetch) {
+    try {
+      return fetch.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private class Chunk {
+
+    private final Long projectId;
+    private final List<Long> logIds;
+
+    private Chunk(Long projectId, List<Long> logIds) {
+      this.projectId = projectId;
+      this.logIds = logIds;
+    }
+
+    private Map<Long, LogMessage> fetch() {
+      return elasticSearchClient.getLogMessagesByProjectIdAndIds(projectId, logIds);
+    }
+  }
+}
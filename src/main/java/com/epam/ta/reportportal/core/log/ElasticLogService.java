@@ -19,7 +19,9 @@ import com.epam.ta.reportportal.entity.log.LogFull;
 import com.epam.ta.reportportal.entity.log.LogMessage;
 import com.epam.reportportal.model.analyzer.IndexLog;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,15 +49,18 @@ public class ElasticLogService implements LogService {
   private final LogRepository logRepository;
   private final LaunchRepository launchRepository;
   private final TestItemRepository testItemRepository;
+  private final ElasticLogMessageLoader logMessageLoader;
 
   public ElasticLogService(@Qualifier(value = "rabbitTemplate") AmqpTemplate amqpTemplate,
       ElasticSearchClient elasticSearchClient, LogRepository logRepository,
-      LaunchRepository launchRepository, TestItemRepository testItemRepository) {
+      LaunchRepository launchRepository, TestItemRepository testItemRepository,
+      ElasticLogMessageLoader logMessageLoader) {
     this.amqpTemplate = amqpTemplate;
     this.elasticSearchClient = elasticSearchClient;
     this.logRepository = logRepository;
     this.launchRepository = launchRepository;
     this.testItemRepository = testItemRepository;
+    this.logMessageLoader = logMessageLoader;
   }
 
   public void saveLogMessage(LogFull logFull, Long launchId) {
@@ -84,6 +89,7 @@ public class ElasticLogService implements LogService {
   @Override
   public void deleteLogMessage(Long projectId, Long logId) {
     elasticSearchClient.deleteLogsByLogIdAndProjectId(projectId, logId);
+    logMessageLoader.evict(logId);
   }
 
   @Override
@@ -124,8 +130,7 @@ public class ElasticLogService implements LogService {
       List<Long> logIds =
           indexLogMap.values().stream().flatMap(Collection::stream).map(IndexLog::getLogId)
               .collect(Collectors.toList());
-      Map<Long, LogMessage> logMessageMap =
-          elasticSearchClient.getLogMessagesByProjectIdAndIds(projectId, logIds);
+      Map<Long, LogMessage> logMessageMap = logMessageLoader.load(projectId, logIds);
 
       wrappedMap = indexLogMap.entrySet().stream().peek(indexLogEntry -> {
         List<IndexLog> indexLogList = indexLogEntry.getValue().stream().peek(indexLog -> {
@@ -148,7 +153,8 @@ public class ElasticLogService implements LogService {
     List<Long> logIds =
         logRepository.findIdsByLaunchIdAndItemIdAndPathAndLevelGte(launchId, itemId, path, level);
 
-    return elasticSearchClient.getLogMessagesByProjectIdAndIds(projectId, logIds).values().stream()
+    Map<Long, LogMessage> logMessageMap = logMessageLoader.load(projectId, logIds);
+    return logIds.stream().map(logMessageMap::get).filter(Objects::nonNull)
         .map(LogMessage::getLogMessage).collect(toList());
   }
 
@@ -197,7 +203,11 @@ public class ElasticLogService implements LogService {
   // Possibly need to be refactored after filter investigation
   public Page<LogFull> findByFilter(Queryable filter, Pageable pageable) {
     Page<Log> byFilter = logRepository.findByFilter(filter, pageable);
-    return byFilter.map(this::getLogFull);
+    Map<Long, LogMessage> logMessageMap = loadLogMessages(byFilter.getContent());
+    return byFilter.map(log -> getLogFull(log,
+        Optional.ofNullable(logMessageMap.get(log.getId())).map(LogMessage::getLogMessage)
+            .orElse(null)
+    ));
   }
 
   @Override
@@ -240,15 +250,6 @@ public class ElasticLogService implements LogService {
     return testItemRepository.selectIdsUnderByRegexLogMessage(launchId, itemIds, logLevel, pattern);
   }
 
-  // TODO : refactoring pattern analyzer and add projectId as parameter
-  // Instead of this method.
-  private Long getProjectId(Collection<Long> itemIds) {
-    Long id = itemIds.stream().findFirst().get();
-    return testItemRepository.findById(id).map(
-        testItem -> launchRepository.findById(testItem.getLaunchId()).map(Launch::getProjectId)
-            .orElseThrow()).orElseThrow();
-  }
-
   private LogMessage convertLogToLogMessage(LogFull logFull, Long launchId) {
     Long itemId = Objects.nonNull(logFull.getTestItem()) ? logFull.getTestItem().getItemId() : null;
     return new LogMessage(logFull.getId(), logFull.getLogTime(), logFull.getLogMessage(), itemId,
@@ -260,21 +261,8 @@ public class ElasticLogService implements LogService {
     List<LogFull> logFullList = new ArrayList<>();
 
     if (CollectionUtils.isNotEmpty(logList)) {
-      // This part of code for optimization receiving all needed message from elastic
-      // instead of get by single
-      // And for getting message from elastic we need projectId
-      // we get all message per projectId
       logFullList = new ArrayList<>(logList.size());
-      Map<Long, LogMessage> logMessageMap = new HashMap<>();
-      Map<Long, List<Long>> logIdsGroupByProject = logList.stream()
-          .collect(groupingBy(Log::getProjectId, mapping(Log::getId, Collectors.toList())));
-
-      for (Map.Entry<Long, List<Long>> logIdsPerProject : logIdsGroupByProject.entrySet()) {
-        Long projectId = logIdsPerProject.getKey();
-        List<Long> logIds = logIdsPerProject.getValue();
-        logMessageMap.putAll(
-            elasticSearchClient.getLogMessagesByProjectIdAndIds(projectId, logIds));
-      }
+      Map<Long, LogMessage> logMessageMap = loadLogMessages(logList);
 
       for (Log log : logList) {
         String logMessage = (logMessageMap.get(log.getId()) != null) ?
@@ -288,10 +276,23 @@ public class ElasticLogService implements LogService {
     return logFullList;
   }
 
+  /**
+   * For getting message from elastic we need projectId, so all the messages are loaded per
+   * projectId
+   */
+  private Map<Long, LogMessage> loadLogMessages(List<Log> logList) {
+    if (CollectionUtils.isEmpty(logList)) {
+      return Collections.emptyMap();
+    }
+    Map<Long, List<Long>> logIdsGroupByProject = logList.stream()
+        .collect(groupingBy(Log::getProjectId, mapping(Log::getId, Collectors.toList())));
+    return logMessageLoader.load(logIdsGroupByProject);
+  }
+
   private LogFull getLogFull(Log log) {
-    LogMessage logMessage =
-        elasticSearchClient.getLogMessageByProjectIdAndId(log.getProjectId(), log.getId());
-    String message = (logMessage != null) ? logMessage.getLogMessage() : null;
+    String message = logMessageLoader.load(log.getProjectId(), log.getId())
+        .map(LogMessage::getLogMessage)
+        .orElse(null);
 
     return getLogFull(log, message);
   }
@@ -307,26 +308,34 @@ public class ElasticLogService implements LogService {
 
   private List<Long> selectTestItemIdsUnderByLogMessage(Long launchId, Collection<Long> itemIds,
       Integer logLevel, String string, boolean selectByPattern) {
-    Long projectId = getProjectId(itemIds);
-    List<Long> matchedItemIds = new ArrayList<>();
-    for (Long itemId : itemIds) {
-      List<Long> logIdsPg =
-          testItemRepository.selectLogIdsUnderWithLogLevelCondition(launchId, itemIds, logLevel);
-
-      List<Long> nestedItemsMatchedIds;
-      if (selectByPattern) {
-        nestedItemsMatchedIds =
-            elasticSearchClient.searchTestItemIdsByLogIdsAndRegexp(projectId, logIdsPg, string);
-      } else {
-        nestedItemsMatchedIds =
-            elasticSearchClient.searchTestItemIdsByLogIdsAndString(projectId, logIdsPg, string);
-      }
+    if (CollectionUtils.isEmpty(itemIds)) {
+      return Collections.emptyList();
+    }
+    Long projectId = launchRepository.findById(launchId).map(Launch::getProjectId).orElseThrow();
+    List<Long> logIdsPg =
+        testItemRepository.selectLogIdsUnderWithLogLevelCondition(launchId, itemIds, logLevel);
+    if (CollectionUtils.isEmpty(logIdsPg)) {
+      return Collections.emptyList();
+    }
 
-      if (CollectionUtils.isNotEmpty(nestedItemsMatchedIds)) {
-        matchedItemIds.add(itemId);
-      }
+    List<Long> nestedItemsMatchedIds;
+    if (selectByPattern) {
+      nestedItemsMatchedIds =
+          elasticSearchClient.searchTestItemIdsByLogIdsAndRegexp(projectId, logIdsPg, string);
+    } else {
+      nestedItemsMatchedIds =
+          elasticSearchClient.searchTestItemIdsByLogIdsAndString(projectId, logIdsPg, string);
+    }
+    if (CollectionUtils.isEmpty(nestedItemsMatchedIds)) {
+      return Collections.emptyList();
     }
-    return matchedItemIds;
+
+    // item matches if any of the matched nested items is under it, so the item id is in its path
+    Set<Long> matchedPathIds = testItemRepository.findAllById(nestedItemsMatchedIds).stream()
+        .flatMap(nestedItem -> Arrays.stream(nestedItem.getPath().split("\\.")))
+        .map(Long::valueOf)
+        .collect(Collectors.toSet());
+    return itemIds.stream().filter(matchedPathIds::contains).collect(toList());
   }
 
 }
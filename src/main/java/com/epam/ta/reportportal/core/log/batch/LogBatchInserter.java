@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.batch;
+
+import com.epam.ta.reportportal.dao.converters.JpaInstantConverter;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.LogFull;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserts logs with a single JDBC batch instead of per-entity persisting.
+ */
+@Component
+public class LogBatchInserter {
+
+  private static final String NEXT_IDS_QUERY =
+      "SELECT nextval('log_id_seq') FROM generate_series(1, ?)";
+
+  private static final String INSERT_LOG_QUERY =
+      "INSERT INTO log (id, uuid, log_time, log_message, item_id, launch_id, last_modified, "
+          + "log_level, project_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final JpaInstantConverter instantConverter = new JpaInstantConverter();
+
+  public LogBatchInserter(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Reserves IDs for all the logs with one sequence call, sets them to the provided
+   * {@link LogFull} objects and inserts the logs with one batch statement.
+   *
+   * @param logs Logs to insert
+   */
+  @Transactional
+  public void insert(List<LogFull> logs) {
+    if (logs.isEmpty()) {
+      return;
+    }
+    List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_QUERY, Long.class, logs.size());
+    Iterator<Long> idIterator = ids.iterator();
+    logs.forEach(log -> log.setId(idIterator.next()));
+
+    final Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(INSERT_LOG_QUERY, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        LogFull log = logs.get(i);
+        ps.setLong(1, log.getId());
+        ps.setString(2, log.getUuid());
+        ps.setTimestamp(3, instantConverter.convertToDatabaseColumn(log.getLogTime()));
+        ps.setString(4, log.getLogMessage());
+        setNullableLong(ps, 5,
+            Optional.ofNullable(log.getTestItem()).map(TestItem::getItemId).orElse(null));
+        setNullableLong(ps, 6,
+            Optional.ofNullable(log.getLaunch()).map(Launch::getId).orElse(null));
+        ps.setTimestamp(7, instantConverter.convertToDatabaseColumn(now));
+        ps.setInt(8, log.getLogLevel());
+        ps.setLong(9, log.getProjectId());
+      }
+
+      @Override
+      public int getBatchSize() {
+        return logs.size();
+      }
+    });
+  }
+
+  private static void setNullableLong(PreparedStatement ps, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+}
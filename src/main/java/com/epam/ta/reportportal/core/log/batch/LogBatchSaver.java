@@ -0,0 +1,291 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.batch;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.core.log.LogService;
+import com.epam.ta.reportportal.entity.log.LogFull;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind stage for logs reported via HTTP and via reporting queues. Logs are collected into a
+ * bounded queue and flushed by a fixed number of workers in batches limited by size and time. Every
+ * batch is inserted with one JDBC batch statement, after that log messages are sent to the
+ * {@link LogService} grouped by launch and post-save actions (attachments) are executed. When the
+ * queue is full, producers are blocked for a configured time and then rejected.
+ * <p>
+ * {@link #submit(PendingLog)} returns a future that is completed after the log is saved, so the
+ * reporting message of the log can be acknowledged only after the log is persisted.
+ */
+@Component
+public class LogBatchSaver implements InitializingBean, DisposableBean {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogBatchSaver.class);
+
+  private final LogBatchInserter logBatchInserter;
+
+  private final LogService logService;
+
+  private final BlockingQueue<PendingLog> queue;
+
+  private final int batchSize;
+
+  private final long flushIntervalNanos;
+
+  private final long offerTimeoutMs;
+
+  private final long awaitTimeoutMs;
+
+  private final int workersCount;
+
+  private final ThreadPoolTaskExecutor workers;
+
+  private final Map<String, AtomicInteger> pendingByLaunch = new ConcurrentHashMap<>();
+
+  private final Object flushMonitor = new Object();
+
+  private final Timer flushTimer;
+
+  private final DistributionSummary batchSizeSummary;
+
+  private volatile boolean running;
+
+  public LogBatchSaver(LogBatchInserter logBatchInserter, LogService logService,
+      MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.log-batch.size}") int batchSize,
+      @Value("${rp.environment.variable.log-batch.flush-interval-ms}") long flushIntervalMs,
+      @Value("${rp.environment.variable.log-batch.queue}") int queueCapacity,
+      @Value("${rp.environment.variable.log-batch.offer-timeout-ms}") long offerTimeoutMs,
+      @Value("${rp.environment.variable.log-batch.await-timeout-ms}") long awaitTimeoutMs,
+      @Value("${rp.environment.variable.log-batch.workers}") int workersCount) {
+    this.logBatchInserter = logBatchInserter;
+    this.logService = logService;
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    this.offerTimeoutMs = offerTimeoutMs;
+    this.awaitTimeoutMs = awaitTimeoutMs;
+    this.workersCount = workersCount;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    this.workers = new ThreadPoolTaskExecutor();
+    workers.setCorePoolSize(workersCount);
+    workers.setMaxPoolSize(workersCount);
+    workers.setQueueCapacity(0);
+    workers.setThreadNamePrefix("log-batch-exec");
+    workers.setWaitForTasksToCompleteOnShutdown(true);
+    workers.setAwaitTerminationSeconds(60);
+
+    meterRegistry.gaugeCollectionSize("rp.logs.batch.queue.size", Collections.emptyList(), queue);
+    this.flushTimer = Timer.builder("rp.logs.batch.flush")
+        .description("Time spent on saving a batch of logs")
+        .register(meterRegistry);
+    this.batchSizeSummary = DistributionSummary.builder("rp.logs.batch.size")
+        .description("Number of logs saved in one batch")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    running = true;
+    workers.initialize();
+    for (int i = 0; i < workersCount; i++) {
+      workers.execute(this::drain);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    running = false;
+    workers.shutdown();
+  }
+
+  /**
+   * Puts log to the saving queue. Blocks if the queue is full.
+   *
+   * @param pendingLog Log to save
+   * @return {@link PendingLog#getCompletion()} of the log
+   * @throws ReportPortalException if the log was not accepted during the offer timeout
+   */
+  public CompletableFuture<Void> submit(PendingLog pendingLog) {
+    pendingByLaunch.compute(pendingLog.getLaunchUuid(), (key, counter) -> {
+      AtomicInteger launchCounter = counter == null ? new AtomicInteger() : counter;
+      launchCounter.incrementAndGet();
+      return launchCounter;
+    });
+    boolean accepted;
+    try {
+      accepted = queue.offer(pendingLog, offerTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      accepted = false;
+    }
+    if (!accepted) {
+      release(Collections.singletonList(pendingLog));
+      throw new ReportPortalException(ErrorType.BAD_SAVE_LOG_REQUEST,
+          "Log saving queue is full, try again later");
+    }
+    return pendingLog.getCompletion();
+  }
+
+  /**
+   * Waits until all the logs of the launch that are already submitted are saved.
+   *
+   * @param launchUuid {@link com.epam.ta.reportportal.entity.launch.Launch#getUuid()}
+   */
+  public void awaitLaunchLogs(String launchUuid) {
+    long deadline = System.currentTimeMillis() + awaitTimeoutMs;
+    synchronized (flushMonitor) {
+      while (pendingByLaunch.containsKey(launchUuid)) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          LOGGER.warn("Logs of the launch '{}' were not saved in {} ms", launchUuid,
+              awaitTimeoutMs);
+          return;
+        }
+        try {
+          flushMonitor.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void drain() {
+    while (running || !queue.isEmpty()) {
+      try {
+        List<PendingLog> batch = collectBatch();
+        if (!batch.isEmpty()) {
+          flush(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        LOGGER.error("Unexpected error during logs batch saving", e);
+      }
+    }
+  }
+
+  private List<PendingLog> collectBatch() throws InterruptedException {
+    PendingLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return Collections.emptyList();
+    }
+    List<PendingLog> batch = new ArrayList<>(batchSize);
+    batch.add(first);
+    long deadline = System.nanoTime() + flushIntervalNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        break;
+      }
+      PendingLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  private void flush(List<PendingLog> batch) {
+    try {
+      List<PendingLog> saved = flushTimer.record(() -> insert(batch));
+      batchSizeSummary.record(saved.size());
+      sendLogMessages(saved);
+      saved.stream().filter(it -> Objects.nonNull(it.getAfterSave())).forEach(it -> {
+        try {
+          it.getAfterSave().accept(it.getLogFull());
+        } catch (Exception e) {
+          LOGGER.error("Failed to save attachment of the log '{}'", it.getLogFull().getUuid(), e);
+        }
+      });
+      saved.forEach(it -> it.getCompletion().complete(null));
+    } finally {
+      batch.forEach(it -> it.getCompletion()
+          .completeExceptionally(new IllegalStateException("Log was not saved")));
+      release(batch);
+    }
+  }
+
+  private List<PendingLog> insert(List<PendingLog> batch) {
+    try {
+      logBatchInserter.insert(batch.stream().map(PendingLog::getLogFull).collect(toList()));
+      return batch;
+    } catch (Exception e) {
+      LOGGER.warn("Batch insert of {} logs failed, saving them one by one", batch.size(), e);
+    }
+    List<PendingLog> saved = new ArrayList<>(batch.size());
+    for (PendingLog pendingLog : batch) {
+      try {
+        logBatchInserter.insert(Collections.singletonList(pendingLog.getLogFull()));
+        saved.add(pendingLog);
+      } catch (Exception e) {
+        LOGGER.error("Failed to save log '{}'", pendingLog.getLogFull().getUuid(), e);
+      }
+    }
+    return saved;
+  }
+
+  private void sendLogMessages(List<PendingLog> saved) {
+    Map<Long, List<LogFull>> logsByLaunch = saved.stream().collect(
+        groupingBy(PendingLog::getLaunchId, mapping(PendingLog::getLogFull, toList())));
+    logsByLaunch.forEach((launchId, logs) -> {
+      try {
+        logService.saveLogMessageList(logs, launchId);
+      } catch (Exception e) {
+        LOGGER.error("Failed to send log messages of the launch '{}'", launchId, e);
+      }
+    });
+  }
+
+  private void release(List<PendingLog> batch) {
+    batch.forEach(it -> pendingByLaunch.computeIfPresent(it.getLaunchUuid(),
+        (key, counter) -> counter.decrementAndGet() == 0 ? null : counter));
+    synchronized (flushMonitor) {
+      flushMonitor.notifyAll();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.batch;
+
+import com.epam.ta.reportportal.entity.log.LogFull;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Log waiting in {@link LogBatchSaver} queue to be persisted.
+ */
+public class PendingLog {
+
+  private final LogFull logFull;
+
+  private final Long launchId;
+
+  private final String launchUuid;
+
+  private final Consumer<LogFull> afterSave;
+
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+  /**
+   * @param logFull    Log to be saved
+   * @param launchId   ID of the effective launch of the log
+   * @param launchUuid UUID of the effective launch of the log
+   * @param afterSave  Action to be executed after the log is saved, e.g. attachment saving. Can be
+   *                   {@code null}
+   */
+  public PendingLog(LogFull logFull, Long launchId, String launchUuid,
+      Consumer<LogFull> afterSave) {
+    this.logFull = logFull;
+    this.launchId = launchId;
+    this.launchUuid = launchUuid;
+    this.afterSave = afterSave;
+  }
+
+  public LogFull getLogFull() {
+    return logFull;
+  }
+
+  public Long getLaunchId() {
+    return launchId;
+  }
+
+  public String getLaunchUuid() {
+    return launchUuid;
+  }
+
+  public Consumer<LogFull> getAfterSave() {
+    return afterSave;
+  }
+
+  /**
+   * @return Future that is completed when the log is saved or failed to be saved
+   */
+  public CompletableFuture<Void> getCompletion() {
+    return completion;
+  }
+}
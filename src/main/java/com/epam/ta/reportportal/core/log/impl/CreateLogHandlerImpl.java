@@ -16,21 +16,17 @@
 
 package com.epam.ta.reportportal.core.log.impl;
 
-import static com.epam.ta.reportportal.ws.converter.converters.LogConverter.LOG_FULL_TO_LOG;
 import static java.util.Optional.ofNullable;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.core.launch.cache.CachedLaunch;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.log.CreateLogHandler;
-import com.epam.ta.reportportal.core.log.LogService;
-import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.core.log.batch.LogBatchSaver;
+import com.epam.ta.reportportal.core.log.batch.PendingLog;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import com.epam.ta.reportportal.entity.item.TestItem;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.log.LogFull;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.builders.LogFullBuilder;
@@ -38,20 +34,16 @@ import com.epam.ta.reportportal.ws.reporting.EntryCreatedAsyncRS;
 import com.epam.reportportal.rules.exception.ErrorType;
 import com.epam.ta.reportportal.ws.reporting.SaveLogRQ;
 import java.time.Instant;
-import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
- * Create log handler. Save log and binary data related to it
+ * Create log handler. Save log and binary data related to it. Logs are persisted asynchronously in
+ * batches by {@link LogBatchSaver}
  *
  * @author Henadzi Vrubleuski
  * @author Andrei Varabyeu
@@ -61,29 +53,14 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional
 public class CreateLogHandlerImpl implements CreateLogHandler {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(CreateLogHandlerImpl.class);
-
-  @Autowired
-  TestItemRepository testItemRepository;
-
-  @Autowired
-  TestItemService testItemService;
-
   @Autowired
-  LaunchRepository launchRepository;
-
-  @Autowired
-  LogRepository logRepository;
+  ReportingEntityCache reportingEntityCache;
 
   @Autowired
   AttachmentBinaryDataService attachmentBinaryDataService;
 
   @Autowired
-  private LogService logService;
-
-  @Autowired
-  @Qualifier("saveLogsTaskExecutor")
-  private TaskExecutor taskExecutor;
+  private LogBatchSaver logBatchSaver;
 
   @Override
   @Nonnull
@@ -95,35 +72,24 @@ public class CreateLogHandlerImpl implements CreateLogHandler {
     final LogFullBuilder logFullBuilder =
         new LogFullBuilder().addSaveLogRq(request).addProjectId(projectDetails.getProjectId());
 
-    final Launch launch = testItemRepository.findByUuid(request.getItemUuid()).map(item -> {
-      logFullBuilder.addTestItem(item);
-      return testItemService.getEffectiveLaunch(item);
-    }).orElseGet(() -> launchRepository.findByUuid(request.getLaunchUuid()).map(l -> {
-      logFullBuilder.addLaunch(l);
+    final CachedLaunch launch = reportingEntityCache.findItem(request.getItemUuid()).map(item -> {
+      logFullBuilder.addTestItem(item.toReference());
+      return reportingEntityCache.findLaunch(item.getLaunchId())
+          .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND));
+    }).orElseGet(() -> reportingEntityCache.findLaunch(request.getLaunchUuid()).map(l -> {
+      logFullBuilder.addLaunch(l.toReference());
       return l;
     }).orElseThrow(
         () -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid())));
 
     final LogFull logFull = logFullBuilder.get();
-    final Log log = LOG_FULL_TO_LOG.apply(logFull);
-    CompletableFuture.supplyAsync(() -> logRepository.saveAndFlush(log), taskExecutor)
-        .thenAcceptAsync(savedLog -> {
-          logFull.setId(savedLog.getId());
-          logService.saveLogMessage(logFull, launch.getId());
-          if (file != null) {
-            saveBinaryData(file, launch, savedLog);
-          }
-        }, taskExecutor)
-        .exceptionally(e -> {
-              LOGGER.error("Failed to save log with attachments", e);
-              return null;
-            }
-        );
+    logBatchSaver.submit(new PendingLog(logFull, launch.getId(), launch.getUuid(),
+        file == null ? null : savedLog -> saveBinaryData(file, launch, savedLog)));
 
-    return new EntryCreatedAsyncRS(log.getUuid());
+    return new EntryCreatedAsyncRS(logFull.getUuid());
   }
 
-  private void saveBinaryData(MultipartFile file, Launch launch, Log savedLog) {
+  private void saveBinaryData(MultipartFile file, CachedLaunch launch, LogFull savedLog) {
     final AttachmentMetaInfo.AttachmentMetaInfoBuilder metaInfoBuilder =
         AttachmentMetaInfo.builder().withProjectId(launch.getProjectId())
             .withLaunchId(launch.getId()).withLaunchUuid(launch.getUuid())
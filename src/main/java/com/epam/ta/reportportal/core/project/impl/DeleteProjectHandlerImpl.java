@@ -44,9 +44,9 @@ import com.epam.ta.reportportal.entity.user.User;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.model.DeleteBulkRS;
 import com.epam.ta.reportportal.util.FeatureFlagHandler;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.reportportal.rules.exception.ErrorType;
 import com.epam.ta.reportportal.ws.reporting.OperationCompletionRS;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.util.Collection;
@@ -90,13 +90,16 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
 
   private final FeatureFlagHandler featureFlagHandler;
 
+  private final ProjectDetailsCache projectDetailsCache;
+
   @Autowired
   public DeleteProjectHandlerImpl(ProjectRepository projectRepository,
       UserRepository userRepository, LogIndexer logIndexer,
       AnalyzerServiceClient analyzerServiceClient, AnalyzerStatusCache analyzerStatusCache,
       MessageBus messageBus, AttachmentBinaryDataService attachmentBinaryDataService,
       IssueTypeRepository issueTypeRepository, ContentRemover<Project> projectContentRemover,
-      LogRepository logRepository, FeatureFlagHandler featureFlagHandler) {
+      LogRepository logRepository, FeatureFlagHandler featureFlagHandler,
+      ProjectDetailsCache projectDetailsCache) {
     this.projectRepository = projectRepository;
     this.userRepository = userRepository;
     this.logIndexer = logIndexer;
@@ -108,6 +111,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
     this.logRepository = logRepository;
     this.featureFlagHandler = featureFlagHandler;
     this.attachmentBinaryDataService = attachmentBinaryDataService;
+    this.projectDetailsCache = projectDetailsCache;
   }
 
   @Override
@@ -183,10 +187,9 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
         "Index can not be removed until index generation proceeds."
     );
 
-    Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-        .orElseThrow(
-            () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-    expect(analyzeStatus.asMap().containsValue(project.getId()), Predicate.isEqual(false)).verify(
+    expect(analyzerStatusCache.containsProjectId(AUTO_ANALYZER_KEY, project.getId()),
+        Predicate.isEqual(false)
+    ).verify(
         ErrorType.FORBIDDEN_OPERATION, "Index can not be removed until index generation proceeds.");
 
     logIndexer.deleteIndex(project.getId());
@@ -208,6 +211,7 @@ public class DeleteProjectHandlerImpl implements DeleteProjectHandler {
             .collect(Collectors.toSet());
     projectContentRemover.remove(project);
     projectRepository.delete(project);
+    projectDetailsCache.evictProject(project.getId());
     issueTypeRepository.deleteAll(issueTypesToRemove);
     logIndexer.deleteIndex(project.getId());
     analyzerServiceClient.removeSuggest(project.getId());
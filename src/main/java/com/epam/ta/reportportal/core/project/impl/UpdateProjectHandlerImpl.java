@@ -88,6 +88,7 @@ import com.epam.ta.reportportal.model.project.UpdateProjectRQ;
 import com.epam.ta.reportportal.model.project.config.ProjectConfigurationUpdate;
 import com.epam.ta.reportportal.model.project.email.ProjectNotificationConfigDTO;
 import com.epam.ta.reportportal.model.project.email.SenderCaseDTO;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.ta.reportportal.util.ProjectExtractor;
 import com.epam.ta.reportportal.util.email.EmailRulesValidator;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
@@ -96,7 +97,6 @@ import com.epam.ta.reportportal.ws.converter.converters.ProjectConverter;
 import com.epam.ta.reportportal.ws.converter.converters.UserConverter;
 import com.epam.ta.reportportal.ws.reporting.ItemAttributeResource;
 import com.epam.ta.reportportal.ws.reporting.OperationCompletionRS;
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Map;
@@ -148,6 +148,8 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 
   private final ProjectConverter projectConverter;
 
+  private final ProjectDetailsCache projectDetailsCache;
+
   @Autowired
   public UpdateProjectHandlerImpl(ProjectExtractor projectExtractor,
       ProjectAttributeValidator projectAttributeValidator, ProjectRepository projectRepository,
@@ -156,7 +158,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
       ApplicationEventPublisher applicationEventPublisher, MailServiceFactory mailServiceFactory,
       AnalyzerStatusCache analyzerStatusCache, IndexerStatusCache indexerStatusCache,
       AnalyzerServiceClient analyzerServiceClient, LogIndexer logIndexer,
-      ProjectConverter projectConverter) {
+      ProjectConverter projectConverter, ProjectDetailsCache projectDetailsCache) {
     this.projectExtractor = projectExtractor;
     this.projectAttributeValidator = projectAttributeValidator;
     this.projectRepository = projectRepository;
@@ -171,6 +173,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
     this.analyzerServiceClient = analyzerServiceClient;
     this.logIndexer = logIndexer;
     this.projectConverter = projectConverter;
+    this.projectDetailsCache = projectDetailsCache;
   }
 
   @Override
@@ -232,6 +235,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
     List<ProjectUser> unassignedUsers =
         unassignUsers(unassignUsersRQ.getUsernames(), modifier, project, user);
     projectUserRepository.deleteAll(unassignedUsers);
+    unassignedUsers.forEach(it -> projectDetailsCache.evictUser(it.getUser().getId()));
     ProjectUtils.excludeProjectRecipients(
         unassignedUsers.stream().map(ProjectUser::getUser).collect(Collectors.toSet()), project);
     unassignedUsers.forEach(it -> preferenceRepository.removeByProjectIdAndUserId(project.getId(),
@@ -299,10 +303,9 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
         "Index can not be removed until index generation proceeds."
     );
 
-    Cache<Long, Long> analyzeStatus = analyzerStatusCache.getAnalyzeStatus(AUTO_ANALYZER_KEY)
-        .orElseThrow(
-            () -> new ReportPortalException(ErrorType.ANALYZER_NOT_FOUND, AUTO_ANALYZER_KEY));
-    expect(analyzeStatus.asMap().containsValue(project.getId()), equalTo(false)).verify(
+    expect(analyzerStatusCache.containsProjectId(AUTO_ANALYZER_KEY, project.getId()),
+        equalTo(false)
+    ).verify(
         ErrorType.FORBIDDEN_OPERATION, "Index can not be removed until auto-analysis proceeds.");
 
     logIndexer.deleteIndex(project.getId());
@@ -470,6 +473,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
         }
         String oldRole = updatingProjectUser.get().getProjectRole().getRoleName();
         updatingProjectUser.get().setProjectRole(newProjectRole.get());
+        projectDetailsCache.evictUser(updatingProjectUser.get().getUser().getId());
 
         publishChangeRoleEvent(user, updatingProjectUser.get(), oldRole);
       });
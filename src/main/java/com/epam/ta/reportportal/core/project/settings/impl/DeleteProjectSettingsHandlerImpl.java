@@ -21,6 +21,7 @@ import com.epam.reportportal.rules.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeDeletedEvent;
 import com.epam.ta.reportportal.core.events.activity.PatternDeletedEvent;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.project.settings.DeleteProjectSettingsHandler;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.enums.TestItemIssueGroup;
@@ -75,11 +76,13 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final TestItemHistoryCache testItemHistoryCache;
+
 	@Autowired
 	public DeleteProjectSettingsHandlerImpl(ProjectRepository projectRepository, StatisticsFieldRepository statisticsFieldRepository,
 			WidgetRepository widgetRepository, MessageBus messageBus, IssueTypeRepository issueTypeRepository,
 			IssueEntityRepository issueEntityRepository, PatternTemplateRepository patternTemplateRepository,
-			ApplicationEventPublisher eventPublisher) {
+			ApplicationEventPublisher eventPublisher, TestItemHistoryCache testItemHistoryCache) {
 		this.projectRepository = projectRepository;
 		this.statisticsFieldRepository = statisticsFieldRepository;
 		this.widgetRepository = widgetRepository;
@@ -88,6 +91,7 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 		this.issueEntityRepository = issueEntityRepository;
 		this.patternTemplateRepository = patternTemplateRepository;
 		this.eventPublisher = eventPublisher;
+		this.testItemHistoryCache = testItemHistoryCache;
 	}
 
 	@Override
@@ -128,6 +132,7 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 		projectRepository.save(project);
 
 		issueTypeRepository.delete(type.getIssueType());
+		testItemHistoryCache.evictAll();
 
 		updateWidgets(project, type.getIssueType());
 
@@ -171,6 +176,7 @@ public class DeleteProjectSettingsHandlerImpl implements DeleteProjectSettingsHa
 		PatternTemplateActivityResource before = PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(patternTemplate);
 
 		patternTemplateRepository.deleteById(patternTemplate.getId());
+		testItemHistoryCache.evictAll();
 
 		messageBus.publishActivity(new PatternDeletedEvent(user.getUserId(), user.getUsername(), before));
 		return new OperationCompletionRS(Suppliers.formattedSupplier("Pattern template with id = '{}' has been successfully removed.", id)
@@ -37,6 +37,7 @@ import com.epam.reportportal.rules.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.DefectTypeUpdatedEvent;
 import com.epam.ta.reportportal.core.events.activity.PatternUpdatedEvent;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.project.settings.UpdateProjectSettingsHandler;
 import com.epam.ta.reportportal.dao.PatternTemplateRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -75,12 +76,16 @@ public class UpdateProjectSettingsHandlerImpl implements UpdateProjectSettingsHa
 
   private final MessageBus messageBus;
 
+  private final TestItemHistoryCache testItemHistoryCache;
+
   @Autowired
   public UpdateProjectSettingsHandlerImpl(ProjectRepository projectRepository,
-      PatternTemplateRepository patternTemplateRepository, MessageBus messageBus) {
+      PatternTemplateRepository patternTemplateRepository, MessageBus messageBus,
+      TestItemHistoryCache testItemHistoryCache) {
     this.projectRepository = projectRepository;
     this.patternTemplateRepository = patternTemplateRepository;
     this.messageBus = messageBus;
+    this.testItemHistoryCache = testItemHistoryCache;
   }
 
   @Override
@@ -132,6 +137,7 @@ public class UpdateProjectSettingsHandlerImpl implements UpdateProjectSettingsHa
 
     patternTemplate.setName(name);
     patternTemplate.setEnabled(updatePatternTemplateRQ.getEnabled());
+    testItemHistoryCache.evictAll();
 
     PatternTemplateActivityResource after =
         PatternTemplateConverter.TO_ACTIVITY_RESOURCE.apply(patternTemplate);
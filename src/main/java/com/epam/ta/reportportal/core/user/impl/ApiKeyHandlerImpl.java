@@ -20,6 +20,7 @@ import static com.epam.reportportal.rules.commons.validation.BusinessRule.expect
 import static com.epam.reportportal.rules.exception.ErrorType.BAD_REQUEST_ERROR;
 import static com.epam.reportportal.rules.exception.ErrorType.NOT_FOUND;
 
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.reportportal.rules.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.user.ApiKeyHandler;
@@ -64,9 +65,13 @@ public class ApiKeyHandlerImpl implements ApiKeyHandler {
 
   private final ApiKeyRepository apiKeyRepository;
 
+  private final ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
   @Autowired
-  public ApiKeyHandlerImpl(ApiKeyRepository apiKeyRepository) {
+  public ApiKeyHandlerImpl(ApiKeyRepository apiKeyRepository,
+      ApiKeyAuthenticationCache apiKeyAuthenticationCache) {
     this.apiKeyRepository = apiKeyRepository;
+    this.apiKeyAuthenticationCache = apiKeyAuthenticationCache;
   }
 
   @Override
@@ -94,6 +99,7 @@ public class ApiKeyHandlerImpl implements ApiKeyHandler {
     expect(apiKeyRepository.existsById(id), Predicates.equalTo(true))
         .verify(NOT_FOUND, "Api key");
     apiKeyRepository.deleteById(id);
+    apiKeyAuthenticationCache.evictApiKey(id);
     return new OperationCompletionRS("Api key with ID = '" + id + "' was successfully deleted.");
   }
 
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.user.impl;
 
 import static com.epam.ta.reportportal.ws.converter.converters.ExceptionConverter.TO_ERROR_RS;
 
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
@@ -38,6 +39,7 @@ import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.model.DeleteBulkRS;
 import com.epam.ta.reportportal.model.activity.UserActivityResource;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.ta.reportportal.util.email.strategy.EmailNotificationStrategy;
 import com.epam.ta.reportportal.util.email.strategy.EmailTemplate;
 import com.epam.reportportal.rules.exception.ErrorType;
@@ -80,6 +82,10 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 
   private final ApplicationEventPublisher applicationEventPublisher;
 
+  private final ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
+  private final ProjectDetailsCache projectDetailsCache;
+
   private static final String DELETED_USER = "deleted_user";
 
   @Value("${rp.environment.variable.allow-delete-account:false}")
@@ -91,7 +97,9 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
       UserBinaryDataService dataStore, ProjectRecipientHandler projectRecipientHandler,
       ProjectRepository projectRepository,
       Map<EmailTemplate, EmailNotificationStrategy> emailNotificationStrategyMapping,
-      ApplicationEventPublisher applicationEventPublisher) {
+      ApplicationEventPublisher applicationEventPublisher,
+      ApiKeyAuthenticationCache apiKeyAuthenticationCache,
+      ProjectDetailsCache projectDetailsCache) {
     this.userRepository = userRepository;
     this.deleteProjectHandler = deleteProjectHandler;
     this.dataStore = dataStore;
@@ -100,6 +108,8 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
     this.projectRepository = projectRepository;
     this.emailNotificationStrategyMapping = emailNotificationStrategyMapping;
     this.applicationEventPublisher = applicationEventPublisher;
+    this.apiKeyAuthenticationCache = apiKeyAuthenticationCache;
+    this.projectDetailsCache = projectDetailsCache;
   }
 
   @Override
@@ -133,6 +143,8 @@ public class DeleteUserHandlerImpl implements DeleteUserHandler {
 
     dataStore.deleteUserPhoto(user);
     userRepository.delete(user);
+    apiKeyAuthenticationCache.evictUser(user.getId());
+    projectDetailsCache.evictUser(user.getId());
     sendEmailAboutDeletion(user, loggedInUser);
 
     return user;
@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.user.impl;
 
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
@@ -94,11 +95,14 @@ public class EditUserHandlerImpl implements EditUserHandler {
 
   private final ApplicationEventPublisher eventPublisher;
 
+  private final ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
   @Autowired
   public EditUserHandlerImpl(PasswordEncoder passwordEncoder, UserRepository userRepository,
       ProjectRepository projectRepository,
       UserBinaryDataService userBinaryDataService, AutoDetectParser autoDetectParser,
-      MailServiceFactory emailServiceFactory, ApplicationEventPublisher eventPublisher) {
+      MailServiceFactory emailServiceFactory, ApplicationEventPublisher eventPublisher,
+      ApiKeyAuthenticationCache apiKeyAuthenticationCache) {
     this.passwordEncoder = passwordEncoder;
     this.userRepository = userRepository;
     this.projectRepository = projectRepository;
@@ -106,6 +110,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
     this.autoDetectParser = autoDetectParser;
     this.emailServiceFactory = emailServiceFactory;
     this.eventPublisher = eventPublisher;
+    this.apiKeyAuthenticationCache = apiKeyAuthenticationCache;
   }
 
   @Override
@@ -166,6 +171,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
     } catch (Exception exp) {
       throw new ReportPortalException("Error while User editing.", exp);
     }
+    apiKeyAuthenticationCache.evictUser(user.getId());
 
     return new OperationCompletionRS(
         "User with login = '" + user.getLogin() + "' successfully updated");
@@ -205,6 +211,7 @@ public class EditUserHandlerImpl implements EditUserHandler {
     );
     user.setPassword(passwordEncoder.encode(request.getNewPassword()));
     userRepository.save(user);
+    apiKeyAuthenticationCache.evictUser(user.getId());
 
     try {
       emailServiceFactory.getDefaultEmailService(true)
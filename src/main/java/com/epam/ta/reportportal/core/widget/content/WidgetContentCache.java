@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content;
+
+import static com.epam.ta.reportportal.util.CacheEvictions.evictWithTransaction;
+
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.entity.filter.UserFilter;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bounded cache of the widget content. Content is cached by the widget id, type, content fields,
+ * options, items count, filters and the content version of the widget project.
+ * <p>
+ * The version of the project is increased when launches of the project are finished, updated,
+ * merged or deleted, when defects of the project items are updated and when filters of the
+ * project are updated, so the cached content of all the project widgets is no longer used.
+ * Changes of the widget itself change its key. Each instance increases only its own versions, so
+ * a launch finished through another instance appears in the dashboards served by this instance
+ * when the content expires.
+ */
+@Service
+public class WidgetContentCache {
+
+  private final Cache<Key, Map<String, ?>> contents;
+
+  private final Map<Long, AtomicLong> projectVersions = new ConcurrentHashMap<>();
+
+  private final Set<WidgetType> excludedTypes;
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public WidgetContentCache(MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.widget.content-cache.size:1000}") long size,
+      @Value("${rp.environment.variable.widget.content-cache.expire-seconds:60}")
+      long expireSeconds,
+      @Value("${rp.environment.variable.widget.content-cache.excluded-types:activityStream}")
+      String[] excludedTypes) {
+    this.contents = CacheBuilder.newBuilder()
+        .maximumSize(size)
+        .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+        .build();
+    this.excludedTypes = Arrays.stream(excludedTypes)
+        .map(String::trim)
+        .map(WidgetType::findByName)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(WidgetType.class)));
+    this.hits = requests("hit", meterRegistry);
+    this.misses = requests("miss", meterRegistry);
+  }
+
+  /**
+   * @param projectId  Project id of the widget
+   * @param widget     Widget
+   * @param widgetType Type of the widget
+   * @param loader     Loads the content if it is not cached
+   * @return Content of the widget
+   */
+  public Map<String, ?> get(Long projectId, Widget widget, WidgetType widgetType,
+      Supplier<Map<String, ?>> loader) {
+    if (excludedTypes.contains(widgetType)) {
+      return loader.get();
+    }
+    Key key = new Key(widget, widgetType, version(projectId).get());
+    Map<String, ?> content = contents.getIfPresent(key);
+    if (content != null) {
+      hits.increment();
+      return content;
+    }
+    misses.increment();
+    content = loader.get();
+    if (content != null) {
+      contents.put(key, content);
+    }
+    return content;
+  }
+
+  /**
+   * Invalidates content of all the widgets of the project. If a transaction is active,
+   * invalidation is repeated after its completion, so content loaded by concurrent requests
+   * before the commit is not used.
+   *
+   * @param projectId Project id
+   */
+  public void invalidateProject(Long projectId) {
+    AtomicLong version = version(projectId);
+    evictWithTransaction(version::incrementAndGet);
+  }
+
+  @EventListener
+  public void onLaunchFinished(LaunchFinishedEvent event) {
+    invalidateProject(event.getProjectId());
+  }
+
+  private AtomicLong version(Long projectId) {
+    return projectVersions.computeIfAbsent(projectId, id -> new AtomicLong());
+  }
+
+  private static Counter requests(String result, MeterRegistry meterRegistry) {
+    return Counter.builder("rp.widget.content.cache.requests")
+        .description("Widget content requests served from the cache or by loading")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static class Key {
+
+    private final long version;
+    private final Long widgetId;
+    private final WidgetType widgetType;
+    private final List<String> contentFields;
+    private final Map<String, Object> options;
+    private final int itemsCount;
+    private final Set<Long> filterIds;
+
+    private Key(Widget widget, WidgetType widgetType, long version) {
+      this.version = version;
+      this.widgetId = widget.getId();
+      this.widgetType = widgetType;
+      this.contentFields = new ArrayList<>(widget.getContentFields());
+      this.options = Optional.ofNullable(widget.getWidgetOptions())
+          .map(WidgetOptions::getOptions)
+          .orElse(Collections.emptyMap());
+      this.itemsCount = widget.getItemsCount();
+      this.filterIds = widget.getFilters()
+          .stream()
+          .map(UserFilter::getId)
+          .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return version == key.version && itemsCount == key.itemsCount && Objects.equals(widgetId,
+          key.widgetId) && widgetType == key.widgetType && Objects.equals(contentFields,
+          key.contentFields) && Objects.equals(options, key.options) && Objects.equals(filterIds,
+          key.filterIds);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(version, widgetId, widgetType, contentFields, options, itemsCount,
+          filterIds);
+    }
+  }
+}
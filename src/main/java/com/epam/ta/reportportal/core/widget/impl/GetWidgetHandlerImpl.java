@@ -30,6 +30,7 @@ import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MaterializedLoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MultilevelLoadContentStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.WidgetRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.widget.Widget;
@@ -78,6 +79,9 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
   @Autowired
   private GetUserFilterHandler getUserFilterHandler;
 
+  @Autowired
+  private WidgetContentCache widgetContentCache;
+
   @Autowired
   @Qualifier("buildFilterStrategy")
   public void setBuildFilterStrategy(
@@ -131,11 +135,13 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
     if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(
         widget.getFilters(), projectDetails, user)) {
-      content = loadContentStrategy.get(widgetType)
-          .loadContent(Lists.newArrayList(widget.getContentFields()),
-              buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-              widget.getWidgetOptions(), widget.getItemsCount()
-          );
+      content = widgetContentCache.get(projectDetails.getProjectId(), widget, widgetType,
+          () -> loadContentStrategy.get(widgetType)
+              .loadContent(Lists.newArrayList(widget.getContentFields()),
+                  buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
+                  widget.getWidgetOptions(), widget.getItemsCount()
+              )
+      );
     } else {
       content = Collections.emptyMap();
     }
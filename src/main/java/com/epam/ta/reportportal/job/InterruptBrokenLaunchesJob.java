@@ -20,34 +20,39 @@ import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteria
 import static com.epam.ta.reportportal.job.PageUtil.iterateOverPages;
 import static java.time.Duration.ofSeconds;
 
-import com.epam.reportportal.extension.event.LaunchFinishedPluginEvent;
-import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
-import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AdvisoryLockRegistry;
 import com.epam.ta.reportportal.dao.ProjectRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
-import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectUtils;
+import com.epam.ta.reportportal.job.service.BrokenLaunchesService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Finds jobs witn duration more than defined and finishes them with interrupted
- * {@link StatusEnum#INTERRUPTED} status
+ * {@link StatusEnum#INTERRUPTED} status.
+ * <p>
+ * Projects are processed concurrently, every project in its own short transactions. Only one
+ * instance of the cluster runs the job at a time, as it holds an advisory lock while running.
  *
  * @author Andrei Varabyeu
  */
@@ -56,110 +61,104 @@ public class InterruptBrokenLaunchesJob implements Job {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InterruptBrokenLaunchesJob.class);
 
-  private final ApplicationEventPublisher eventPublisher;
+  /**
+   * Advisory lock key of the job, the 16 high bits are the namespace of the jobs
+   */
+  static final long JOB_LOCK_KEY = 0x524A_0000_0000_0001L;
 
-  private final LaunchRepository launchRepository;
+  private final ProjectRepository projectRepository;
 
-  private final TestItemRepository testItemRepository;
+  private final BrokenLaunchesService brokenLaunchesService;
 
-  private final LogRepository logRepository;
+  private final AdvisoryLockRegistry lockRegistry;
 
-  private final ProjectRepository projectRepository;
+  private final TaskExecutor interruptLaunchesExecutor;
+
+  private final Timer runTimer;
+
+  private final Counter projectsCounter;
+
+  private final Counter interruptedCounter;
+
+  private final Counter failuresCounter;
 
   @Autowired
-  public InterruptBrokenLaunchesJob(ApplicationEventPublisher eventPublisher,
-      LaunchRepository launchRepository, TestItemRepository testItemRepository,
-      LogRepository logRepository,
-      ProjectRepository projectRepository) {
-    this.eventPublisher = eventPublisher;
-    this.launchRepository = launchRepository;
-    this.testItemRepository = testItemRepository;
-    this.logRepository = logRepository;
+  public InterruptBrokenLaunchesJob(ProjectRepository projectRepository,
+      BrokenLaunchesService brokenLaunchesService, AdvisoryLockRegistry lockRegistry,
+      MeterRegistry meterRegistry,
+      @Qualifier("interruptLaunchesExecutor") TaskExecutor interruptLaunchesExecutor) {
     this.projectRepository = projectRepository;
+    this.brokenLaunchesService = brokenLaunchesService;
+    this.lockRegistry = lockRegistry;
+    this.interruptLaunchesExecutor = interruptLaunchesExecutor;
+    this.runTimer = Timer.builder("rp.job.interrupt.launches.duration")
+        .description("Duration of the interrupt broken launches job")
+        .register(meterRegistry);
+    this.projectsCounter = Counter.builder("rp.job.interrupt.launches.projects")
+        .description("Projects checked for broken launches")
+        .register(meterRegistry);
+    this.interruptedCounter = Counter.builder("rp.job.interrupt.launches.interrupted")
+        .description("Broken launches interrupted")
+        .register(meterRegistry);
+    this.failuresCounter = Counter.builder("rp.job.interrupt.launches.failures")
+        .description("Projects and launches failed to be processed")
+        .register(meterRegistry);
   }
 
   @Override
-  @Transactional
   public void execute(JobExecutionContext context) {
-    LOGGER.info("Interrupt broken launches job has been started");
-    iterateOverPages(
-        Sort.by(Sort.Order.asc(CRITERIA_ID)),
-        projectRepository::findAllIdsAndProjectAttributes,
-        projects -> projects.forEach(project -> {
-          ProjectUtils.extractAttributeValue(project, ProjectAttributeEnum.INTERRUPT_JOB_TIME)
-              .ifPresent(it -> {
-                Duration maxDuration = ofSeconds(NumberUtils.toLong(it, 0L));
-                try (Stream<Long> ids = launchRepository.streamIdsWithStatusAndStartTimeBefore(
-                    project.getId(),
-                    StatusEnum.IN_PROGRESS,
-                    Instant.now().minus(maxDuration.toSeconds(), ChronoUnit.SECONDS)
-                )) {
-                  ids.forEach(launchId -> {
-                    if (!testItemRepository.hasItemsInStatusByLaunch(launchId,
-                        StatusEnum.IN_PROGRESS)) {
-                      /*
-                       * There are no test items for this launch. Just INTERRUPT
-                       * this launch
-                       */
-                      interruptLaunch(launchId);
-                    } else {
-                      /*
-                       * Well, there are some test items started for specified
-                       * launch
-                       */
-                      if (!testItemRepository.hasItemsInStatusAddedLately(launchId, maxDuration,
-                          StatusEnum.IN_PROGRESS)) {
-                        /*
-                         * If there are logs, we have to check whether them
-                         * expired
-                         */
-                        if (testItemRepository.hasLogs(launchId, maxDuration,
-                            StatusEnum.IN_PROGRESS)) {
-                          /*
-                           * If there are logs which are still valid
-                           * (probably automation project keep writing
-                           * something)
-                           */
-                          if (!logRepository.hasLogsAddedLately(maxDuration, launchId,
-                              StatusEnum.IN_PROGRESS)) {
-                            interruptItems(launchId);
-                          }
-                        } else {
-                          /*
-                           * If not just INTERRUPT all found items and launch
-                           */
-                          interruptItems(launchId);
-                        }
-                      }
-                    }
-                  });
-                } catch (Exception ex) {
-                  LOGGER.error("Interrupting broken launches has been failed", ex);
-                  //do nothing
-                }
-              });
-        })
-    );
-  }
-
-  private void interruptLaunch(Long launchId) {
-    launchRepository.findById(launchId).ifPresent(launch -> {
-      launch.setStatus(StatusEnum.INTERRUPTED);
-      launch.setEndTime(Instant.now());
-      launchRepository.save(launch);
-      publishFinishEvent(launch);
-    });
-  }
-
-  private void publishFinishEvent(Launch launch) {
-    final LaunchFinishedEvent launchFinishedEvent = new LaunchFinishedEvent(launch);
-    final LaunchFinishedPluginEvent finishedPluginEvent = new LaunchFinishedPluginEvent(launch.getId(), launch.getProjectId());
-    eventPublisher.publishEvent(launchFinishedEvent);
-    eventPublisher.publishEvent(finishedPluginEvent);
+    if (!lockRegistry.tryLock(JOB_LOCK_KEY)) {
+      LOGGER.info("Interrupt broken launches job is already running on another instance");
+      return;
+    }
+    try {
+      LOGGER.info("Interrupt broken launches job has been started");
+      final AtomicLong interrupted = new AtomicLong();
+      final long started = System.nanoTime();
+      runTimer.record(() -> iterateOverPages(Sort.by(Sort.Order.asc(CRITERIA_ID)),
+          projectRepository::findAllIdsAndProjectAttributes,
+          projects -> {
+            List<CompletableFuture<Void>> partitions = new ArrayList<>();
+            projects.forEach(project -> ProjectUtils.extractAttributeValue(project,
+                    ProjectAttributeEnum.INTERRUPT_JOB_TIME)
+                .map(it -> ofSeconds(NumberUtils.toLong(it, 0L)))
+                .ifPresent(maxDuration -> partitions.add(CompletableFuture.runAsync(
+                    () -> interrupted.addAndGet(processProject(project, maxDuration)),
+                    interruptLaunchesExecutor
+                ))));
+            CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+          }
+      ));
+      LOGGER.info("Interrupt broken launches job has been finished in {} ms, {} interrupted",
+          Duration.ofNanos(System.nanoTime() - started).toMillis(), interrupted.get()
+      );
+    } finally {
+      lockRegistry.unlock(JOB_LOCK_KEY);
+    }
   }
 
-  private void interruptItems(Long launchId) {
-    testItemRepository.interruptInProgressItems(launchId);
-    interruptLaunch(launchId);
+  private long processProject(Project project, Duration maxDuration) {
+    projectsCounter.increment();
+    long interrupted = 0;
+    try {
+      List<Long> launchIds = brokenLaunchesService.findBrokenLaunches(project.getId(),
+          Instant.now().minus(maxDuration));
+      for (Long launchId : launchIds) {
+        try {
+          if (brokenLaunchesService.interrupt(launchId)) {
+            interrupted++;
+            interruptedCounter.increment();
+          }
+        } catch (Exception ex) {
+          failuresCounter.increment();
+          LOGGER.error("Interrupting broken launch with id '{}' has been failed", launchId, ex);
+        }
+      }
+    } catch (Exception ex) {
+      failuresCounter.increment();
+      LOGGER.error("Interrupting broken launches of project with id '{}' has been failed",
+          project.getId(), ex);
+    }
+    return interrupted;
   }
 }
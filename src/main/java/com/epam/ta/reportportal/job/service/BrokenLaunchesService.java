@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Finds and interrupts in-progress launches, which are not reported anymore.
+ */
+public interface BrokenLaunchesService {
+
+  /**
+   * Finds in-progress launches of the project started before the threshold, which have neither
+   * in-progress items started nor logs of in-progress items added after it.
+   *
+   * @param projectId Project id
+   * @param threshold Last time of the activity
+   * @return Ids of the broken launches
+   */
+  List<Long> findBrokenLaunches(Long projectId, Instant threshold);
+
+  /**
+   * Interrupts in-progress items of the launch and the launch itself.
+   *
+   * @param launchId Launch id
+   * @return {@code false} if the launch is not in progress anymore
+   */
+  boolean interrupt(Long launchId);
+}
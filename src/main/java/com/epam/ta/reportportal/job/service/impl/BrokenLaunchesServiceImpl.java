@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job.service.impl;
+
+import com.epam.reportportal.extension.event.LaunchFinishedPluginEvent;
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.dao.converters.JpaInstantConverter;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.job.service.BrokenLaunchesService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Every call is executed in its own short transaction, so a project or a launch is processed
+ * independently of the others.
+ */
+@Service
+public class BrokenLaunchesServiceImpl implements BrokenLaunchesService {
+
+  private static final String BROKEN_LAUNCHES_QUERY = "SELECT l.id FROM launch l "
+      + "WHERE l.project_id = ? AND l.status = 'IN_PROGRESS' AND l.start_time < ? "
+      + "AND NOT exists(SELECT 1 FROM test_item ti "
+      + "JOIN test_item_results r ON ti.item_id = r.result_id "
+      + "WHERE ti.launch_id = l.id AND r.status = 'IN_PROGRESS' AND ti.start_time > ?) "
+      + "AND NOT exists(SELECT 1 FROM log lg JOIN test_item ti ON lg.item_id = ti.item_id "
+      + "JOIN test_item_results r ON ti.item_id = r.result_id "
+      + "WHERE ti.launch_id = l.id AND r.status = 'IN_PROGRESS' AND lg.log_time > ?) "
+      + "ORDER BY l.id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LaunchRepository launchRepository;
+  private final TestItemRepository testItemRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final JpaInstantConverter instantConverter = new JpaInstantConverter();
+
+  public BrokenLaunchesServiceImpl(JdbcTemplate jdbcTemplate, LaunchRepository launchRepository,
+      TestItemRepository testItemRepository, ApplicationEventPublisher eventPublisher) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.launchRepository = launchRepository;
+    this.testItemRepository = testItemRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Long> findBrokenLaunches(Long projectId, Instant threshold) {
+    final Timestamp time = instantConverter.convertToDatabaseColumn(threshold);
+    return jdbcTemplate.queryForList(BROKEN_LAUNCHES_QUERY, Long.class, projectId, time, time,
+        time);
+  }
+
+  @Override
+  @Transactional
+  public boolean interrupt(Long launchId) {
+    Optional<Launch> inProgress = launchRepository.findById(launchId)
+        .filter(launch -> StatusEnum.IN_PROGRESS == launch.getStatus());
+    inProgress.ifPresent(launch -> {
+      testItemRepository.interruptInProgressItems(launchId);
+      launch.setStatus(StatusEnum.INTERRUPTED);
+      launch.setEndTime(Instant.now());
+      launchRepository.save(launch);
+      eventPublisher.publishEvent(new LaunchFinishedEvent(launch));
+      eventPublisher.publishEvent(
+          new LaunchFinishedPluginEvent(launch.getId(), launch.getProjectId()));
+    });
+    return inProgress.isPresent();
+  }
+}
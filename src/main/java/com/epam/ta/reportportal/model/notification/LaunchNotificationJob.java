@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.model.notification;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+
+/**
+ * Launch finish email notification to be sent by the notification sender.
+ */
+public class LaunchNotificationJob {
+
+  @JsonProperty(value = "integrationId")
+  private Long integrationId;
+
+  @JsonProperty(value = "launchId")
+  private Long launchId;
+
+  @JsonProperty(value = "projectId")
+  private Long projectId;
+
+  @JsonProperty(value = "url")
+  private String url;
+
+  @JsonProperty(value = "recipients")
+  private String[] recipients;
+
+  /* Creation time in epoch milliseconds */
+  @JsonProperty(value = "createdAt")
+  private long createdAt;
+
+  public LaunchNotificationJob() {
+  }
+
+  public LaunchNotificationJob(Long integrationId, Long launchId, Long projectId, String url,
+      String[] recipients) {
+    this.integrationId = integrationId;
+    this.launchId = launchId;
+    this.projectId = projectId;
+    this.url = url;
+    this.recipients = recipients;
+    this.createdAt = System.currentTimeMillis();
+  }
+
+  public Long getIntegrationId() {
+    return integrationId;
+  }
+
+  public void setIntegrationId(Long integrationId) {
+    this.integrationId = integrationId;
+  }
+
+  public Long getLaunchId() {
+    return launchId;
+  }
+
+  public void setLaunchId(Long launchId) {
+    this.launchId = launchId;
+  }
+
+  public Long getProjectId() {
+    return projectId;
+  }
+
+  public void setProjectId(Long projectId) {
+    this.projectId = projectId;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public String[] getRecipients() {
+    return recipients;
+  }
+
+  public void setRecipients(String[] recipients) {
+    this.recipients = recipients;
+  }
+
+  public long getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  @Override
+  public String toString() {
+    return "LaunchNotificationJob{" +
+        "integrationId=" + integrationId +
+        ", launchId=" + launchId +
+        ", projectId=" + projectId +
+        ", url='" + url + '\'' +
+        ", recipients=" + Arrays.toString(recipients) +
+        ", createdAt=" + createdAt +
+        '}';
+  }
+}
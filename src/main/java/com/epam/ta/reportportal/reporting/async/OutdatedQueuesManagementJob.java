@@ -15,18 +15,16 @@
  */
 package com.epam.ta.reportportal.reporting.async;
 
-import static com.epam.ta.reportportal.reporting.async.config.ReportingTopologyConfiguration.DEFAULT_QUEUE_ROUTING_KEY;
 import static com.epam.ta.reportportal.reporting.async.config.ReportingTopologyConfiguration.REPORTING_EXCHANGE;
 import static com.epam.ta.reportportal.reporting.async.config.ReportingTopologyConfiguration.REPORTING_QUEUE_PREFIX;
 
+import com.epam.ta.reportportal.reporting.async.topology.ReportingTopologyManager;
 import com.rabbitmq.http.client.Client;
 import com.rabbitmq.http.client.domain.QueueInfo;
 import com.rabbitmq.http.client.domain.ShovelDetails;
 import com.rabbitmq.http.client.domain.ShovelInfo;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.springframework.amqp.core.Queue;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -39,18 +37,18 @@ public class OutdatedQueuesManagementJob {
 
   private final Client managementClient;
 
-  private final List<String> queues;
+  private final ReportingTopologyManager topologyManager;
 
   private final String address;
 
   private final String vhost;
 
   public OutdatedQueuesManagementJob(Client managementClient,
-      @Qualifier("reportingQueues") List<Queue> currentReportingQueues,
+      ReportingTopologyManager topologyManager,
       @Value("${rp.amqp.addresses}") String address,
       @Value("${rp.amqp.base-vhost}") String virtualHost) {
     this.managementClient = managementClient;
-    this.queues = currentReportingQueues.stream().map(Queue::getName).collect(Collectors.toList());
+    this.topologyManager = topologyManager;
     this.address = address;
     this.vhost = virtualHost;
   }
@@ -59,9 +57,10 @@ public class OutdatedQueuesManagementJob {
   @Scheduled(fixedDelay = 300_000, initialDelay = 60_000)
   public void run() {
     var idleQueues = getIdleQueues();
-    idleQueues.forEach(
-        q -> managementClient.unbindQueue(q.getVhost(), q.getName(), REPORTING_EXCHANGE,
-            DEFAULT_QUEUE_ROUTING_KEY));
+    idleQueues.forEach(q -> managementClient.getQueueBindingsBetween(q.getVhost(),
+            REPORTING_EXCHANGE, q.getName())
+        .forEach(b -> managementClient.unbindQueue(q.getVhost(), q.getName(), REPORTING_EXCHANGE,
+            b.getRoutingKey())));
 
     idleQueues.forEach(q -> {
       if (q.getMessagesReady() > 0) {
@@ -79,6 +78,7 @@ public class OutdatedQueuesManagementJob {
   }
 
   private List<QueueInfo> getIdleQueues() {
+    List<String> queues = topologyManager.getQueueNames();
     return managementClient.getQueues().stream()
         .filter(q -> !queues.contains(q.getName()) && q.getName().startsWith(REPORTING_QUEUE_PREFIX)
             && q.getConsumerCount() == 0).collect(
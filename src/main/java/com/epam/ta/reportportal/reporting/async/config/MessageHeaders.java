@@ -32,6 +32,7 @@ public final class MessageHeaders {
   public static final String XD_HEADER = "x-death";
   public static final String BASE_URL = "baseUrl";
   public static final String LIMIT = "limit";
+  public static final String TOPOLOGY_BARRIER = "topologyBarrier";
 
   private MessageHeaders() {
     //static only
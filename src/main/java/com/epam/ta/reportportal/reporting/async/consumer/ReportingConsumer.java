@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.reporting.async.config.RequestType;
 import com.epam.ta.reportportal.reporting.async.handler.ReportingMessageHandler;
 import com.epam.ta.reportportal.reporting.async.handler.provider.ReportingHandlerProvider;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageListener;
 import org.springframework.stereotype.Component;
@@ -39,9 +40,18 @@ public class ReportingConsumer implements MessageListener {
 
   @Override
   public void onMessage(Message message) {
+    consume(message).join();
+  }
+
+  /**
+   * @param message Reporting message
+   * @return Future that is completed when the message is processed and can be acknowledged
+   */
+  public CompletableFuture<Void> consume(Message message) {
     RequestType requestType = getRequestType(message);
     Optional<ReportingMessageHandler> messageHandler = handlerProvider.provideHandler(requestType);
-    messageHandler.ifPresent(handler -> handler.handleMessage(message));
+    return messageHandler.map(handler -> handler.handleMessageAsync(message))
+        .orElseGet(() -> CompletableFuture.completedFuture(null));
   }
 
   private RequestType getRequestType(Message message) {
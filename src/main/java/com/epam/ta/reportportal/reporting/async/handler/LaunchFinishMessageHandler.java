@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.reporting.async.handler;
 import com.epam.ta.reportportal.auth.basic.DatabaseUserDetailsService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.log.batch.LogBatchSaver;
 import com.epam.ta.reportportal.reporting.async.config.MessageHeaders;
 import com.epam.ta.reportportal.reporting.async.message.MessageRetriever;
 import com.epam.ta.reportportal.util.ProjectExtractor;
@@ -38,14 +39,17 @@ public class LaunchFinishMessageHandler implements ReportingMessageHandler {
   private final FinishLaunchHandler finishLaunchHandler;
   private final ProjectExtractor projectExtractor;
   private final DatabaseUserDetailsService userDetailsService;
+  private final LogBatchSaver logBatchSaver;
 
   public LaunchFinishMessageHandler(MessageRetriever retriever,
       FinishLaunchHandler finishLaunchHandler,
-      ProjectExtractor projectExtractor, DatabaseUserDetailsService userDetailsService) {
+      ProjectExtractor projectExtractor, DatabaseUserDetailsService userDetailsService,
+      LogBatchSaver logBatchSaver) {
     this.retriever = retriever;
     this.finishLaunchHandler = finishLaunchHandler;
     this.projectExtractor = projectExtractor;
     this.userDetailsService = userDetailsService;
+    this.logBatchSaver = logBatchSaver;
   }
 
   @Override
@@ -61,6 +65,9 @@ public class LaunchFinishMessageHandler implements ReportingMessageHandler {
       String launchId = (String) headers.get(MessageHeaders.LAUNCH_ID);
       String baseUrl = (String) headers.get(MessageHeaders.BASE_URL);
 
+      // logs of the launch are saved in background, they should be persisted before finishing
+      logBatchSaver.awaitLaunchLogs(launchId);
+
       ReportPortalUser user = (ReportPortalUser) userDetailsService.loadUserByUsername(username);
       finishLaunchHandler.finishLaunch(launchId, rq,
           projectExtractor.extractProjectDetails(user, projectName), user, baseUrl);
@@ -16,22 +16,17 @@
 
 package com.epam.ta.reportportal.reporting.async.handler;
 
-import static com.epam.ta.reportportal.ws.converter.converters.LogConverter.LOG_FULL_TO_LOG;
-
 import com.epam.reportportal.rules.exception.ErrorType;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
 import com.epam.ta.reportportal.core.configs.rabbit.DeserializablePair;
-import com.epam.ta.reportportal.core.item.TestItemService;
-import com.epam.ta.reportportal.core.log.LogService;
-import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.core.launch.cache.CachedLaunch;
+import com.epam.ta.reportportal.core.launch.cache.CachedTestItem;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
+import com.epam.ta.reportportal.core.log.batch.LogBatchSaver;
+import com.epam.ta.reportportal.core.log.batch.PendingLog;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
-import com.epam.ta.reportportal.entity.item.TestItem;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.log.LogFull;
 import com.epam.ta.reportportal.reporting.async.config.MessageHeaders;
 import com.epam.ta.reportportal.reporting.async.message.MessageRetriever;
@@ -45,6 +40,8 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,39 +56,41 @@ public class LogMessageHandler implements ReportingMessageHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(
       MessageRetriever.class);
-  private final LaunchRepository launchRepository;
-  private final TestItemRepository testItemRepository;
-  private final LogRepository logRepository;
-  private final TestItemService testItemService;
+  private final ReportingEntityCache reportingEntityCache;
   private final AttachmentBinaryDataService attachmentBinaryDataService;
-  private final LogService logService;
+  private final LogBatchSaver logBatchSaver;
   private final ObjectMapper objectMapper;
 
-  public LogMessageHandler(LaunchRepository launchRepository, TestItemRepository testItemRepository,
-      LogRepository logRepository, TestItemService testItemService,
-      AttachmentBinaryDataService attachmentBinaryDataService, LogService logService,
+  public LogMessageHandler(ReportingEntityCache reportingEntityCache,
+      AttachmentBinaryDataService attachmentBinaryDataService, LogBatchSaver logBatchSaver,
       ObjectMapper objectMapper) {
-    this.launchRepository = launchRepository;
-    this.testItemRepository = testItemRepository;
-    this.logRepository = logRepository;
-    this.testItemService = testItemService;
+    this.reportingEntityCache = reportingEntityCache;
     this.attachmentBinaryDataService = attachmentBinaryDataService;
-    this.logService = logService;
+    this.logBatchSaver = logBatchSaver;
     this.objectMapper = objectMapper;
   }
 
   @Override
   public void handleMessage(Message message) {
+    handleMessageAsync(message).join();
+  }
+
+  /**
+   * Submits the log to the {@link LogBatchSaver}. The returned future is completed when the log is
+   * saved, so the message is not acknowledged before that.
+   */
+  @Override
+  public CompletableFuture<Void> handleMessageAsync(Message message) {
     String incomeMessage = new String(message.getBody(), StandardCharsets.UTF_8);
     Optional<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>> payload = retrieveMessage(
         incomeMessage);
-    payload.ifPresent(p -> {
+    return payload.map(p -> {
       Map<String, Object> headers = message.getMessageProperties().getHeaders();
       Long projectId = (Long) headers.get(MessageHeaders.PROJECT_ID);
       SaveLogRQ rq = p.getLeft();
       BinaryDataMetaInfo metaInfo = p.getRight();
-      handleLog(rq, metaInfo, projectId);
-    });
+      return handleLog(rq, metaInfo, projectId);
+    }).orElseGet(() -> CompletableFuture.completedFuture(null));
   }
 
   private Optional<DeserializablePair<SaveLogRQ, BinaryDataMetaInfo>> retrieveMessage(
@@ -109,60 +108,56 @@ public class LogMessageHandler implements ReportingMessageHandler {
     return Optional.empty();
   }
 
-  private void handleLog(SaveLogRQ request, BinaryDataMetaInfo metaInfo, Long projectId) {
-    Optional<TestItem> itemOptional = testItemRepository.findByUuid(request.getItemUuid());
+  private CompletableFuture<Void> handleLog(SaveLogRQ request, BinaryDataMetaInfo metaInfo,
+      Long projectId) {
+    Optional<CachedTestItem> itemOptional = reportingEntityCache.findItem(request.getItemUuid());
 
     if (StringUtils.isNotEmpty(request.getItemUuid()) && itemOptional.isEmpty()) {
       throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, request.getItemUuid());
     }
 
     if (itemOptional.isPresent()) {
-      createItemLog(request, itemOptional.get(), metaInfo, projectId);
-    } else {
-      Launch launch = launchRepository.findByUuid(request.getLaunchUuid())
-          .orElseThrow(
-              () -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid()));
-      createLaunchLog(request, launch, metaInfo, projectId);
+      return createItemLog(request, itemOptional.get(), metaInfo, projectId);
     }
+    CachedLaunch launch = reportingEntityCache.findLaunch(request.getLaunchUuid())
+        .orElseThrow(
+            () -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, request.getLaunchUuid()));
+    return createLaunchLog(request, launch, metaInfo, projectId);
   }
 
-  private void createItemLog(SaveLogRQ request, TestItem item, BinaryDataMetaInfo metaInfo,
-      Long projectId) {
-    LogFull logFull = new LogFullBuilder().addSaveLogRq(request).addTestItem(item)
+  private CompletableFuture<Void> createItemLog(SaveLogRQ request, CachedTestItem item,
+      BinaryDataMetaInfo metaInfo, Long projectId) {
+    LogFull logFull = new LogFullBuilder().addSaveLogRq(request).addTestItem(item.toReference())
         .addProjectId(projectId).get();
-    Log log = LOG_FULL_TO_LOG.apply(logFull);
-    logRepository.save(log);
-    logFull.setId(log.getId());
-    Launch effectiveLaunch = testItemService.getEffectiveLaunch(item);
-    logService.saveLogMessage(logFull, effectiveLaunch.getId());
-
-    if (request.getFile() != null) {
-      saveAttachment(request.getFile().getName(), metaInfo,
-          logFull.getId(),
-          projectId,
-          effectiveLaunch.getId(),
-          item.getItemId(),
-          effectiveLaunch.getUuid(),
-          logFull.getUuid()
-      );
-    }
+    CachedLaunch effectiveLaunch = reportingEntityCache.findLaunch(item.getLaunchId())
+        .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND));
+
+    Consumer<LogFull> afterSave = request.getFile() == null ? null
+        : savedLog -> saveAttachment(request.getFile().getName(), metaInfo,
+            savedLog.getId(),
+            projectId,
+            effectiveLaunch.getId(),
+            item.getItemId(),
+            effectiveLaunch.getUuid(),
+            savedLog.getUuid()
+        );
+    return logBatchSaver.submit(
+        new PendingLog(logFull, effectiveLaunch.getId(), effectiveLaunch.getUuid(), afterSave));
   }
 
-  private void createLaunchLog(SaveLogRQ request, Launch launch, BinaryDataMetaInfo metaInfo,
-      Long projectId) {
-    LogFull logFull = new LogFullBuilder().addSaveLogRq(request).addLaunch(launch)
+  private CompletableFuture<Void> createLaunchLog(SaveLogRQ request, CachedLaunch launch,
+      BinaryDataMetaInfo metaInfo, Long projectId) {
+    LogFull logFull = new LogFullBuilder().addSaveLogRq(request).addLaunch(launch.toReference())
         .addProjectId(projectId).get();
-    Log log = LOG_FULL_TO_LOG.apply(logFull);
-    logRepository.save(log);
-    logFull.setId(log.getId());
-    logService.saveLogMessage(logFull, launch.getId());
-
-    if (request.getFile() != null) {
-      saveAttachment(request.getFile().getName(), metaInfo, logFull.getId(), projectId,
-          launch.getId(),
-          null, launch.getUuid(),
-          logFull.getUuid());
-    }
+
+    Consumer<LogFull> afterSave = request.getFile() == null ? null
+        : savedLog -> saveAttachment(request.getFile().getName(), metaInfo, savedLog.getId(),
+            projectId,
+            launch.getId(),
+            null, launch.getUuid(),
+            savedLog.getUuid());
+    return logBatchSaver.submit(
+        new PendingLog(logFull, launch.getId(), launch.getUuid(), afterSave));
   }
 
   private void saveAttachment(String fileName, BinaryDataMetaInfo metaInfo, Long logId,
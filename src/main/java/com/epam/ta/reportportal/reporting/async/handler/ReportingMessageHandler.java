@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.reporting.async.handler;
 
+import java.util.concurrent.CompletableFuture;
 import org.springframework.amqp.core.Message;
 
 /**
@@ -25,4 +26,16 @@ public interface ReportingMessageHandler {
 
   void handleMessage(Message message);
 
+  /**
+   * Handles the message. The message is acknowledged after the returned future is completed, so
+   * handlers that finish processing in background can defer the acknowledgement.
+   *
+   * @param message Reporting message
+   * @return Future that is completed when the message is processed
+   */
+  default CompletableFuture<Void> handleMessageAsync(Message message) {
+    handleMessage(message);
+    return CompletableFuture.completedFuture(null);
+  }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Runtime state of a reporting queue of the current instance.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportingQueueInfo {
+
+  private final String name;
+
+  private final int weight;
+
+  private final long depth;
+
+  private final long processed;
+
+  private final double meanProcessingMs;
+
+  private final double maxProcessingMs;
+
+  private final boolean active;
+}
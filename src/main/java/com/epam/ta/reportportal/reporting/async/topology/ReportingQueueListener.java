@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import com.epam.ta.reportportal.reporting.async.config.MessageHeaders;
+import com.epam.ta.reportportal.reporting.async.consumer.ReportingConsumer;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Listener of a single reporting queue. Records processing metrics of the queue and holds messages
+ * while a {@link TopologyBarrier} of the queue is not passed. The listener waits for a barrier at
+ * most once: if the barrier is not passed during the timeout, e.g. another queue is backlogged,
+ * the queue continues consuming instead of holding every following message. Processing time is
+ * measured until the message processing is completed, including the wait for the batch it is
+ * saved with.
+ * <p>
+ * Messages are acknowledged manually when their processing is completed, which can happen after
+ * the listener returns, e.g. when a log is saved by a batch. Failed messages are passed to the
+ * error handler, which publishes them for a retry or to the parking lot, and then acknowledged.
+ */
+@Slf4j
+class ReportingQueueListener implements ChannelAwareMessageListener {
+
+  private final String queueName;
+
+  private final ReportingConsumer delegate;
+
+  private final Supplier<TopologyBarrier> barrierSupplier;
+
+  private final Timer processingTimer;
+
+  private final long barrierTimeoutMs;
+
+  private final ErrorHandler errorHandler;
+
+  private final AtomicLong awaitedEpoch = new AtomicLong(-1);
+
+  ReportingQueueListener(String queueName, ReportingConsumer delegate,
+      Supplier<TopologyBarrier> barrierSupplier, Timer processingTimer, long barrierTimeoutMs,
+      ErrorHandler errorHandler) {
+    this.queueName = queueName;
+    this.delegate = delegate;
+    this.barrierSupplier = barrierSupplier;
+    this.processingTimer = processingTimer;
+    this.barrierTimeoutMs = barrierTimeoutMs;
+    this.errorHandler = errorHandler;
+  }
+
+  @Override
+  public void onMessage(Message message, Channel channel) {
+    long deliveryTag = message.getMessageProperties().getDeliveryTag();
+    TopologyBarrier barrier = barrierSupplier.get();
+    Object barrierEpoch = message.getMessageProperties().getHeader(MessageHeaders.TOPOLOGY_BARRIER);
+    if (barrierEpoch != null) {
+      if (barrier != null && barrier.getEpoch() == ((Number) barrierEpoch).longValue()) {
+        barrier.pass(queueName);
+      }
+      acknowledge(channel, deliveryTag);
+      return;
+    }
+    if (barrier != null && !barrier.isComplete() && !barrier.isPending(queueName)
+        && awaitedEpoch.getAndSet(barrier.getEpoch()) != barrier.getEpoch()) {
+      awaitBarrier(barrier);
+    }
+    Timer.Sample processing = Timer.start();
+    CompletableFuture<Void> completion;
+    try {
+      completion = delegate.consume(message);
+    } catch (RuntimeException e) {
+      completion = CompletableFuture.failedFuture(e);
+    }
+    completion.whenComplete((result, e) -> {
+      processing.stop(processingTimer);
+      if (e != null) {
+        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+        errorHandler.handleError(new ListenerExecutionFailedException(
+            "Reporting message of the queue " + queueName + " was not processed", cause, message));
+      }
+      acknowledge(channel, deliveryTag);
+    });
+  }
+
+  private void acknowledge(Channel channel, long deliveryTag) {
+    try {
+      channel.basicAck(deliveryTag, false);
+    } catch (Exception e) {
+      log.warn("Unable to acknowledge message {} of queue {}", deliveryTag, queueName, e);
+    }
+  }
+
+  private void awaitBarrier(TopologyBarrier barrier) {
+    try {
+      if (!barrier.await(barrierTimeoutMs)) {
+        log.warn("Topology barrier {} was not passed in {} ms, queue {} continues consuming",
+            barrier.getEpoch(), barrierTimeoutMs, queueName);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
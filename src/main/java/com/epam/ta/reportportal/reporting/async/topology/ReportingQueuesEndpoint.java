@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for the reporting queues of the instance.
+ */
+@Component
+@Endpoint(id = "reportingqueues")
+public class ReportingQueuesEndpoint {
+
+  private final ReportingTopologyManager topologyManager;
+
+  public ReportingQueuesEndpoint(ReportingTopologyManager topologyManager) {
+    this.topologyManager = topologyManager;
+  }
+
+  @ReadOperation
+  public List<ReportingQueueInfo> queues() {
+    return topologyManager.getQueuesInfo();
+  }
+
+  @WriteOperation
+  public ReportingQueueInfo addQueue(@Nullable Integer weight) {
+    return Optional.ofNullable(weight).map(topologyManager::addQueue)
+        .orElseGet(topologyManager::addQueue);
+  }
+
+  @WriteOperation
+  public ReportingQueueInfo changeWeight(@Selector String queueName, int weight) {
+    return topologyManager.changeWeight(queueName, weight);
+  }
+
+  @DeleteOperation
+  public void removeQueue(@Selector String queueName) {
+    topologyManager.removeQueue(queueName);
+  }
+}
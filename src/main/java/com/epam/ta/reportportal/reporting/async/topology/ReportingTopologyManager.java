@@ -0,0 +1,410 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import static com.epam.ta.reportportal.reporting.async.config.ReportingTopologyConfiguration.DEFAULT_QUEUE_ROUTING_KEY;
+import static com.epam.ta.reportportal.reporting.async.config.ReportingTopologyConfiguration.REPORTING_QUEUE_PREFIX;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.reporting.async.config.MessageHeaders;
+import com.epam.ta.reportportal.reporting.async.consumer.ReportingConsumer;
+import com.epam.ta.reportportal.reporting.async.exception.ReportingErrorHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Exchange;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Owns reporting queues of the current instance that are bound to the consistent hash reporting
+ * exchange. Each queue has its own listener container with one exclusive consumer. Queues can be
+ * added, removed and re-weighted at runtime. Every change of the hash ring is guarded with a
+ * {@link TopologyBarrier}, so messages of a launch that moved between queues of this instance are
+ * processed in order. Moves between queues of different instances rely on the reporting retries.
+ * <p>
+ * Per queue metrics: depth ({@code rp.reporting.queue.depth}), processed messages and processing
+ * latency ({@code rp.reporting.queue.processing}).
+ */
+@Slf4j
+@Component
+public class ReportingTopologyManager implements InitializingBean, DisposableBean {
+
+  private static final String QUEUE_TAG = "queue";
+
+  private final ConnectionFactory connectionFactory;
+
+  private final AmqpAdmin amqpAdmin;
+
+  private final RabbitTemplate rabbitTemplate;
+
+  private final Exchange reportingExchange;
+
+  private final ReportingConsumer reportingListener;
+
+  private final ReportingErrorHandler errorHandler;
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  private final MeterRegistry meterRegistry;
+
+  private final String instanceUniqueId;
+
+  private final int initialQueuesCount;
+
+  private final int defaultWeight;
+
+  private final int prefetchCount;
+
+  private final long barrierTimeoutMs;
+
+  private final Map<String, ManagedQueue> queues = new LinkedHashMap<>();
+
+  private final AtomicInteger queueIndex = new AtomicInteger();
+
+  private final AtomicLong epoch = new AtomicLong();
+
+  private volatile TopologyBarrier barrier;
+
+  public ReportingTopologyManager(ConnectionFactory connectionFactory, AmqpAdmin amqpAdmin,
+      RabbitTemplate rabbitTemplate,
+      @Qualifier("reportingConsistentExchange") Exchange reportingExchange,
+      @Qualifier("reportingListener") ReportingConsumer reportingListener,
+      ReportingErrorHandler errorHandler, ApplicationEventPublisher applicationEventPublisher,
+      MeterRegistry meterRegistry, @Qualifier("instanceUniqueId") String instanceUniqueId,
+      @Value("${reporting.queues.count:10}") int initialQueuesCount,
+      @Value("${reporting.queues.weight:" + DEFAULT_QUEUE_ROUTING_KEY + "}") int defaultWeight,
+      @Value("${reporting.consumer.prefetchCount:10}") int prefetchCount,
+      @Value("${rp.environment.variable.log-batch.size:500}") int logBatchSize,
+      @Value("${reporting.queues.barrier-timeout-ms:60000}") long barrierTimeoutMs) {
+    this.connectionFactory = connectionFactory;
+    this.amqpAdmin = amqpAdmin;
+    this.rabbitTemplate = rabbitTemplate;
+    this.reportingExchange = reportingExchange;
+    this.reportingListener = reportingListener;
+    this.errorHandler = errorHandler;
+    this.applicationEventPublisher = applicationEventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.instanceUniqueId = instanceUniqueId;
+    this.initialQueuesCount = initialQueuesCount;
+    this.defaultWeight = defaultWeight;
+    // logs are acknowledged after their batch is saved, so the window of unacknowledged messages
+    // should be big enough to fill the batch, otherwise every batch waits for the flush interval
+    this.prefetchCount = Math.max(prefetchCount, logBatchSize);
+    this.barrierTimeoutMs = barrierTimeoutMs;
+  }
+
+  @Override
+  public synchronized void afterPropertiesSet() {
+    for (int i = 0; i < initialQueuesCount; i++) {
+      ManagedQueue managedQueue = createQueue(defaultWeight);
+      amqpAdmin.declareBinding(managedQueue.binding);
+    }
+  }
+
+  /**
+   * Unbinds and removes all the queues of the instance.
+   */
+  @Override
+  public synchronized void destroy() {
+    queues.values().forEach(q -> {
+      q.container.stop();
+      amqpAdmin.removeBinding(q.binding);
+      amqpAdmin.deleteQueue(q.queue.getName(), true, true);
+      removeMeters(q);
+    });
+    queues.clear();
+  }
+
+  /**
+   * @return Names of the reporting queues of the instance
+   */
+  public synchronized List<String> getQueueNames() {
+    return new ArrayList<>(queues.keySet());
+  }
+
+  /**
+   * @return Current state of the reporting queues of the instance
+   */
+  public synchronized List<ReportingQueueInfo> getQueuesInfo() {
+    return queues.values().stream().map(ManagedQueue::toInfo).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates a new queue with the default weight.
+   *
+   * @return Created queue state
+   */
+  public ReportingQueueInfo addQueue() {
+    return addQueue(defaultWeight);
+  }
+
+  /**
+   * Creates a new queue, starts its consumer and binds it to the reporting exchange.
+   *
+   * @param weight Weight of the queue in the consistent hash ring
+   * @return Created queue state
+   */
+  public synchronized ReportingQueueInfo addQueue(int weight) {
+    validateWeight(weight);
+    ManagedQueue managedQueue = createQueue(weight);
+    List<String> existing = queues.keySet().stream()
+        .filter(name -> !name.equals(managedQueue.queue.getName())).collect(Collectors.toList());
+    changeRing(existing, () -> amqpAdmin.declareBinding(managedQueue.binding));
+    log.info("Reporting queue {} with weight {} was added", managedQueue.queue.getName(), weight);
+    return managedQueue.toInfo();
+  }
+
+  /**
+   * Changes weight of the queue in the consistent hash ring.
+   *
+   * @param queueName Name of the queue
+   * @param weight    New weight
+   * @return Updated queue state
+   */
+  public synchronized ReportingQueueInfo changeWeight(String queueName, int weight) {
+    validateWeight(weight);
+    ManagedQueue managedQueue = getQueue(queueName);
+    Binding oldBinding = managedQueue.binding;
+    Binding newBinding = buildBinding(managedQueue.queue, weight);
+    changeRing(getQueueNames(), () -> {
+      amqpAdmin.declareBinding(newBinding);
+      amqpAdmin.removeBinding(oldBinding);
+    });
+    managedQueue.binding = newBinding;
+    managedQueue.weight = weight;
+    log.info("Weight of reporting queue {} was changed to {}", queueName, weight);
+    return managedQueue.toInfo();
+  }
+
+  /**
+   * Unbinds the queue from the reporting exchange and removes it after all its messages are
+   * processed. If the topology barrier is not passed in time or the queue still has messages, the
+   * queue is bound back and kept.
+   *
+   * @param queueName Name of the queue
+   */
+  public synchronized void removeQueue(String queueName) {
+    ManagedQueue managedQueue = getQueue(queueName);
+    if (queues.size() == 1) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "The last reporting queue of the instance cannot be removed");
+    }
+    TopologyBarrier removalBarrier = changeRing(getQueueNames(),
+        () -> amqpAdmin.removeBinding(managedQueue.binding));
+    if (!awaitBarrier(removalBarrier)) {
+      amqpAdmin.declareBinding(managedQueue.binding);
+      throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+          "Reporting queue '" + queueName + "' was not drained in " + barrierTimeoutMs
+              + " ms, removal is aborted");
+    }
+
+    managedQueue.container.stop();
+    try {
+      amqpAdmin.deleteQueue(queueName, false, true);
+    } catch (AmqpException e) {
+      amqpAdmin.declareBinding(managedQueue.binding);
+      managedQueue.container.start();
+      throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR,
+          "Reporting queue '" + queueName + "' is not empty, removal is aborted");
+    }
+    removeMeters(managedQueue);
+    queues.remove(queueName);
+    log.info("Reporting queue {} was removed", queueName);
+  }
+
+  /**
+   * Refreshes depth of the queues. Depth is retrieved with passive declaration over AMQP, so the
+   * management API is not required.
+   */
+  @Scheduled(fixedDelayString = "${reporting.queues.metrics-refresh-ms:10000}")
+  public void refreshDepth() {
+    List<ManagedQueue> current;
+    synchronized (this) {
+      current = new ArrayList<>(queues.values());
+    }
+    current.forEach(q -> {
+      try {
+        QueueInformation info = amqpAdmin.getQueueInfo(q.queue.getName());
+        q.depth.set(Optional.ofNullable(info).map(QueueInformation::getMessageCount).orElse(0));
+      } catch (Exception e) {
+        log.debug("Unable to retrieve depth of the queue {}", q.queue.getName(), e);
+      }
+    });
+  }
+
+  private TopologyBarrier changeRing(List<String> affectedQueues, Runnable bindingChange) {
+    TopologyBarrier previous = barrier;
+    if (previous != null && !previous.isComplete()) {
+      awaitBarrier(previous);
+    }
+    TopologyBarrier newBarrier = new TopologyBarrier(epoch.incrementAndGet(), affectedQueues);
+    barrier = newBarrier;
+    bindingChange.run();
+    affectedQueues.forEach(queueName -> rabbitTemplate.send("", queueName,
+        MessageBuilder.withBody(new byte[0])
+            .setHeader(MessageHeaders.TOPOLOGY_BARRIER, newBarrier.getEpoch())
+            .build()));
+    return newBarrier;
+  }
+
+  /**
+   * @return {@code true} if the barrier was passed during the timeout
+   */
+  private boolean awaitBarrier(TopologyBarrier topologyBarrier) {
+    try {
+      if (topologyBarrier.await(barrierTimeoutMs)) {
+        return true;
+      }
+      log.warn("Topology barrier {} was not passed in {} ms", topologyBarrier.getEpoch(),
+          barrierTimeoutMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  private ManagedQueue createQueue(int weight) {
+    String queueName = REPORTING_QUEUE_PREFIX + instanceUniqueId + "." + queueIndex.getAndIncrement();
+    Queue queue = QueueBuilder.durable(queueName).build();
+    queue.setShouldDeclare(true);
+    queue.setAdminsThatShouldDeclare(amqpAdmin);
+    amqpAdmin.declareQueue(queue);
+
+    ManagedQueue managedQueue = new ManagedQueue(queue, buildBinding(queue, weight), weight);
+    Tags tags = Tags.of(QUEUE_TAG, queueName);
+    managedQueue.processingTimer = Timer.builder("rp.reporting.queue.processing")
+        .description("Processing time of reporting messages")
+        .tags(tags)
+        .register(meterRegistry);
+    managedQueue.depthGauge = Gauge.builder("rp.reporting.queue.depth", managedQueue.depth,
+            AtomicLong::get)
+        .description("Number of reporting messages ready for delivery")
+        .tags(tags)
+        .register(meterRegistry);
+
+    managedQueue.container = createContainer(queueName,
+        new ReportingQueueListener(queueName, reportingListener, () -> barrier,
+            managedQueue.processingTimer, barrierTimeoutMs, errorHandler));
+    managedQueue.container.start();
+
+    queues.put(queueName, managedQueue);
+    return managedQueue;
+  }
+
+  SimpleMessageListenerContainer createContainer(String queueName,
+      ChannelAwareMessageListener listener) {
+    SimpleMessageListenerContainer listenerContainer = new SimpleMessageListenerContainer(
+        connectionFactory);
+    listenerContainer.addQueueNames(queueName);
+    listenerContainer.setErrorHandler(errorHandler);
+    listenerContainer.setExclusive(true);
+    listenerContainer.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    listenerContainer.setPrefetchCount(prefetchCount);
+    listenerContainer.setDefaultRequeueRejected(false);
+    listenerContainer.setMissingQueuesFatal(true);
+    listenerContainer.setApplicationEventPublisher(applicationEventPublisher);
+    listenerContainer.setupMessageListener(listener);
+    listenerContainer.afterPropertiesSet();
+    return listenerContainer;
+  }
+
+  private Binding buildBinding(Queue queue, int weight) {
+    Binding queueBinding = BindingBuilder.bind(queue).to(reportingExchange)
+        .with(String.valueOf(weight)).noargs();
+    queueBinding.setShouldDeclare(true);
+    queueBinding.setAdminsThatShouldDeclare(amqpAdmin);
+    return queueBinding;
+  }
+
+  private ManagedQueue getQueue(String queueName) {
+    return Optional.ofNullable(queues.get(queueName)).orElseThrow(
+        () -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Reporting queue '" + queueName + "' is not found"));
+  }
+
+  private void validateWeight(int weight) {
+    if (weight < 1) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Weight of a reporting queue should be positive");
+    }
+  }
+
+  private void removeMeters(ManagedQueue managedQueue) {
+    meterRegistry.remove(managedQueue.processingTimer);
+    meterRegistry.remove(managedQueue.depthGauge);
+  }
+
+  private static class ManagedQueue {
+
+    private final Queue queue;
+
+    private final AtomicLong depth = new AtomicLong();
+
+    private Binding binding;
+
+    private int weight;
+
+    private SimpleMessageListenerContainer container;
+
+    private Timer processingTimer;
+
+    private Gauge depthGauge;
+
+    ManagedQueue(Queue queue, Binding binding, int weight) {
+      this.queue = queue;
+      this.binding = binding;
+      this.weight = weight;
+    }
+
+    ReportingQueueInfo toInfo() {
+      return new ReportingQueueInfo(queue.getName(), weight, depth.get(),
+          processingTimer.count(), processingTimer.mean(TimeUnit.MILLISECONDS),
+          processingTimer.max(TimeUnit.MILLISECONDS), container.isActive());
+    }
+  }
+}
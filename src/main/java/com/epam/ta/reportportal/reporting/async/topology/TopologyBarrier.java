@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Barrier of a reporting topology change. A barrier marker is sent to every queue that existed
+ * before the change. While the queue consumer has not reached its marker it processes messages
+ * published before the change. Messages consumed after the marker, and messages of queues created
+ * by the change, wait until all the markers are consumed, so messages of a launch that moved to
+ * another queue are not processed before its older messages.
+ */
+class TopologyBarrier {
+
+  private final long epoch;
+
+  private final Set<String> pendingQueues;
+
+  private final CountDownLatch latch;
+
+  TopologyBarrier(long epoch, Collection<String> queueNames) {
+    this.epoch = epoch;
+    this.pendingQueues = ConcurrentHashMap.newKeySet();
+    this.pendingQueues.addAll(queueNames);
+    this.latch = new CountDownLatch(pendingQueues.size());
+  }
+
+  long getEpoch() {
+    return epoch;
+  }
+
+  boolean isPending(String queueName) {
+    return pendingQueues.contains(queueName);
+  }
+
+  boolean isComplete() {
+    return latch.getCount() == 0;
+  }
+
+  void pass(String queueName) {
+    if (pendingQueues.remove(queueName)) {
+      latch.countDown();
+    }
+  }
+
+  /**
+   * @return {@code true} if all the markers were consumed during the timeout
+   */
+  boolean await(long timeoutMs) throws InterruptedException {
+    return latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+/**
+ * Eviction of an instance local cache broadcast to all the instances, see
+ * {@link CacheEvictionPublisher}.
+ */
+public class CacheEvictionEvent {
+
+  public enum Type {
+    API_KEY,
+    API_KEY_USER,
+    PROJECT_DETAILS_USER,
+    PROJECT_DETAILS_PROJECT
+  }
+
+  private Type type;
+
+  private Long id;
+
+  public CacheEvictionEvent() {
+  }
+
+  public CacheEvictionEvent(Type type, Long id) {
+    this.type = type;
+    this.id = id;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public void setType(Type type) {
+    this.type = type;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheEvictionEvent{type=" + type + ", id=" + id + '}';
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.EXCHANGE_EVENTS;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes evictions of the instance local caches to the broadcast exchange, so every instance
+ * evicts the changed entries and not only the one that changed them. If a transaction is active,
+ * the eviction is published after its commit, so other instances do not reload the entries
+ * before the change is visible.
+ */
+@Component
+public class CacheEvictionPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CacheEvictionPublisher.class);
+
+  private final MessageBus messageBus;
+
+  public CacheEvictionPublisher(MessageBus messageBus) {
+    this.messageBus = messageBus;
+  }
+
+  /**
+   * @param event Eviction to broadcast
+   */
+  public void publish(CacheEvictionEvent event) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          send(event);
+        }
+      });
+    } else {
+      send(event);
+    }
+  }
+
+  private void send(CacheEvictionEvent event) {
+    try {
+      messageBus.publish(EXCHANGE_EVENTS, "", event);
+    } catch (AmqpException e) {
+      LOGGER.warn("Unable to broadcast {}, other instances keep the entry until it expires", event,
+          e);
+    }
+  }
+}
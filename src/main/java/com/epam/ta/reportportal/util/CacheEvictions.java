@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Eviction of the instance local caches from the transactions that change the cached data.
+ */
+public final class CacheEvictions {
+
+  private CacheEvictions() {
+    //static only
+  }
+
+  /**
+   * Runs the eviction. If a transaction is active, the eviction is repeated after its completion,
+   * so values loaded by concurrent requests before the commit are not kept.
+   *
+   * @param eviction Eviction of the cached values
+   */
+  public static void evictWithTransaction(Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+}
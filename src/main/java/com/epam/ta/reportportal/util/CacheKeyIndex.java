@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the cache keys by a group, e.g. keys of the cached items by their launch, so the keys
+ * of a group are evicted without scanning the whole cache.
+ *
+ * @param <G> Type of the group
+ * @param <K> Type of the cache key
+ */
+public class CacheKeyIndex<G, K> {
+
+  private final Map<G, Set<K>> keys = new ConcurrentHashMap<>();
+
+  public void add(G group, K key) {
+    keys.compute(group, (g, groupKeys) -> {
+      Set<K> result = groupKeys == null ? ConcurrentHashMap.newKeySet() : groupKeys;
+      result.add(key);
+      return result;
+    });
+  }
+
+  public void remove(G group, K key) {
+    keys.computeIfPresent(group, (g, groupKeys) -> {
+      groupKeys.remove(key);
+      return groupKeys.isEmpty() ? null : groupKeys;
+    });
+  }
+
+  /**
+   * @param group Group
+   * @return Keys of the group, removed from the index
+   */
+  public Set<K> removeGroup(G group) {
+    Set<K> removed = keys.remove(group);
+    return removed == null ? Collections.emptySet() : removed;
+  }
+
+  public void clear() {
+    keys.clear();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
+import static com.epam.ta.reportportal.util.CacheEvictions.evictWithTransaction;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the project details of users, mapped by the user id and the normalized project
+ * name, so permission checks and {@link ProjectExtractor} do not query the project membership on
+ * every request. Only existing memberships are cached. Details of the project for administrators
+ * are cached without user id.
+ * <p>
+ * Entries are evicted on user assignment, unassignment, role change and deletion and on project
+ * deletion. Evictions are broadcast by {@link CacheEvictionPublisher}, so an unassigned user loses
+ * access to the project on every instance at once, and entries also expire after the configured
+ * time in case a broadcast is lost.
+ */
+@Component
+public class ProjectDetailsCache {
+
+  private final CacheEvictionPublisher evictionPublisher;
+
+  private final Cache<Key, ReportPortalUser.ProjectDetails> details;
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public ProjectDetailsCache(MeterRegistry meterRegistry, CacheEvictionPublisher evictionPublisher,
+      @Value("${rp.environment.variable.project-details.cache.size:10000}") long size,
+      @Value("${rp.environment.variable.project-details.cache.expire-seconds:60}")
+      long expireSeconds) {
+    this.evictionPublisher = evictionPublisher;
+    this.details = CacheBuilder.newBuilder()
+        .maximumSize(size)
+        .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+        .build();
+    this.hits = requests("hit", meterRegistry);
+    this.misses = requests("miss", meterRegistry);
+  }
+
+  /**
+   * @param userId      User id, {@code null} for administrator details of the project
+   * @param projectName Project name, the cache key is not case-sensitive
+   * @param loader      Loads the details if they are not cached
+   * @return {@link Optional} with the project details
+   */
+  public Optional<ReportPortalUser.ProjectDetails> get(Long userId, String projectName,
+      Supplier<Optional<ReportPortalUser.ProjectDetails>> loader) {
+    final Key key = new Key(userId, normalizeId(projectName));
+    ReportPortalUser.ProjectDetails cached = details.getIfPresent(key);
+    if (cached != null) {
+      hits.increment();
+      return Optional.of(cached);
+    }
+    misses.increment();
+    Optional<ReportPortalUser.ProjectDetails> loaded = loader.get();
+    loaded.ifPresent(it -> details.put(key, it));
+    return loaded;
+  }
+
+  /**
+   * Evicts project details of the user on all the instances. If a transaction is active, eviction
+   * is repeated after its completion, so details loaded by concurrent requests before the commit
+   * are not kept.
+   *
+   * @param userId User id
+   */
+  public void evictUser(Long userId) {
+    evictWithTransaction(() -> removeUser(userId));
+    evictionPublisher.publish(
+        new CacheEvictionEvent(CacheEvictionEvent.Type.PROJECT_DETAILS_USER, userId));
+  }
+
+  /**
+   * Evicts details of the project for all the users, see {@link #evictUser(Long)}.
+   *
+   * @param projectId Project id
+   */
+  public void evictProject(Long projectId) {
+    evictWithTransaction(() -> removeProject(projectId));
+    evictionPublisher.publish(
+        new CacheEvictionEvent(CacheEvictionEvent.Type.PROJECT_DETAILS_PROJECT, projectId));
+  }
+
+  /**
+   * Applies an eviction broadcast by an instance to the local entries.
+   *
+   * @param event Broadcast eviction
+   */
+  public void onEviction(CacheEvictionEvent event) {
+    switch (event.getType()) {
+      case PROJECT_DETAILS_USER:
+        removeUser(event.getId());
+        break;
+      case PROJECT_DETAILS_PROJECT:
+        removeProject(event.getId());
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void removeUser(Long userId) {
+    details.asMap().keySet().removeIf(key -> Objects.equals(key.userId, userId));
+  }
+
+  private void removeProject(Long projectId) {
+    details.asMap().values().removeIf(it -> Objects.equals(it.getProjectId(), projectId));
+  }
+
+  private static Counter requests(String result, MeterRegistry meterRegistry) {
+    return Counter.builder("rp.project.details.cache.requests")
+        .description("Project details requests served from the cache or by loading")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static class Key {
+
+    private final Long userId;
+    private final String projectName;
+
+    private Key(Long userId, String projectName) {
+      this.userId = userId;
+      this.projectName = projectName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return Objects.equals(userId, key.userId) && Objects.equals(projectName, key.projectName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, projectName);
+    }
+  }
+}
@@ -35,9 +35,13 @@ public class ProjectExtractor {
 
   private final ProjectUserRepository projectUserRepository;
 
+  private final ProjectDetailsCache projectDetailsCache;
+
   @Autowired
-  public ProjectExtractor(ProjectUserRepository projectUserRepository) {
+  public ProjectExtractor(ProjectUserRepository projectUserRepository,
+      ProjectDetailsCache projectDetailsCache) {
     this.projectUserRepository = projectUserRepository;
+    this.projectDetailsCache = projectDetailsCache;
   }
 
   /**
@@ -71,7 +75,11 @@ public class ProjectExtractor {
    */
   public Optional<ReportPortalUser.ProjectDetails> findProjectDetails(ReportPortalUser user,
       String projectName) {
-    return projectUserRepository.findDetailsByUserIdAndProjectName(user.getUserId(), projectName);
+    return projectDetailsCache.get(user.getUserId(), projectName,
+        () -> projectUserRepository.findDetailsByUserIdAndProjectName(user.getUserId(),
+            projectName
+        )
+    );
   }
 
   /**
@@ -87,13 +95,12 @@ public class ProjectExtractor {
 
     //dirty hack to allow everything for user with 'admin' authority
     if (user.getUserRole().getAuthority().equals(ADMINISTRATOR.getAuthority())) {
-      ReportPortalUser.ProjectDetails projectDetails = projectUserRepository.findAdminDetailsProjectName(
-              normalizeId(projectName))
+      final String normalizedProjectName = normalizeId(projectName);
+      ReportPortalUser.ProjectDetails projectDetails = projectDetailsCache.get(null,
+              normalizedProjectName,
+              () -> projectUserRepository.findAdminDetailsProjectName(normalizedProjectName))
           .orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectName));
-      user.getProjectDetails().put(
-          normalizeId(projectName),
-          projectDetails
-      );
+      user.getProjectDetails().put(normalizedProjectName, projectDetails);
     }
 
     return Optional.ofNullable(user.getProjectDetails().get(normalizeId(projectName))).orElseThrow(
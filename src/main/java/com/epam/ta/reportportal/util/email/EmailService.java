@@ -41,23 +41,34 @@ import com.epam.ta.reportportal.model.user.CreateUserRQFull;
 import com.epam.ta.reportportal.util.UserUtils;
 import com.epam.ta.reportportal.util.email.constant.IssueRegexConstant;
 import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.mail.Address;
 import javax.mail.MessagingException;
+import javax.mail.Transport;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.io.FileUrlResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -67,21 +78,30 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Email Sending Service based on {@link JavaMailSender}
+ * <p>
+ * Inline images of the templates are read from the classpath once and shared by all the services.
+ * If {@link #setKeepConnection(boolean)} is enabled, the SMTP connection is kept open between the
+ * sent messages and should be released with {@link #closeConnection()}.
  *
  * @author Andrei_Ramanchuk
  */
 public class EmailService extends JavaMailSenderImpl {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(EmailService.class);
+
   private static final String FINISH_LAUNCH_EMAIL_SUBJECT =
       " ReportPortal Notification: [%s] launch '%s' #%s finished";
   private static final String URL_FORMAT = "%s/launches/all";
   private static final String COMPOSITE_ATTRIBUTE_FILTER_FORMAT =
       "%s?launchesParams=filter.has.compositeAttribute=%s";
   private static final String TEMPLATE_IMAGES_PREFIX = "templates/email/images/";
+  private static final Map<String, Resource> TEMPLATE_IMAGES = new ConcurrentHashMap<>();
   private TemplateEngine templateEngine;
   /* Default value for FROM project notifications field */
   private String from;
   private String rpHost;
+  private boolean keepConnection;
+  private Transport transport;
 
   public EmailService(Properties javaMailProperties) {
     super.setJavaMailProperties(javaMailProperties);
@@ -317,6 +337,58 @@ public class EmailService extends JavaMailSenderImpl {
     this.rpHost = rpHost;
   }
 
+  public void setKeepConnection(boolean keepConnection) {
+    this.keepConnection = keepConnection;
+  }
+
+  /**
+   * Closes the kept SMTP connection, if any. The next message opens a new one.
+   */
+  public synchronized void closeConnection() {
+    if (transport != null) {
+      try {
+        transport.close();
+      } catch (MessagingException e) {
+        LOGGER.debug("Unable to close SMTP connection", e);
+      }
+      transport = null;
+    }
+  }
+
+  @Override
+  protected synchronized void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+    if (!keepConnection) {
+      super.doSend(mimeMessages, originalMessages);
+      return;
+    }
+    for (MimeMessage mimeMessage : mimeMessages) {
+      try {
+        if (mimeMessage.getSentDate() == null) {
+          mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+          mimeMessage.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = ofNullable(mimeMessage.getAllRecipients()).orElseGet(
+            () -> new Address[0]);
+        connectedTransport().sendMessage(mimeMessage, addresses);
+      } catch (MessagingException e) {
+        closeConnection();
+        throw new MailSendException("Unable to send email", e);
+      }
+    }
+  }
+
+  private Transport connectedTransport() throws MessagingException {
+    if (transport == null || !transport.isConnected()) {
+      closeConnection();
+      transport = connectTransport();
+    }
+    return transport;
+  }
+
   public void sendCreateUserConfirmationEmail(CreateUserRQFull req, String basicUrl) {
     MimeMessagePreparator preparator = mimeMessage -> {
       MimeMessageHelper message = new MimeMessageHelper(mimeMessage, true, "utf-8");
@@ -390,8 +462,17 @@ public class EmailService extends JavaMailSenderImpl {
   }
 
   private Resource emailTemplateResource(String resource) {
-    return new FileUrlResource(Objects.requireNonNull(
-        EmailService.class.getClassLoader().getResource(TEMPLATE_IMAGES_PREFIX + resource)));
+    return TEMPLATE_IMAGES.computeIfAbsent(resource, EmailService::loadTemplateImage);
+  }
+
+  private static Resource loadTemplateImage(String resource) {
+    final String path = TEMPLATE_IMAGES_PREFIX + resource;
+    try (InputStream image = Objects.requireNonNull(
+        EmailService.class.getClassLoader().getResourceAsStream(path))) {
+      return new TemplateImage(resource, image.readAllBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   public void sendAccountSelfDeletionNotification(String recipient) {
@@ -466,4 +547,22 @@ public class EmailService extends JavaMailSenderImpl {
     message.addInline("new-ic-github.png", emailTemplateResource("new-ic-github.png"));
   }
 
+  /**
+   * In-memory image with the file name of the original resource, so the content type of the inline
+   * part is resolved by the name.
+   */
+  private static class TemplateImage extends ByteArrayResource {
+
+    private final String filename;
+
+    private TemplateImage(String filename, byte[] content) {
+      super(content);
+      this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+      return filename;
+    }
+  }
 }
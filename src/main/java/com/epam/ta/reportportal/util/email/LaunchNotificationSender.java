@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util.email;
+
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.model.notification.LaunchNotificationJob;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Sends launch finish notifications of {@link LaunchNotificationJob}s.
+ * <p>
+ * Email services are built once per email integration configuration and keep their SMTP
+ * connections open between the jobs. A service that is not used for the configured time is
+ * removed and its connection is closed. Failed sending is propagated to the caller to be retried.
+ */
+@Service
+public class LaunchNotificationSender {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LaunchNotificationSender.class);
+
+  private final LaunchRepository launchRepository;
+  private final ProjectRepository projectRepository;
+  private final IntegrationRepository integrationRepository;
+  private final MailServiceFactory mailServiceFactory;
+
+  private final Cache<Pair<Long, Map<String, Object>>, EmailService> emailServices;
+
+  private final Counter sent;
+  private final Counter failed;
+  private final Counter skipped;
+  private final Timer sendTime;
+  private final Timer deliveryDelay;
+
+  public LaunchNotificationSender(LaunchRepository launchRepository,
+      ProjectRepository projectRepository, IntegrationRepository integrationRepository,
+      MailServiceFactory mailServiceFactory, MeterRegistry meterRegistry,
+      @Value("${rp.environment.variable.notification.sender.connection-idle-seconds:300}")
+      long connectionIdleSeconds) {
+    this.launchRepository = launchRepository;
+    this.projectRepository = projectRepository;
+    this.integrationRepository = integrationRepository;
+    this.mailServiceFactory = mailServiceFactory;
+    this.emailServices = CacheBuilder.newBuilder()
+        .expireAfterAccess(connectionIdleSeconds, TimeUnit.SECONDS)
+        .removalListener((RemovalListener<Pair<Long, Map<String, Object>>, EmailService>) it ->
+            it.getValue().closeConnection())
+        .build();
+    this.sent = jobs("sent", meterRegistry);
+    this.failed = jobs("failed", meterRegistry);
+    this.skipped = jobs("skipped", meterRegistry);
+    this.sendTime = Timer.builder("rp.notification.email.send")
+        .description("Time of sending of a launch notification")
+        .register(meterRegistry);
+    this.deliveryDelay = Timer.builder("rp.notification.email.delay")
+        .description("Time from creation of a launch notification job to its sending")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param job Notification job to send
+   */
+  @Transactional(readOnly = true)
+  public void send(LaunchNotificationJob job) {
+    Optional<Launch> launch = launchRepository.findById(job.getLaunchId());
+    Optional<Project> project = projectRepository.findById(job.getProjectId());
+    Optional<EmailService> emailService = integrationRepository.findById(job.getIntegrationId())
+        .flatMap(this::getEmailService);
+    if (launch.isEmpty() || project.isEmpty() || emailService.isEmpty()) {
+      LOGGER.warn("Launch notification is skipped, launch, project or integration is not found: {}",
+          job);
+      skipped.increment();
+      return;
+    }
+    try {
+      sendTime.record(() -> emailService.get()
+          .sendLaunchFinishNotification(job.getRecipients(), job.getUrl(), project.get(),
+              launch.get()
+          ));
+    } catch (RuntimeException e) {
+      failed.increment();
+      throw e;
+    }
+    sent.increment();
+    deliveryDelay.record(
+        Duration.ofMillis(Math.max(0, System.currentTimeMillis() - job.getCreatedAt())));
+  }
+
+  private Optional<EmailService> getEmailService(Integration integration) {
+    if (!integration.isEnabled() || integration.getParams() == null
+        || integration.getParams().getParams() == null) {
+      return Optional.empty();
+    }
+    final Pair<Long, Map<String, Object>> key = Pair.of(integration.getId(),
+        new HashMap<>(integration.getParams().getParams()));
+    EmailService cached = emailServices.getIfPresent(key);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return mailServiceFactory.getEmailService(integration).map(created -> {
+      created.setKeepConnection(true);
+      EmailService existing = emailServices.asMap().putIfAbsent(key, created);
+      return existing != null ? existing : created;
+    });
+  }
+
+  private static Counter jobs(String result, MeterRegistry meterRegistry) {
+    return Counter.builder("rp.notification.email.jobs")
+        .description("Launch notification jobs by the result of sending")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -37,6 +37,7 @@ import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
 import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
 import com.epam.ta.reportportal.core.launch.StopLaunchHandler;
 import com.epam.ta.reportportal.core.launch.UpdateLaunchHandler;
+import com.epam.ta.reportportal.core.log.batch.LogBatchSaver;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.widget.content.ChartStatisticsContent;
@@ -111,13 +112,15 @@ public class LaunchController {
   private final UpdateLaunchHandler updateLaunchHandler;
   private final MergeLaunchHandler mergeLaunchesHandler;
   private final GetJasperReportHandler<Launch> getJasperHandler;
+  private final LogBatchSaver logBatchSaver;
 
   @Autowired
   public LaunchController(ProjectExtractor projectExtractor, StartLaunchHandler startLaunchHandler,
       FinishLaunchHandler finishLaunchHandler, StopLaunchHandler stopLaunchHandler,
       DeleteLaunchHandler deleteLaunchMessageHandler, GetLaunchHandler getLaunchMessageHandler,
       UpdateLaunchHandler updateLaunchHandler, MergeLaunchHandler mergeLaunchesHandler,
-      @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> getJasperHandler) {
+      @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> getJasperHandler,
+      LogBatchSaver logBatchSaver) {
     this.projectExtractor = projectExtractor;
     this.startLaunchHandler = startLaunchHandler;
     this.finishLaunchHandler = finishLaunchHandler;
@@ -127,6 +130,7 @@ public class LaunchController {
     this.updateLaunchHandler = updateLaunchHandler;
     this.mergeLaunchesHandler = mergeLaunchesHandler;
     this.getJasperHandler = getJasperHandler;
+    this.logBatchSaver = logBatchSaver;
   }
 
   /* Report client API */
@@ -150,6 +154,8 @@ public class LaunchController {
   public FinishLaunchRS finishLaunch(@PathVariable String projectName,
       @PathVariable String launchId, @RequestBody @Validated FinishExecutionRQ finishLaunchRQ,
       @AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request) {
+    // logs of the launch are saved in background, they should be persisted before finishing
+    logBatchSaver.awaitLaunchLogs(launchId);
     return finishLaunchHandler.finishLaunch(launchId, finishLaunchRQ,
         projectExtractor.extractProjectDetails(user, normalizeId(projectName)), user,
         composeBaseUrl(request)
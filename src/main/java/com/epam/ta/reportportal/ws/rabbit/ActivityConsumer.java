@@ -16,49 +16,69 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.batch.ActivityBatchInserter;
 import com.epam.ta.reportportal.entity.activity.Activity;
-import com.epam.ta.reportportal.entity.activity.ActivityDetails;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
+ * Consumes activities by batches and saves all the activities of a batch with one insert
+ * statement. If the batch insert fails, activities are saved one by one and only the failed ones
+ * are dropped.
+ *
  * @author Andrei Varabyeu
  */
 @Component
-@Transactional
 public class ActivityConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ActivityConsumer.class);
 
-  private final ActivityRepository activityRepository;
+  private final ActivityBatchInserter activityBatchInserter;
 
   @Autowired
-  public ActivityConsumer(ActivityRepository activityRepository) {
-    this.activityRepository = activityRepository;
+  public ActivityConsumer(ActivityBatchInserter activityBatchInserter) {
+    this.activityBatchInserter = activityBatchInserter;
   }
 
   @RabbitListener(queues = "#{ @activityQueue.name }",
-      containerFactory = "rabbitListenerContainerFactory")
-  public void onEvent(@Payload Activity rq) {
-    Optional.ofNullable(rq).ifPresent(this::processActivity);
+      containerFactory = "batchRabbitListenerContainerFactory")
+  public void onEvents(@Payload List<Activity> activities) {
+    if (activities == null || activities.isEmpty()) {
+      return;
+    }
+    List<Activity> toSave = activities.stream()
+        .filter(Objects::nonNull)
+        .peek(activity -> LOGGER.info("[audit] - {}", activity))
+        .filter(Activity::isSavedEvent)
+        .collect(Collectors.toList());
+    if (!toSave.isEmpty()) {
+      insert(toSave);
+    }
   }
 
-  private void processActivity(Activity activity) {
-    LOGGER.info("[audit] - {}", activity);
-    if (activity.isSavedEvent()) {
-      if (Objects.isNull(activity.getDetails())) {
-        activity.setDetails(new ActivityDetails());
-      }
-      activityRepository.save(activity);
+  private void insert(List<Activity> activities) {
+    try {
+      activityBatchInserter.insert(activities);
+      return;
+    } catch (Exception e) {
+      LOGGER.warn("Batch insert of {} activities failed, saving them one by one",
+          activities.size(), e);
     }
+    activities.forEach(activity -> {
+      try {
+        activityBatchInserter.insert(Collections.singletonList(activity));
+      } catch (Exception e) {
+        LOGGER.error("Failed to save activity {}", activity, e);
+      }
+    });
   }
 
 }
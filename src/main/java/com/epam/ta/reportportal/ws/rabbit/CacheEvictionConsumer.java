@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
+import com.epam.ta.reportportal.util.CacheEvictionEvent;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes cache evictions broadcast by any instance, including this one, from the instance own
+ * queue of the broadcast exchange and evicts the entries from the local caches.
+ */
+@Component
+public class CacheEvictionConsumer {
+
+  private final ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
+  private final ProjectDetailsCache projectDetailsCache;
+
+  public CacheEvictionConsumer(ApiKeyAuthenticationCache apiKeyAuthenticationCache,
+      ProjectDetailsCache projectDetailsCache) {
+    this.apiKeyAuthenticationCache = apiKeyAuthenticationCache;
+    this.projectDetailsCache = projectDetailsCache;
+  }
+
+  @RabbitListener(queues = "#{ @eventsQueue.name }")
+  public void onEviction(@Payload CacheEvictionEvent event) {
+    if (event == null || event.getType() == null || event.getId() == null) {
+      return;
+    }
+    apiKeyAuthenticationCache.onEviction(event);
+    projectDetailsCache.onEviction(event);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.model.notification.LaunchNotificationJob;
+import com.epam.ta.reportportal.util.email.LaunchNotificationSender;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Launch notification jobs RabbitMQ consumer.
+ */
+@Component
+public class LaunchNotificationConsumer {
+
+  private final LaunchNotificationSender launchNotificationSender;
+
+  @Autowired
+  public LaunchNotificationConsumer(LaunchNotificationSender launchNotificationSender) {
+    this.launchNotificationSender = launchNotificationSender;
+  }
+
+  @RabbitListener(queues = "#{ @launchNotificationQueue.name }",
+      containerFactory = "notificationRabbitListenerContainerFactory")
+  public void onJob(@Payload LaunchNotificationJob job) {
+    launchNotificationSender.send(job);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.dao.ApiKeyRepository;
+import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.user.ApiKey;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.util.CacheEvictionEvent;
+import com.epam.ta.reportportal.util.CacheEvictionPublisher;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ApiKeyAuthenticationCacheTest {
+
+  private static final String API_KEY = "key";
+  private static final Long API_KEY_ID = 1L;
+  private static final Long USER_ID = 2L;
+
+  private final ApiKeyRepository apiKeyRepository = mock(ApiKeyRepository.class);
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final CacheEvictionPublisher evictionPublisher = mock(CacheEvictionPublisher.class);
+
+  private final ApiKeyAuthenticationCache cache = new ApiKeyAuthenticationCache(apiKeyRepository,
+      userRepository, evictionPublisher, 100L, 60L);
+
+  private final ApiKey apiKey = new ApiKey();
+
+  @BeforeEach
+  void setUp() {
+    apiKey.setId(API_KEY_ID);
+    apiKey.setUserId(USER_ID);
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(apiKey);
+    ReportPortalUser user = ReportPortalUser.userBuilder()
+        .withUserName("user")
+        .withPassword("")
+        .withAuthorities(Collections.emptyList())
+        .withUserId(USER_ID)
+        .withUserRole(UserRole.USER)
+        .withProjectDetails(Collections.emptyMap())
+        .withEmail("user@example.com")
+        .build();
+    when(userRepository.findReportPortalUser(USER_ID)).thenReturn(Optional.of(user));
+  }
+
+  @Test
+  void shouldLoadUserOnce() {
+    cache.getUser(API_KEY);
+    Optional<ReportPortalUser> user = cache.getUser(API_KEY);
+
+    assertEquals(USER_ID, user.get().getUserId());
+    verify(apiKeyRepository, times(1)).findByHash(anyString());
+    verify(userRepository, times(1)).findReportPortalUser(USER_ID);
+  }
+
+  @Test
+  void shouldSaveLastUsageDateOnceInBackground() {
+    cache.getUser(API_KEY);
+    cache.getUser(API_KEY);
+    verify(apiKeyRepository, never()).updateLastUsedAt(any(), any(), any());
+
+    cache.flushLastUsed();
+    cache.flushLastUsed();
+
+    verify(apiKeyRepository, times(1)).updateLastUsedAt(any(), anyString(),
+        any(LocalDate.class));
+  }
+
+  @Test
+  void shouldNotSaveLastUsageDateOfKeyUsedToday() {
+    apiKey.setLastUsedAt(LocalDate.now());
+
+    cache.getUser(API_KEY);
+    cache.flushLastUsed();
+
+    verify(apiKeyRepository, never()).updateLastUsedAt(any(), any(), any());
+  }
+
+  @Test
+  void shouldReloadEvictedKeys() {
+    cache.getUser(API_KEY);
+    cache.evictUser(USER_ID);
+    cache.getUser(API_KEY);
+    cache.evictApiKey(API_KEY_ID);
+    cache.getUser(API_KEY);
+
+    verify(apiKeyRepository, times(3)).findByHash(anyString());
+  }
+
+  @Test
+  void shouldBroadcastEvictions() {
+    ArgumentCaptor<CacheEvictionEvent> events = ArgumentCaptor.forClass(CacheEvictionEvent.class);
+
+    cache.evictApiKey(API_KEY_ID);
+    cache.evictUser(USER_ID);
+
+    verify(evictionPublisher, times(2)).publish(events.capture());
+    assertEquals(CacheEvictionEvent.Type.API_KEY, events.getAllValues().get(0).getType());
+    assertEquals(API_KEY_ID, events.getAllValues().get(0).getId());
+    assertEquals(CacheEvictionEvent.Type.API_KEY_USER, events.getAllValues().get(1).getType());
+    assertEquals(USER_ID, events.getAllValues().get(1).getId());
+  }
+
+  @Test
+  void shouldReloadKeysEvictedByAnotherInstance() {
+    cache.getUser(API_KEY);
+    cache.onEviction(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY_USER, USER_ID));
+    cache.getUser(API_KEY);
+    cache.onEviction(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY, API_KEY_ID));
+    cache.getUser(API_KEY);
+
+    verify(apiKeyRepository, times(3)).findByHash(anyString());
+    verify(evictionPublisher, never()).publish(any());
+  }
+
+  @Test
+  void shouldNotAuthenticateUnknownKey() {
+    when(apiKeyRepository.findByHash(anyString())).thenReturn(null);
+
+    assertTrue(cache.getUser(API_KEY).isEmpty());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/db/launch/launch-elements-count.sql")
+class ElementsCounterServiceTest extends BaseMvcTest {
+
+  @Autowired
+  private ElementsCounterService elementsCounterService;
+
+  @Test
+  void shouldCountLaunchElements() {
+    // launch, 5 items of the launch, launch log and 4 logs of the launch items
+    assertEquals(11L, elementsCounterService.countNumberOfLaunchElements(1L));
+  }
+
+  @Test
+  void shouldCountDescendantsOfItem() {
+    // 5 items of the suite subtree and their 4 logs
+    assertEquals(9L, elementsCounterService.countNumberOfItemElements(item(1L, "1")));
+  }
+
+  @Test
+  void shouldCountNestedItemsOfRetries() {
+    // the step, the nested step of its retry and their 3 logs
+    assertEquals(5L, elementsCounterService.countNumberOfItemElements(item(3L, "1.2.3")));
+  }
+
+  @Test
+  void shouldSumCountsOfItems() {
+    assertEquals(7L, elementsCounterService.countNumberOfItemElements(
+        List.of(item(3L, "1.2.3"), item(6L, "6"))));
+  }
+
+  @Test
+  void shouldCountLaunchAttachments() {
+    ElementsCounterService.AttachmentsCount count =
+        elementsCounterService.countLaunchAttachments(1L);
+
+    assertEquals(4L, count.getCount());
+    assertEquals(1000L, count.getBytes());
+  }
+
+  @Test
+  void shouldCountAttachmentsOfItemAndItsRetries() {
+    // attachments of the step and of the nested step of its retry
+    ElementsCounterService.AttachmentsCount count =
+        elementsCounterService.countItemAttachments(item(3L, "1.2.3"));
+
+    assertEquals(2L, count.getCount());
+    assertEquals(500L, count.getBytes());
+  }
+
+  private static TestItem item(Long id, String path) {
+    TestItem item = new TestItem(id);
+    item.setPath(path);
+    return item;
+  }
+}
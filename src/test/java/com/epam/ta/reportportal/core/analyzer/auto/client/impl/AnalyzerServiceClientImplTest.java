@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_PRIORITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.model.analyzer.IndexLaunch;
+import com.epam.reportportal.model.analyzer.IndexTestItem;
+import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.epam.ta.reportportal.model.analyzer.AnalyzedItemRs;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SyncTaskExecutor;
+
+class AnalyzerServiceClientImplTest {
+
+  private static final String FIRST_ANALYZER = "first";
+  private static final String SECOND_ANALYZER = "second";
+
+  private final RabbitMqManagementClient managementClient = mock(RabbitMqManagementClient.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final AnalyzerServiceClientImpl analyzerServiceClient = new AnalyzerServiceClientImpl(
+      managementClient, rabbitTemplate, "analyzer", new SyncTaskExecutor(), meterRegistry, 2, 1);
+
+  @Test
+  void shouldPassUnresolvedItemsToNextAnalyzer() {
+    when(managementClient.getAnalyzerExchanges()).thenReturn(new AnalyzerExchanges(
+        List.of(exchange(SECOND_ANALYZER, 2), exchange(FIRST_ANALYZER, 1))));
+    final Map<String, List<List<Long>>> requests = new HashMap<>();
+    when(rabbitTemplate.convertSendAndReceiveAsType(anyString(), eq("analyze"), any(Object.class),
+        any(ParameterizedTypeReference.class))).thenAnswer(invocation -> {
+      String analyzer = invocation.getArgument(0);
+      List<Long> itemIds = ids(invocation.<List<IndexLaunch>>getArgument(2).get(0));
+      requests.computeIfAbsent(analyzer, name -> new ArrayList<>()).add(itemIds);
+      // the first analyzer resolves odd items only
+      return itemIds.stream()
+          .filter(id -> FIRST_ANALYZER.equals(analyzer) ? id % 2 == 1 : true)
+          .map(AnalyzerServiceClientImplTest::analyzed)
+          .collect(Collectors.toList());
+    });
+
+    Map<String, List<AnalyzedItemRs>> result = analyzerServiceClient.analyze(launch(5));
+
+    assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)),
+        requests.get(FIRST_ANALYZER));
+    assertEquals(List.of(List.of(2L), List.of(4L)), requests.get(SECOND_ANALYZER));
+    assertEquals(Set.of(1L, 3L, 5L), itemIds(result.get(FIRST_ANALYZER)));
+    assertEquals(Set.of(2L, 4L), itemIds(result.get(SECOND_ANALYZER)));
+    assertEquals(5.0, meterRegistry.get("rp.analyzer.analyze.items")
+        .tags("analyzer", FIRST_ANALYZER, "result", "sent").counter().count());
+    assertEquals(3, meterRegistry.get("rp.analyzer.analyze.duration")
+        .tag("analyzer", FIRST_ANALYZER).timer().count());
+  }
+
+  @Test
+  void shouldInvalidateTopologyWhenAnalyzerFailed() {
+    when(managementClient.getAnalyzerExchanges()).thenReturn(
+        new AnalyzerExchanges(List.of(exchange(FIRST_ANALYZER, 1))));
+    when(rabbitTemplate.convertSendAndReceiveAsType(anyString(), eq("analyze"), any(Object.class),
+        any(ParameterizedTypeReference.class))).thenThrow(new AmqpTimeoutException("timeout"));
+
+    assertThrows(AmqpTimeoutException.class, () -> analyzerServiceClient.analyze(launch(3)));
+
+    verify(managementClient).invalidate();
+  }
+
+  private static IndexLaunch launch(int itemsCount) {
+    IndexLaunch indexLaunch = new IndexLaunch();
+    indexLaunch.setLaunchId(1L);
+    indexLaunch.setTestItems(LongStream.rangeClosed(1, itemsCount).mapToObj(id -> {
+      IndexTestItem item = new IndexTestItem();
+      item.setTestItemId(id);
+      return item;
+    }).collect(Collectors.toList()));
+    return indexLaunch;
+  }
+
+  private static ExchangeInfo exchange(String name, int priority) {
+    ExchangeInfo exchangeInfo = new ExchangeInfo();
+    exchangeInfo.setName(name);
+    exchangeInfo.setArguments(Map.of(ANALYZER_PRIORITY, priority));
+    return exchangeInfo;
+  }
+
+  private static AnalyzedItemRs analyzed(Long itemId) {
+    AnalyzedItemRs analyzedItem = new AnalyzedItemRs();
+    analyzedItem.setItemId(itemId);
+    analyzedItem.setLocator("pb001");
+    return analyzedItem;
+  }
+
+  private static List<Long> ids(IndexLaunch indexLaunch) {
+    return indexLaunch.getTestItems()
+        .stream()
+        .map(IndexTestItem::getTestItemId)
+        .collect(Collectors.toList());
+  }
+
+  private static Set<Long> itemIds(List<AnalyzedItemRs> analyzed) {
+    return analyzed.stream().map(AnalyzedItemRs::getItemId).collect(Collectors.toSet());
+  }
+}
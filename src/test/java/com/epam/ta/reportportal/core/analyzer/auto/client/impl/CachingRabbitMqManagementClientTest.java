@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.client.impl;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_INDEX;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_PRIORITY;
+import static com.epam.ta.reportportal.core.analyzer.auto.client.impl.AnalyzerUtils.ANALYZER_LOG_SEARCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.core.analyzer.auto.client.RabbitMqManagementClient;
+import com.rabbitmq.http.client.domain.ExchangeInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CachingRabbitMqManagementClientTest {
+
+  private final RabbitMqManagementClient delegate = mock(RabbitMqManagementClient.class);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldResolveCapabilitiesOnce() {
+    ExchangeInfo indexer = exchange("indexer", 2, Map.of(ANALYZER_INDEX, true));
+    ExchangeInfo search = exchange("search", 1, Map.of(ANALYZER_LOG_SEARCH, true));
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(List.of(indexer, search));
+    CachingRabbitMqManagementClient client = client(60_000L);
+
+    AnalyzerExchanges exchanges = client.getAnalyzerExchanges();
+
+    assertSame(exchanges, client.getAnalyzerExchanges());
+    assertEquals(List.of(search, indexer), client.getAnalyzerExchangesInfo());
+    assertEquals(List.of(indexer), exchanges.getIndexers());
+    assertEquals(search, exchanges.getSearch().orElseThrow());
+    assertTrue(exchanges.getCluster().isEmpty());
+    verify(delegate, times(1)).getAnalyzerExchangesInfo();
+    assertEquals(2.0,
+        meterRegistry.get("rp.analyzer.topology.requests").tag("result", "hit").counter().count());
+  }
+
+  @Test
+  void shouldReloadInvalidatedExchanges() {
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(List.of())
+        .thenReturn(List.of(exchange("indexer", 1, Map.of(ANALYZER_INDEX, true))));
+    CachingRabbitMqManagementClient client = client(60_000L);
+
+    assertTrue(client.getAnalyzerExchanges().getAll().isEmpty());
+    client.invalidate();
+
+    assertEquals(1, client.getAnalyzerExchanges().getIndexers().size());
+    verify(delegate, times(2)).getAnalyzerExchangesInfo();
+  }
+
+  @Test
+  void shouldKeepExchangesWhenRefreshFailed() {
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(
+            List.of(exchange("indexer", 1, Map.of(ANALYZER_INDEX, true))))
+        .thenThrow(new IllegalStateException("management API is unavailable"));
+    CachingRabbitMqManagementClient client = client(60_000L);
+
+    AnalyzerExchanges exchanges = client.getAnalyzerExchanges();
+    client.refresh();
+    client.invalidate();
+
+    assertSame(exchanges, client.getAnalyzerExchanges());
+    assertEquals(2.0,
+        meterRegistry.get("rp.analyzer.topology.refresh").tag("result", "failure").counter()
+            .count());
+  }
+
+  @Test
+  void shouldFailWhenExchangesAreTooStale() {
+    when(delegate.getAnalyzerExchangesInfo()).thenReturn(List.of())
+        .thenThrow(new IllegalStateException("management API is unavailable"));
+    CachingRabbitMqManagementClient client = client(0L);
+
+    client.getAnalyzerExchanges();
+
+    assertThrows(IllegalStateException.class, client::getAnalyzerExchanges);
+  }
+
+  private CachingRabbitMqManagementClient client(long maxStaleMillis) {
+    return new CachingRabbitMqManagementClient(delegate, meterRegistry, maxStaleMillis);
+  }
+
+  private static ExchangeInfo exchange(String name, int priority, Map<String, Object> arguments) {
+    ExchangeInfo exchangeInfo = new ExchangeInfo();
+    exchangeInfo.setName(name);
+    Map<String, Object> params = new HashMap<>(arguments);
+    params.put(ANALYZER_PRIORITY, priority);
+    exchangeInfo.setArguments(params);
+    return exchangeInfo;
+  }
+}
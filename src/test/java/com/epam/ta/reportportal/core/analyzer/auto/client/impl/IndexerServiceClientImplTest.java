@@ -38,7 +38,8 @@ class IndexerServiceClientImplTest {
 
   @Test
   void deleteIndex() {
-    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    when(rabbitMqManagementClient.getAnalyzerExchanges()).thenReturn(
+        new AnalyzerExchanges(getExchanges()));
     when(rabbitTemplate.convertSendAndReceiveAsType(AUTO_ANALYZER_KEY, DELETE_ROUTE, 1L,
         new ParameterizedTypeReference<Integer>() {
         })).thenReturn(1);
@@ -55,7 +56,8 @@ class IndexerServiceClientImplTest {
   void indexDefectsUpdate() {
     Map<Long, String> update = Maps.newHashMap(1L, "pb001");
     IndexDefectsUpdate indexDefectsUpdate = new IndexDefectsUpdate(1L, update);
-    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    when(rabbitMqManagementClient.getAnalyzerExchanges()).thenReturn(
+        new AnalyzerExchanges(getExchanges()));
     when(rabbitTemplate.convertSendAndReceiveAsType(AUTO_ANALYZER_KEY,
         DEFECT_UPDATE_ROUTE,
         indexDefectsUpdate,
@@ -75,7 +77,8 @@ class IndexerServiceClientImplTest {
   void indexItemsRemove() {
     List<Long> list = Lists.newArrayList(1L);
     IndexItemsRemove indexItemsRemove = new IndexItemsRemove(1L, list);
-    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    when(rabbitMqManagementClient.getAnalyzerExchanges()).thenReturn(
+        new AnalyzerExchanges(getExchanges()));
     doNothing().when(rabbitTemplate)
         .convertAndSend(AUTO_ANALYZER_KEY, ITEM_REMOVE_ROUTE, indexItemsRemove);
     indexerServiceClient.indexItemsRemoveAsync(1L, list);
@@ -87,7 +90,8 @@ class IndexerServiceClientImplTest {
   void indexLaunchesRemove() {
     List<Long> list = Lists.newArrayList(1L);
     IndexLaunchRemove indexLaunchRemove = new IndexLaunchRemove(1L, list);
-    when(rabbitMqManagementClient.getAnalyzerExchangesInfo()).thenReturn(getExchanges());
+    when(rabbitMqManagementClient.getAnalyzerExchanges()).thenReturn(
+        new AnalyzerExchanges(getExchanges()));
     doNothing().when(rabbitTemplate)
         .convertAndSend(AUTO_ANALYZER_KEY, LAUNCH_REMOVE_ROUTE, indexLaunchRemove);
     indexerServiceClient.indexLaunchesRemove(1L, list);
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -37,6 +38,8 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.preparer.LaunchPreparerService;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
@@ -53,8 +56,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
@@ -82,7 +85,8 @@ class AnalyzerServiceServiceTest {
   private AnalyzerServiceImpl issuesAnalyzer =
       new AnalyzerServiceImpl(100, analyzerStatusCache, launchPreparerService,
           analyzerServiceClient, issueTypeHandler, testItemRepository, messageBus, launchRepository,
-          defectUpdateStatisticsService);
+          defectUpdateStatisticsService, mock(TestItemHistoryCache.class),
+          mock(WidgetContentCache.class));
 
   @Test
   void hasAnalyzers() {
@@ -114,10 +118,14 @@ class AnalyzerServiceServiceTest {
 
     when(testItemRepository.findAllById(anyList())).thenReturn(items);
 
-    when(launchPreparerService.prepare(any(Launch.class), anyList(),
-        any(AnalyzerConfig.class)
-    )).thenReturn(Optional.of(indexLaunch));
+    doAnswer(invocation -> {
+      invocation.<Consumer<IndexLaunch>>getArgument(3).accept(indexLaunch);
+      return null;
+    }).when(launchPreparerService)
+        .prepare(any(Launch.class), anyList(), any(AnalyzerConfig.class), any());
 
+    when(analyzerStatusCache.analyzeStarted(AnalyzerStatusCache.AUTO_ANALYZER_KEY,
+        launch.getId(), launch.getProjectId())).thenReturn(true);
     when(analyzerServiceClient.analyze(any())).thenReturn(analyzedItems(itemsCount));
 
     when(issueTypeHandler.defineIssueType(anyLong(), eq("pb001"))).thenReturn(
@@ -128,6 +136,8 @@ class AnalyzerServiceServiceTest {
     );
 
     verify(analyzerServiceClient, times(1)).analyze(any());
+    verify(analyzerStatusCache, times(1)).analyzeFinished(AnalyzerStatusCache.AUTO_ANALYZER_KEY,
+        launch.getId());
     verify(testItemRepository, times(itemsCount)).save(any());
     verify(messageBus, times(4)).publishActivity(any());
   }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl;
+
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.AUTO_ANALYZER_KEY;
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.CLUSTER_KEY;
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.LOCK_NAMESPACE;
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.lockKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AnalyzerStatusCacheTest {
+
+  private static final long LAUNCH_ID = 10L;
+  private static final long PROJECT_ID = 2L;
+
+  private final AdvisoryLockRegistry lockRegistry = mock(AdvisoryLockRegistry.class);
+
+  private final AnalyzerStatusCache statusCache = new AnalyzerStatusCache(lockRegistry, 60_000L,
+      120L);
+
+  @Test
+  void shouldNotStartWhenLaunchIsLockedByAnotherInstance() {
+    when(lockRegistry.tryLock(lockKey(1, 0, LAUNCH_ID))).thenReturn(false);
+
+    assertFalse(statusCache.analyzeStarted(AUTO_ANALYZER_KEY, LAUNCH_ID, PROJECT_ID));
+
+    verify(lockRegistry, never()).tryLockShared(anyLong());
+    statusCache.analyzeFinished(AUTO_ANALYZER_KEY, LAUNCH_ID);
+    verify(lockRegistry, never()).unlock(anyLong());
+  }
+
+  @Test
+  void shouldReleaseLaunchLockWhenProjectIsNotLocked() {
+    final long launchKey = lockKey(1, 0, LAUNCH_ID);
+    final long projectKey = lockKey(1, 1, PROJECT_ID);
+    when(lockRegistry.tryLock(launchKey)).thenReturn(true);
+    when(lockRegistry.tryLockShared(projectKey)).thenReturn(false);
+
+    assertFalse(statusCache.analyzeStarted(AUTO_ANALYZER_KEY, LAUNCH_ID, PROJECT_ID));
+    verify(lockRegistry).unlock(launchKey);
+
+    statusCache.analyzeFinished(AUTO_ANALYZER_KEY, LAUNCH_ID);
+    verify(lockRegistry, times(1)).unlock(launchKey);
+    verify(lockRegistry, never()).unlock(projectKey);
+  }
+
+  @Test
+  void shouldReleaseLocksOnFinish() {
+    final long launchKey = lockKey(2, 0, LAUNCH_ID);
+    final long projectKey = lockKey(2, 1, PROJECT_ID);
+    when(lockRegistry.tryLock(launchKey)).thenReturn(true);
+    when(lockRegistry.tryLockShared(projectKey)).thenReturn(true);
+
+    assertTrue(statusCache.analyzeStarted(PATTERN_ANALYZER_KEY, LAUNCH_ID, PROJECT_ID));
+    assertTrue(statusCache.analyzeFinished(PATTERN_ANALYZER_KEY, LAUNCH_ID));
+    assertTrue(statusCache.analyzeFinished(PATTERN_ANALYZER_KEY, LAUNCH_ID));
+
+    verify(lockRegistry, times(1)).unlock(launchKey);
+    verify(lockRegistry, times(1)).unlock(projectKey);
+  }
+
+  @Test
+  void shouldLookupLocksOfAllInstancesInSnapshot() {
+    when(lockRegistry.findLocks(LOCK_NAMESPACE)).thenReturn(
+        Set.of(lockKey(1, 0, LAUNCH_ID), lockKey(1, 1, PROJECT_ID), lockKey(3, 0, LAUNCH_ID)));
+
+    assertTrue(statusCache.containsLaunchId(AUTO_ANALYZER_KEY, LAUNCH_ID));
+    assertTrue(statusCache.containsProjectId(AUTO_ANALYZER_KEY, PROJECT_ID));
+    assertFalse(statusCache.containsProjectId(CLUSTER_KEY, PROJECT_ID));
+    assertFalse(statusCache.containsLaunchId(PATTERN_ANALYZER_KEY, LAUNCH_ID));
+    assertEquals(Set.of(AUTO_ANALYZER_KEY, CLUSTER_KEY),
+        statusCache.getStartedAnalyzers(LAUNCH_ID));
+
+    verify(lockRegistry, times(1)).findLocks(LOCK_NAMESPACE);
+  }
+
+  @Test
+  void shouldReportLocksOfInstanceBeforeSnapshotReload() {
+    when(lockRegistry.findLocks(LOCK_NAMESPACE)).thenReturn(Collections.emptySet());
+    when(lockRegistry.isHeld(lockKey(3, 0, LAUNCH_ID))).thenReturn(true);
+
+    assertEquals(Set.of(CLUSTER_KEY), statusCache.getStartedAnalyzers(LAUNCH_ID));
+  }
+
+  @Test
+  void lockKeysShouldNotCollide() {
+    assertNotEquals(lockKey(1, 0, LAUNCH_ID), lockKey(1, 1, LAUNCH_ID));
+    assertNotEquals(lockKey(1, 0, LAUNCH_ID), lockKey(2, 0, LAUNCH_ID));
+    assertEquals(LOCK_NAMESPACE, lockKey(3, 1, Long.MAX_VALUE) >>> 48);
+  }
+}
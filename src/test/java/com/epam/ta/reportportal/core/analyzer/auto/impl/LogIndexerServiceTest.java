@@ -30,6 +30,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.preparer.LaunchPreparerService;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.BatchLogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexerStatusCache;
+import com.epam.ta.reportportal.core.analyzer.auto.indexer.IndexingProgressRegistry;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -56,6 +57,7 @@ import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * Tests for {@link LogIndexerService}
@@ -82,7 +84,8 @@ class LogIndexerServiceTest {
 
   private LogIndexerService logIndexerService =
       new LogIndexerService(batchLogIndexer, taskExecutor, launchRepository, testItemRepository,
-          indexerServiceClient, launchPreparerService, indexerStatusCache
+          indexerServiceClient, launchPreparerService, indexerStatusCache,
+          new IndexingProgressRegistry(mock(JdbcTemplate.class))
       );
 
   @Test
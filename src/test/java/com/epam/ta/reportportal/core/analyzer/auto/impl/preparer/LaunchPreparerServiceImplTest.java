@@ -16,7 +16,13 @@
 
 package com.epam.ta.reportportal.core.analyzer.auto.impl.preparer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.dao.ClusterRepository;
@@ -25,7 +31,10 @@ import com.epam.ta.reportportal.entity.cluster.Cluster;
 import com.epam.reportportal.model.analyzer.IndexLaunch;
 import com.epam.reportportal.model.analyzer.IndexTestItem;
 import com.epam.reportportal.model.project.AnalyzerConfig;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -70,4 +79,40 @@ class LaunchPreparerServiceImplTest {
     preparerService.prepare(List.of(launchId), analyzerConfig);
   }
 
-}
\ No newline at end of file
+  @Test
+  void prepareByChunks() {
+    final long launchId = 1L;
+
+    final IndexLaunch indexLaunch = new IndexLaunch();
+    indexLaunch.setLaunchId(launchId);
+    indexLaunch.setLaunchName("name");
+    indexLaunch.setProjectId(1L);
+    when(launchRepository.findIndexLaunchByIds(List.of(launchId))).thenReturn(List.of(indexLaunch));
+
+    final Cluster cluster = new Cluster();
+    cluster.setIndexId(1L);
+    cluster.setMessage("hello");
+    when(clusterRepository.findAllByLaunchId(launchId)).thenReturn(List.of(cluster));
+
+    doAnswer(invocation -> {
+      Consumer<List<IndexTestItem>> chunkConsumer = invocation.getArgument(1);
+      chunkConsumer.accept(List.of(new IndexTestItem()));
+      chunkConsumer.accept(List.of(new IndexTestItem(), new IndexTestItem()));
+      return null;
+    }).when(testItemPreparerService).prepare(eq(launchId), any(Consumer.class));
+
+    final AnalyzerConfig analyzerConfig = new AnalyzerConfig();
+    final List<IndexLaunch> chunks = new ArrayList<>();
+    preparerService.prepare(launchId, analyzerConfig, chunks::add);
+
+    assertEquals(2, chunks.size());
+    assertEquals(2, chunks.get(1).getTestItems().size());
+    chunks.forEach(chunk -> {
+      assertEquals("name", chunk.getLaunchName());
+      assertEquals(analyzerConfig, chunk.getAnalyzerConfig());
+      assertEquals(Map.of(1L, "hello"), chunk.getClusters());
+    });
+    verify(clusterRepository, times(1)).findAllByLaunchId(launchId);
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.auto.impl.preparer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.model.analyzer.IndexLog;
+import com.epam.reportportal.model.analyzer.IndexTestItem;
+import com.epam.ta.reportportal.core.log.LogService;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class TestItemPreparerServiceImplTest {
+
+  private static final Long LAUNCH_ID = 1L;
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final LogService logService = mock(LogService.class);
+
+  private final TestItemPreparerServiceImpl preparerService = new TestItemPreparerServiceImpl(
+      mock(TestItemRepository.class), logService, mock(LogRepository.class), jdbcTemplate, 2,
+      200L);
+
+  @Test
+  void shouldPrepareLaunchByPages() {
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(LAUNCH_ID), eq(0L), eq(2)))
+        .thenReturn(items(1L, 2L));
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(LAUNCH_ID), eq(2L), eq(2)))
+        .thenReturn(items(3L));
+    logs(List.of(1L, 2L), 10);
+    logs(List.of(3L), 10);
+
+    List<List<Long>> chunks = new ArrayList<>();
+    preparerService.prepare(LAUNCH_ID, chunk -> chunks.add(ids(chunk)));
+
+    assertEquals(List.of(List.of(1L, 2L), List.of(3L)), chunks);
+  }
+
+  @Test
+  void shouldLimitChunkByLogsSize() {
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(LAUNCH_ID), eq(0L), eq(2)))
+        .thenReturn(items(1L, 2L));
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(LAUNCH_ID), eq(2L), eq(2)))
+        .thenReturn(List.of());
+    logs(List.of(1L, 2L), 100);
+
+    List<List<Long>> chunks = new ArrayList<>();
+    preparerService.prepare(LAUNCH_ID, chunk -> chunks.add(ids(chunk)));
+
+    assertEquals(List.of(List.of(1L), List.of(2L)), chunks);
+  }
+
+  private void logs(List<Long> itemIds, int messageLength) {
+    when(logService.findAllIndexUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(LAUNCH_ID,
+        itemIds, LogLevel.ERROR.toInt())).thenReturn(itemIds.stream()
+        .collect(Collectors.toMap(Function.identity(), id -> List.of(log(id, messageLength)))));
+  }
+
+  private static IndexLog log(Long id, int messageLength) {
+    IndexLog log = new IndexLog();
+    log.setLogId(id);
+    log.setLogLevel(LogLevel.ERROR.toInt());
+    log.setMessage("e".repeat(messageLength));
+    return log;
+  }
+
+  private static List<IndexTestItem> items(Long... ids) {
+    return Stream.of(ids)
+        .map(id -> {
+          IndexTestItem item = new IndexTestItem();
+          item.setTestItemId(id);
+          return item;
+        })
+        .collect(Collectors.toList());
+  }
+
+  private static List<Long> ids(List<IndexTestItem> items) {
+    return items.stream().map(IndexTestItem::getTestItemId).collect(Collectors.toList());
+  }
+}
@@ -1,10 +1,16 @@
 package com.epam.ta.reportportal.core.analyzer.auto.indexer;
 
 import static com.epam.ta.reportportal.entity.AnalyzeMode.ALL_LAUNCHES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,17 +20,22 @@ import com.epam.ta.reportportal.core.analyzer.auto.client.IndexerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.preparer.LaunchPreparerService;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.jooq.enums.JLaunchModeEnum;
 import com.epam.ta.reportportal.jooq.enums.JStatusEnum;
 import com.epam.reportportal.model.analyzer.IndexLaunch;
 import com.epam.reportportal.model.analyzer.IndexTestItem;
 import com.epam.reportportal.model.project.AnalyzerConfig;
+import com.google.common.collect.Lists;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 class BatchLogIndexerTest {
 
@@ -34,13 +45,20 @@ class BatchLogIndexerTest {
   private LaunchRepository launchRepository = mock(LaunchRepository.class);
   private TestItemRepository testItemRepository = mock(TestItemRepository.class);
   private LaunchPreparerService launchPreparerService = mock(LaunchPreparerService.class);
+  private JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private IndexingProgressRegistry progressRegistry =
+      new IndexingProgressRegistry(mock(JdbcTemplate.class));
 
   private final BatchLogIndexer batchLogIndexer = new BatchLogIndexer(batchSize,
+      batchSize,
       batchSize,
       launchRepository,
       testItemRepository,
       launchPreparerService,
-      indexerServiceClient
+      indexerServiceClient,
+      jdbcTemplate,
+      new SyncTaskExecutor(),
+      progressRegistry
   );
 
   @Test
@@ -53,12 +71,10 @@ class BatchLogIndexerTest {
         any(JStatusEnum.class),
         anyInt()
     )).thenReturn(firstPortionIds);
-    when(launchRepository.hasItemsWithLogsWithLogLevel(eq(1L), anyList(), anyInt())).thenReturn(
-        true);
-    when(launchRepository.hasItemsWithLogsWithLogLevel(eq(2L), anyList(), anyInt())).thenReturn(
-        true);
-    when(launchRepository.hasItemsWithLogsWithLogLevel(eq(3L), anyList(), anyInt())).thenReturn(
-        true);
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(2L),
+        eq(LogLevel.ERROR_INT))).thenReturn(firstPortionIds);
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3L),
+        eq(LogLevel.ERROR_INT))).thenReturn(secondPortionIds);
 
     final IndexLaunch firstIndex = new IndexLaunch();
     final List<IndexTestItem> firstIndexItems = List.of(new IndexTestItem());
@@ -66,8 +82,8 @@ class BatchLogIndexerTest {
     final IndexLaunch secondIndex = new IndexLaunch();
     final List<IndexTestItem> secondIndexItems = List.of(new IndexTestItem());
     secondIndex.setTestItems(secondIndexItems);
-    when(launchPreparerService.prepare(eq(firstPortionIds), any(AnalyzerConfig.class))).thenReturn(
-        List.of(firstIndex, secondIndex));
+    prepared(1L, firstIndex);
+    prepared(2L, secondIndex);
 
     when(launchRepository.findIdsByProjectIdAndModeAndStatusNotEqAfterId(eq(1L),
         any(JLaunchModeEnum.class),
@@ -80,8 +96,7 @@ class BatchLogIndexerTest {
     final List<IndexTestItem> thirdIndexItems = List.of(new IndexTestItem(), new IndexTestItem(),
         new IndexTestItem());
     thirdIndex.setTestItems(thirdIndexItems);
-    when(launchPreparerService.prepare(eq(secondPortionIds), any(AnalyzerConfig.class))).thenReturn(
-        List.of(thirdIndex));
+    prepared(3L, thirdIndex);
 
     batchLogIndexer.index(1L, analyzerConfig());
 
@@ -92,6 +107,10 @@ class BatchLogIndexerTest {
 
     verify(indexerServiceClient, times(expectedIndexedTimes)).index(anyList());
 
+    final IndexingProgress progress = progressRegistry.get(1L).orElseThrow();
+    assertEquals(IndexingProgress.State.FINISHED, progress.getState());
+    assertEquals(3L, progress.getLaunchesIndexed());
+    assertEquals(3L, progress.getCheckpoint());
   }
 
   private int getIndexedTimes(int expectedIndexedItems) {
@@ -108,18 +127,59 @@ class BatchLogIndexerTest {
         any(JStatusEnum.class),
         anyInt()
     )).thenReturn(ids);
-    when(launchRepository.hasItemsWithLogsWithLogLevel(eq(1L), anyList(), anyInt())).thenReturn(
-        false);
-    when(launchRepository.hasItemsWithLogsWithLogLevel(eq(2L), anyList(), anyInt())).thenReturn(
-        false);
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(2L),
+        eq(LogLevel.ERROR_INT))).thenReturn(List.of());
 
     batchLogIndexer.index(1L, analyzerConfig());
 
     verify(launchPreparerService, times(0)).prepare(anyList(), any(AnalyzerConfig.class));
+    verify(launchPreparerService, times(0)).prepare(anyLong(), any(AnalyzerConfig.class));
+    verify(launchPreparerService, times(0)).prepare(anyLong(), any(AnalyzerConfig.class), any());
     verify(indexerServiceClient, times(0)).index(anyList());
 
   }
 
+  @Test
+  void failedIndexingShouldKeepCheckpoint() {
+    when(launchRepository.findIdsByProjectIdAndModeAndStatusNotEqAfterId(eq(1L),
+        any(JLaunchModeEnum.class),
+        any(JStatusEnum.class),
+        eq(5L),
+        anyInt()
+    )).thenReturn(List.of(6L, 7L));
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(6L), eq(7L),
+        eq(LogLevel.ERROR_INT))).thenReturn(List.of(6L, 7L));
+
+    final IndexLaunch indexLaunch = new IndexLaunch();
+    indexLaunch.setTestItems(List.of(new IndexTestItem()));
+    prepared(6L, indexLaunch);
+    doThrow(new IllegalStateException("Analyzer is unavailable")).when(launchPreparerService)
+        .prepare(eq(7L), any(AnalyzerConfig.class), any());
+
+    assertThrows(IllegalStateException.class,
+        () -> batchLogIndexer.index(1L, analyzerConfig(), 5L));
+
+    final IndexingProgress progress = progressRegistry.get(1L).orElseThrow();
+    assertEquals(IndexingProgress.State.FAILED, progress.getState());
+    assertEquals(6L, progress.getCheckpoint());
+  }
+
+  /**
+   * Emulates the launch preparer, which passes the launch items by chunks of the batch size
+   */
+  private void prepared(Long launchId, IndexLaunch indexLaunch) {
+    doAnswer(invocation -> {
+      Consumer<IndexLaunch> chunkConsumer = invocation.getArgument(2);
+      Lists.partition(indexLaunch.getTestItems(), batchSize).forEach(items -> {
+        IndexLaunch chunk = new IndexLaunch();
+        chunk.setLaunchId(launchId);
+        chunk.setTestItems(items);
+        chunkConsumer.accept(chunk);
+      });
+      return null;
+    }).when(launchPreparerService).prepare(eq(launchId), any(AnalyzerConfig.class), any());
+  }
+
   private AnalyzerConfig analyzerConfig() {
     AnalyzerConfig analyzerConfig = new AnalyzerConfig();
     analyzerConfig.setAnalyzerMode(ALL_LAUNCHES.getValue());
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.analyzer.auto.indexer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class IndexingProgressRegistryTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+  private final IndexingProgressRegistry registry = new IndexingProgressRegistry(jdbcTemplate);
+
+  @Test
+  void shouldSaveCheckpointUntilIndexingIsFinished() {
+    IndexingProgress progress = registry.start(1L, null);
+    progress.launchIndexed(5L, 10L);
+    registry.save(progress);
+    progress.finished();
+    registry.save(progress);
+
+    verify(jdbcTemplate).update(contains("INSERT INTO indexing_checkpoint"), eq(1L), isNull());
+    verify(jdbcTemplate).update(contains("INSERT INTO indexing_checkpoint"), eq(1L), eq(5L));
+    verify(jdbcTemplate).update(contains("DELETE FROM indexing_checkpoint"), eq(1L));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReadSavedCheckpointAsFailedIndexing() throws SQLException {
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getLong("project_id")).thenReturn(2L);
+    when(resultSet.getObject("launch_id", Long.class)).thenReturn(7L);
+    when(jdbcTemplate.query(contains("FROM indexing_checkpoint"), any(RowMapper.class))).thenAnswer(
+        invocation -> List.of(((RowMapper<IndexingProgress>) invocation.getArgument(1))
+            .mapRow(resultSet, 0)));
+
+    IndexingProgress progress = registry.get(2L).orElseThrow();
+
+    assertEquals(IndexingProgress.State.FAILED, progress.getState());
+    assertEquals(7L, progress.getCheckpoint());
+    assertNull(registry.get(3L).orElse(null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldKeepRunningProgressWhenCheckpointsAreNotAvailable() {
+    when(jdbcTemplate.query(contains("FROM indexing_checkpoint"), any(RowMapper.class)))
+        .thenThrow(new BadSqlGrammarException("checkpoints", "SELECT", new SQLException()));
+
+    IndexingProgress started = registry.start(1L, null);
+
+    assertSame(started, registry.getAll().iterator().next());
+  }
+}
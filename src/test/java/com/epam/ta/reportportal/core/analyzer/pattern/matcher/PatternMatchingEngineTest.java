@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.model.analyzer.IndexLog;
+import com.epam.ta.reportportal.core.log.LogService;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplate;
+import com.epam.ta.reportportal.entity.pattern.PatternTemplateType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PatternMatchingEngineTest {
+
+  private static final Long LAUNCH_ID = 1L;
+
+  private final LogService logService = mock(LogService.class);
+
+  private final PatternMatchingEngine engine = new PatternMatchingEngine(logService,
+      new SimpleMeterRegistry(), 1000L);
+
+  @Test
+  void shouldMatchAllPatternsByLogsLoadedOnce() {
+    final PatternTemplate npe = pattern(1L, "NullPointerException", PatternTemplateType.STRING);
+    final PatternTemplate timeout = pattern(2L, "timeout", PatternTemplateType.STRING);
+    final PatternTemplate assertion = pattern(3L, "expected \\d+", PatternTemplateType.REGEX);
+    final List<Long> itemIds = List.of(10L, 11L, 12L);
+    when(logService.findAllIndexUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(LAUNCH_ID,
+        itemIds, LogLevel.ERROR_INT)).thenReturn(
+        Map.of(10L, List.of(log("java.lang.NullPointerException"), log("expected 5 but was 6")),
+            11L, List.of(log(null), log("connection timeout")),
+            12L, List.of(log("all good"))));
+
+    Map<PatternTemplate, Set<Long>> matches = engine.match(LAUNCH_ID,
+        List.of(npe, timeout, assertion), itemIds);
+
+    assertEquals(Map.of(npe, Set.of(10L), timeout, Set.of(11L), assertion, Set.of(10L)), matches);
+    verify(logService, times(1)).findAllIndexUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(
+        LAUNCH_ID, itemIds, LogLevel.ERROR_INT);
+  }
+
+  @Test
+  void shouldNotSupportInvalidJavaRegex() {
+    assertTrue(engine.isSupported(pattern(1L, "any", PatternTemplateType.STRING)));
+    assertTrue(engine.isSupported(pattern(2L, "^a.*b$", PatternTemplateType.REGEX)));
+    assertFalse(engine.isSupported(pattern(3L, "[[:digit:]", PatternTemplateType.REGEX)));
+    assertFalse(engine.isSupported(pattern(4L, "[[:digit:]]+", PatternTemplateType.REGEX)));
+  }
+
+  private static PatternTemplate pattern(Long id, String value, PatternTemplateType type) {
+    PatternTemplate pattern = new PatternTemplate();
+    pattern.setId(id);
+    pattern.setName("pattern" + id);
+    pattern.setValue(value);
+    pattern.setTemplateType(type);
+    return pattern;
+  }
+
+  private static IndexLog log(String message) {
+    IndexLog log = new IndexLog();
+    log.setMessage(message);
+    return log;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RegexPatternMatcherTest {
+
+  @Test
+  void shouldReportAllMatchedPatterns() {
+    RegexPatternMatcher matcher = new RegexPatternMatcher(
+        List.of("Null.*Exception", "^Caused by", "timeout \\d+ ms", "(\\w+)=\\1"), 1000L);
+
+    assertEquals(BitSet.valueOf(new long[]{0b1001}),
+        matcher.match("NullPointerException at a=a", new BitSet()));
+    assertEquals(BitSet.valueOf(new long[]{0b0110}),
+        matcher.match("Caused by: timeout 30 ms", new BitSet()));
+    assertTrue(matcher.match("all good", new BitSet()).isEmpty());
+  }
+
+  @Test
+  void shouldNotEvaluateSkippedPatterns() {
+    RegexPatternMatcher matcher = new RegexPatternMatcher(List.of("a", "b"), 1000L);
+
+    assertEquals(BitSet.valueOf(new long[]{0b10}),
+        matcher.match("ab", BitSet.valueOf(new long[]{0b01})));
+  }
+
+  @Test
+  void shouldInterruptLongEvaluation() {
+    RegexPatternMatcher matcher = new RegexPatternMatcher(List.of("(a+)+b"), 50L);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertTrue(
+        matcher.match("a".repeat(64), new BitSet()).isEmpty()));
+  }
+
+  @Test
+  void dotShouldMatchLineTerminators() {
+    RegexPatternMatcher matcher = new RegexPatternMatcher(List.of("Error.*failed", "a.b"), 1000L);
+
+    assertEquals(BitSet.valueOf(new long[]{0b11}),
+        matcher.match("Error in test\nassertion failed\na\nb", new BitSet()));
+  }
+
+  @Test
+  void shouldValidatePatterns() {
+    assertTrue(RegexPatternMatcher.isSupported("[a-z]+"));
+    assertFalse(RegexPatternMatcher.isSupported("[[:alpha:]"));
+  }
+
+  @Test
+  void posixBracketExpressionsShouldNotBeSupported() {
+    assertFalse(RegexPatternMatcher.isSupported("[[:digit:]]+ ms"));
+    assertFalse(RegexPatternMatcher.isSupported("a[[.hyphen.]]b"));
+    assertFalse(RegexPatternMatcher.isSupported("[[=e=]]"));
+    assertFalse(RegexPatternMatcher.isSupported("[^a[:space:]]+"));
+    assertTrue(RegexPatternMatcher.isSupported("[\\[a]:"));
+  }
+}
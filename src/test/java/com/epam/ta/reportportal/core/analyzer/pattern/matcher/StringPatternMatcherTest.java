@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StringPatternMatcherTest {
+
+  @Test
+  void shouldFindAllPatternsInSinglePass() {
+    StringPatternMatcher matcher = new StringPatternMatcher(
+        List.of("NullPointer", "Exception", "ointerEx", "timeout", "he"));
+
+    BitSet matched = matcher.match("java.lang.NullPointerException: the value");
+
+    assertEquals(BitSet.valueOf(new long[]{0b10111}), matched);
+  }
+
+  @Test
+  void shouldFindOverlappingPatterns() {
+    StringPatternMatcher matcher = new StringPatternMatcher(List.of("she", "he", "hers", "his"));
+
+    assertEquals(BitSet.valueOf(new long[]{0b0111}), matcher.match("ushers"));
+  }
+
+  @Test
+  void shouldBeCaseSensitive() {
+    StringPatternMatcher matcher = new StringPatternMatcher(List.of("Error"));
+
+    assertTrue(matcher.match("error occurred").isEmpty());
+  }
+
+  @Test
+  void emptyPatternShouldMatchAnyText() {
+    StringPatternMatcher matcher = new StringPatternMatcher(List.of("", "abc"));
+
+    assertEquals(BitSet.valueOf(new long[]{0b01}), matcher.match(""));
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.analyzer.pattern.service.impl;
+
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache.PATTERN_ANALYZER_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.commons.querygen.ConvertibleCondition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerStatusCache;
+import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
+import com.epam.ta.reportportal.core.analyzer.pattern.handler.impl.ItemsPatternAnalyzerImpl;
+import com.epam.ta.reportportal.core.analyzer.pattern.selector.condition.PatternConditionProviderChain;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+
+class LaunchPatternAnalyzerImplTest {
+
+  private static final Long LAUNCH_ID = 1L;
+  private static final Long PROJECT_ID = 2L;
+  private static final Set<AnalyzeItemsMode> MODES = Set.of(AnalyzeItemsMode.TO_INVESTIGATE);
+
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+  private final PatternConditionProviderChain conditionProviderChain =
+      mock(PatternConditionProviderChain.class);
+  private final AnalyzerStatusCache analyzerStatusCache = mock(AnalyzerStatusCache.class);
+  private final ItemsPatternAnalyzerImpl itemsPatternAnalyzer =
+      mock(ItemsPatternAnalyzerImpl.class);
+
+  private final LaunchPatternAnalyzerImpl launchPatternAnalyzer = new LaunchPatternAnalyzerImpl(2,
+      2, testItemRepository, conditionProviderChain, analyzerStatusCache, itemsPatternAnalyzer,
+      new SyncTaskExecutor());
+
+  @Test
+  void shouldReadBatchesAfterLastItemIdAndFinishAfterAllBatches() {
+    startAnalysis();
+    when(testItemRepository.selectIdsByFilter(eq(LAUNCH_ID), any(), eq(2), eq(0))).thenReturn(
+        List.of(10L, 11L), List.of(15L), Collections.emptyList());
+
+    launchPatternAnalyzer.analyzeLaunch(launch(), MODES);
+
+    ArgumentCaptor<Filter> filterCaptor = ArgumentCaptor.forClass(Filter.class);
+    verify(testItemRepository, times(3)).selectIdsByFilter(eq(LAUNCH_ID), filterCaptor.capture(),
+        eq(2), eq(0));
+    assertEquals(List.of("0", "11", "15"),
+        filterCaptor.getAllValues().stream().map(this::lastItemId).collect(Collectors.toList()));
+
+    InOrder inOrder = inOrder(itemsPatternAnalyzer, analyzerStatusCache);
+    inOrder.verify(itemsPatternAnalyzer)
+        .analyzeByPatterns(PROJECT_ID, LAUNCH_ID, List.of(10L, 11L));
+    inOrder.verify(itemsPatternAnalyzer).analyzeByPatterns(PROJECT_ID, LAUNCH_ID, List.of(15L));
+    inOrder.verify(analyzerStatusCache, times(1)).analyzeFinished(PATTERN_ANALYZER_KEY, LAUNCH_ID);
+  }
+
+  @Test
+  void shouldContinueAfterFailedBatch() {
+    startAnalysis();
+    when(testItemRepository.selectIdsByFilter(eq(LAUNCH_ID), any(), eq(2), eq(0))).thenReturn(
+        List.of(10L, 11L), List.of(15L), Collections.emptyList());
+    doThrow(new IllegalStateException("connection is closed")).when(itemsPatternAnalyzer)
+        .analyzeByPatterns(PROJECT_ID, LAUNCH_ID, List.of(10L, 11L));
+
+    launchPatternAnalyzer.analyzeLaunch(launch(), MODES);
+
+    verify(itemsPatternAnalyzer, times(1)).analyzeByPatterns(PROJECT_ID, LAUNCH_ID, List.of(15L));
+    verify(analyzerStatusCache, times(1)).analyzeFinished(PATTERN_ANALYZER_KEY, LAUNCH_ID);
+  }
+
+  @Test
+  void shouldNotStartWhenAnalysisIsInProgress() {
+    when(analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, LAUNCH_ID, PROJECT_ID))
+        .thenReturn(false);
+
+    assertThrows(ReportPortalException.class,
+        () -> launchPatternAnalyzer.analyzeLaunch(launch(), MODES));
+
+    verify(itemsPatternAnalyzer, never()).analyzeByPatterns(anyLong(), anyLong(), anyList());
+    verify(testItemRepository, never()).selectIdsByFilter(anyLong(), any(), anyInt(), anyInt());
+    verify(analyzerStatusCache, never()).analyzeFinished(any(), any());
+  }
+
+  private void startAnalysis() {
+    when(analyzerStatusCache.analyzeStarted(PATTERN_ANALYZER_KEY, LAUNCH_ID, PROJECT_ID))
+        .thenReturn(true);
+    when(conditionProviderChain.provideCondition(MODES)).thenReturn(
+        Optional.of(mock(ConvertibleCondition.class)));
+  }
+
+  private String lastItemId(Filter filter) {
+    return filter.getFilterConditions()
+        .stream()
+        .filter(FilterCondition.class::isInstance)
+        .map(FilterCondition.class::cast)
+        .filter(condition -> CRITERIA_ID.equals(condition.getSearchCriteria()))
+        .map(FilterCondition::getValue)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static Launch launch() {
+    Launch launch = new Launch();
+    launch.setId(LAUNCH_ID);
+    launch.setProjectId(PROJECT_ID);
+    return launch;
+  }
+}
@@ -37,8 +37,6 @@ import com.epam.ta.reportportal.entity.project.ProjectAttribute;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.model.activity.IssueTypeActivityResource;
 import com.epam.reportportal.model.project.AnalyzerConfig;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import java.util.Arrays;
 import java.util.List;
@@ -107,10 +105,8 @@ class DefectTypeDeletedHandlerTest {
 
     when(projectRepository.findById(projectId)).thenReturn(Optional.of(new Project()));
     when(analyzerServiceClient.hasClients()).thenReturn(true);
-    Cache<Long, Long> cache = CacheBuilder.newBuilder().build();
-    cache.put(2L, projectId);
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(cache));
+    when(analyzerStatusCache.containsProjectId(AnalyzerStatusCache.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(true);
 
     ReportPortalException exception =
         assertThrows(ReportPortalException.class, () -> handler.handleDefectTypeDeleted(
@@ -127,8 +123,8 @@ class DefectTypeDeletedHandlerTest {
     when(projectRepository.findById(projectId)).thenReturn(
         Optional.of(getProjectWithAnalyzerAttributes(projectId)));
     when(analyzerServiceClient.hasClients()).thenReturn(true);
-    when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(
-        Optional.of(CacheBuilder.newBuilder().build()));
+    when(analyzerStatusCache.containsProjectId(AnalyzerStatusCache.AUTO_ANALYZER_KEY,
+        projectId)).thenReturn(false);
     List<Long> launchIds = Arrays.asList(1L, 2L, 3L);
 
     handler.handleDefectTypeDeleted(
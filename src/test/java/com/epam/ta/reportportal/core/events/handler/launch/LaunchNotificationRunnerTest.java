@@ -17,13 +17,19 @@
 package com.epam.ta.reportportal.core.events.handler.launch;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.EXCHANGE_NOTIFICATION;
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.QUEUE_LAUNCH_NOTIFICATION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
@@ -39,13 +45,18 @@ import com.epam.ta.reportportal.entity.integration.Integration;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.project.ProjectUtils;
+import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
-import com.epam.ta.reportportal.util.email.EmailService;
-import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import com.epam.ta.reportportal.model.notification.LaunchNotificationJob;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -55,18 +66,16 @@ class LaunchNotificationRunnerTest {
   private final GetProjectHandler getProjectHandler = mock(GetProjectHandler.class);
   private final GetLaunchHandler getLaunchHandler = mock(GetLaunchHandler.class);
   private final GetIntegrationHandler getIntegrationHandler = mock(GetIntegrationHandler.class);
-  private final MailServiceFactory mailServiceFactory = mock(MailServiceFactory.class);
   private final UserRepository userRepository = mock(UserRepository.class);
+  private final MessageBus messageBus = mock(MessageBus.class);
 
   private Integration emailIntegration = mock(Integration.class);
 
-  private EmailService emailService = mock(EmailService.class);
-
   private final LaunchNotificationRunner runner = new LaunchNotificationRunner(getProjectHandler,
       getLaunchHandler,
       getIntegrationHandler,
-      mailServiceFactory,
-      userRepository
+      userRepository,
+      messageBus
   );
 
   @Test
@@ -116,16 +125,73 @@ class LaunchNotificationRunnerTest {
         )).thenReturn(Optional.ofNullable(emailIntegration));
 
     when(userRepository.findLoginById(any())).thenReturn(Optional.of("owner"));
-    when(mailServiceFactory.getDefaultEmailService(emailIntegration)).thenReturn(
-        Optional.ofNullable(emailService));
 
     when(getLaunchHandler.get(event.getId())).thenReturn(launch);
     when(getProjectHandler.get(event.getProjectId())).thenReturn(project);
     when(getLaunchHandler.hasItemsWithIssues(launch)).thenReturn(Boolean.TRUE);
 
     runner.handle(event, mapping);
-    verify(emailService, times(2)).sendLaunchFinishNotification(any(), any(), any(), any());
+    verify(messageBus, times(2)).publish(eq(EXCHANGE_NOTIFICATION), eq(QUEUE_LAUNCH_NOTIFICATION),
+        any(LaunchNotificationJob.class));
+
+  }
+
+  @Test
+  void shouldResolveRecipientsWithOneQuery() {
+
+    final Launch launch = LaunchTestUtil.getLaunch(StatusEnum.FAILED, LaunchModeEnum.DEFAULT).get();
+    launch.setName("name1");
+    final ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER,
+        launch.getProjectId());
+    final LaunchFinishedEvent event = new LaunchFinishedEvent(launch, user, "baseUrl");
+
+    final Map<String, String> mapping = ImmutableMap.<String, String>builder()
+        .put(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute(), "true")
+        .put(ProjectAttributeEnum.NOTIFICATIONS_EMAIL_ENABLED.getAttribute(), "true")
+        .build();
+
+    final Project project = new Project();
+    project.setId(1L);
+    project.setName("project");
+    project.setSenderCases(LaunchFinishedTestUtils.getSenderCases().stream().peek(
+            senderCase -> senderCase.setRecipients(
+                Sets.newHashSet("first@mail.com", "member", ProjectUtils.getOwner())))
+        .collect(Collectors.toSet()));
+
+    when(emailIntegration.getName()).thenReturn("email server");
+    when(emailIntegration.getId()).thenReturn(5L);
+    when(
+        getIntegrationHandler.getEnabledByProjectIdOrGlobalAndIntegrationGroup(event.getProjectId(),
+            IntegrationGroupEnum.NOTIFICATION
+        )).thenReturn(Optional.ofNullable(emailIntegration));
+    when(userRepository.findLoginById(any())).thenReturn(Optional.of("owner"));
+    when(userRepository.findAllByLoginIn(Sets.newHashSet("member", "owner"))).thenReturn(
+        List.of(user("member", "member@mail.com"), user("owner", "owner@mail.com")));
+    when(getLaunchHandler.get(event.getId())).thenReturn(launch);
+    when(getProjectHandler.get(event.getProjectId())).thenReturn(project);
+    when(getLaunchHandler.hasItemsWithIssues(launch)).thenReturn(Boolean.TRUE);
+
+    runner.handle(event, mapping);
+
+    ArgumentCaptor<LaunchNotificationJob> jobs = ArgumentCaptor.forClass(
+        LaunchNotificationJob.class);
+    verify(messageBus, times(2)).publish(eq(EXCHANGE_NOTIFICATION), eq(QUEUE_LAUNCH_NOTIFICATION),
+        jobs.capture());
+    verify(userRepository, times(1)).findAllByLoginIn(any());
+    jobs.getAllValues().forEach(job -> {
+      assertArrayEquals(new String[] { "first@mail.com", "member@mail.com", "owner@mail.com" },
+          Sets.newTreeSet(List.of(job.getRecipients())).toArray(String[]::new));
+      assertEquals(5L, job.getIntegrationId());
+      assertEquals("baseUrl/ui/#project", job.getUrl());
+    });
+
+  }
 
+  private static User user(String login, String email) {
+    User user = new User();
+    user.setLogin(login);
+    user.setEmail(email);
+    return user;
   }
 
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ import com.epam.reportportal.rules.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.ActivityEvent;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.filter.UpdateUserFilterHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.ProjectUserRepository;
 import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.dao.WidgetRepository;
@@ -42,10 +43,13 @@ import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.model.filter.Order;
 import com.epam.ta.reportportal.model.filter.UpdateUserFilterRQ;
 import com.epam.ta.reportportal.model.filter.UserFilterCondition;
+import com.epam.ta.reportportal.util.CacheEvictionPublisher;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.ta.reportportal.util.ProjectExtractor;
 import com.epam.ta.reportportal.ws.reporting.OperationCompletionRS;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
@@ -63,7 +67,9 @@ class UpdateUserFilterHandlerTest {
 
   private ProjectUserRepository projectUserRepository = mock(ProjectUserRepository.class);
 
-  private ProjectExtractor projectExtractor = new ProjectExtractor(projectUserRepository);
+  private ProjectExtractor projectExtractor = new ProjectExtractor(projectUserRepository,
+      new ProjectDetailsCache(new SimpleMeterRegistry(),
+          mock(CacheEvictionPublisher.class), 100L, 60L));
 
   private UserFilterRepository userFilterRepository = mock(UserFilterRepository.class);
 
@@ -71,8 +77,11 @@ class UpdateUserFilterHandlerTest {
 
   private MessageBus messageBus = mock(MessageBus.class);
 
+  private WidgetContentCache widgetContentCache = mock(WidgetContentCache.class);
+
   private UpdateUserFilterHandler updateUserFilterHandler =
-      new UpdateUserFilterHandlerImpl(projectExtractor, userFilterRepository, messageBus);
+      new UpdateUserFilterHandlerImpl(projectExtractor, userFilterRepository, messageBus,
+          widgetContentCache);
 
   @Test
   void updateUserFilterWithTheSameName() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.hierarchy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/db/test-item/item-finish-hierarchy.sql")
+class HierarchyBulkFinisherTest extends BaseMvcTest {
+
+  @Autowired
+  private HierarchyBulkFinisher hierarchyBulkFinisher;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void shouldResolveParentStatusesFromAllDescendants() {
+    DescendantsScope scope = DescendantsScope.ofLaunch(1L);
+    assertEquals(6, hierarchyBulkFinisher.countInProgress(scope));
+
+    HierarchyBulkFinisher.LeavesResult leaves = hierarchyBulkFinisher.finishLeaves(scope,
+        StatusEnum.PASSED, Instant.now(), null);
+    int parents = hierarchyBulkFinisher.finishParents(scope, Instant.now());
+
+    assertEquals(2, leaves.getFinished());
+    assertEquals(4, parents);
+    assertEquals(StatusEnum.PASSED, status(4L));
+    assertEquals(StatusEnum.PASSED, status(9L));
+    // the failed step is not a child of the suite, but fails it through the test
+    assertEquals(StatusEnum.FAILED, status(2L));
+    assertEquals(StatusEnum.FAILED, status(1L));
+    // failed retry of the passed step does not fail its parents
+    assertEquals(StatusEnum.PASSED, status(6L));
+    assertEquals(StatusEnum.PASSED, status(5L));
+    assertEquals(0, hierarchyBulkFinisher.countInProgress(scope));
+  }
+
+  @Test
+  void shouldFinishOnlyDescendantsOfItem() {
+    DescendantsScope scope = DescendantsScope.ofParentPath("1");
+
+    hierarchyBulkFinisher.finishLeaves(scope, StatusEnum.INTERRUPTED, Instant.now(), null);
+    int parents = hierarchyBulkFinisher.finishParents(scope, Instant.now());
+
+    assertEquals(1, parents);
+    assertEquals(StatusEnum.INTERRUPTED, status(4L));
+    assertEquals(StatusEnum.FAILED, status(2L));
+    assertEquals(StatusEnum.IN_PROGRESS, status(1L));
+    assertEquals(StatusEnum.IN_PROGRESS, status(9L));
+  }
+
+  private StatusEnum status(Long itemId) {
+    return StatusEnum.valueOf(jdbcTemplate.queryForObject(
+        "SELECT CAST(status AS VARCHAR) FROM test_item_results WHERE result_id = ?",
+        String.class, itemId));
+  }
+}
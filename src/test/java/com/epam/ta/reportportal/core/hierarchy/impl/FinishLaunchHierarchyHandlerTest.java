@@ -3,17 +3,23 @@ package com.epam.ta.reportportal.core.hierarchy.impl;
 import static com.epam.ta.reportportal.ReportPortalUserUtil.TEST_PROJECT_NAME;
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.core.item.impl.status.ToSkippedStatusChangingStrategy.SKIPPED_ISSUE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.hierarchy.DescendantsScope;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyBulkFinisher;
+import com.epam.ta.reportportal.core.hierarchy.HierarchyBulkFinisher.LeavesResult;
 import com.epam.ta.reportportal.core.item.impl.IssueTypeHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
@@ -106,6 +112,8 @@ class FinishLaunchHierarchyHandlerTest {
     );
 
     verify(changeStatusHandler, times(2)).changeParentStatus(any(TestItem.class), any(), any());
+    // statuses of the page items are flushed once before the parents update
+    verify(testItemRepository, times(1)).flush();
     verify(issueEntityRepository, times(0)).save(any());
   }
 
@@ -157,6 +165,47 @@ class FinishLaunchHierarchyHandlerTest {
 
   }
 
+  @Test
+  void finishInBulk() {
+    Launch launch = getLaunch();
+    HierarchyBulkFinisher bulkFinisher = mock(HierarchyBulkFinisher.class);
+    finishLaunchHierarchyHandler.setBulkFinisher(bulkFinisher);
+
+    IssueType toInvestigate = getToInvestigateIssueType();
+    when(bulkFinisher.isEnabled()).thenReturn(true);
+    when(issueTypeHandler.defineIssueType(anyLong(), anyString())).thenReturn(toInvestigate);
+    when(bulkFinisher.countInProgress(any(DescendantsScope.class))).thenReturn(5);
+    when(bulkFinisher.finishLeaves(any(DescendantsScope.class),
+        eq(StatusEnum.FAILED),
+        any(Instant.class),
+        eq(toInvestigate)
+    )).thenReturn(new LeavesResult(3, List.of(10L), List.of(20L)));
+    when(bulkFinisher.finishParents(any(DescendantsScope.class), any(Instant.class))).thenReturn(2);
+
+    ReportPortalUser rpUser = getRpUser("test", UserRole.USER, ProjectRole.MEMBER, 1L);
+
+    int finished = finishLaunchHierarchyHandler.finishDescendants(launch,
+        StatusEnum.FAILED,
+        Instant.now(),
+        rpUser,
+        rpUser.getProjectDetails().get(TEST_PROJECT_NAME)
+    );
+
+    assertEquals(5, finished);
+    verify(testItemRepository).flush();
+    verify(issueEntityRepository).deleteById(10L);
+    verify(changeStatusHandler).changeParentStatus(argThat(item -> item.getParentId() == 20L),
+        any(),
+        any()
+    );
+    verify(testItemRepository, never()).findIdsByNotHasChildrenAndLaunchIdAndStatus(anyLong(),
+        any(),
+        anyInt(),
+        anyLong()
+    );
+    verify(testItemRepository, never()).findAllById(any());
+  }
+
   private Launch getLaunch() {
     Launch launch = new Launch();
     launch.setId(1L);
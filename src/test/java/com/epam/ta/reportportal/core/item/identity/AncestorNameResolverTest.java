@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.identity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AncestorNameResolverTest {
+
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+  private final AncestorNameResolver resolver = new AncestorNameResolver(testItemRepository, 100,
+      10);
+
+  @Test
+  void namesShouldBeOrderedByIdAndCached() {
+    when(testItemRepository.findAllById(List.of(1L, 2L))).thenReturn(
+        List.of(item(2L, "test", "1.2"), item(1L, "suite", "1")));
+
+    assertEquals(List.of("suite", "test"), resolver.resolve(List.of(1L, 2L)));
+    assertEquals(List.of("suite", "test"), resolver.resolve(List.of(1L, 2L)));
+
+    verify(testItemRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  void rememberedItemShouldNotBeLoaded() {
+    resolver.remember(item(1L, "suite", "1"));
+    resolver.remember(item(2L, "test", "1.2"));
+    resolver.remember(item(3L, "step", "1.2.3"));
+
+    assertEquals(List.of("suite", "test", "step"), resolver.resolve(List.of(1L, 2L, 3L)));
+    assertTrue(resolver.resolve(List.of()).isEmpty());
+
+    verify(testItemRepository, never()).findAllById(any());
+  }
+
+  @Test
+  void itemWithUnknownAncestorsShouldNotBeRemembered() {
+    when(testItemRepository.findAllById(List.of(1L, 2L))).thenReturn(
+        List.of(item(1L, "suite", "1"), item(2L, "test", "1.2")));
+
+    resolver.remember(item(2L, "test", "1.2"));
+
+    assertEquals(List.of("suite", "test"), resolver.resolve(List.of(1L, 2L)));
+    verify(testItemRepository, times(1)).findAllById(any());
+  }
+
+  private TestItem item(Long id, String name, String path) {
+    TestItem item = new TestItem(id);
+    item.setName(name);
+    item.setPath(path);
+    return item;
+  }
+}
@@ -30,6 +30,8 @@ import static org.mockito.Mockito.when;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.ElementsCounterService;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.core.log.LogService;
 import com.epam.ta.reportportal.core.remover.ContentRemover;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
@@ -83,6 +85,12 @@ class DeleteTestItemHandlerImplTest {
   @Mock
   private LogService logService;
 
+  @Mock
+  private ReportingEntityCache reportingEntityCache;
+
+  @Mock
+  private TestItemHistoryCache testItemHistoryCache;
+
   @InjectMocks
   private DeleteTestItemHandlerImpl handler;
 
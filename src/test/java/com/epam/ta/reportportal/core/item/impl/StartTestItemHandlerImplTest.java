@@ -27,7 +27,10 @@ import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.reportportal.rules.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.item.identity.AncestorNameResolver;
 import com.epam.ta.reportportal.core.item.validator.parent.ParentItemValidator;
+import com.epam.ta.reportportal.core.launch.cache.CachedLaunch;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -66,6 +69,12 @@ class StartTestItemHandlerImplTest {
   @Mock
   private TestItemRepository testItemRepository;
 
+  @Mock
+  private ReportingEntityCache reportingEntityCache;
+
+  @Mock
+  private AncestorNameResolver ancestorNameResolver;
+
   @InjectMocks
   private StartTestItemHandlerImpl handler;
 
@@ -152,8 +161,8 @@ class StartTestItemHandlerImplTest {
     StartTestItemRQ rq = new StartTestItemRQ();
     rq.setLaunchUuid("1");
 
-    when(launchRepository.findByUuid("1")).thenReturn(
-        Optional.of(getLaunch(1L, StatusEnum.IN_PROGRESS)));
+    when(reportingEntityCache.findLaunch("1")).thenReturn(
+        Optional.of(new CachedLaunch(getLaunch(1L, StatusEnum.IN_PROGRESS))));
     when(testItemRepository.findByUuid("1")).thenReturn(Optional.empty());
 
     final ReportPortalException exception = assertThrows(ReportPortalException.class,
@@ -173,8 +182,8 @@ class StartTestItemHandlerImplTest {
 
     TestItem item = new TestItem();
     item.setStartTime(Instant.now().plus(1, ChronoUnit.HOURS));
-    when(launchRepository.findByUuid("1")).thenReturn(
-        Optional.of(getLaunch(1L, StatusEnum.IN_PROGRESS)));
+    when(reportingEntityCache.findLaunch("1")).thenReturn(
+        Optional.of(new CachedLaunch(getLaunch(1L, StatusEnum.IN_PROGRESS))));
     when(testItemRepository.findByUuid("1")).thenReturn(Optional.of(item));
     doThrow(new ReportPortalException(ErrorType.BAD_REQUEST_ERROR)).when(validator)
         .validate(any(StartTestItemRQ.class), any(TestItem.class));
@@ -198,8 +207,8 @@ class StartTestItemHandlerImplTest {
     results.setStatus(StatusEnum.FAILED);
     item.setItemResults(results);
     item.setStartTime(Instant.now());
-    when(launchRepository.findByUuid("1")).thenReturn(
-        Optional.of(getLaunch(1L, StatusEnum.IN_PROGRESS)));
+    when(reportingEntityCache.findLaunch("1")).thenReturn(
+        Optional.of(new CachedLaunch(getLaunch(1L, StatusEnum.IN_PROGRESS))));
     when(testItemRepository.findByUuid("1")).thenReturn(Optional.of(item));
     doThrow(new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
         Suppliers.formattedSupplier(
@@ -225,7 +234,7 @@ class StartTestItemHandlerImplTest {
     startTestItemRQ.setStartTime(Instant.now());
     startTestItemRQ.setLaunchUuid("1");
 
-    when(launchRepository.findByUuid("1")).thenReturn(Optional.empty());
+    when(reportingEntityCache.findLaunch("1")).thenReturn(Optional.empty());
 
     ReportPortalException exception = assertThrows(ReportPortalException.class,
         () -> handler.startChildItem(rpUser, extractProjectDetails(rpUser, "test_project"),
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
+import com.epam.ta.reportportal.core.item.identity.AncestorNameResolver;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGeneratorImpl;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -30,9 +31,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,9 +46,14 @@ class TestCaseHashGeneratorImplTest {
   @Mock
   private TestItemRepository testItemRepository;
 
-  @InjectMocks
   private TestCaseHashGeneratorImpl testCaseHashGenerator;
 
+  @BeforeEach
+  void setUp() {
+    testCaseHashGenerator = new TestCaseHashGeneratorImpl(
+        new AncestorNameResolver(testItemRepository, 100, 10));
+  }
+
   @Test
   void sameHashesForSameObjectsTest() {
     TestItem item = getItem();
@@ -75,6 +81,7 @@ class TestCaseHashGeneratorImplTest {
     assertNotNull(first);
     assertNotNull(second);
     assertEquals(first, second);
+    assertEquals("100;suite;test;item;key=value".hashCode(), first);
   }
 
   private TestItem getItem() {
@@ -16,11 +16,13 @@
 
 package com.epam.ta.reportportal.core.item.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import com.epam.ta.reportportal.core.item.identity.AncestorNameResolver;
 import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -33,9 +35,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -48,9 +51,15 @@ class TestItemUniqueIdGeneratorTest {
   @Mock
   private TestItemRepository testItemRepository;
 
-  @InjectMocks
   private TestItemUniqueIdGenerator uniqueIdGenerator;
 
+  @BeforeEach
+  void setUp() {
+    uniqueIdGenerator = new TestItemUniqueIdGenerator();
+    uniqueIdGenerator.setAncestorNameResolver(
+        new AncestorNameResolver(testItemRepository, 100, 10));
+  }
+
   @Test
   void validateTest() {
     assertFalse(uniqueIdGenerator.validate(""));
@@ -104,4 +113,30 @@ class TestItemUniqueIdGeneratorTest {
     assertNotNull(generated);
     assertTrue(generated.startsWith("auto:"));
   }
+
+  @Test
+  void generatedIdShouldMatchJoinedStringDigest() {
+    Launch launch = new Launch();
+    launch.setProjectId(1L);
+    launch.setName("launchName");
+
+    TestItem testItem = new TestItem();
+    testItem.setItemId(3L);
+    testItem.setName("itemName");
+    testItem.setPath("1.2.3");
+    Parameter parameter = new Parameter();
+    parameter.setKey("key");
+    parameter.setValue("value");
+    testItem.setParameters(Sets.newHashSet(parameter));
+
+    TestItem suite = new TestItem(1L);
+    suite.setName("suite");
+    TestItem test = new TestItem(2L);
+    test.setName("test");
+    final List<Long> parentIds = IdentityUtil.getParentIds(testItem);
+    when(testItemRepository.findAllById(parentIds)).thenReturn(List.of(test, suite));
+
+    assertEquals("auto:" + DigestUtils.md5Hex("1;launchName;suite;test;itemName;key=value"),
+        uniqueIdGenerator.generate(testItem, parentIds, launch));
+  }
 }
\ No newline at end of file
@@ -25,12 +25,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
@@ -46,8 +49,12 @@ import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.model.issue.DefineIssueRQ;
 import com.epam.ta.reportportal.model.item.UpdateTestItemRQ;
 import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.ta.reportportal.ws.reporting.BulkInfoUpdateRQ;
 import com.epam.ta.reportportal.ws.reporting.OperationCompletionRS;
 import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -79,9 +86,33 @@ class UpdateTestItemHandlerImplTest {
   @Mock
   private MessageBus messageBus;
 
+  @Mock
+  private TestItemHistoryCache testItemHistoryCache;
+
+  @Mock
+  private WidgetContentCache widgetContentCache;
+
   @InjectMocks
   private UpdateTestItemHandlerImpl handler;
 
+  @Test
+  void bulkInfoUpdateEvictsHistoryOfItems() {
+    final ReportPortalUser rpUser =
+        getRpUser("test", UserRole.USER, ProjectRole.PROJECT_MANAGER, 1L);
+    TestItem item = new TestItem(1L);
+    item.setLaunchId(2L);
+    item.setAttributes(new HashSet<>());
+    BulkInfoUpdateRQ rq = new BulkInfoUpdateRQ();
+    rq.setIds(List.of(1L));
+    rq.setAttributes(new ArrayList<>());
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(itemRepository.findAllById(List.of(1L))).thenReturn(List.of(item));
+
+    handler.bulkInfoUpdate(rq, extractProjectDetails(rpUser, "test_project"));
+
+    verify(testItemHistoryCache).evictChangedItems(List.of(item));
+  }
+
   @Test
   void updateNotExistedTestItem() {
     final ReportPortalUser rpUser =
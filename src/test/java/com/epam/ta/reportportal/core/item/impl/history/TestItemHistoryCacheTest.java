@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.reporting.TestItemResource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TestItemHistoryCacheTest {
+
+  private final TestItemHistoryCache cache = new TestItemHistoryCache(100L, 5L);
+
+  private final List<List<Long>> loads = new ArrayList<>();
+
+  @Test
+  void shouldLoadOnlyMissingCells() {
+    cache.getAll(List.of(1L, 2L), this::load);
+    Map<Long, TestItemResource> cells = cache.getAll(List.of(1L, 2L, 3L, 3L), this::load);
+
+    assertEquals(3, cells.size());
+    assertEquals(List.of(List.of(1L, 2L), List.of(3L)), loads);
+  }
+
+  @Test
+  void shouldNotCacheItemsInProgress() {
+    cache.getAll(List.of(1L, 11L), this::load);
+    cache.getAll(List.of(1L, 11L), this::load);
+
+    assertEquals(List.of(List.of(1L, 11L), List.of(11L)), loads);
+  }
+
+  @Test
+  void shouldReloadEvictedCells() {
+    cache.getAll(List.of(1L, 2L, 3L, 21L), this::load);
+    cache.evictLaunch(20L);
+    cache.evictItems(List.of(1L));
+    cache.getAll(List.of(1L, 2L, 3L, 21L), this::load);
+
+    assertEquals(List.of(List.of(1L, 2L, 3L, 21L), List.of(1L, 21L)), loads);
+  }
+
+  @Test
+  void shouldEvictLaunchesOfChangedItems() {
+    TestItem changed = new TestItem(1L);
+    changed.setLaunchId(10L);
+    cache.getAll(List.of(1L, 2L, 21L), this::load);
+    cache.evictChangedItems(List.of(changed));
+    cache.getAll(List.of(1L, 2L, 21L), this::load);
+
+    assertEquals(List.of(List.of(1L, 2L, 21L), List.of(1L, 2L)), loads);
+  }
+
+  @Test
+  void shouldReloadAllCellsAfterEvictAll() {
+    cache.getAll(List.of(1L, 21L), this::load);
+    cache.evictAll();
+    cache.evictLaunch(20L);
+    cache.getAll(List.of(1L, 21L), this::load);
+
+    assertEquals(List.of(List.of(1L, 21L), List.of(1L, 21L)), loads);
+  }
+
+  /**
+   * Items with id greater than 10 are in progress and items with id greater than 20 belong to the
+   * launch 20.
+   */
+  private List<TestItemResource> load(List<Long> itemIds) {
+    loads.add(itemIds);
+    return itemIds.stream().map(itemId -> {
+      TestItemResource resource = new TestItemResource();
+      resource.setItemId(itemId);
+      resource.setLaunchId(itemId > 20 ? 20L : 10L);
+      resource.setStatus(itemId > 10 && itemId <= 20 ? StatusEnum.IN_PROGRESS.name()
+          : StatusEnum.PASSED.name());
+      return resource;
+    }).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.core.item.identity.TestItemUniqueIdGenerator;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+class LaunchUniqueIdUpdaterTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final TestItemUniqueIdGenerator generator = mock(TestItemUniqueIdGenerator.class);
+
+  private final LaunchUniqueIdUpdater updater = new LaunchUniqueIdUpdater(jdbcTemplate, generator);
+
+  @Test
+  void shouldNotUpdateItemsWithoutGeneratedUniqueIds() {
+    TestItem item = new TestItem(5L);
+    item.setUniqueId("custom");
+    when(jdbcTemplate.query(any(String.class), any(RowMapper.class), eq(10L), eq(0L), eq(100)))
+        .thenReturn(List.of(item));
+
+    assertEquals(List.of(5L), updater.updateChunk(1L, 10L, "name", 0L, 100));
+
+    verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class),
+        any(RowCallbackHandler.class));
+  }
+
+  @Test
+  void shouldReturnEmptyChunkAfterLastItem() {
+    when(jdbcTemplate.query(any(String.class), any(RowMapper.class), eq(10L), eq(5L), eq(100)))
+        .thenReturn(Collections.emptyList());
+
+    assertEquals(Collections.emptyList(), updater.updateChunk(1L, 10L, "name", 5L, 100));
+  }
+
+  @Test
+  void shouldResumePendingUpdateFromCheckpoint() {
+    when(jdbcTemplate.queryForList(contains("SKIP LOCKED"), eq(10L),
+        eq(LaunchUniqueIdUpdater.PENDING_ATTRIBUTE_KEY))).thenReturn(List.of(
+        Map.of("id", 3L, "value", "5", "project_id", 1L, "name", "name")));
+    TestItem item = new TestItem(6L);
+    item.setUniqueId("custom");
+    when(jdbcTemplate.query(any(String.class), any(RowMapper.class), eq(10L), eq(5L), eq(100)))
+        .thenReturn(List.of(item));
+
+    assertEquals(Optional.of(List.of(6L)), updater.updatePendingChunk(10L, 100));
+
+    verify(jdbcTemplate).update(contains("UPDATE item_attribute"), eq("6"), eq(3L));
+  }
+
+  @Test
+  void shouldNotUpdateLockedPendingLaunch() {
+    when(jdbcTemplate.queryForList(contains("SKIP LOCKED"), eq(10L),
+        eq(LaunchUniqueIdUpdater.PENDING_ATTRIBUTE_KEY))).thenReturn(Collections.emptyList());
+
+    assertEquals(Optional.empty(), updater.updatePendingChunk(10L, 100));
+
+    verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(), any(), any());
+  }
+}
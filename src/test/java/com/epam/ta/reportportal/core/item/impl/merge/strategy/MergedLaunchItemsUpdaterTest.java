@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.merge.strategy;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.model.project.AnalyzerConfig;
+import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigProvider;
+import com.epam.ta.reportportal.dao.AttachmentRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MergedLaunchItemsUpdaterTest {
+
+  private static final Long PROJECT_ID = 1L;
+  private static final Long LAUNCH_ID = 10L;
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final LogRepository logRepository = mock(LogRepository.class);
+  private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+  private final LaunchUniqueIdUpdater uniqueIdUpdater = mock(LaunchUniqueIdUpdater.class);
+
+  private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+  private final ProjectConfigProvider projectConfigProvider = mock(ProjectConfigProvider.class);
+  private final LogIndexer logIndexer = mock(LogIndexer.class);
+
+  private final MergedLaunchItemsUpdater updater = new MergedLaunchItemsUpdater(jdbcTemplate,
+      logRepository, attachmentRepository, uniqueIdUpdater, launchRepository,
+      projectConfigProvider, logIndexer, new SyncTaskExecutor(), 2, 3L);
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldRelinkLaunchesContent() {
+    Launch source = launch(2L, "source");
+    source.setNumber(5L);
+
+    updater.relink(launch(LAUNCH_ID, "merged"), List.of(source), true);
+
+    verify(logRepository).updateLaunchIdByLaunchId(2L, LAUNCH_ID);
+    verify(attachmentRepository).updateLaunchIdByProjectIdAndLaunchId(PROJECT_ID, 2L, LAUNCH_ID);
+    verify(jdbcTemplate).update(contains("concat(description, ?)"), eq("\r\n@launch 'source #5'"),
+        eq(2L));
+    verify(jdbcTemplate).update(contains("SET launch_id = ?"), eq(LAUNCH_ID), eq(2L));
+  }
+
+  @Test
+  void shouldUpdateUniqueIdsInChunks() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(LAUNCH_ID))).thenReturn(3L);
+    when(uniqueIdUpdater.updateChunk(PROJECT_ID, LAUNCH_ID, "merged", 0L, 2)).thenReturn(
+        List.of(1L, 2L));
+    when(uniqueIdUpdater.updateChunk(PROJECT_ID, LAUNCH_ID, "merged", 2L, 2)).thenReturn(
+        List.of(3L));
+    when(uniqueIdUpdater.updateChunk(PROJECT_ID, LAUNCH_ID, "merged", 3L, 2)).thenReturn(
+        Collections.emptyList());
+    Launch launch = launch(LAUNCH_ID, "merged");
+    AnalyzerConfig analyzerConfig = new AnalyzerConfig();
+
+    updater.updateUniqueIds(launch, true);
+    updater.indexLaunchLogs(launch, analyzerConfig);
+
+    verify(uniqueIdUpdater).updateChunk(PROJECT_ID, LAUNCH_ID, "merged", 3L, 2);
+    verify(uniqueIdUpdater, never()).markPending(anyLong());
+    verify(logIndexer).indexLaunchLogs(launch, analyzerConfig);
+  }
+
+  @Test
+  void shouldMarkBigLaunchAndUpdateUniqueIdsAfterCommit() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(LAUNCH_ID))).thenReturn(4L);
+    when(uniqueIdUpdater.isPending(LAUNCH_ID)).thenReturn(true);
+    when(uniqueIdUpdater.updatePendingChunk(LAUNCH_ID, 2)).thenReturn(Optional.of(List.of(1L, 2L)))
+        .thenReturn(Optional.of(Collections.emptyList()));
+    Launch launch = launch(LAUNCH_ID, "merged");
+    when(launchRepository.findById(LAUNCH_ID)).thenReturn(Optional.of(launch));
+    when(projectConfigProvider.provide(PROJECT_ID)).thenReturn(Collections.emptyMap());
+    TransactionSynchronizationManager.initSynchronization();
+
+    updater.updateUniqueIds(launch, true);
+    updater.indexLaunchLogs(launch, new AnalyzerConfig());
+
+    verify(uniqueIdUpdater).markPending(LAUNCH_ID);
+    verify(uniqueIdUpdater, never()).updatePendingChunk(anyLong(), anyInt());
+    verify(logIndexer, never()).indexLaunchLogs(any(), any());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    InOrder inOrder = inOrder(uniqueIdUpdater, logIndexer);
+    inOrder.verify(uniqueIdUpdater, times(2)).updatePendingChunk(LAUNCH_ID, 2);
+    inOrder.verify(logIndexer).indexLaunchLogs(eq(launch), any(AnalyzerConfig.class));
+    inOrder.verify(uniqueIdUpdater).completePending(LAUNCH_ID);
+  }
+
+  @Test
+  void shouldKeepPendingMarkWhenIndexingFails() {
+    when(uniqueIdUpdater.updatePendingChunk(LAUNCH_ID, 2)).thenReturn(
+        Optional.of(Collections.emptyList()));
+    Launch launch = launch(LAUNCH_ID, "merged");
+    when(launchRepository.findById(LAUNCH_ID)).thenReturn(Optional.of(launch));
+    when(projectConfigProvider.provide(PROJECT_ID)).thenReturn(Collections.emptyMap());
+    doThrow(new RuntimeException("analyzer is unavailable")).when(logIndexer)
+        .indexLaunchLogs(eq(launch), any(AnalyzerConfig.class));
+
+    updater.resumeUniqueIdsUpdate(LAUNCH_ID);
+
+    verify(uniqueIdUpdater, never()).completePending(anyLong());
+  }
+
+  @Test
+  void shouldResumePendingUpdatesFromCheckpoint() {
+    when(uniqueIdUpdater.findPendingLaunchIds()).thenReturn(List.of(LAUNCH_ID));
+    when(uniqueIdUpdater.updatePendingChunk(LAUNCH_ID, 2)).thenReturn(Optional.of(List.of(7L)))
+        .thenReturn(Optional.empty());
+
+    updater.resumePendingUpdates();
+
+    verify(uniqueIdUpdater, times(2)).updatePendingChunk(LAUNCH_ID, 2);
+    verify(uniqueIdUpdater, never()).completePending(anyLong());
+    verify(logIndexer, never()).indexLaunchLogs(any(), any());
+  }
+
+  private static Launch launch(Long id, String name) {
+    Launch launch = new Launch();
+    launch.setId(id);
+    launch.setProjectId(PROJECT_ID);
+    launch.setName(name);
+    return launch;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl.status;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class InProgressItemsTrackerTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+  private final InProgressItemsTracker tracker = new InProgressItemsTracker(jdbcTemplate, 100,
+      10);
+
+  @Test
+  void inProgressWitnessShouldBeCheckedByIdOnly() {
+    TestItem parent = parent();
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("1"), eq(1L))).thenReturn(
+        List.of(5L));
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(5L), eq("1"), eq(1L)))
+        .thenReturn(true);
+
+    assertTrue(tracker.hasItemsInProgress(parent));
+    assertTrue(tracker.hasItemsInProgress(parent));
+
+    verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq("1"), eq(1L));
+  }
+
+  @Test
+  void descendantsShouldBeScannedOnlyWhenWitnessIsFinished() {
+    TestItem parent = parent();
+    // children 11..15 run in parallel, the newest one is remembered and finishes last
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("1"), eq(1L))).thenReturn(
+        List.of(15L), List.of());
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(15L), eq("1"), eq(1L)))
+        .thenReturn(true, true, true, false);
+
+    // checks on finish of the children 11..14
+    for (int i = 0; i < 4; i++) {
+      assertTrue(tracker.hasItemsInProgress(parent));
+    }
+    // check on finish of the child 15
+    assertFalse(tracker.hasItemsInProgress(parent));
+
+    verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq("1"), eq(1L));
+  }
+
+  @Test
+  void witnessShouldBelongToTheLaunch() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(10L))).thenReturn(List.of(5L),
+        List.of());
+    when(jdbcTemplate.queryForObject(contains("ti.launch_id = ?"), eq(Boolean.class), eq(5L),
+        eq(10L))).thenReturn(false);
+
+    assertTrue(tracker.hasLaunchItemsInProgress(10L));
+    // the witness was moved to another launch, so the launch items are scanned again
+    assertFalse(tracker.hasLaunchItemsInProgress(10L));
+
+    verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(10L));
+  }
+
+  @Test
+  void finishedWitnessShouldBeReplaced() {
+    TestItem parent = parent();
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("1"), eq(1L))).thenReturn(
+        List.of(5L), List.of(4L), List.of());
+    when(jdbcTemplate.queryForObject(contains("ti.path <@"), eq(Boolean.class), eq(5L), eq("1"),
+        eq(1L))).thenReturn(false);
+    when(jdbcTemplate.queryForObject(contains("ti.path <@"), eq(Boolean.class), eq(4L), eq("1"),
+        eq(1L))).thenReturn(false);
+
+    assertTrue(tracker.hasItemsInProgress(parent));
+    assertTrue(tracker.hasItemsInProgress(parent));
+    assertFalse(tracker.hasItemsInProgress(parent));
+    assertFalse(tracker.hasItemsInProgress(parent));
+
+    verify(jdbcTemplate, times(4)).queryForList(anyString(), eq(Long.class), eq("1"), eq(1L));
+  }
+
+  @Test
+  void launchWithoutItemsInProgress() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(10L))).thenReturn(List.of());
+
+    assertFalse(tracker.hasLaunchItemsInProgress(10L));
+
+    verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), eq(10L));
+  }
+
+  private TestItem parent() {
+    TestItem parent = new TestItem(1L);
+    parent.setPath("1");
+    return parent;
+  }
+}
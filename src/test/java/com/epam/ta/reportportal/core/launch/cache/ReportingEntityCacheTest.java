@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ReportingEntityCacheTest {
+
+  private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+
+  private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+  private final TestItemService testItemService = mock(TestItemService.class);
+
+  private final ReportingEntityCache cache = new ReportingEntityCache(launchRepository,
+      testItemRepository, testItemService, 100, 100, 10);
+
+  @Test
+  void launchShouldBeLoadedOnce() {
+    Launch launch = launch();
+    when(launchRepository.findByUuid("launch-uuid")).thenReturn(Optional.of(launch));
+
+    cache.findLaunch("launch-uuid");
+    CachedLaunch cached = cache.findLaunch("launch-uuid").orElseThrow();
+    cache.findLaunch(1L);
+
+    verify(launchRepository, times(1)).findByUuid("launch-uuid");
+    verify(launchRepository, never()).findById(1L);
+    assertEquals(1L, cached.getId());
+    assertEquals(2L, cached.getProjectId());
+  }
+
+  @Test
+  void itemShouldBeCachedWithEffectiveLaunch() {
+    Launch launch = launch();
+    TestItem item = item();
+    when(testItemRepository.findByUuid("item-uuid")).thenReturn(Optional.of(item));
+    when(testItemService.getEffectiveLaunch(item)).thenReturn(launch);
+
+    cache.findItem("item-uuid");
+    CachedTestItem cached = cache.findItem("item-uuid").orElseThrow();
+    cache.findLaunch("launch-uuid");
+
+    verify(testItemRepository, times(1)).findByUuid("item-uuid");
+    verify(launchRepository, never()).findByUuid("launch-uuid");
+    assertEquals(10L, cached.getItemId());
+    assertEquals(1L, cached.getLaunchId());
+  }
+
+  @Test
+  void evictLaunchShouldRemoveLaunchAndItsItems() {
+    Launch launch = launch();
+    TestItem item = item();
+    when(testItemRepository.findByUuid("item-uuid")).thenReturn(Optional.of(item));
+    when(testItemService.getEffectiveLaunch(item)).thenReturn(launch);
+    when(launchRepository.findByUuid("launch-uuid")).thenReturn(Optional.of(launch));
+    cache.findItem("item-uuid");
+
+    launch.setRerun(true);
+    cache.evictLaunch(1L);
+
+    assertTrue(cache.findLaunch("launch-uuid").orElseThrow().isRerun());
+    cache.findItem("item-uuid");
+    verify(testItemRepository, times(2)).findByUuid("item-uuid");
+  }
+
+  @Test
+  void evictLaunchShouldKeepItemsOfOtherLaunches() {
+    Launch launch = launch();
+    Launch otherLaunch = new Launch(3L);
+    otherLaunch.setUuid("other-launch-uuid");
+    TestItem item = item();
+    TestItem otherItem = new TestItem(30L);
+    otherItem.setUuid("other-item-uuid");
+    otherItem.setLaunchId(3L);
+    when(testItemRepository.findByUuid("item-uuid")).thenReturn(Optional.of(item));
+    when(testItemRepository.findByUuid("other-item-uuid")).thenReturn(Optional.of(otherItem));
+    when(testItemService.getEffectiveLaunch(item)).thenReturn(launch);
+    when(testItemService.getEffectiveLaunch(otherItem)).thenReturn(otherLaunch);
+    cache.findItem("item-uuid");
+    cache.findItem("other-item-uuid");
+
+    cache.evictLaunch(1L);
+    cache.findItem("item-uuid");
+    cache.findItem("other-item-uuid");
+    cache.findLaunch("other-launch-uuid");
+
+    verify(testItemRepository, times(2)).findByUuid("item-uuid");
+    verify(testItemRepository, times(1)).findByUuid("other-item-uuid");
+    verify(launchRepository, never()).findByUuid("other-launch-uuid");
+  }
+
+  @Test
+  void missingEntitiesShouldNotBeCached() {
+    when(launchRepository.findByUuid("launch-uuid")).thenReturn(Optional.empty());
+
+    assertTrue(cache.findLaunch("launch-uuid").isEmpty());
+    assertTrue(cache.findLaunch("launch-uuid").isEmpty());
+    assertTrue(cache.findItem(null).isEmpty());
+
+    verify(launchRepository, times(2)).findByUuid("launch-uuid");
+  }
+
+  private Launch launch() {
+    Launch launch = new Launch(1L);
+    launch.setUuid("launch-uuid");
+    launch.setProjectId(2L);
+    launch.setName("launch");
+    launch.setStatus(StatusEnum.IN_PROGRESS);
+    return launch;
+  }
+
+  private TestItem item() {
+    TestItem item = new TestItem(10L);
+    item.setUuid("item-uuid");
+    item.setLaunchId(1L);
+    return item;
+  }
+}
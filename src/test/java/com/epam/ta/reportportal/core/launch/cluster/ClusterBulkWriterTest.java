@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.launch.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class ClusterBulkWriterTest {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+  private final ClusterBulkWriter clusterBulkWriter = new ClusterBulkWriter(jdbcTemplate, 2);
+
+  @Test
+  void shouldUpsertClustersByChunks() {
+    Map<Long, String> messages = new LinkedHashMap<>();
+    messages.put(1L, "first");
+    messages.put(2L, "second");
+    messages.put(3L, "third");
+
+    clusterBulkWriter.upsertClusters(1L, 2L, messages);
+
+    verify(jdbcTemplate, times(2)).query(any(PreparedStatementCreator.class),
+        any(RowCallbackHandler.class));
+  }
+
+  @Test
+  void shouldUpdateLogClustersByChunks() throws Exception {
+    Map<Long, Long> clusterIdByLogId = new LinkedHashMap<>();
+    clusterIdByLogId.put(1L, 10L);
+    clusterIdByLogId.put(2L, 10L);
+    clusterIdByLogId.put(3L, 20L);
+
+    clusterBulkWriter.updateLogClusters(clusterIdByLogId);
+
+    ArgumentCaptor<PreparedStatementCreator> creators = ArgumentCaptor.forClass(
+        PreparedStatementCreator.class);
+    verify(jdbcTemplate, times(2)).update(creators.capture());
+
+    List<Object[]> arrays = new ArrayList<>();
+    Connection connection = mock(Connection.class);
+    when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+    when(connection.createArrayOf(any(), any())).thenAnswer(invocation -> {
+      arrays.add(invocation.getArgument(1));
+      return mock(Array.class);
+    });
+    creators.getValue().createPreparedStatement(connection);
+
+    assertArrayEquals(new Long[]{3L}, arrays.get(0));
+    assertArrayEquals(new Long[]{20L}, arrays.get(1));
+  }
+
+  @Test
+  void shouldNotLinkEmptyItems() {
+    clusterBulkWriter.saveClusterItems(Map.of(1L, Set.of()));
+
+    verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+  }
+}
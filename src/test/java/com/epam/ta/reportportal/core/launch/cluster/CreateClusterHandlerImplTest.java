@@ -16,22 +16,14 @@
 
 package com.epam.ta.reportportal.core.launch.cluster;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.anyLong;
-import static org.mockito.Mockito.anySet;
-import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.core.analyzer.auto.client.model.cluster.ClusterData;
 import com.epam.ta.reportportal.core.analyzer.auto.client.model.cluster.ClusterInfoRs;
-import com.epam.ta.reportportal.dao.ClusterRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
-import com.epam.ta.reportportal.entity.cluster.Cluster;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,94 +38,72 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CreateClusterHandlerImplTest {
 
   @Mock
-  private ClusterRepository clusterRepository;
-
-  @Mock
-  private LogRepository logRepository;
+  private ClusterBulkWriter clusterBulkWriter;
 
   @InjectMocks
   private CreateClusterHandlerImpl createClusterHandler;
 
   @Test
-  void updateCluster() {
+  void saveClusters() {
 
     final ClusterData clusterData = new ClusterData();
     clusterData.setProject(1L);
     clusterData.setLaunchId(1L);
 
-    final ClusterInfoRs first = new ClusterInfoRs();
-    first.setClusterId(1L);
-    first.setClusterMessage("first");
-    first.setLogIds(Set.of(1L, 2L));
-    first.setItemIds(Set.of(1L, 2L));
-
-    final ClusterInfoRs second = new ClusterInfoRs();
-    second.setClusterId(2L);
-    second.setClusterMessage("second");
-    second.setLogIds(Set.of(3L, 4L));
-    second.setItemIds(Set.of(3L, 4L));
-
+    final ClusterInfoRs first = cluster(1L, "first", Set.of(1L, 2L), Set.of(1L, 2L));
+    final ClusterInfoRs second = cluster(2L, "second", Set.of(3L, 4L), Set.of(3L, 4L));
     clusterData.setClusters(List.of(first, second));
 
-    final Cluster firstCluster = new Cluster();
-    firstCluster.setIndexId(1L);
-    final Cluster secondCluster = new Cluster();
-    secondCluster.setIndexId(2L);
-    when(clusterRepository.findByIndexIdAndLaunchId(1L, clusterData.getLaunchId())).thenReturn(
-        Optional.of(firstCluster));
-    when(clusterRepository.findByIndexIdAndLaunchId(2L, clusterData.getLaunchId())).thenReturn(
-        Optional.of(secondCluster));
-
-    doAnswer(invocation -> {
-      Object[] args = invocation.getArguments();
-      Cluster cluster = ((Cluster) args[0]);
-      cluster.setId(cluster.getIndexId());
-      return cluster;
-    }).when(clusterRepository).save(any(Cluster.class));
+    when(clusterBulkWriter.upsertClusters(1L, 1L, Map.of(1L, "first", 2L, "second"))).thenReturn(
+        Map.of(1L, 10L, 2L, 20L));
 
     createClusterHandler.create(clusterData);
 
-    verify(clusterRepository, times(2)).save(any(Cluster.class));
-    verify(clusterRepository, times(2)).saveClusterTestItems(any(Cluster.class), anySet());
-    verify(logRepository, times(2)).updateClusterIdByIdIn(any(Long.class), anySet());
+    verify(clusterBulkWriter).saveClusterItems(Map.of(10L, Set.of(1L, 2L), 20L, Set.of(3L, 4L)));
+    verify(clusterBulkWriter).updateLogClusters(Map.of(1L, 10L, 2L, 10L, 3L, 20L, 4L, 20L));
   }
 
   @Test
-  void saveCluster() {
+  void mergeClustersWithSameIndex() {
 
     final ClusterData clusterData = new ClusterData();
     clusterData.setProject(1L);
     clusterData.setLaunchId(1L);
 
-    final ClusterInfoRs first = new ClusterInfoRs();
-    first.setClusterId(1L);
-    first.setClusterMessage("first");
-    first.setLogIds(Set.of(1L, 2L));
-    first.setItemIds(Set.of(1L, 2L));
+    final ClusterInfoRs first = cluster(1L, "first", Set.of(1L), Set.of(1L, 2L));
+    final ClusterInfoRs second = cluster(1L, "second", Set.of(2L), Set.of(2L));
+    final ClusterInfoRs withoutIndex = cluster(null, "third", Set.of(3L), Set.of(3L));
+    clusterData.setClusters(List.of(first, second, withoutIndex));
 
-    final ClusterInfoRs second = new ClusterInfoRs();
-    second.setClusterId(2L);
-    second.setClusterMessage("second");
-    second.setLogIds(Set.of(3L, 4L));
-    second.setItemIds(Set.of(3L, 4L));
+    when(clusterBulkWriter.upsertClusters(1L, 1L, Map.of(1L, "second"))).thenReturn(
+        Map.of(1L, 10L));
 
-    clusterData.setClusters(List.of(first, second));
+    createClusterHandler.create(clusterData);
+
+    verify(clusterBulkWriter).saveClusterItems(Map.of(10L, Set.of(1L, 2L)));
+    verify(clusterBulkWriter).updateLogClusters(Map.of(1L, 10L, 2L, 10L));
+  }
 
-    when(clusterRepository.findByIndexIdAndLaunchId(anyLong(),
-        eq(clusterData.getLaunchId()))).thenReturn(Optional.empty());
+  @Test
+  void skipEmptyClusters() {
 
-    doAnswer(invocation -> {
-      Object[] args = invocation.getArguments();
-      Cluster cluster = ((Cluster) args[0]);
-      cluster.setId(cluster.getIndexId());
-      return cluster;
-    }).when(clusterRepository).save(any(Cluster.class));
+    final ClusterData clusterData = new ClusterData();
+    clusterData.setProject(1L);
+    clusterData.setLaunchId(1L);
 
     createClusterHandler.create(clusterData);
 
-    verify(clusterRepository, times(2)).save(any(Cluster.class));
-    verify(clusterRepository, times(2)).saveClusterTestItems(any(Cluster.class), anySet());
-    verify(logRepository, times(2)).updateClusterIdByIdIn(any(Long.class), anySet());
+    verifyNoInteractions(clusterBulkWriter);
+  }
+
+  private ClusterInfoRs cluster(Long indexId, String message, Set<Long> itemIds,
+      Set<Long> logIds) {
+    final ClusterInfoRs cluster = new ClusterInfoRs();
+    cluster.setClusterId(indexId);
+    cluster.setClusterMessage(message);
+    cluster.setItemIds(itemIds);
+    cluster.setLogIds(logIds);
+    return cluster;
   }
 
-}
\ No newline at end of file
+}
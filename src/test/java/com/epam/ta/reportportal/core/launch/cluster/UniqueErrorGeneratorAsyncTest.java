@@ -81,6 +81,7 @@ class UniqueErrorGeneratorAsyncTest {
   @Test
   void shouldGenerate() {
     when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
     doCallRealMethod().when(logClusterExecutor).execute(any(Runnable.class));
 
     final GenerateClustersConfig config = getConfig(false);
@@ -101,6 +102,7 @@ class UniqueErrorGeneratorAsyncTest {
   @Test
   void shouldCleanCacheWhenExceptionThrown() {
     when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
     doCallRealMethod().when(logClusterExecutor).execute(any(Runnable.class));
 
     final GenerateClustersConfig config = getConfig(false);
@@ -124,6 +126,7 @@ class UniqueErrorGeneratorAsyncTest {
   @Test
   void shouldCleanCacheWhenExceptionThrownDuringTaskSubmit() {
     when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -72,9 +72,26 @@ class UniqueErrorGeneratorTest {
     );
   }
 
+  @Test
+  void shouldFailWhenStartedByAnotherInstance() {
+    when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(false);
+
+    final GenerateClustersConfig config = getConfig(false);
+
+    final ReportPortalException exception = assertThrows(ReportPortalException.class,
+        () -> clusterGenerator.generate(config));
+    assertEquals("Impossible interact with integration. Clusters creation is in progress.",
+        exception.getMessage());
+
+    verify(pipelineConstructor, times(0)).construct(config);
+    verify(analyzerStatusCache, times(0)).analyzeFinished(anyString(), anyLong());
+  }
+
   @Test
   void shouldGenerate() {
     when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
@@ -94,6 +111,7 @@ class UniqueErrorGeneratorTest {
   @Test
   void shouldCleanCacheWhenExceptionThrown() {
     when(analyzerStatusCache.containsLaunchId(anyString(), anyLong())).thenReturn(false);
+    when(analyzerStatusCache.analyzeStarted(anyString(), anyLong(), anyLong())).thenReturn(true);
 
     final GenerateClustersConfig config = getConfig(false);
 
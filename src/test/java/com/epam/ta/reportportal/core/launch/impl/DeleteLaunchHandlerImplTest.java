@@ -24,6 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -49,6 +52,15 @@ class DeleteLaunchHandlerImplTest {
   @Mock
   private AttachmentRepository attachmentRepository;
 
+  @Mock
+  private ReportingEntityCache reportingEntityCache;
+
+  @Mock
+  private TestItemHistoryCache testItemHistoryCache;
+
+  @Mock
+  private WidgetContentCache widgetContentCache;
+
   @InjectMocks
   private DeleteLaunchHandlerImpl handler;
 
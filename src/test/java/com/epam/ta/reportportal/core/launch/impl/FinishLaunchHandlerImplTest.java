@@ -30,6 +30,7 @@ import static org.mockito.Mockito.when;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -75,6 +76,9 @@ class FinishLaunchHandlerImplTest {
   @Mock
   private ApplicationEventPublisher publisher;
 
+  @Mock
+  private ReportingEntityCache reportingEntityCache;
+
   @InjectMocks
   private FinishLaunchHandlerImpl handler;
 
@@ -34,6 +34,7 @@ import com.epam.ta.reportportal.core.launch.GetLaunchHandler;
 import com.epam.ta.reportportal.core.launch.cluster.UniqueErrorAnalysisStarter;
 import com.epam.ta.reportportal.core.launch.cluster.config.ClusterEntityContext;
 import com.epam.ta.reportportal.core.project.GetProjectHandler;
+import com.epam.ta.reportportal.core.widget.content.WidgetContentCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -79,6 +80,9 @@ class UpdateLaunchHandlerImplTest {
   @Mock
   private UniqueErrorAnalysisStarter starter;
 
+  @Mock
+  private WidgetContentCache widgetContentCache;
+
   @InjectMocks
   private UpdateLaunchHandlerImpl handler;
 
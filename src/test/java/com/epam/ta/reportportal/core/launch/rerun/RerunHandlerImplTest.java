@@ -31,9 +31,11 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
 import com.epam.ta.reportportal.core.item.identity.TestCaseHashGenerator;
 import com.epam.ta.reportportal.core.item.identity.UniqueIdGenerator;
+import com.epam.ta.reportportal.core.item.impl.history.TestItemHistoryCache;
 import com.epam.ta.reportportal.core.item.impl.rerun.RerunSearcher;
 import com.epam.ta.reportportal.core.item.impl.retry.RetryHandler;
 import com.epam.ta.reportportal.core.item.validator.parent.ParentItemValidator;
+import com.epam.ta.reportportal.core.launch.cache.ReportingEntityCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -91,6 +93,12 @@ class RerunHandlerImplTest {
   @Mock
   private RetryHandler retryHandler;
 
+  @Mock
+  private ReportingEntityCache reportingEntityCache;
+
+  @Mock
+  private TestItemHistoryCache testItemHistoryCache;
+
   @InjectMocks
   private RerunHandlerImpl rerunHandler;
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.dao.custom.ElasticSearchClient;
+import com.epam.ta.reportportal.entity.log.LogMessage;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+class ElasticLogMessageLoaderTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  private final ElasticSearchClient elasticSearchClient = mock(ElasticSearchClient.class);
+
+  private final ElasticLogMessageLoader loader = new ElasticLogMessageLoader(elasticSearchClient,
+      new SyncTaskExecutor(), 2, 1000L, 10L);
+
+  @Test
+  void shouldLoadMessagesInChunks() {
+    when(elasticSearchClient.getLogMessagesByProjectIdAndIds(PROJECT_ID, List.of(1L, 2L)))
+        .thenReturn(messages(1L, 2L));
+    when(elasticSearchClient.getLogMessagesByProjectIdAndIds(PROJECT_ID, List.of(3L)))
+        .thenReturn(messages(3L));
+    when(elasticSearchClient.getLogMessagesByProjectIdAndIds(2L, List.of(4L)))
+        .thenReturn(messages(4L));
+
+    Map<Long, LogMessage> loaded = loader.load(
+        Map.of(PROJECT_ID, List.of(1L, 2L, 3L, 1L), 2L, List.of(4L)));
+
+    assertEquals(4, loaded.size());
+    assertEquals("message 3", loaded.get(3L).getLogMessage());
+  }
+
+  @Test
+  void shouldNotReloadCachedMessages() {
+    when(elasticSearchClient.getLogMessagesByProjectIdAndIds(PROJECT_ID, List.of(1L, 2L)))
+        .thenReturn(messages(1L));
+
+    loader.load(PROJECT_ID, List.of(1L, 2L));
+    assertTrue(loader.load(PROJECT_ID, 1L).isPresent());
+
+    verify(elasticSearchClient, times(1)).getLogMessagesByProjectIdAndIds(PROJECT_ID,
+        List.of(1L, 2L));
+    verify(elasticSearchClient, never()).getLogMessagesByProjectIdAndIds(PROJECT_ID, List.of(1L));
+  }
+
+  @Test
+  void shouldReloadEvictedMessage() {
+    when(elasticSearchClient.getLogMessagesByProjectIdAndIds(anyLong(), anyList()))
+        .thenReturn(messages(1L));
+
+    loader.load(PROJECT_ID, 1L);
+    loader.evict(1L);
+    loader.load(PROJECT_ID, 1L);
+
+    verify(elasticSearchClient, times(2)).getLogMessagesByProjectIdAndIds(PROJECT_ID,
+        List.of(1L));
+  }
+
+  private static Map<Long, LogMessage> messages(Long... ids) {
+    return List.of(ids)
+        .stream()
+        .collect(Collectors.toMap(Function.identity(),
+            id -> new LogMessage(id, null, "message " + id, null, null, PROJECT_ID)
+        ));
+  }
+}
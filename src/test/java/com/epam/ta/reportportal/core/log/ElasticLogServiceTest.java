@@ -2,15 +2,22 @@ package com.epam.ta.reportportal.core.log;
 
 import static com.epam.ta.reportportal.core.configs.rabbit.BackgroundProcessingConfiguration.LOG_MESSAGE_SAVING_ROUTING_KEY;
 import static com.epam.ta.reportportal.core.configs.rabbit.BackgroundProcessingConfiguration.PROCESSING_EXCHANGE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.entity.log.LogFull;
 import com.epam.ta.reportportal.entity.log.LogMessage;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +25,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class ElasticLogServiceTest {
@@ -25,6 +35,12 @@ class ElasticLogServiceTest {
   @Mock
   private AmqpTemplate amqpTemplate;
 
+  @Mock
+  private LogRepository logRepository;
+
+  @Mock
+  private ElasticLogMessageLoader logMessageLoader;
+
   @InjectMocks
   private ElasticLogService elasticLogService;
 
@@ -59,4 +75,33 @@ class ElasticLogServiceTest {
     verify(amqpTemplate, times(1)).convertAndSend(eq(PROCESSING_EXCHANGE_NAME),
         eq(LOG_MESSAGE_SAVING_ROUTING_KEY), eq(logMessage));
   }
-}
\ No newline at end of file
+
+  @Test
+  void findByFilterShouldLoadPageMessagesInBatch() {
+    final Queryable filter = mock(Queryable.class);
+    final PageRequest pageable = PageRequest.of(0, 3);
+    final Log first = log(1L, 10L, "pg message 1");
+    final Log second = log(2L, 10L, "pg message 2");
+    final Log third = log(3L, 20L, "pg message 3");
+    when(logRepository.findByFilter(filter, pageable)).thenReturn(
+        new PageImpl<>(List.of(first, second, third), pageable, 7));
+    when(logMessageLoader.load(Map.of(10L, List.of(1L, 2L), 20L, List.of(3L)))).thenReturn(
+        Map.of(1L, new LogMessage(1L, null, "es message 1", null, null, 10L), 3L,
+            new LogMessage(3L, null, "es message 3", null, null, 20L)
+        ));
+
+    final Page<LogFull> page = elasticLogService.findByFilter(filter, pageable);
+
+    assertEquals(7, page.getTotalElements());
+    assertEquals(List.of("es message 1", "pg message 2", "es message 3"),
+        page.map(LogFull::getLogMessage).getContent());
+  }
+
+  private static Log log(Long id, Long projectId, String message) {
+    final Log log = new Log();
+    log.setId(id);
+    log.setProjectId(projectId);
+    log.setLogMessage(message);
+    return log;
+  }
+}
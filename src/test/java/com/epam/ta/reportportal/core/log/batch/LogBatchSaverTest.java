@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.log.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.core.log.LogService;
+import com.epam.ta.reportportal.entity.log.LogFull;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class LogBatchSaverTest {
+
+  private static final String LAUNCH_UUID = "launch-uuid";
+
+  private final LogBatchInserter logBatchInserter = mock(LogBatchInserter.class);
+
+  private final LogService logService = mock(LogService.class);
+
+  private LogBatchSaver logBatchSaver;
+
+  @AfterEach
+  void tearDown() {
+    if (logBatchSaver != null) {
+      logBatchSaver.destroy();
+    }
+  }
+
+  @Test
+  void shouldSaveLogsInBatches() {
+    logBatchSaver = createSaver(10, 100);
+    logBatchSaver.afterPropertiesSet();
+    Set<String> attached = ConcurrentHashMap.newKeySet();
+
+    List<LogFull> logs = IntStream.range(0, 25).mapToObj(this::log).collect(Collectors.toList());
+    logs.forEach(log -> logBatchSaver.submit(
+        new PendingLog(log, 1L, LAUNCH_UUID, saved -> attached.add(saved.getUuid()))));
+    logBatchSaver.awaitLaunchLogs(LAUNCH_UUID);
+
+    verify(logBatchInserter, atLeast(3)).insert(anyList());
+    verify(logService, atLeast(3)).saveLogMessageList(anyList(), eq(1L));
+    assertEquals(25, attached.size());
+  }
+
+  @Test
+  void shouldSaveLogsOneByOneWhenBatchFails() {
+    logBatchSaver = createSaver(10, 100);
+    LogFull broken = log(1);
+    LogFull correct = log(2);
+    doAnswer(invocation -> {
+      List<LogFull> logs = invocation.getArgument(0);
+      if (logs.stream().anyMatch(log -> log == broken)) {
+        throw new RuntimeException("constraint violation");
+      }
+      return null;
+    }).when(logBatchInserter).insert(anyList());
+
+    Set<String> attached = ConcurrentHashMap.newKeySet();
+    logBatchSaver.submit(
+        new PendingLog(broken, 1L, LAUNCH_UUID, saved -> attached.add(saved.getUuid())));
+    logBatchSaver.submit(
+        new PendingLog(correct, 1L, LAUNCH_UUID, saved -> attached.add(saved.getUuid())));
+    logBatchSaver.afterPropertiesSet();
+    logBatchSaver.awaitLaunchLogs(LAUNCH_UUID);
+
+    verify(logService).saveLogMessageList(
+        argThat(logs -> logs.size() == 1 && logs.get(0) == correct), eq(1L));
+    assertEquals(Set.of(correct.getUuid()), attached);
+  }
+
+  @Test
+  void completionShouldReflectSavingResult() {
+    logBatchSaver = createSaver(10, 100);
+    LogFull broken = log(1);
+    doAnswer(invocation -> {
+      List<LogFull> logs = invocation.getArgument(0);
+      if (logs.stream().anyMatch(log -> log == broken)) {
+        throw new RuntimeException("constraint violation");
+      }
+      return null;
+    }).when(logBatchInserter).insert(anyList());
+
+    CompletableFuture<Void> failed = logBatchSaver.submit(
+        new PendingLog(broken, 1L, LAUNCH_UUID, null));
+    CompletableFuture<Void> saved = logBatchSaver.submit(
+        new PendingLog(log(2), 1L, LAUNCH_UUID, null));
+    assertFalse(saved.isDone());
+    logBatchSaver.afterPropertiesSet();
+
+    saved.join();
+    assertThrows(CompletionException.class, failed::join);
+  }
+
+  @Test
+  void shouldRejectLogWhenQueueIsFull() {
+    logBatchSaver = createSaver(10, 1);
+    logBatchSaver.submit(new PendingLog(log(1), 1L, LAUNCH_UUID, null));
+
+    assertThrows(ReportPortalException.class,
+        () -> logBatchSaver.submit(new PendingLog(log(2), 1L, LAUNCH_UUID, null)));
+
+    logBatchSaver.afterPropertiesSet();
+    logBatchSaver.awaitLaunchLogs(LAUNCH_UUID);
+    verify(logBatchInserter).insert(anyList());
+  }
+
+  @Test
+  void awaitShouldReturnImmediatelyWithoutPendingLogs() {
+    logBatchSaver = createSaver(10, 100);
+    logBatchSaver.afterPropertiesSet();
+    long start = System.currentTimeMillis();
+    logBatchSaver.awaitLaunchLogs(LAUNCH_UUID);
+    assertTrue(System.currentTimeMillis() - start < 1000);
+    verify(logBatchInserter, never()).insert(anyList());
+  }
+
+  private LogBatchSaver createSaver(int batchSize, int queueCapacity) {
+    return new LogBatchSaver(logBatchInserter, logService, new SimpleMeterRegistry(), batchSize,
+        50, queueCapacity, 10, 5000, 2);
+  }
+
+  private LogFull log(int index) {
+    LogFull logFull = new LogFull();
+    logFull.setUuid("log-" + index);
+    logFull.setProjectId(1L);
+    return logFull;
+  }
+}
@@ -43,10 +43,9 @@ import com.epam.ta.reportportal.entity.project.ProjectAttribute;
 import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.reportportal.rules.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.reporting.OperationCompletionRS;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -92,6 +91,9 @@ class DeleteProjectHandlerImplTest {
 	@Mock
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Mock
+	private ProjectDetailsCache projectDetailsCache;
+
 	@InjectMocks
 	private DeleteProjectHandlerImpl handler;
 
@@ -155,9 +157,7 @@ class DeleteProjectHandlerImplTest {
 		when(analyzerServiceClient.hasClients()).thenReturn(true);
 		when(projectRepository.findByName(projectName)).thenReturn(Optional.of(getProjectWithAnalyzerAttributes(projectId, false)));
 		when(userRepository.findByLogin(userName)).thenReturn(Optional.of(new User()));
-		Cache<Long, Long> cache = CacheBuilder.newBuilder().build();
-		cache.put(2L, projectId);
-		when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(Optional.of(cache));
+		when(analyzerStatusCache.containsProjectId(AnalyzerStatusCache.AUTO_ANALYZER_KEY, projectId)).thenReturn(true);
 
 		ReportPortalException exception = assertThrows(ReportPortalException.class, () -> handler.deleteProjectIndex(projectName, "user"));
 
@@ -183,8 +183,7 @@ class DeleteProjectHandlerImplTest {
 		project.setName(projectName);
 		when(projectRepository.findByName(projectName)).thenReturn(Optional.of(project));
 		when(userRepository.findByLogin(userName)).thenReturn(Optional.of(new User()));
-		when(analyzerStatusCache.getAnalyzeStatus(AnalyzerStatusCache.AUTO_ANALYZER_KEY)).thenReturn(Optional.of(CacheBuilder.newBuilder()
-				.build()));
+		when(analyzerStatusCache.containsProjectId(AnalyzerStatusCache.AUTO_ANALYZER_KEY, projectId)).thenReturn(false);
 		when(analyzerServiceClient.hasClients()).thenReturn(true);
 
 		OperationCompletionRS response = handler.deleteProjectIndex(projectName, "user");
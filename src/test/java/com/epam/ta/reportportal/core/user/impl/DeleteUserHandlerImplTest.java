@@ -28,6 +28,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.core.events.activity.UserDeletedEvent;
 import com.epam.ta.reportportal.core.remover.ContentRemover;
@@ -37,6 +38,7 @@ import com.epam.ta.reportportal.entity.project.ProjectRole;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
 import com.epam.ta.reportportal.util.email.strategy.EmailNotificationStrategy;
 import com.epam.ta.reportportal.util.email.strategy.EmailTemplate;
 import com.google.common.collect.Lists;
@@ -76,6 +78,12 @@ class DeleteUserHandlerImplTest {
   @Mock
   private ApplicationEventPublisher applicationEventPublisher;
 
+  @Mock
+  private ApiKeyAuthenticationCache apiKeyAuthenticationCache;
+
+  @Mock
+  private ProjectDetailsCache projectDetailsCache;
+
   @InjectMocks
   private DeleteUserHandlerImpl handler;
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.ta.reportportal.entity.filter.UserFilter;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class WidgetContentCacheTest {
+
+  private static final Long PROJECT_ID = 1L;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final WidgetContentCache cache = new WidgetContentCache(meterRegistry, 100L, 60L,
+      new String[]{"activityStream"});
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void shouldLoadContentOnce() {
+    Widget widget = widget();
+
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+    Map<String, ?> content = cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS,
+        this::load);
+
+    assertEquals(1, content.get("load"));
+    assertEquals(1, loads.get());
+    assertEquals(1.0, meterRegistry.counter("rp.widget.content.cache.requests", "result", "hit")
+        .count());
+    assertEquals(1.0, meterRegistry.counter("rp.widget.content.cache.requests", "result", "miss")
+        .count());
+  }
+
+  @Test
+  void shouldReloadContentOfChangedWidget() {
+    Widget widget = widget();
+
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+    widget.getWidgetOptions().getOptions().put("timeline", "week");
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+    widget.setItemsCount(20);
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void shouldReloadContentAfterProjectInvalidation() {
+    Widget widget = widget();
+
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+    cache.invalidateProject(2L);
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+    cache.invalidateProject(PROJECT_ID);
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldRepeatInvalidationAfterTransactionCompletion() {
+    Widget widget = widget();
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.invalidateProject(PROJECT_ID);
+      cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    cache.get(PROJECT_ID, widget, WidgetType.LAUNCH_STATISTICS, this::load);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldNotCacheExcludedWidgetTypes() {
+    Widget widget = widget();
+
+    cache.get(PROJECT_ID, widget, WidgetType.ACTIVITY, this::load);
+    cache.get(PROJECT_ID, widget, WidgetType.ACTIVITY, this::load);
+
+    assertEquals(2, loads.get());
+  }
+
+  private Map<String, ?> load() {
+    return Map.of("load", loads.incrementAndGet());
+  }
+
+  private static Widget widget() {
+    Widget widget = new Widget();
+    widget.setId(10L);
+    widget.setItemsCount(10);
+    widget.setContentFields(Set.of("statistics$executions$total"));
+    widget.setWidgetOptions(new WidgetOptions(new HashMap<>(Map.of("timeline", "launch"))));
+    UserFilter filter = new UserFilter();
+    filter.setId(3L);
+    widget.setFilters(Set.of(filter));
+    return widget;
+  }
+}
@@ -16,88 +16,104 @@
 
 package com.epam.ta.reportportal.job;
 
+import static com.epam.ta.reportportal.job.InterruptBrokenLaunchesJob.JOB_LOCK_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.epam.ta.reportportal.dao.LaunchRepository;
-import com.epam.ta.reportportal.dao.LogRepository;
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AdvisoryLockRegistry;
 import com.epam.ta.reportportal.dao.ProjectRepository;
-import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.attribute.Attribute;
-import com.epam.ta.reportportal.entity.enums.StatusEnum;
-import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectAttribute;
+import com.epam.ta.reportportal.job.service.BrokenLaunchesService;
 import com.google.common.collect.Sets;
-import java.time.Duration;
-import java.util.Collections;
-import java.util.Optional;
-import java.util.stream.Stream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.PageImpl;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
  */
-@ExtendWith(MockitoExtension.class)
 class InterruptBrokenLaunchesJobTest {
 
-  @Mock
-  private LaunchRepository launchRepository;
+  private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 
-  @Mock
-  private LogRepository logRepository;
+  private final BrokenLaunchesService brokenLaunchesService = mock(BrokenLaunchesService.class);
 
-  @Mock
-  private TestItemRepository testItemRepository;
+  private final AdvisoryLockRegistry lockRegistry = mock(AdvisoryLockRegistry.class);
 
-  @Mock
-  private ProjectRepository projectRepository;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-  @InjectMocks
-  private InterruptBrokenLaunchesJob interruptBrokenLaunchesJob;
+  private final InterruptBrokenLaunchesJob interruptBrokenLaunchesJob =
+      new InterruptBrokenLaunchesJob(projectRepository, brokenLaunchesService, lockRegistry,
+          meterRegistry, new SyncTaskExecutor()
+      );
 
   @Test
-  void noInProgressItemsTest() {
-    String name = "name";
-    Project project = new Project();
-    final ProjectAttribute projectAttribute = new ProjectAttribute();
-    final Attribute attribute = new Attribute();
-    attribute.setName("job.interruptJobTime");
-    projectAttribute.setAttribute(attribute);
+  void interruptBrokenLaunchesTest() {
+    when(lockRegistry.tryLock(JOB_LOCK_KEY)).thenReturn(true);
+    when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
+        new PageImpl<>(List.of(project(1L), new Project(2L, "no_attribute"))));
+    when(brokenLaunchesService.findBrokenLaunches(eq(1L), any())).thenReturn(List.of(10L, 11L));
+    when(brokenLaunchesService.interrupt(10L)).thenReturn(true);
+    when(brokenLaunchesService.interrupt(11L)).thenReturn(false);
 
-    //1 day in seconds
-    projectAttribute.setValue(String.valueOf(3600 * 24));
-    project.setProjectAttributes(Sets.newHashSet(projectAttribute));
-    project.setName(name);
+    interruptBrokenLaunchesJob.execute(null);
 
-    long launchId = 1L;
+    ArgumentCaptor<Instant> thresholdCaptor = ArgumentCaptor.forClass(Instant.class);
+    verify(brokenLaunchesService, times(1)).findBrokenLaunches(eq(1L), thresholdCaptor.capture());
+    assertEquals(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond(),
+        thresholdCaptor.getValue().getEpochSecond(), 5);
+    verify(brokenLaunchesService, never()).findBrokenLaunches(eq(2L), any());
+    verify(lockRegistry, times(1)).unlock(JOB_LOCK_KEY);
+    assertEquals(1.0, meterRegistry.counter("rp.job.interrupt.launches.interrupted").count());
+    assertEquals(1.0, meterRegistry.counter("rp.job.interrupt.launches.projects").count());
+    assertEquals(1L, meterRegistry.timer("rp.job.interrupt.launches.duration").count());
+  }
 
+  @Test
+  void shouldContinueWhenProjectFailed() {
+    when(lockRegistry.tryLock(JOB_LOCK_KEY)).thenReturn(true);
     when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
-        new PageImpl<>(Collections.singletonList(project)));
-    when(launchRepository.streamIdsWithStatusAndStartTimeBefore(any(), any(), any())).thenReturn(
-        Stream.of(launchId));
-    when(testItemRepository.hasItemsInStatusByLaunch(launchId, StatusEnum.IN_PROGRESS)).thenReturn(
-        false);
-    when(launchRepository.findById(launchId)).thenReturn(Optional.of(new Launch()));
+        new PageImpl<>(List.of(project(1L), project(2L))));
+    when(brokenLaunchesService.findBrokenLaunches(eq(1L), any())).thenThrow(
+        new IllegalStateException("connection is closed"));
+    when(brokenLaunchesService.findBrokenLaunches(eq(2L), any())).thenReturn(List.of(20L));
+    when(brokenLaunchesService.interrupt(20L)).thenReturn(true);
 
     interruptBrokenLaunchesJob.execute(null);
 
-    verify(launchRepository, times(1)).findById(launchId);
-    verify(launchRepository, times(1)).save(any());
-
+    verify(brokenLaunchesService, times(1)).interrupt(20L);
+    verify(lockRegistry, times(1)).unlock(JOB_LOCK_KEY);
+    assertEquals(1.0, meterRegistry.counter("rp.job.interrupt.launches.failures").count());
   }
 
   @Test
-  void interruptLaunchWithInProgressItemsTest() {
-    String name = "name";
-    Project project = new Project();
+  void shouldSkipWhenRunningOnAnotherInstance() {
+    when(lockRegistry.tryLock(JOB_LOCK_KEY)).thenReturn(false);
+
+    interruptBrokenLaunchesJob.execute(null);
+
+    verify(projectRepository, never()).findAllIdsAndProjectAttributes(any());
+    verify(brokenLaunchesService, never()).interrupt(anyLong());
+    verify(lockRegistry, never()).unlock(anyLong());
+  }
+
+  private static Project project(Long id) {
+    Project project = new Project(id, "project_" + id);
     final ProjectAttribute projectAttribute = new ProjectAttribute();
     final Attribute attribute = new Attribute();
     attribute.setName("job.interruptJobTime");
@@ -106,29 +122,6 @@ class InterruptBrokenLaunchesJobTest {
     //1 day in seconds
     projectAttribute.setValue(String.valueOf(3600 * 24));
     project.setProjectAttributes(Sets.newHashSet(projectAttribute));
-    project.setName(name);
-
-    long launchId = 1L;
-
-    when(projectRepository.findAllIdsAndProjectAttributes(any())).thenReturn(
-        new PageImpl<>(Collections.singletonList(project)));
-    when(launchRepository.streamIdsWithStatusAndStartTimeBefore(any(), any(), any())).thenReturn(
-        Stream.of(launchId));
-    when(testItemRepository.hasItemsInStatusByLaunch(launchId, StatusEnum.IN_PROGRESS)).thenReturn(
-        true);
-    when(testItemRepository.hasItemsInStatusAddedLately(launchId, Duration.ofSeconds(3600 * 24),
-        StatusEnum.IN_PROGRESS)).thenReturn(false);
-    when(testItemRepository.hasLogs(launchId, Duration.ofSeconds(3600 * 24),
-        StatusEnum.IN_PROGRESS)).thenReturn(true);
-    when(logRepository.hasLogsAddedLately(Duration.ofSeconds(3600 * 24), launchId,
-        StatusEnum.IN_PROGRESS)).thenReturn(false);
-    when(launchRepository.findById(launchId)).thenReturn(Optional.of(new Launch()));
-
-    interruptBrokenLaunchesJob.execute(null);
-
-    verify(testItemRepository, times(1)).interruptInProgressItems(launchId);
-    verify(launchRepository, times(1)).findById(launchId);
-    verify(launchRepository, times(1)).save(any());
-
+    return project;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.extension.event.LaunchFinishedPluginEvent;
+import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BrokenLaunchesServiceImplTest {
+
+  private static final Long LAUNCH_ID = 1L;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private LaunchRepository launchRepository;
+
+  @Mock
+  private TestItemRepository testItemRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private BrokenLaunchesServiceImpl brokenLaunchesService;
+
+  @Test
+  void shouldInterruptLaunchWithItems() {
+    Launch launch = new Launch();
+    launch.setId(LAUNCH_ID);
+    launch.setProjectId(2L);
+    launch.setStatus(StatusEnum.IN_PROGRESS);
+    when(launchRepository.findById(LAUNCH_ID)).thenReturn(Optional.of(launch));
+
+    assertTrue(brokenLaunchesService.interrupt(LAUNCH_ID));
+
+    assertEquals(StatusEnum.INTERRUPTED, launch.getStatus());
+    assertNotNull(launch.getEndTime());
+    verify(testItemRepository, times(1)).interruptInProgressItems(LAUNCH_ID);
+    verify(launchRepository, times(1)).save(launch);
+    verify(eventPublisher, times(1)).publishEvent(any(LaunchFinishedEvent.class));
+    verify(eventPublisher, times(1)).publishEvent(any(LaunchFinishedPluginEvent.class));
+  }
+
+  @Test
+  void shouldNotInterruptFinishedLaunch() {
+    Launch launch = new Launch();
+    launch.setId(LAUNCH_ID);
+    launch.setStatus(StatusEnum.PASSED);
+    when(launchRepository.findById(LAUNCH_ID)).thenReturn(Optional.of(launch));
+
+    assertFalse(brokenLaunchesService.interrupt(LAUNCH_ID));
+
+    assertEquals(StatusEnum.PASSED, launch.getStatus());
+    verify(testItemRepository, never()).interruptInProgressItems(anyLong());
+    verify(launchRepository, never()).save(any());
+  }
+}
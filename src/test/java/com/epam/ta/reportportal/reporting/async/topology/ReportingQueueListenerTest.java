@@ -0,0 +1,246 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.reporting.async.config.MessageHeaders;
+import com.epam.ta.reportportal.reporting.async.consumer.ReportingConsumer;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.util.ErrorHandler;
+
+class ReportingQueueListenerTest {
+
+  private static final long DELIVERY_TAG = 7L;
+
+  private final ReportingConsumer delegate = mock(ReportingConsumer.class);
+
+  private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+
+  private final Channel channel = mock(Channel.class);
+
+  private final AtomicReference<TopologyBarrier> barrier = new AtomicReference<>();
+
+  private final Timer timer = new SimpleMeterRegistry().timer("test");
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.consume(any())).thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @Test
+  void shouldProcessMessageWithoutBarrier() throws Exception {
+    ReportingQueueListener listener = listener("q.1", 1000);
+    Message message = message();
+
+    listener.onMessage(message, channel);
+
+    verify(delegate).consume(message);
+    verify(channel).basicAck(DELIVERY_TAG, false);
+    assertEquals(1, timer.count());
+  }
+
+  @Test
+  void shouldAcknowledgeMessageOnlyAfterProcessingIsCompleted() throws Exception {
+    CompletableFuture<Void> completion = new CompletableFuture<>();
+    Message message = message();
+    when(delegate.consume(message)).thenReturn(completion);
+    ReportingQueueListener listener = listener("q.1", 1000);
+
+    listener.onMessage(message, channel);
+    verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    assertEquals(0, timer.count());
+
+    completion.complete(null);
+
+    verify(channel).basicAck(DELIVERY_TAG, false);
+    assertEquals(1, timer.count());
+  }
+
+  @Test
+  void failedProcessingShouldBePassedToErrorHandlerAndAcknowledged() throws Exception {
+    CompletableFuture<Void> completion = new CompletableFuture<>();
+    Message message = message();
+    when(delegate.consume(message)).thenReturn(completion);
+    ReportingQueueListener listener = listener("q.1", 1000);
+    ReportPortalException exception = new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND);
+
+    listener.onMessage(message, channel);
+    completion.completeExceptionally(exception);
+
+    ArgumentCaptor<ListenerExecutionFailedException> captor = ArgumentCaptor.forClass(
+        ListenerExecutionFailedException.class);
+    verify(errorHandler).handleError(captor.capture());
+    assertSame(exception, captor.getValue().getCause());
+    assertSame(message, captor.getValue().getFailedMessage());
+    verify(channel).basicAck(DELIVERY_TAG, false);
+  }
+
+  @Test
+  void synchronousFailureShouldBePassedToErrorHandlerAndAcknowledged() throws Exception {
+    Message message = message();
+    ReportPortalException exception = new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND);
+    when(delegate.consume(message)).thenThrow(exception);
+    ReportingQueueListener listener = listener("q.1", 1000);
+
+    listener.onMessage(message, channel);
+
+    ArgumentCaptor<ListenerExecutionFailedException> captor = ArgumentCaptor.forClass(
+        ListenerExecutionFailedException.class);
+    verify(errorHandler).handleError(captor.capture());
+    assertSame(exception, captor.getValue().getCause());
+    verify(channel).basicAck(DELIVERY_TAG, false);
+  }
+
+  @Test
+  void markerShouldPassBarrierAndNotBeDelegated() throws Exception {
+    barrier.set(new TopologyBarrier(1, List.of("q.1", "q.2")));
+    ReportingQueueListener listener = listener("q.1", 1000);
+
+    listener.onMessage(marker(1), channel);
+
+    verify(delegate, never()).consume(any());
+    verify(channel).basicAck(DELIVERY_TAG, false);
+    assertFalse(barrier.get().isPending("q.1"));
+    assertFalse(barrier.get().isComplete());
+  }
+
+  @Test
+  void markerOfOutdatedBarrierShouldBeIgnored() {
+    barrier.set(new TopologyBarrier(2, List.of("q.1")));
+    ReportingQueueListener listener = listener("q.1", 1000);
+
+    listener.onMessage(marker(1), channel);
+
+    assertTrue(barrier.get().isPending("q.1"));
+  }
+
+  @Test
+  void pendingQueueShouldProcessMessagesBeforeMarker() {
+    barrier.set(new TopologyBarrier(1, List.of("q.1", "q.2")));
+    ReportingQueueListener listener = listener("q.1", 1000);
+    Message message = message();
+
+    listener.onMessage(message, channel);
+
+    verify(delegate).consume(message);
+  }
+
+  @Test
+  void passedQueueShouldWaitForBarrierCompletion() {
+    barrier.set(new TopologyBarrier(1, List.of("q.1", "q.2")));
+    ReportingQueueListener first = listener("q.1", 10_000);
+    ReportingQueueListener second = listener("q.2", 10_000);
+    Message message = message();
+
+    first.onMessage(marker(1), channel);
+    CompletableFuture<Void> processing = CompletableFuture.runAsync(
+        () -> first.onMessage(message, channel));
+    verify(delegate, never()).consume(any());
+    assertFalse(processing.isDone());
+
+    second.onMessage(marker(1), channel);
+
+    verify(delegate, timeout(5_000)).consume(message);
+    processing.join();
+  }
+
+  @Test
+  void shouldProcessMessageWhenBarrierTimedOut() {
+    barrier.set(new TopologyBarrier(1, List.of("q.2")));
+    ReportingQueueListener listener = listener("q.new", 10);
+    Message message = message();
+
+    listener.onMessage(message, channel);
+
+    verify(delegate).consume(message);
+  }
+
+  @Test
+  void shouldWaitForBarrierOnlyOnce() throws Exception {
+    TopologyBarrier topologyBarrier = spy(new TopologyBarrier(1, List.of("q.2")));
+    barrier.set(topologyBarrier);
+    ReportingQueueListener listener = listener("q.new", 10);
+
+    listener.onMessage(message(), channel);
+    listener.onMessage(message(), channel);
+    listener.onMessage(message(), channel);
+
+    verify(topologyBarrier, times(1)).await(10);
+    verify(delegate, times(3)).consume(any());
+  }
+
+  @Test
+  void shouldWaitForNewBarrierAfterTimedOutOne() throws Exception {
+    TopologyBarrier outdated = spy(new TopologyBarrier(1, List.of("q.2")));
+    TopologyBarrier current = spy(new TopologyBarrier(2, List.of("q.2")));
+    ReportingQueueListener listener = listener("q.new", 10);
+
+    barrier.set(outdated);
+    listener.onMessage(message(), channel);
+    barrier.set(current);
+    listener.onMessage(message(), channel);
+
+    verify(outdated).await(10);
+    verify(current).await(10);
+  }
+
+  private ReportingQueueListener listener(String queueName, long timeoutMs) {
+    return new ReportingQueueListener(queueName, delegate, barrier::get, timer, timeoutMs,
+        errorHandler);
+  }
+
+  private Message message() {
+    return MessageBuilder.withBody(new byte[0])
+        .setHeader(MessageHeaders.REQUEST_TYPE, "LOG")
+        .setDeliveryTag(DELIVERY_TAG)
+        .build();
+  }
+
+  private Message marker(long epoch) {
+    return MessageBuilder.withBody(new byte[0])
+        .setHeader(MessageHeaders.TOPOLOGY_BARRIER, epoch)
+        .setDeliveryTag(DELIVERY_TAG)
+        .build();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.reporting.async.topology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.epam.reportportal.rules.exception.ErrorType;
+import com.epam.reportportal.rules.exception.ReportPortalException;
+import com.epam.ta.reportportal.reporting.async.consumer.ReportingConsumer;
+import com.epam.ta.reportportal.reporting.async.exception.ReportingErrorHandler;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.context.ApplicationEventPublisher;
+
+class ReportingTopologyManagerTest {
+
+  private static final String FIRST_QUEUE = "q.reporting.instance.0";
+
+  private static final String SECOND_QUEUE = "q.reporting.instance.1";
+
+  private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+
+  private final Map<String, ChannelAwareMessageListener> listeners = new HashMap<>();
+
+  private final Map<String, SimpleMessageListenerContainer> containers = new HashMap<>();
+
+  private ReportingTopologyManager manager;
+
+  @BeforeEach
+  void setUp() {
+    manager = spy(new ReportingTopologyManager(mock(ConnectionFactory.class), amqpAdmin,
+        rabbitTemplate, new CustomExchange("reporting", "x-consistent-hash"),
+        mock(ReportingConsumer.class), mock(ReportingErrorHandler.class),
+        mock(ApplicationEventPublisher.class), new SimpleMeterRegistry(), "instance", 2, 1, 10,
+        20, 50
+    ));
+    doAnswer(invocation -> {
+      String queueName = invocation.getArgument(0);
+      SimpleMessageListenerContainer container = mock(SimpleMessageListenerContainer.class);
+      listeners.put(queueName, invocation.getArgument(1));
+      containers.put(queueName, container);
+      return container;
+    }).when(manager).createContainer(anyString(), any());
+    manager.afterPropertiesSet();
+  }
+
+  @Test
+  void removeQueueShouldDeleteQueueOnlyIfEmptyAfterBarrierIsPassed() {
+    deliverMarkers();
+
+    manager.removeQueue(SECOND_QUEUE);
+
+    verify(containers.get(SECOND_QUEUE)).stop();
+    verify(amqpAdmin).deleteQueue(SECOND_QUEUE, false, true);
+    assertEquals(List.of(FIRST_QUEUE), manager.getQueueNames());
+  }
+
+  @Test
+  void removeQueueShouldRebindQueueIfBarrierIsNotPassed() {
+    ReportPortalException exception = assertThrows(ReportPortalException.class,
+        () -> manager.removeQueue(SECOND_QUEUE));
+
+    assertEquals(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, exception.getErrorType());
+    verify(amqpAdmin).removeBinding(any(Binding.class));
+    verify(amqpAdmin, times(3)).declareBinding(any(Binding.class));
+    verify(containers.get(SECOND_QUEUE), never()).stop();
+    verify(amqpAdmin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+    assertEquals(List.of(FIRST_QUEUE, SECOND_QUEUE), manager.getQueueNames());
+  }
+
+  @Test
+  void removeQueueShouldKeepQueueWithMessages() {
+    deliverMarkers();
+    doThrow(new AmqpIOException(new IOException("PRECONDITION_FAILED"))).when(amqpAdmin)
+        .deleteQueue(SECOND_QUEUE, false, true);
+
+    assertThrows(ReportPortalException.class, () -> manager.removeQueue(SECOND_QUEUE));
+
+    verify(amqpAdmin, times(3)).declareBinding(any(Binding.class));
+    verify(containers.get(SECOND_QUEUE)).stop();
+    verify(containers.get(SECOND_QUEUE), times(2)).start();
+    assertEquals(List.of(FIRST_QUEUE, SECOND_QUEUE), manager.getQueueNames());
+  }
+
+  private void deliverMarkers() {
+    doAnswer(invocation -> {
+      listeners.get(invocation.<String>getArgument(1))
+          .onMessage(invocation.<Message>getArgument(2), mock(Channel.class));
+      return null;
+    }).when(rabbitTemplate).send(eq(""), anyString(), any(Message.class));
+  }
+}
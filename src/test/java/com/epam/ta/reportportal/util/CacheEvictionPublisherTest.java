@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.EXCHANGE_EVENTS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheEvictionPublisherTest {
+
+  private final MessageBus messageBus = mock(MessageBus.class);
+
+  private final CacheEvictionPublisher publisher = new CacheEvictionPublisher(messageBus);
+
+  private final CacheEvictionEvent event =
+      new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY, 1L);
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldPublishWithoutTransaction() {
+    publisher.publish(event);
+
+    verify(messageBus).publish(EXCHANGE_EVENTS, "", event);
+  }
+
+  @Test
+  void shouldPublishAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    publisher.publish(event);
+    verify(messageBus, never()).publish(anyString(), anyString(), any());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(messageBus).publish(EXCHANGE_EVENTS, "", event);
+  }
+
+  @Test
+  void shouldNotPublishAfterRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    publisher.publish(event);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verify(messageBus, never()).publish(anyString(), anyString(), any());
+  }
+
+  @Test
+  void shouldIgnoreBrokerFailure() {
+    doThrow(new AmqpIOException(new IOException())).when(messageBus)
+        .publish(EXCHANGE_EVENTS, "", event);
+
+    publisher.publish(event);
+  }
+}
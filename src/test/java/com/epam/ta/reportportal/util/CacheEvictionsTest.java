@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheEvictionsTest {
+
+  private final AtomicInteger evictions = new AtomicInteger();
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldEvictOnceWithoutTransaction() {
+    CacheEvictions.evictWithTransaction(evictions::incrementAndGet);
+
+    assertEquals(1, evictions.get());
+  }
+
+  @Test
+  void shouldRepeatEvictionAfterTransactionCompletion() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    CacheEvictions.evictWithTransaction(evictions::incrementAndGet);
+    assertEquals(1, evictions.get());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    assertEquals(2, evictions.get());
+  }
+}
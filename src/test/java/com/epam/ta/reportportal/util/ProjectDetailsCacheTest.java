@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser.ProjectDetails;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ProjectDetailsCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final CacheEvictionPublisher evictionPublisher = mock(CacheEvictionPublisher.class);
+
+  private final ProjectDetailsCache cache = new ProjectDetailsCache(meterRegistry,
+      evictionPublisher, 100L, 60L);
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void shouldLoadDetailsOnce() {
+    cache.get(1L, "project", loader(10L));
+    Optional<ProjectDetails> details = cache.get(1L, "project", loader(10L));
+
+    assertEquals(10L, details.get().getProjectId());
+    assertEquals(1, loads.get());
+    assertEquals(1.0, meterRegistry.get("rp.project.details.cache.requests")
+        .tag("result", "hit")
+        .counter()
+        .count());
+  }
+
+  @Test
+  void shouldNotCacheMissingDetails() {
+    Supplier<Optional<ProjectDetails>> missing = () -> {
+      loads.incrementAndGet();
+      return Optional.empty();
+    };
+
+    assertTrue(cache.get(1L, "project", missing).isEmpty());
+    assertTrue(cache.get(1L, "project", missing).isEmpty());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldReloadEvictedDetails() {
+    cache.get(1L, "first", loader(10L));
+    cache.get(2L, "first", loader(10L));
+    cache.get(2L, "second", loader(20L));
+    cache.evictUser(1L);
+    cache.evictProject(20L);
+
+    cache.get(1L, "first", loader(10L));
+    cache.get(2L, "first", loader(10L));
+    cache.get(2L, "second", loader(20L));
+
+    assertEquals(5, loads.get());
+  }
+
+  @Test
+  void shouldIgnoreProjectNameCase() {
+    cache.get(1L, "Project", loader(10L));
+    Optional<ProjectDetails> details = cache.get(1L, "project", loader(10L));
+
+    assertEquals(10L, details.get().getProjectId());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldBroadcastEvictions() {
+    ArgumentCaptor<CacheEvictionEvent> events = ArgumentCaptor.forClass(CacheEvictionEvent.class);
+
+    cache.evictUser(1L);
+    cache.evictProject(20L);
+
+    verify(evictionPublisher, times(2)).publish(events.capture());
+    assertEquals(CacheEvictionEvent.Type.PROJECT_DETAILS_USER,
+        events.getAllValues().get(0).getType());
+    assertEquals(1L, events.getAllValues().get(0).getId());
+    assertEquals(CacheEvictionEvent.Type.PROJECT_DETAILS_PROJECT,
+        events.getAllValues().get(1).getType());
+    assertEquals(20L, events.getAllValues().get(1).getId());
+  }
+
+  @Test
+  void shouldReloadDetailsEvictedByAnotherInstance() {
+    cache.get(1L, "first", loader(10L));
+    cache.get(2L, "second", loader(20L));
+    cache.onEviction(new CacheEvictionEvent(CacheEvictionEvent.Type.PROJECT_DETAILS_USER, 1L));
+    cache.onEviction(
+        new CacheEvictionEvent(CacheEvictionEvent.Type.PROJECT_DETAILS_PROJECT, 20L));
+    cache.onEviction(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY_USER, 2L));
+
+    cache.get(1L, "first", loader(10L));
+    cache.get(2L, "second", loader(20L));
+
+    assertEquals(4, loads.get());
+    verify(evictionPublisher, never()).publish(any());
+  }
+
+  private Supplier<Optional<ProjectDetails>> loader(Long projectId) {
+    return () -> {
+      loads.incrementAndGet();
+      return Optional.of(new ProjectDetails(projectId, "project", ProjectRole.MEMBER));
+    };
+  }
+}
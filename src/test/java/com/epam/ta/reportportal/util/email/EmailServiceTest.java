@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.util.email;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -30,6 +31,7 @@ import com.epam.ta.reportportal.entity.project.ProjectIssueType;
 import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.entity.statistics.StatisticsField;
 import com.google.common.collect.Sets;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
@@ -68,6 +70,42 @@ class EmailServiceTest {
     System.out.println(url);
   }
 
+  @Test
+  void shouldReuseKeptConnection() throws IOException {
+    when(templateEngine.merge(any(String.class), any(Map.class))).thenReturn("EMAIL MESSAGE");
+
+    try (FakeSmtpServer server = new FakeSmtpServer()) {
+      emailService.setHost(server.getHost());
+      emailService.setPort(server.getPort());
+      emailService.setKeepConnection(true);
+
+      emailService.sendConnectionTestEmail("first@mail.com", true);
+      emailService.sendConnectionTestEmail("second@mail.com", false);
+      emailService.closeConnection();
+      emailService.sendConnectionTestEmail("third@mail.com", false);
+      emailService.closeConnection();
+
+      assertEquals(3, server.getMessages().size());
+      assertEquals(2, server.getConnections());
+    }
+  }
+
+  @Test
+  void shouldConnectPerMessageByDefault() throws IOException {
+    when(templateEngine.merge(any(String.class), any(Map.class))).thenReturn("EMAIL MESSAGE");
+
+    try (FakeSmtpServer server = new FakeSmtpServer()) {
+      emailService.setHost(server.getHost());
+      emailService.setPort(server.getPort());
+
+      emailService.sendConnectionTestEmail("first@mail.com", true);
+      emailService.sendConnectionTestEmail("second@mail.com", false);
+
+      assertEquals(2, server.getMessages().size());
+      assertEquals(2, server.getConnections());
+    }
+  }
+
   private Launch getLaunch() {
     Launch launch = new Launch();
     launch.setId(1L);
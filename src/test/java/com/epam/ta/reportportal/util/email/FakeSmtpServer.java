@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util.email;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local SMTP server for tests. It accepts all the commands and keeps the received messages.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+  private final ServerSocket serverSocket;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  private final AtomicInteger connections = new AtomicInteger();
+  private final List<String> messages = new CopyOnWriteArrayList<>();
+
+  public FakeSmtpServer() throws IOException {
+    serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    executor.execute(this::accept);
+  }
+
+  public String getHost() {
+    return serverSocket.getInetAddress().getHostAddress();
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  public int getConnections() {
+    return connections.get();
+  }
+
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    executor.shutdownNow();
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        connections.incrementAndGet();
+        executor.execute(() -> serve(socket));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (socket; BufferedReader in = new BufferedReader(
+        new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+        Writer out = new OutputStreamWriter(socket.getOutputStream(),
+            StandardCharsets.ISO_8859_1)) {
+      reply(out, "220 localhost ESMTP");
+      String line;
+      while ((line = in.readLine()) != null) {
+        String command = line.toUpperCase(Locale.ROOT);
+        if (command.startsWith("DATA")) {
+          reply(out, "354 End data with <CR><LF>.<CR><LF>");
+          StringBuilder message = new StringBuilder();
+          while ((line = in.readLine()) != null && !line.equals(".")) {
+            message.append(line).append("\r\n");
+          }
+          messages.add(message.toString());
+          reply(out, "250 OK");
+        } else if (command.startsWith("QUIT")) {
+          reply(out, "221 Bye");
+          return;
+        } else if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+          reply(out, "250 localhost");
+        } else {
+          reply(out, "250 OK");
+        }
+      }
+    } catch (IOException e) {
+      // connection is closed by the client
+    }
+  }
+
+  private static void reply(Writer out, String reply) throws IOException {
+    out.write(reply + "\r\n");
+    out.flush();
+  }
+}
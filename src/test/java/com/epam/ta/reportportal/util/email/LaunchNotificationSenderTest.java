@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.entity.integration.IntegrationParams;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.model.notification.LaunchNotificationJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+class LaunchNotificationSenderTest {
+
+  private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+  private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+  private final IntegrationRepository integrationRepository = mock(IntegrationRepository.class);
+  private final MailServiceFactory mailServiceFactory = mock(MailServiceFactory.class);
+  private final EmailService emailService = mock(EmailService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final LaunchNotificationSender sender = new LaunchNotificationSender(launchRepository,
+      projectRepository, integrationRepository, mailServiceFactory, meterRegistry, 300L);
+
+  private final Launch launch = new Launch(10L);
+  private final Project project = new Project(1L, "project");
+  private final Integration integration = integration();
+
+  @Test
+  void shouldReuseEmailServiceOfIntegration() {
+    mockEntities();
+
+    sender.send(job());
+    sender.send(job());
+
+    verify(mailServiceFactory, times(1)).getEmailService(integration);
+    verify(emailService).setKeepConnection(true);
+    verify(emailService, times(2)).sendLaunchFinishNotification(new String[] { "first@mail.com" },
+        "/ui/#project", project, launch);
+    assertEquals(2.0, jobs("sent"));
+  }
+
+  @Test
+  void shouldSkipJobOfDeletedLaunch() {
+    when(launchRepository.findById(10L)).thenReturn(Optional.empty());
+    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+    when(integrationRepository.findById(5L)).thenReturn(Optional.of(integration));
+    when(mailServiceFactory.getEmailService(integration)).thenReturn(Optional.of(emailService));
+
+    sender.send(job());
+
+    verify(emailService, never()).sendLaunchFinishNotification(any(), any(), any(), any());
+    assertEquals(1.0, jobs("skipped"));
+  }
+
+  @Test
+  void shouldPropagateSendingFailure() {
+    mockEntities();
+    doThrow(new MailSendException("failed")).when(emailService)
+        .sendLaunchFinishNotification(any(), any(), any(), any());
+
+    assertThrows(MailSendException.class, () -> sender.send(job()));
+    assertEquals(1.0, jobs("failed"));
+  }
+
+  private void mockEntities() {
+    when(launchRepository.findById(10L)).thenReturn(Optional.of(launch));
+    when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+    when(integrationRepository.findById(5L)).thenReturn(Optional.of(integration));
+    when(mailServiceFactory.getEmailService(integration)).thenReturn(Optional.of(emailService));
+  }
+
+  private double jobs(String result) {
+    return meterRegistry.get("rp.notification.email.jobs").tag("result", result).counter().count();
+  }
+
+  private static LaunchNotificationJob job() {
+    return new LaunchNotificationJob(5L, 10L, 1L, "/ui/#project", new String[] { "first@mail.com" });
+  }
+
+  private static Integration integration() {
+    Integration integration = new Integration();
+    integration.setId(5L);
+    integration.setEnabled(true);
+    integration.setParams(new IntegrationParams(Map.of("host", "localhost")));
+    return integration;
+  }
+}
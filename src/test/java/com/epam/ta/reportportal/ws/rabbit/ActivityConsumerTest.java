@@ -16,19 +16,26 @@
 
 package com.epam.ta.reportportal.ws.rabbit;
 
-import static org.mockito.Mockito.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.epam.ta.reportportal.core.activity.batch.ActivityBatchInserter;
 import com.epam.ta.reportportal.core.events.ActivityEvent;
-import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.entity.activity.Activity;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -37,7 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ActivityConsumerTest {
 
   @Mock
-  private ActivityRepository activityRepository;
+  private ActivityBatchInserter activityBatchInserter;
 
   @InjectMocks
   private ActivityConsumer activityConsumer;
@@ -53,8 +60,8 @@ class ActivityConsumerTest {
 
   @Test
   void nullTest() {
-    activityConsumer.onEvent(new EmptyActivity().toActivity());
-    verifyNoInteractions(activityRepository);
+    activityConsumer.onEvents(Collections.singletonList(new EmptyActivity().toActivity()));
+    verifyNoInteractions(activityBatchInserter);
   }
 
   private static class NotEmptyActivity implements ActivityEvent {
@@ -87,8 +94,46 @@ class ActivityConsumerTest {
   void consume() {
     NotEmptyActivity notEmptyActivity = new NotEmptyActivity(1L, 2L, "username", 3L);
 
-    activityConsumer.onEvent(notEmptyActivity.toActivity());
+    Activity activity = notEmptyActivity.toActivity();
 
-    verify(activityRepository, times(1)).save(any());
+    activityConsumer.onEvents(List.of(activity));
+
+    verify(activityBatchInserter, times(1)).insert(List.of(activity));
+  }
+
+  @Test
+  void consumeBatch() {
+    Activity first = new NotEmptyActivity(1L, 2L, "username", 3L).toActivity();
+    Activity notSaved = new NotEmptyActivity(1L, 2L, "username", 4L).toActivity();
+    notSaved.setSavedEvent(false);
+    Activity second = new NotEmptyActivity(1L, 2L, "username", 5L).toActivity();
+
+    activityConsumer.onEvents(List.of(first, notSaved, second));
+
+    verify(activityBatchInserter, times(1)).insert(List.of(first, second));
+  }
+
+  @Test
+  void failedBatchShouldBeSavedOneByOne() {
+    Activity first = new NotEmptyActivity(1L, 2L, "username", 3L).toActivity();
+    Activity broken = new NotEmptyActivity(1L, 2L, "username", 4L).toActivity();
+    Activity second = new NotEmptyActivity(1L, 2L, "username", 5L).toActivity();
+    doAnswer(invocation -> {
+      List<Activity> activities = invocation.getArgument(0);
+      if (activities.size() > 1 || activities.get(0) == broken) {
+        throw new DataIntegrityViolationException("Unable to save");
+      }
+      return null;
+    }).when(activityBatchInserter).insert(any());
+
+    activityConsumer.onEvents(List.of(first, broken, second));
+
+    ArgumentCaptor<List<Activity>> captor = ArgumentCaptor.forClass(List.class);
+    verify(activityBatchInserter, times(4)).insert(captor.capture());
+    List<List<Activity>> inserts = captor.getAllValues();
+    assertEquals(3, inserts.get(0).size());
+    assertSame(first, inserts.get(1).get(0));
+    assertSame(broken, inserts.get(2).get(0));
+    assertSame(second, inserts.get(3).get(0));
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.epam.ta.reportportal.auth.ApiKeyAuthenticationCache;
+import com.epam.ta.reportportal.util.CacheEvictionEvent;
+import com.epam.ta.reportportal.util.ProjectDetailsCache;
+import org.junit.jupiter.api.Test;
+
+class CacheEvictionConsumerTest {
+
+  private final ApiKeyAuthenticationCache apiKeyAuthenticationCache =
+      mock(ApiKeyAuthenticationCache.class);
+
+  private final ProjectDetailsCache projectDetailsCache = mock(ProjectDetailsCache.class);
+
+  private final CacheEvictionConsumer consumer =
+      new CacheEvictionConsumer(apiKeyAuthenticationCache, projectDetailsCache);
+
+  @Test
+  void shouldEvictLocalCaches() {
+    CacheEvictionEvent event = new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY_USER, 1L);
+
+    consumer.onEviction(event);
+
+    verify(apiKeyAuthenticationCache).onEviction(event);
+    verify(projectDetailsCache).onEviction(event);
+  }
+
+  @Test
+  void shouldIgnoreIncompleteEvent() {
+    consumer.onEviction(new CacheEvictionEvent(CacheEvictionEvent.Type.API_KEY, null));
+
+    verify(apiKeyAuthenticationCache, never()).onEviction(any());
+    verify(projectDetailsCache, never()).onEviction(any());
+  }
+}
@@ -0,0 +1,53 @@
+-- Finished launch with a launch level log and two suites
+insert into launch(id, uuid, project_id, user_id, name, description, start_time, end_time, number,
+                   last_modified, mode, status, has_retries)
+values (1, 'uuid', 1, 1, 'test launch', 'desc', now(), now(), 1, now(), 'DEFAULT', 'FAILED', true);
+
+-- First suite: the test has a step with a retry, the retry has a nested step
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (1, 1, 'uuid1', 'suite 1', 'SUITE', now(), 'desc', 'uuid1', now(), '1', null, 1, true,
+        true);
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (2, 2, 'uuid2', 'test 1', 'TEST', now(), 'desc', 'uuid2', now(), '1.2', 1, 1, true, true);
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats,
+                      has_retries)
+values (3, 3, 'uuid3', 'step 1', 'STEP', now(), 'desc', 'uuid3', now(), '1.2.3', 2, 1, false,
+        true, true);
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, retry_of, launch_id, has_children,
+                      has_stats)
+values (3, 4, 'uuid4', 'step 1', 'STEP', now(), 'desc', 'uuid3', now(), '1.2.4', 2, 3, null, true,
+        false);
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (5, 5, 'uuid5', 'nested step', 'STEP', now(), 'desc', 'uuid5', now(), '1.2.4.5', 4, 1,
+        false, false);
+
+-- Second suite without children
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (6, 6, 'uuid6', 'suite 2', 'SUITE', now(), 'desc', 'uuid6', now(), '6', null, 1, false,
+        true);
+
+insert into log(id, uuid, log_time, log_message, launch_id, last_modified, log_level, project_id)
+values (1, 'log-uuid1', now(), 'launch log', 1, now(), 20000, 1);
+
+insert into log(id, uuid, log_time, log_message, item_id, last_modified, log_level, project_id)
+values (2, 'log-uuid2', now(), 'step log', 3, now(), 40000, 1),
+       (3, 'log-uuid3', now(), 'step log', 3, now(), 20000, 1),
+       (4, 'log-uuid4', now(), 'retry log', 4, now(), 40000, 1),
+       (5, 'log-uuid5', now(), 'nested step log', 5, now(), 20000, 1),
+       (6, 'log-uuid6', now(), 'suite log', 6, now(), 20000, 1);
+
+insert into attachment(id, file_id, content_type, project_id, launch_id, item_id, file_size)
+values (1, 'launch-file', 'text/plain', 1, 1, null, 100),
+       (2, 'step-file', 'text/plain', 1, 1, 3, 200),
+       (3, 'nested-step-file', 'text/plain', 1, 1, 5, 300),
+       (4, 'suite-file', 'text/plain', 1, 1, 6, 400);
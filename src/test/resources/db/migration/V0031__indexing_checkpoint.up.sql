@@ -0,0 +1,6 @@
+CREATE TABLE indexing_checkpoint
+(
+    project_id BIGINT PRIMARY KEY REFERENCES project (id) ON DELETE CASCADE,
+    launch_id  BIGINT,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,70 @@
+-- In progress launch with two suites, every suite has a test with steps
+insert into launch(id, uuid, project_id, user_id, name, description, start_time, end_time, number,
+                   last_modified, mode, status, has_retries)
+values (1, 'uuid', 1, 1, 'test launch', 'desc', now(), null, 1, now(), 'DEFAULT', 'IN_PROGRESS',
+        true);
+
+-- First suite: the test has a failed step and an in progress one
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (1, 1, 'uuid1', 'suite 1', 'SUITE', now(), 'desc', 'uuid1', now(), '1', null, 1, true,
+        true);
+insert into test_item_results(result_id, status)
+values (1, 'IN_PROGRESS');
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (2, 2, 'uuid2', 'test 1', 'TEST', now(), 'desc', 'uuid2', now(), '1.2', 1, 1, true, true);
+insert into test_item_results(result_id, status)
+values (2, 'IN_PROGRESS');
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (3, 3, 'uuid3', 'step 1', 'STEP', now(), 'desc', 'uuid3', now(), '1.2.3', 2, 1, false,
+        true);
+insert into test_item_results(result_id, status, end_time)
+values (3, 'FAILED', now());
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (4, 4, 'uuid4', 'step 2', 'STEP', now(), 'desc', 'uuid4', now(), '1.2.4', 2, 1, false,
+        true);
+insert into test_item_results(result_id, status)
+values (4, 'IN_PROGRESS');
+
+-- Second suite: the test has a passed step with a failed retry and an in progress step
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (5, 5, 'uuid5', 'suite 2', 'SUITE', now(), 'desc', 'uuid5', now(), '5', null, 1, true,
+        true);
+insert into test_item_results(result_id, status)
+values (5, 'IN_PROGRESS');
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (6, 6, 'uuid6', 'test 2', 'TEST', now(), 'desc', 'uuid6', now(), '5.6', 5, 1, true, true);
+insert into test_item_results(result_id, status)
+values (6, 'IN_PROGRESS');
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats,
+                      has_retries)
+values (7, 7, 'uuid7', 'step 3', 'STEP', now(), 'desc', 'uuid7', now(), '5.6.7', 6, 1, false,
+        true, true);
+insert into test_item_results(result_id, status, end_time)
+values (7, 'PASSED', now());
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, retry_of, launch_id, has_children,
+                      has_stats)
+values (7, 8, 'uuid8', 'step 3', 'STEP', now(), 'desc', 'uuid7', now(), '5.6.8', 6, 7, null, false,
+        false);
+insert into test_item_results(result_id, status, end_time)
+values (8, 'FAILED', now());
+
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, unique_id,
+                      last_modified, path, parent_id, launch_id, has_children, has_stats)
+values (9, 9, 'uuid9', 'step 4', 'STEP', now(), 'desc', 'uuid9', now(), '5.6.9', 6, 1, false,
+        true);
+insert into test_item_results(result_id, status)
+values (9, 'IN_PROGRESS');